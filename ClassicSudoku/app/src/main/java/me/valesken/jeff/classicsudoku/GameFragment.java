@@ -5,6 +5,7 @@ import android.app.Fragment;
 import android.content.Context;
 import android.content.DialogInterface;
 import android.os.Bundle;
+import android.view.Choreographer;
 import android.view.LayoutInflater;
 import android.view.MotionEvent;
 import android.view.View;
@@ -13,7 +14,6 @@ import android.view.ViewTreeObserver;
 import android.view.inputmethod.InputMethodManager;
 import android.widget.Button;
 import android.widget.EditText;
-import android.widget.TableLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 
@@ -21,13 +21,9 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 
 import me.valesken.jeff.sudoku_model.ModelProxy;
@@ -39,6 +35,8 @@ import me.valesken.jeff.sudoku_model.ModelProxy;
  */
 public class GameFragment extends Fragment {
     //region Member Variables
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
     private LayoutInflater inflater;
     private View rootView;
     private ViewGroup container;
@@ -53,61 +51,29 @@ public class GameFragment extends Fragment {
     private AlertDialog save_alert;
     private AlertDialog overwrite_alert;
     private AlertDialog paused_alert;
-    private String filename;
-    private File saveFile;
-    private File[] files;
-    private JSONObject loadJSON;
-    private int loadJSONPosition;
+    private String filename; // Name the game was loaded or last saved as, "" if it has none yet
     private TextView clock_tv;
-    private volatile boolean paused = false;
-    private volatile boolean gameOver = false;
+    private int shownSeconds = -1; // Time shown by clock_tv
+    private boolean clockTicking = false;
+    private boolean paused = false;
+    private boolean gameOver = false;
     //endregion
 
-    //region Clock Thread
-    private Thread clockThread = new Thread(new Runnable() {
+    //region Clock
+    /**
+     * Shows the game clock kept by the model, redrawing it on the first frame after each second and doing nothing
+     * in between. Stopped entirely while the game is paused.
+     */
+    private final Choreographer.FrameCallback clockTicker = new Choreographer.FrameCallback() {
         @Override
-        public void run() {
-            String clock = (String)clock_tv.getText();
-            int seconds = Integer.parseInt(clock.substring(3, 5));
-            int minutes = Integer.parseInt(clock.substring(0, 2));
-            while(!gameOver) {
-                try {
-                    do {
-                        TimeUnit.SECONDS.sleep(1);
-                    } while(paused);
-                    if(gameOver)
-                        break;
-                    char[] temp = clock.toCharArray();
-                    seconds += 1;
-                    if (seconds > 59) {
-                        seconds = 0;
-                        minutes += 1;
-                    }
-
-                    if (minutes < 10)
-                        temp[0] = '0';
-                    else
-                        temp[0] = Character.forDigit(minutes / 10, 10);
-                    temp[1] = Character.forDigit(minutes % 10, 10);
-                    if (seconds < 10)
-                        temp[3] = '0';
-                    else
-                        temp[3] = Character.forDigit(seconds / 10, 10);
-                    temp[4] = Character.forDigit(seconds % 10, 10);
-
-                    final String clock_string = String.valueOf(temp);
-                    clock_tv.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            clock_tv.setText(clock_string);
-                        }
-                    });
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
+        public void doFrame(long frameTimeNanos) {
+            long elapsed = ModelProxy.getElapsedNanos();
+            showTime(elapsed);
+            long untilNextSecond = NANOS_PER_SECOND - elapsed % NANOS_PER_SECOND;
+            Choreographer.getInstance().postFrameCallbackDelayed(this,
+                    TimeUnit.NANOSECONDS.toMillis(untilNextSecond) + 1);
         }
-    });
+    };
     //endregion
 
     public GameFragment() {
@@ -119,24 +85,33 @@ public class GameFragment extends Fragment {
         boardSize = _boardSize;
         ModelProxy.initializeNewBoard(boardSize);
         difficulty = ModelProxy.newGame(_difficulty);
-        loadJSON = null;
-        saveFile = null;
-        loadJSONPosition = -1;
+        filename = "";
     }
 
-    public void loadGame(int _boardSize, File _saveFile, int _loadJSONPosition)
+    /**
+     * @param _boardSize The size of the board
+     * @param saveFile   The file holding the game
+     * @param _filename  The name the game was saved as, null for the autosave
+     */
+    public void loadGame(int _boardSize, File saveFile, String _filename)
     {
         try {
-            loadJSONPosition = _loadJSONPosition;
-            saveFile = _saveFile;
+            filename = (_filename == null) ? "" : _filename;
             boardSize = _boardSize;
             ModelProxy.initializeNewBoard(boardSize);
-            BufferedReader buff = new BufferedReader(new FileReader(saveFile));
-            JSONObject jsonObject = new JSONObject(buff.readLine());
-            buff.close();
-            difficulty = ModelProxy.loadGame(jsonObject);
+            if (_filename == null) {
+                // The autosave: replay every move journaled since its last snapshot
+                difficulty = ModelProxy.recoverJournal(saveFile, getJournalFile(saveFile));
+                return;
+            }
+            // Reads both binary saves and JSON saves written by older versions. Read through the FileStore, after
+            // any save to the file still being written.
+            difficulty = ModelProxy.loadGame(MainActivity.getFileStore().read(saveFile).get());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-        catch (IOException | JSONException e) {
+        catch (ExecutionException e) {
             e.printStackTrace();
         }
     }
@@ -149,20 +124,6 @@ public class GameFragment extends Fragment {
         activity = (MainActivity)getActivity();
         final String youWinMsg = getResources().getString(R.string.you_win_msg);
         activity.setTitle(getResources().getString(R.string.app_name).concat(" - Game"));
-        try {
-            JSONObject loadGamesJSON = activity.getLoadGamesJSON();
-            if (loadJSONPosition > -1) {
-                loadJSON = loadGamesJSON.getJSONObject(Integer.toString(loadJSONPosition));
-                filename = loadJSON.getString(getResources().getString(R.string.json_filename_id));
-            }
-            else {
-                loadJSON = null;
-                filename = "";
-            }
-        }
-        catch (JSONException e) {
-            e.printStackTrace();
-        }
 
         /* This OnTouchListener ensures the user cannot accidentally touch Views from the previous fragment. */
         rootView.setOnTouchListener(new View.OnTouchListener()
@@ -171,8 +132,6 @@ public class GameFragment extends Fragment {
             public boolean onTouch(View v, MotionEvent event) { return true; }
         });
 
-        files = activity.getFiles();
-
         //region Difficulty Level
         TextView difficulty_tv = (TextView)rootView.findViewById(R.id.difficulty_text);
         switch (difficulty)
@@ -183,6 +142,9 @@ public class GameFragment extends Fragment {
             case 2:
                 difficulty_tv.setText(rootView.getContext().getResources().getString(R.string.medium));
                 break;
+            case 4:
+                difficulty_tv.setText(rootView.getContext().getResources().getString(R.string.expert));
+                break;
             default:
                 difficulty_tv.setText(rootView.getContext().getResources().getString(R.string.hard));
                 break;
@@ -190,8 +152,8 @@ public class GameFragment extends Fragment {
         //endregion
 
         //region Playing Grid Setup
-        TableLayout grid = (TableLayout) rootView.findViewById(R.id.grid);
-        gridManager = new GridManager(rootView.getContext(), boardSize, grid, this);
+        SudokuGridView grid = (SudokuGridView) rootView.findViewById(R.id.grid);
+        gridManager = new GridManager(boardSize, grid, this);
         gridManager.initializeGrid();
         //endregion
 
@@ -353,6 +315,33 @@ public class GameFragment extends Fragment {
                 if(!gameOver) {
                     gridManager.solve();
                     gameOver = true;
+                    stopClock();
+                }
+                if(gameOver)
+                    Toast.makeText(rootView.getContext(), youWinMsg, Toast.LENGTH_LONG).show();
+            }
+        });
+        Button undo_button = (Button) rootView.findViewById(R.id.undo);
+        undo_button.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                if(!gameOver) {
+                    gameOver = gridManager.undo();
+                    if(gameOver)
+                        updateHighScore();
+                }
+                if(gameOver)
+                    Toast.makeText(rootView.getContext(), youWinMsg, Toast.LENGTH_LONG).show();
+            }
+        });
+        Button redo_button = (Button) rootView.findViewById(R.id.redo);
+        redo_button.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                if(!gameOver) {
+                    gameOver = gridManager.redo();
+                    if(gameOver)
+                        updateHighScore();
                 }
                 if(gameOver)
                     Toast.makeText(rootView.getContext(), youWinMsg, Toast.LENGTH_LONG).show();
@@ -391,8 +380,8 @@ public class GameFragment extends Fragment {
         overwrite_dialog_view.findViewById(R.id.confirm_continue_button).setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                saveGame(activity.getSaveDir(), filename);
-                paused = false;
+                saveGame(filename);
+                setPaused(false);
                 overwrite_alert.cancel();
             }
         });
@@ -402,7 +391,7 @@ public class GameFragment extends Fragment {
         save_alert.setOnCancelListener(new DialogInterface.OnCancelListener() {
             @Override
             public void onCancel(DialogInterface dialog) {
-                paused = false;
+                setPaused(false);
             }
         });
 
@@ -413,35 +402,26 @@ public class GameFragment extends Fragment {
                 if(gameOver)
                     Toast.makeText(rootView.getContext(), youWinMsg, Toast.LENGTH_LONG).show();
                 else {
-                    paused = true;
+                    setPaused(true);
 
                     // Get filename to display
                     if(filename.equals("")) {
-                        int num, maxNum = 0;
-                        String name;
+                        String prefix;
                         switch(difficulty) {
                             case 1:
-                                filename = rootView.getContext().getResources().getString(R.string.easy);
+                                prefix = rootView.getContext().getResources().getString(R.string.easy);
                                 break;
                             case 2:
-                                filename = rootView.getContext().getResources().getString(R.string.medium);
+                                prefix = rootView.getContext().getResources().getString(R.string.medium);
+                                break;
+                            case 4:
+                                prefix = rootView.getContext().getResources().getString(R.string.expert);
                                 break;
                             default:
-                                filename = rootView.getContext().getResources().getString(R.string.hard);
+                                prefix = rootView.getContext().getResources().getString(R.string.hard);
                                 break;
                         }
-                        for (File f : files) {
-                            name = f.getName().replace(".txt", "");
-                            if (name.startsWith(filename) && name.length() > filename.length()) {
-                                try {
-                                    num = Integer.parseInt(name.replace(filename, ""));
-                                    if (num > maxNum)
-                                        maxNum = num;
-                                }
-                                catch (NumberFormatException ignored) { } // e.g. ignore "EasyTown"
-                            }
-                        }
-                        filename = filename.concat(Integer.toString(maxNum + 1));
+                        filename = activity.getSaveIndex().allocateName(prefix);
                     }
                     showSaveDialog();
                 }
@@ -451,11 +431,15 @@ public class GameFragment extends Fragment {
 
         //region Start Clock
         clock_tv = (TextView)rootView.findViewById(R.id.clock);
-        clock_tv.setText(ModelProxy.getTime());
+        shownSeconds = -1;
+        showTime(ModelProxy.getElapsedNanos());
+        // Keep the game autosaved move by move from here on
+        File autoSaveFile = new File(activity.getFilesDir(), getResources().getString(R.string.autosave_filename));
+        ModelProxy.startJournal(autoSaveFile, getJournalFile(autoSaveFile));
         rootView.getViewTreeObserver().addOnGlobalLayoutListener(new ViewTreeObserver.OnGlobalLayoutListener() {
             @Override
             public void onGlobalLayout() {
-                clockThread.start();
+                startClock();
                 rootView.getViewTreeObserver().removeOnGlobalLayoutListener(this);
             }
         });
@@ -466,7 +450,7 @@ public class GameFragment extends Fragment {
         paused_alert.setOnCancelListener(new DialogInterface.OnCancelListener() {
             @Override
             public void onCancel(DialogInterface dialog) {
-                paused = false;
+                setPaused(false);
             }
         });
         View pausedAlertView = inflater.inflate(R.layout.pause_dialog_layout, container, false);
@@ -493,7 +477,7 @@ public class GameFragment extends Fragment {
         save_dialog_view.findViewById(R.id.save_cancel_button).setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                paused = false;
+                setPaused(false);
                 save_alert.cancel();
             }
         });
@@ -501,14 +485,7 @@ public class GameFragment extends Fragment {
             @Override
             public void onClick(View v) {
                 filename = ((EditText) (save_dialog_view.findViewById(R.id.save_textbox))).getText().toString();
-                activity.loadFiles();
-                files = activity.getFiles();
-                boolean found = false;
-                for (File f : files)
-                    if (f.getName().replace(".txt", "").equals(filename)) {
-                        found = true;
-                        break;
-                    }
+                boolean found = activity.getSaveIndex().contains(filename);
                 save_alert.cancel();
                 if (found) {
                     InputMethodManager imm = (InputMethodManager) rootView.getContext().getSystemService(Context.INPUT_METHOD_SERVICE);
@@ -517,8 +494,8 @@ public class GameFragment extends Fragment {
                     ((TextView)overwrite_dialog_view.findViewById(R.id.confirm_dialog_text)).setText(message);
                     overwrite_alert.show();
                 } else {
-                    saveGame(activity.getSaveDir(), filename);
-                    paused = false;
+                    saveGame(filename);
+                    setPaused(false);
                 }
             }
         });
@@ -526,86 +503,106 @@ public class GameFragment extends Fragment {
         save_alert.show();
     }
 
+    /**
+     * The moves made since the autosave's last snapshot are journaled as they are made, so autosaving only has to
+     * record the time.
+     */
     @SuppressWarnings("ResultOfMethodCallIgnored")
     public void handleAutoSave() {
-        try {
-            clockThread.interrupt();
-            File autoSaveFile = activity.getAutoSaveFile();
-            if (!gameOver) {
-                File saveFile = new File(activity.getFilesDir(), getResources().getString(R.string.autosave_filename));
-                BufferedWriter buff = new BufferedWriter(new FileWriter(saveFile, false));
-                JSONObject jsonObject = ModelProxy.save((String) clock_tv.getText());
-                buff.write(jsonObject.toString());
-                buff.flush();
-                buff.close();
-                activity.enableResumeGameButton(true);
-                activity.loadFiles();
-                files = activity.getFiles();
-            } else if (autoSaveFile != null) {
-                activity.enableResumeGameButton(false);
-                autoSaveFile.delete();
-                activity.loadFiles();
-                files = activity.getFiles();
-            }
-        }
-        catch (IOException e) {
-            e.printStackTrace();
+        stopClock();
+        File autoSaveFile = new File(activity.getFilesDir(), getResources().getString(R.string.autosave_filename));
+        if (!gameOver) {
+            ModelProxy.journalTime();
+            activity.setAutoSaveFile(autoSaveFile);
+            activity.enableResumeGameButton(true);
+        } else {
+            ModelProxy.stopJournal();
+            activity.setAutoSaveFile(null);
+            activity.enableResumeGameButton(false);
+            // Owned by the journal, which writes them directly rather than through the FileStore
+            autoSaveFile.delete();
+            getJournalFile(autoSaveFile).delete();
         }
     }
 
+    /**
+     * @return The journal kept alongside an autosave file.
+     */
+    private static File getJournalFile(File autoSaveFile) {
+        return new File(autoSaveFile.getPath().concat(JOURNAL_EXTENSION));
+    }
+
     public void pause() {
         if(!paused) {
-            paused = true;
+            setPaused(true);
             paused_alert.show();
         }
+        ModelProxy.journalTime();
     }
 
     /**
-     * Write game state to file. Update loadGamesJSON with this JSON.
-     *
-     * @param saveDir The directory in which to save the game
-     * @param _filename The name of the file to save
+     * Pause or resume the game clock, e.g. while a dialog covers the board.
      */
-    public void saveGame(File saveDir, String _filename) {
-        try {
-            String clock_text = (String) clock_tv.getText();
-            // Write game state to file
-            File saveFile = new File(saveDir, _filename.concat(".txt"));
-            BufferedWriter buff = new BufferedWriter(new FileWriter(saveFile, false));
-            JSONObject jsonObject = ModelProxy.save(clock_text);
-            buff.write(jsonObject.toString());
-            buff.flush();
-            buff.close();
-            // Update loadGamesJSON with this JSON
-            JSONObject loadGamesJSON = activity.getLoadGamesJSON();
-            if(loadJSON == null || !loadJSON.getString(getResources().getString(R.string.json_filename_id)).equals(_filename)) {
-                loadJSON = new JSONObject();
-                loadJSON.put(getResources().getString(R.string.json_filename_id), _filename);
-                loadJSON.put(getResources().getString(R.string.json_time_id), clock_text);
-                int length = loadGamesJSON.getInt(getResources().getString(R.string.json_length_id));
-                loadGamesJSON.put(Integer.toString(length), loadJSON);
-                ++length;
-                loadGamesJSON.put(getResources().getString(R.string.json_length_id), Integer.toString(length));
-            }
-            else {
-                loadJSON.put(getResources().getString(R.string.json_time_id), clock_text);
-                loadGamesJSON.put(Integer.toString(loadJSONPosition), loadJSON);
-            }
-            // Write loadGamesJSON to loadGamesFile
-            buff = new BufferedWriter(new FileWriter(activity.getLoadGamesFile(), false));
-            buff.write(loadGamesJSON.toString());
-            buff.flush();
-            buff.close();
+    private void setPaused(boolean _paused) {
+        paused = _paused;
+        if(paused)
+            stopClock();
+        else
+            startClock();
+    }
+
+    /**
+     * Start the game clock and its ticker, unless the game is paused or over.
+     */
+    private void startClock() {
+        if(clockTicking || paused || gameOver)
+            return;
+        ModelProxy.startClock();
+        clockTicking = true;
+        Choreographer.getInstance().postFrameCallback(clockTicker);
+    }
+
+    /**
+     * Stop the game clock and its ticker, and show the exact time it stopped at.
+     */
+    private void stopClock() {
+        ModelProxy.stopClock();
+        if(clockTicking) {
+            Choreographer.getInstance().removeFrameCallback(clockTicker);
+            clockTicking = false;
         }
-        catch (IOException | JSONException e) {
-            e.printStackTrace();
+        showTime(ModelProxy.getElapsedNanos());
+    }
+
+    /**
+     * Show a time on the clock, if it is not already showing it.
+     */
+    private void showTime(long elapsedNanos) {
+        int seconds = toSeconds(elapsedNanos);
+        if(seconds != shownSeconds) {
+            shownSeconds = seconds;
+            clock_tv.setText(ModelProxy.formatTime(seconds));
         }
     }
 
+    private static int toSeconds(long nanos) {
+        return (int) Math.min(TimeUnit.NANOSECONDS.toSeconds(nanos), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Write game state to its save file and list it in the save index. The file is written in the background.
+     *
+     * @param _filename The name to save the game as
+     */
+    public void saveGame(String _filename) {
+        activity.saveGame(_filename, ModelProxy.saveBinary(), ModelProxy.getTime());
+    }
+
     /**
-     * Update high score and save to file
+     * Update high score and save to file. Scores are ranked by their number of seconds.
      */
     public void updateHighScore() {
+        stopClock();
         try {
             JSONObject highScoresJSON = activity.getHighScoresJSON();
             JSONArray jsonScores;
@@ -616,31 +613,24 @@ public class GameFragment extends Fragment {
                 case 2:
                     jsonScores = highScoresJSON.getJSONArray(getResources().getString(R.string.medium));
                     break;
+                case 4:
+                    jsonScores = highScoresJSON.getJSONArray(getResources().getString(R.string.expert));
+                    break;
                 default:
                     jsonScores = highScoresJSON.getJSONArray(getResources().getString(R.string.hard));
                     break;
             }
 
-            String currentTime = clock_tv.getText().toString();
-            int index = currentTime.indexOf(':');
-            int minutes = Integer.parseInt(currentTime.substring(0, index));
-            int seconds = Integer.parseInt(currentTime.substring(index+1));
+            int seconds = toSeconds(ModelProxy.getElapsedNanos());
+            String currentTime = ModelProxy.formatTime(seconds);
             String scoreTime;
-            int scoreMinutes, scoreSeconds;
             ArrayList<String> scores = new ArrayList<>();
 
             //region Find Current Score Place
             boolean inserted = false;
             for(int i = 0; i < 10 && !jsonScores.getString(i).isEmpty(); ++i) {
                 scoreTime = jsonScores.getString(i);
-                index = scoreTime.indexOf(':');
-                scoreMinutes = Integer.parseInt(scoreTime.substring(0, index));
-                scoreSeconds = Integer.parseInt(scoreTime.substring(index + 1));
-                if(!inserted && scoreMinutes > minutes) {
-                    scores.add(currentTime);
-                    inserted = true;
-                }
-                else if(!inserted && scoreMinutes == minutes && scoreSeconds > seconds) {
+                if(!inserted && ModelProxy.parseTime(scoreTime) > seconds) {
                     scores.add(currentTime);
                     inserted = true;
                 }
@@ -660,17 +650,17 @@ public class GameFragment extends Fragment {
                 case 2:
                     highScoresJSON.put(getResources().getString(R.string.medium), jsonScores);
                     break;
+                case 4:
+                    highScoresJSON.put(getResources().getString(R.string.expert), jsonScores);
+                    break;
                 default:
                     highScoresJSON.put(getResources().getString(R.string.hard), jsonScores);
                     break;
             }
-            BufferedWriter buff = new BufferedWriter(new FileWriter(activity.getHighScoresFile(), false));
-            buff.write(highScoresJSON.toString());
-            buff.flush();
-            buff.close();
+            activity.saveHighScoresJSON();
             //endregion
         }
-        catch (JSONException | IOException e) {
+        catch (JSONException e) {
             e.printStackTrace();
         }
     }
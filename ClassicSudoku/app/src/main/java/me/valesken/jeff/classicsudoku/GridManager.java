@@ -1,175 +1,132 @@
 package me.valesken.jeff.classicsudoku;
 
-import android.annotation.SuppressLint;
-import android.content.Context;
-import android.graphics.Color;
-import android.graphics.Typeface;
-import android.view.Gravity;
-import android.view.LayoutInflater;
-import android.view.MotionEvent;
-import android.view.View;
-import android.widget.TableLayout;
-import android.widget.TableRow;
-import android.widget.TextView;
-
-import java.util.LinkedList;
-
+import me.valesken.jeff.sudoku_model.BoardListener;
 import me.valesken.jeff.sudoku_model.ModelProxy;
 
 /**
  * Created by Jeff on 7/4/2015.
- * Last updated on 7/12/2015.
+ * Last updated on 10/17/2026.
+ *
+ * Keeps the SudokuGridView showing the board held by the ModelProxy. The model tells this class about every change
+ * (see BoardListener), so moves never read the board back. What each Tile shows is cached, and only Tiles that show
+ * something different are redrawn. Whole-board changes (loading a game, solving it) arrive as one onBoardChanged(),
+ * which reads the board through the model's primitive API into arrays kept here and redraws every changed Tile in a
+ * single frame.
  */
-public class GridManager {
-    private Context context;
-    private int boardSize;
-    private TableLayout grid;
-    private LinkedList[] values;
-    private View[] views;
+public class GridManager implements BoardListener {
+    private int boardSize; // Tiles per row, column and zone
+    private SudokuGridView grid;
     private GameFragment gameFragment;
-    private int currentGridIndex;
+    private boolean gameOver;
+
+    //region What each Tile shows
+    private int[] shownValues; // 0 if empty or in Note mode
+    private int[] shownNotes; // Bit (v - 1) is set for every note v shown
+    private boolean[] shownOrig;
+    //endregion
 
-    public GridManager(Context _context, int _boardSize, TableLayout _grid, GameFragment _gameFragment) {
-        this.context = _context;
+    //region Snapshot of the model, reused by onBoardChanged()
+    private int[] modelValues;
+    private int[] modelNotes;
+    private long[] modelFlags;
+    //endregion
+
+    public GridManager(int _boardSize, SudokuGridView _grid, GameFragment _gameFragment) {
         this.grid = _grid;
         this.boardSize = _boardSize;
         this.gameFragment = _gameFragment;
-        this.values = ModelProxy.getBoard();
-        this.currentGridIndex = -1;
-        this.views = new View[values.length];
+        int tileCount = boardSize * boardSize;
+        this.shownValues = new int[tileCount];
+        this.shownNotes = new int[tileCount];
+        this.shownOrig = new boolean[tileCount];
+        this.modelValues = new int[tileCount];
+        this.modelNotes = new int[tileCount];
+        this.modelFlags = new long[ModelProxy.getFlagsLength(tileCount)];
     }
 
-    @SuppressLint("InflateParams")
     public void initializeGrid() {
-        values = ModelProxy.getBoard();
-        LayoutInflater inflater = LayoutInflater.from(context);
-        View tile;
-        int gridIndex;
-        for(int row = 0; row < boardSize; ++row) {
-            TableRow tableRow = (TableRow)inflater.inflate(R.layout.grid_row_layout, null, false);
-            tableRow.setGravity(Gravity.CENTER);
-            for(int column = 0; column < boardSize; ++column) {
-                gridIndex = (row * 9) + column;
-                tile = inflater.inflate(R.layout.tile_layout, null, false);
-                updateItem(gridIndex, tile);
-                tile.setLayoutParams(new TableRow.LayoutParams(TableRow.LayoutParams.MATCH_PARENT, TableRow.LayoutParams.WRAP_CONTENT));
-
-                // Set up background & borders of tiles
-                if (row == 2 || row == 5) {
-                    if(column == 8)
-                        tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_bottom_no_right));
-                    else if (column == 2 || column == 5)
-                        tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_bottom_right));
-                    else if (column == 3 || column == 6)
-                        tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_bottom_left));
-                    else
-                        tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_bottom));
-                }
-                else if (column == 2 || column == 5)
-                    tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_right));
-                else if (column == 3 || column == 6)
-                    tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_left));
-                else if (column == 8)
-                    tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector_no_right));
-                else
-                    tile.setBackground(context.getResources().getDrawable(R.drawable.tile_selector));
-                if(row == 3 || row == 6)
-                    tile.findViewById(R.id.tile_top_big_border).setVisibility(View.VISIBLE);
-
-                tile.setId(gridIndex);
-                tile.setActivated(false);
-                tile.setOnTouchListener(new View.OnTouchListener() {
-                    @Override
-                    public boolean onTouch(View v, MotionEvent event) {
-                        v.setActivated(true);
-                        if (currentGridIndex > -1 && v.getId() != currentGridIndex)
-                            views[currentGridIndex].setActivated(false);
-                        currentGridIndex = v.getId();
-                        gameFragment.setCurrentPosition(currentGridIndex, v);
-                        return false;
-                    }
-                });
-                views[gridIndex] = tile;
-                tableRow.addView(tile);
+        grid.setBoardSize(boardSize);
+        onBoardChanged(ModelProxy.isGameOver());
+        ModelProxy.setBoardListener(this);
+        grid.setOnTileSelectedListener(new SudokuGridView.OnTileSelectedListener() {
+            @Override
+            public void onTileSelected(int index) {
+                gameFragment.setCurrentPosition(index, grid);
             }
-            grid.addView(tableRow);
-        }
+        });
     }
 
-    public void updateItem(int gridIndex, View tile) {
-        /* set notes invisible*/
-        View[] tileNoteViews = new View[boardSize];
-        tileNoteViews[0] = tile.findViewById(R.id.tile_note_1);
-        tileNoteViews[1] = tile.findViewById(R.id.tile_note_2);
-        tileNoteViews[2] = tile.findViewById(R.id.tile_note_3);
-        tileNoteViews[3] = tile.findViewById(R.id.tile_note_4);
-        tileNoteViews[4] = tile.findViewById(R.id.tile_note_5);
-        tileNoteViews[5] = tile.findViewById(R.id.tile_note_6);
-        tileNoteViews[6] = tile.findViewById(R.id.tile_note_7);
-        tileNoteViews[7] = tile.findViewById(R.id.tile_note_8);
-        tileNoteViews[8] = tile.findViewById(R.id.tile_note_9);
-        for(View v : tileNoteViews)
-            v.setVisibility(View.INVISIBLE);
-        // value tile
-        if(!ModelProxy.tileIsNoteMode(gridIndex)) {
-            TextView textView = (TextView) tile.findViewById(R.id.tile_value_text);
-            textView.setVisibility(View.VISIBLE);
-            if ((Integer)values[gridIndex].get(0) > 0)
-                textView.setText(String.format("%d", (Integer)values[gridIndex].get(0)));
-            else
-                textView.setText(" ");
-
-            if(ModelProxy.tileIsOrig(gridIndex)) {
-                textView.setTypeface(Typeface.DEFAULT_BOLD);
-                textView.setTextColor(Color.BLACK);
-            }
-        }
-        // note tile
-        else {
-            tile.findViewById(R.id.tile_value_text).setVisibility(View.INVISIBLE);
-            for(Object note: values[gridIndex])
-                tileNoteViews[(Integer)note-1].setVisibility(View.VISIBLE);
-        }
+    //region BoardListener
+    @Override
+    public void onTileChanged(int position, int value, int notes, boolean orig, boolean _gameOver) {
+        gameOver = _gameOver;
+        showTile(position, value, notes, orig);
+    }
+
+    /**
+     * Refresh every Tile, redrawing those that changed in one frame.
+     */
+    @Override
+    public void onBoardChanged(boolean _gameOver) {
+        gameOver = _gameOver;
+        if(!ModelProxy.getSnapshot(modelValues, modelNotes, modelFlags))
+            return;
+        grid.beginBatch();
+        for(int gridIndex = 0; gridIndex < shownValues.length; ++gridIndex)
+            showTile(gridIndex, modelValues[gridIndex], modelNotes[gridIndex],
+                    (ModelProxy.getFlags(modelFlags, gridIndex) & ModelProxy.FLAG_ORIG) != 0);
+        grid.endBatch();
+    }
+    //endregion
+
+    /**
+     * Redraw a Tile if what it should show differs from what it shows.
+     */
+    private void showTile(int gridIndex, int value, int notes, boolean orig) {
+        if(value == shownValues[gridIndex] && notes == shownNotes[gridIndex] && orig == shownOrig[gridIndex])
+            return;
+        shownValues[gridIndex] = value;
+        shownNotes[gridIndex] = notes;
+        shownOrig[gridIndex] = orig;
+        grid.setTile(gridIndex, value, notes, orig);
     }
 
     public boolean updateTile(int gridIndex, int value)
     {
         ModelProxy.updateTile(gridIndex, value);
-        values[gridIndex] = ModelProxy.getTile(gridIndex);
-        this.updateItem(gridIndex, views[gridIndex]);
-        return ModelProxy.isGameOver();
+        return gameOver;
     }
 
     public void clearTile(int gridIndex)
     {
         ModelProxy.clearTile(gridIndex);
-        values[gridIndex] = ModelProxy.getTile(gridIndex);
-        this.updateItem(gridIndex, views[gridIndex]);
     }
 
     public void toggleMode(int gridIndex)
     {
         ModelProxy.toggleNoteMode(gridIndex);
-        values[gridIndex] = ModelProxy.getTile(gridIndex);
-        this.updateItem(gridIndex, views[gridIndex]);
+    }
+
+    public boolean undo()
+    {
+        ModelProxy.undo();
+        return gameOver;
+    }
+
+    public boolean redo()
+    {
+        ModelProxy.redo();
+        return gameOver;
     }
 
     public boolean getHint()
     {
-        int gridIndex = ModelProxy.getHint();
-        if (gridIndex > -1) {
-            values[gridIndex] = ModelProxy.getTile(gridIndex);
-            this.updateItem(gridIndex, views[gridIndex]);
-        }
-        return ModelProxy.isGameOver();
+        ModelProxy.getHint();
+        return gameOver;
     }
 
     public void solve()
     {
         ModelProxy.solve();
-        for(int i = 0; i < values.length; ++i) {
-            values[i] = ModelProxy.getTile(i);
-            this.updateItem(i, views[i]);
-        }
     }
 }
@@ -16,13 +16,9 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-
 /**
  * Created by Jeff on 7/12/2015.
+ * Last updated on 10/17/2026.
  *
  * This fragment contains the current high scores for each difficulty level
  */
@@ -31,7 +27,7 @@ public class HighScoresFragment extends Fragment {
     private View rootView;
     private MainActivity activity;
     private static JSONObject highScoresJSON;
-    private String easyString, mediumString, hardString;
+    private String easyString, mediumString, hardString, expertString;
 
     public HighScoresFragment() {
         currentPosition = 0;
@@ -45,9 +41,9 @@ public class HighScoresFragment extends Fragment {
         easyString = getResources().getString(R.string.easy);
         mediumString = getResources().getString(R.string.medium);
         hardString = getResources().getString(R.string.hard);
+        expertString = getResources().getString(R.string.expert);
 
         activity.setTitle(getResources().getString(R.string.app_name).concat(" - High Scores"));
-        final File highScores = new File(activity.getFilesDir(), "HighScores.txt");
         highScoresJSON = activity.getHighScoresJSON();
 
         /* This OnTouchListener ensures the user cannot accidentally touch Views from the previous fragment. */
@@ -71,13 +67,11 @@ public class HighScoresFragment extends Fragment {
                     highScoresJSON.put(easyString, new JSONArray(jsonArray.toString()));
                     highScoresJSON.put(mediumString, new JSONArray(jsonArray.toString()));
                     highScoresJSON.put(hardString, new JSONArray(jsonArray.toString()));
-                    BufferedWriter buff = new BufferedWriter(new FileWriter(highScores, false));
-                    buff.write(highScoresJSON.toString());
-                    buff.flush();
-                    buff.close();
+                    highScoresJSON.put(expertString, new JSONArray(jsonArray.toString()));
+                    activity.saveHighScoresJSON();
                     setupSpinner();
                 }
-                catch (JSONException | IOException e) {
+                catch (JSONException e) {
                     e.printStackTrace();
                 }
             }
@@ -97,7 +91,8 @@ public class HighScoresFragment extends Fragment {
         final ListView[] lists = {
             (ListView)rootView.findViewById(R.id.easy_high_scores),
             (ListView)rootView.findViewById(R.id.medium_high_scores),
-            (ListView)rootView.findViewById(R.id.hard_high_scores)
+            (ListView)rootView.findViewById(R.id.hard_high_scores),
+            (ListView)rootView.findViewById(R.id.expert_high_scores)
         };
         try {
             //region easy scores
@@ -124,8 +119,16 @@ public class HighScoresFragment extends Fragment {
             lists[2].setAdapter(new ArrayAdapter<>(rootView.getContext(), android.R.layout.simple_list_item_1, hardScores));
             //endregion
 
+            //region expert scores
+            JSONArray expert = highScoresJSON.getJSONArray(expertString);
+            String[] expertScores = new String[10];
+            for(int i = 0; i < 10; ++i)
+                expertScores[i] = expert.getString(i);
+            lists[3].setAdapter(new ArrayAdapter<>(rootView.getContext(), android.R.layout.simple_list_item_1, expertScores));
+            //endregion
+
             //region Spinner
-            final String[] difficulties = {easyString, mediumString, hardString};
+            final String[] difficulties = {easyString, mediumString, hardString, expertString};
             final Spinner highScoresSpinner = (Spinner) rootView.findViewById(R.id.high_scores_spinner);
             highScoresSpinner.setAdapter(new ArrayAdapter<>(rootView.getContext(), android.R.layout.simple_spinner_dropdown_item, difficulties));
             highScoresSpinner.setOnItemSelectedListener(new AdapterView.OnItemSelectedListener() {
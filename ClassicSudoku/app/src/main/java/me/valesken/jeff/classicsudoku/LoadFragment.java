@@ -16,13 +16,9 @@ import android.widget.ListView;
 import android.widget.TextView;
 import android.widget.Toast;
 
-import org.json.JSONException;
-import org.json.JSONObject;
-
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
+
+import me.valesken.jeff.util.SaveIndex;
 
 /**
  * Created by Jeff on 7/12/2015.
@@ -37,9 +33,7 @@ public class LoadFragment extends Fragment {
     private int mostRecentPosition;
     private String filename;
     private MainActivity activity;
-    private File loadGamesFile;
-    private JSONObject loadGamesJSON;
-    private File[] files;
+    private SaveIndex saveIndex;
     private FragmentManager fm;
     private LayoutInflater inflater;
 
@@ -55,7 +49,6 @@ public class LoadFragment extends Fragment {
         activity = (MainActivity)getActivity();
         fm = activity.getFragmentManager();
         activity.setTitle(getResources().getString(R.string.app_name).concat(" - Load"));
-        loadGamesFile = activity.getLoadGamesFile();
 
         /* This OnTouchListener ensures the user cannot accidentally touch Views from the previous fragment. */
         rootView.setOnTouchListener(new View.OnTouchListener()
@@ -66,18 +59,16 @@ public class LoadFragment extends Fragment {
         loadList = (ListView)rootView.findViewById(R.id.load_list);
         TextView loadEmptyMessage = (TextView)rootView.findViewById(R.id.load_empty_message);
 
-        activity.loadFiles();
-        files = activity.getFiles();
-        loadGamesJSON = activity.getLoadGamesJSON();
+        saveIndex = activity.getSaveIndex();
 
-        if(files == null || files.length == 0) {
+        if(saveIndex.size() == 0) {
             loadList.setVisibility(View.INVISIBLE);
             loadEmptyMessage.setVisibility(View.VISIBLE);
         }
         else {
             loadEmptyMessage.setVisibility(View.INVISIBLE);
             loadList.setVisibility(View.VISIBLE);
-            final LoadGameAdapter loadGameAdapter = new LoadGameAdapter(loadGamesJSON, rootView.getContext());
+            final LoadGameAdapter loadGameAdapter = new LoadGameAdapter(saveIndex, rootView.getContext());
             loadList.setAdapter(loadGameAdapter);
             loadList.setOnItemClickListener(new AdapterView.OnItemClickListener() {
                 @Override
@@ -110,7 +101,7 @@ public class LoadFragment extends Fragment {
             @Override
             public void onClick(View v) {
                 if(mostRecentView != null) {
-                    new LoadGameTask().execute(getResources().getInteger(R.integer.board_size), mostRecentPosition);
+                    new LoadGameTask().execute(getResources().getInteger(R.integer.board_size));
                     Toast.makeText(rootView.getContext(), "Loading...", Toast.LENGTH_LONG).show();
                 }
             }
@@ -144,26 +135,20 @@ public class LoadFragment extends Fragment {
         deleteAlertView.findViewById(R.id.delete_game_yes_button).setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
-                // Delete file on disk
+                // Delete file on disk (in the background) and remove it from the save index
                 String _filename = ((TextView)mostRecentView.findViewById(R.id.load_list_item_text)).getText().toString();
-                File deleteFile = new File(activity.getSaveDir(), _filename.concat(".txt"));
-                if (deleteFile.delete()) {
-                    // Reset graphical state
-                    if (mostRecentPosition < (files.length - 1)) {
-                        mostRecentView.setBackground(getResources().getDrawable(android.R.color.transparent));
-                        mostRecentView.findViewById(R.id.load_list_item_delete).setVisibility(View.INVISIBLE);
-                    }
-                    mostRecentView = null;
-                    mostRecentPosition = -1;
-                    // Update activity copies
-                    activity.loadFiles(); // Updates files
-                    updateLoadGamesFile();
-                    files = activity.getFiles();
-                    loadGameAdapter.renewAdapter(activity.getLoadGamesJSON());
-                    if (loadGameAdapter.getCount() == 0) {
-                        loadList.setVisibility(View.INVISIBLE);
-                        rootView.findViewById(R.id.load_empty_message).setVisibility(View.VISIBLE);
-                    }
+                activity.deleteSavedGame(_filename);
+                // Reset graphical state
+                if (mostRecentPosition < saveIndex.size()) {
+                    mostRecentView.setBackground(getResources().getDrawable(android.R.color.transparent));
+                    mostRecentView.findViewById(R.id.load_list_item_delete).setVisibility(View.INVISIBLE);
+                }
+                mostRecentView = null;
+                mostRecentPosition = -1;
+                loadGameAdapter.renewAdapter();
+                if (loadGameAdapter.getCount() == 0) {
+                    loadList.setVisibility(View.INVISIBLE);
+                    rootView.findViewById(R.id.load_empty_message).setVisibility(View.VISIBLE);
                 }
                 deleteAlert.cancel();
             }
@@ -172,24 +157,6 @@ public class LoadFragment extends Fragment {
         deleteAlert.show();
     }
 
-    private void updateLoadGamesFile() {
-        try {
-            int length = loadGamesJSON.getInt(getResources().getString(R.string.json_length_id));
-            for(int i = length-1; i > mostRecentPosition; --i)
-                loadGamesJSON.put(Integer.toString(i-1), loadGamesJSON.get(Integer.toString(i)));
-            loadGamesJSON.remove(Integer.toString(length-1));
-            loadGamesJSON.put(getResources().getString(R.string.json_length_id), --length);
-
-            BufferedWriter buff = new BufferedWriter(new FileWriter(loadGamesFile, false));
-            buff.write(loadGamesJSON.toString());
-            buff.flush();
-            buff.close();
-        }
-        catch (JSONException | IOException e) {
-            e.printStackTrace();
-        }
-    }
-
     //endregion
 
     private class LoadGameTask extends AsyncTask<Integer, Void, GameFragment> {
@@ -199,11 +166,9 @@ public class LoadFragment extends Fragment {
         @Override
         protected GameFragment doInBackground(Integer... ints) {
             int boardSize = ints[0];
-            int position = ints[1];
-            File saveDir = activity.getSaveDir();
-            File saveFile = new File(saveDir.getAbsolutePath().concat("/".concat(filename.concat(".txt"))));
+            File saveFile = activity.findSaveFile(filename);
             GameFragment game = new GameFragment();
-            game.loadGame(boardSize, saveFile, position);
+            game.loadGame(boardSize, saveFile, filename);
             return game;
         }
 
@@ -9,30 +9,25 @@ import android.widget.BaseAdapter;
 import android.widget.ListAdapter;
 import android.widget.TextView;
 
-import org.json.JSONException;
-import org.json.JSONObject;
+import java.util.List;
+
+import me.valesken.jeff.util.SaveIndex;
 
 /**
  * Created by Jeff on 6/25/2015.
- * Last updated on 7/12/2015
+ * Last updated on 10/17/2026
+ *
+ * Lists the saved games in a SaveIndex, in the order they were first saved.
  */
 public class LoadGameAdapter extends BaseAdapter implements ListAdapter {
     Context context;
-    int length;
-    JSONObject loadGamesJSON;
-    View[] views;
+    SaveIndex saveIndex;
+    List<String> names;
 
-    public LoadGameAdapter(JSONObject _loadGamesJSON, Context _context) {
-        length = 0;
-        loadGamesJSON = _loadGamesJSON;
+    public LoadGameAdapter(SaveIndex _saveIndex, Context _context) {
         context = _context;
-        try {
-            length = loadGamesJSON.getInt(context.getResources().getString(R.string.json_length_id));
-        }
-        catch (JSONException e) {
-            e.printStackTrace();
-        }
-        views = new View[length];
+        saveIndex = _saveIndex;
+        names = saveIndex.getNames();
     }
 
     @SuppressLint("InflateParams")
@@ -43,49 +38,31 @@ public class LoadGameAdapter extends BaseAdapter implements ListAdapter {
         if(convertView == null) {
             LayoutInflater inflater = (LayoutInflater) context.getSystemService(Context.LAYOUT_INFLATER_SERVICE);
             listItemView = inflater.inflate(R.layout.load_list_item_layout, null);
-            try {
-                JSONObject thisLoadGameJSON = loadGamesJSON.getJSONObject(Integer.toString(position));
-                String filenameString = thisLoadGameJSON.getString(context.getResources().getString(R.string.json_filename_id));
-                String timeString = thisLoadGameJSON.getString(context.getResources().getString(R.string.json_time_id));
-                ((TextView) listItemView.findViewById(R.id.load_list_item_text)).setText(filenameString);
-                ((TextView) listItemView.findViewById(R.id.load_list_item_time)).setText(timeString);
-            }
-            catch (JSONException e) {
-                e.printStackTrace();
-            }
-            views[position] = listItemView;
         }
         else
             listItemView = convertView;
 
+        String name = names.get(position);
+        ((TextView) listItemView.findViewById(R.id.load_list_item_text)).setText(name);
+        ((TextView) listItemView.findViewById(R.id.load_list_item_time)).setText(saveIndex.getTime(name));
+
         return listItemView;
     }
 
     @Override
-    public int getCount() { return length; }
+    public int getCount() { return names.size(); }
 
     @Override
-    public Object getItem(int position) { return views[position]; }
+    public Object getItem(int position) { return names.get(position); }
 
     @Override
-    public long getItemId(int position) { return 0; }
+    public long getItemId(int position) { return position; }
 
-    public void renewAdapter(JSONObject _loadGamesJSON) {
-        length = 0;
-        loadGamesJSON = _loadGamesJSON;
-        try {
-            length = loadGamesJSON.getInt(context.getResources().getString(R.string.json_length_id));
-            for (int i = 0; i < length; ++i) {
-                JSONObject thisLoadGameJSON = loadGamesJSON.getJSONObject(Integer.toString(i));
-                String filenameString = thisLoadGameJSON.getString(context.getResources().getString(R.string.json_filename_id));
-                String timeString = thisLoadGameJSON.getString(context.getResources().getString(R.string.json_time_id));
-                ((TextView)views[i].findViewById(R.id.load_list_item_text)).setText(filenameString);
-                ((TextView)views[i].findViewById(R.id.load_list_item_time)).setText(timeString);
-            }
-        }
-        catch (JSONException e) {
-            e.printStackTrace();
-        }
+    /**
+     * Pick up saves added to or removed from the index since the list was last shown.
+     */
+    public void renewAdapter() {
+        names = saveIndex.getNames();
         this.notifyDataSetChanged();
     }
 }
@@ -7,27 +7,45 @@ import android.os.Bundle;
 import org.json.JSONException;
 import org.json.JSONObject;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import me.valesken.jeff.sudoku_model.ModelProxy;
+import me.valesken.jeff.util.AndroidLogSink;
+import me.valesken.jeff.util.FileStore;
+import me.valesken.jeff.util.Logger;
+import me.valesken.jeff.util.SaveIndex;
 
 /**
  * Created by Jeff on 5/1/2015.
- * Last updated on 7/5/2015.
+ * Last updated on 10/17/2026.
+ *
+ * Files are read and written through a FileStore, off the UI thread. The high scores JSON and the save index are read
+ * in the background at startup and then kept in memory; changes to the high scores are written back with
+ * saveHighScoresJSON(), and the save index writes its own changes as they are made.
+ *
+ * The save index replaced LoadGames.txt, which is imported into it and deleted the first time the index is set up.
  */
 
 public class MainActivity extends Activity {
 
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final String OLD_SAVE_EXTENSION = ".txt"; // JSON saves written by older versions
+
     private static FragmentManager fm;
-    private static File[] files;
     private static File saveDir;
     private static File highScores;
+    private static File saveIndexFile;
     private static File loadGamesFile;
     private static File autoSaveFile;
     private static JSONObject highScoresJSON;
+    private static SaveIndex saveIndex;
+    private static Future<byte[]> highScoresRead;
+    private static Future<byte[]> saveIndexRead;
+    private static Future<byte[]> loadGamesRead;
+    private static FileStore fileStore;
     private static GameFragment gameFragment;
     private static MainFragment main;
 
@@ -37,37 +55,31 @@ public class MainActivity extends Activity {
         super.onCreate(savedInstanceState);
         setContentView(R.layout.activity_main);
         main = new MainFragment();
+        Logger.setSink(new AndroidLogSink());
 
-        try {
-            // Set up high scores file (if doesn't exist) and load high scores
-            highScores = new File(getFilesDir(), "HighScores.txt");
-            if (!highScores.exists()) {
-                BufferedWriter buff = new BufferedWriter(new FileWriter(highScores, false));
-                buff.write(getResources().getString(R.string.high_scores_init));
-                buff.flush();
-                buff.close();
-            }
-            BufferedReader buff_r = new BufferedReader(new FileReader(highScores));
-            highScoresJSON = new JSONObject(buff_r.readLine());
-            buff_r.close();
-
-            // Set up load games file (if doesn't exist)
-            loadGamesFile = new File(getFilesDir(), "LoadGames.txt");
-            if (!loadGamesFile.exists()) {
-                BufferedWriter buff = new BufferedWriter(new FileWriter(loadGamesFile, false));
-                buff.write(getResources().getString(R.string.load_games_init));
-                buff.flush();
-                buff.close();
-            }
-        }
-        catch (IOException | JSONException e) {
-            e.printStackTrace();
-        }
+        // Start generating puzzles in the background so that new games are ready immediately
+        ModelProxy.startPuzzlePool(getResources().getInteger(R.integer.board_size),
+                getResources().getInteger(R.integer.puzzle_pool_capacity),
+                getResources().getInteger(R.integer.puzzle_pool_workers));
+
+        // Start reading the high scores and save index files in the background; they are set up when first needed
+        if (fileStore == null)
+            fileStore = new FileStore();
+        highScores = new File(getFilesDir(), "HighScores.txt");
+        saveIndexFile = new File(getFilesDir(), "SaveIndex.bin");
+        loadGamesFile = new File(getFilesDir(), "LoadGames.txt");
+        highScoresJSON = null;
+        saveIndex = null;
+        highScoresRead = fileStore.read(highScores);
+        saveIndexRead = fileStore.read(saveIndexFile);
+        loadGamesRead = fileStore.read(loadGamesFile);
 
-        // Set up save directory and load files
+        // Set up save directory and find the autosave (if it exists)
         saveDir = new File(getFilesDir(), "save");
         saveDir.mkdir();
-        loadFiles();
+        autoSaveFile = new File(getFilesDir(), getResources().getString(R.string.autosave_filename));
+        if (!autoSaveFile.exists())
+            autoSaveFile = null;
 
         fm = getFragmentManager();
 
@@ -78,21 +90,6 @@ public class MainActivity extends Activity {
         }
     }
 
-    public void loadFiles() {
-
-        // Load AutoSave.txt (if it exists)
-        autoSaveFile = null;
-        files = getFilesDir().listFiles();
-        for(File f : files)
-            if (f.getName().equals("AutoSave.txt")) {
-                autoSaveFile = f;
-                break;
-            }
-
-        // Load all other save files
-        files = saveDir.listFiles();
-    }
-
     @Override
     public void onBackPressed() {
         if(fm.getBackStackEntryCount() == 1) {
@@ -103,6 +100,14 @@ public class MainActivity extends Activity {
         super.onBackPressed();
     }
 
+    @Override
+    protected void onDestroy() {
+        if (isFinishing()) {
+            ModelProxy.stopPuzzlePool();
+        }
+        super.onDestroy();
+    }
+
     @Override
     public void onPause() {
         if(fm.getBackStackEntryCount() == 1 && fm.getBackStackEntryAt(fm.getBackStackEntryCount()-1).getName().equals("Game"))
@@ -114,7 +119,32 @@ public class MainActivity extends Activity {
      * Getters
      */
 
-    public JSONObject getHighScoresJSON() { return highScoresJSON; }
+    public JSONObject getHighScoresJSON() {
+        if (highScoresJSON == null) {
+            highScoresJSON = readJSON(highScoresRead, highScores, R.string.high_scores_init);
+            addMissingHighScores(highScoresJSON);
+        }
+        return highScoresJSON;
+    }
+
+    /**
+     * Give the high scores an empty list for every difficulty level they do not have yet, such as Expert in a high
+     * scores file written before Expert puzzles were added.
+     */
+    private void addMissingHighScores(JSONObject scores) {
+        try {
+            JSONObject init = new JSONObject(getResources().getString(R.string.high_scores_init));
+            Iterator<String> keys = init.keys();
+            while (keys.hasNext()) {
+                String key = keys.next();
+                if (!scores.has(key))
+                    scores.put(key, init.getJSONArray(key));
+            }
+        }
+        catch (JSONException e) {
+            e.printStackTrace();
+        }
+    }
 
     public File getHighScoresFile() { return highScores; }
 
@@ -122,22 +152,104 @@ public class MainActivity extends Activity {
 
     public File getAutoSaveFile() { return autoSaveFile; }
 
-    public File[] getFiles() { return files; }
+    /**
+     * @return The index of saved games, set up from the file read at startup (this is normally long done).
+     */
+    public SaveIndex getSaveIndex() {
+        if (saveIndex == null) {
+            byte[] data = waitFor(saveIndexRead);
+            saveIndex = new SaveIndex(fileStore, saveIndexFile, data);
+            if (data == null)
+                importLoadGames();
+        }
+        return saveIndex;
+    }
+
+    /**
+     * @return The file a saved game is written to.
+     */
+    public File getSaveFile(String name) { return new File(saveDir, name.concat(SAVE_EXTENSION)); }
+
+    /**
+     * Find the file a saved game can be loaded from: the binary save, or the JSON save written by an older version if
+     * the game has not been saved since. Waits for the writes still queued on the FileStore, so call it off the UI
+     * thread.
+     *
+     * @return The file holding the saved game.
+     */
+    public File findSaveFile(String name) {
+        waitFor(fileStore.flush());
+        File saveFile = getSaveFile(name);
+        File oldSaveFile = new File(saveDir, name.concat(OLD_SAVE_EXTENSION));
+        return (!saveFile.exists() && oldSaveFile.exists()) ? oldSaveFile : saveFile;
+    }
 
-    public JSONObject getLoadGamesJSON() {
-        JSONObject loadGamesJSON = null;
+    public static FileStore getFileStore() { return fileStore; }
+
+    /**
+     * Wait for a FileStore operation, such as a file read at startup.
+     *
+     * @return The result of the operation (for a read, the contents of the file), null if it failed or the file does
+     * not exist.
+     */
+    private static <T> T waitFor(Future<T> operation) {
         try {
-            BufferedReader buff_r = new BufferedReader(new FileReader(loadGamesFile));
-            loadGamesJSON = new JSONObject(buff_r.readLine());
-            buff_r.close();
+            return operation.get();
         }
-        catch (IOException | JSONException e) {
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
             e.printStackTrace();
         }
-        return loadGamesJSON;
+        return null;
     }
 
-    public File getLoadGamesFile() { return loadGamesFile; }
+    /**
+     * Wait for a JSON file read at startup (this is normally long done) and parse it. If the file does not exist or
+     * cannot be parsed, it is set up with its initial contents.
+     */
+    private JSONObject readJSON(Future<byte[]> read, File file, int initId) {
+        try {
+            byte[] data = waitFor(read);
+            if (data != null)
+                return new JSONObject(new String(data, FileStore.UTF_8));
+        }
+        catch (JSONException e) {
+            e.printStackTrace();
+        }
+        String init = getResources().getString(initId);
+        fileStore.write(file, init);
+        try {
+            return new JSONObject(init);
+        }
+        catch (JSONException e) {
+            e.printStackTrace();
+            return new JSONObject();
+        }
+    }
+
+    /**
+     * Copy the saves listed in LoadGames.txt, written by older versions, into the new save index, then delete it.
+     */
+    private void importLoadGames() {
+        byte[] data = waitFor(loadGamesRead);
+        if (data == null)
+            return;
+        try {
+            JSONObject loadGamesJSON = new JSONObject(new String(data, FileStore.UTF_8));
+            int length = loadGamesJSON.getInt(getResources().getString(R.string.json_length_id));
+            for (int i = 0; i < length; ++i) {
+                JSONObject loadJSON = loadGamesJSON.getJSONObject(Integer.toString(i));
+                saveIndex.put(loadJSON.getString(getResources().getString(R.string.json_filename_id)),
+                        loadJSON.getString(getResources().getString(R.string.json_time_id)));
+            }
+        }
+        catch (JSONException e) {
+            e.printStackTrace();
+        }
+        fileStore.delete(loadGamesFile);
+    }
 
     /*
      * Setters
@@ -145,6 +257,33 @@ public class MainActivity extends Activity {
 
     public void enableResumeGameButton(boolean enabled) { main.enableResumeGameButton(enabled); }
 
+    public void setAutoSaveFile(File _autoSaveFile) { autoSaveFile = _autoSaveFile; }
+
+    /**
+     * Write the high scores JSON (as changed in place) to its file in the background.
+     */
+    public void saveHighScoresJSON() { fileStore.write(highScores, getHighScoresJSON().toString()); }
+
+    /**
+     * Write a game to its save file in the background, and list it in the save index (or update its time there). A
+     * JSON save of the game written by an older version is deleted, as it is out of date.
+     */
+    public void saveGame(String name, byte[] data, String time) {
+        fileStore.write(getSaveFile(name), data);
+        fileStore.delete(new File(saveDir, name.concat(OLD_SAVE_EXTENSION)));
+        getSaveIndex().put(name, time);
+    }
+
+    /**
+     * Delete a saved game's file (and any JSON save written by an older version) in the background, and remove it
+     * from the save index.
+     */
+    public void deleteSavedGame(String name) {
+        fileStore.delete(getSaveFile(name));
+        fileStore.delete(new File(saveDir, name.concat(OLD_SAVE_EXTENSION)));
+        getSaveIndex().remove(name);
+    }
+
     public void setGameFragment(GameFragment _gameFragment) { gameFragment = _gameFragment; }
 
 }
@@ -120,9 +120,12 @@ public class MainFragment extends Fragment {
                     case R.id.hardRadButton:
                         difficulty = 3;
                         break;
-                    case R.id.randomRadButton:
+                    case R.id.expertRadButton:
                         difficulty = 4;
                         break;
+                    case R.id.randomRadButton:
+                        difficulty = 0;
+                        break;
                     default:
                         break;
                 }
@@ -178,7 +181,7 @@ public class MainFragment extends Fragment {
         @Override
         protected GameFragment doInBackground(Integer... ints) {
             GameFragment game = new GameFragment();
-            game.loadGame(getResources().getInteger(R.integer.board_size), activity.getAutoSaveFile(), -1);
+            game.loadGame(getResources().getInteger(R.integer.board_size), activity.getAutoSaveFile(), null);
             return game;
         }
 
@@ -0,0 +1,345 @@
+package me.valesken.jeff.classicsudoku;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.MotionEvent;
+import android.view.View;
+
+/**
+ * Created by Jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Draws the whole playing grid (values, notes, borders and the selected Tile) onto one canvas, instead of laying out
+ * a View per Tile. The text of every value and note, and where it sits within a Tile, is worked out once per size
+ * change, so drawing allocates nothing. Changing a Tile only invalidates that Tile's rectangle, and changes made
+ * between beginBatch() and endBatch() invalidate the rectangle around all of them once.
+ */
+public class SudokuGridView extends View {
+
+    private static final float CELL_HEIGHT_DP = 33; // Height of a Tile unless the grid is given an exact height
+    private static final float THIN_BORDER_DP = 1;
+    private static final float THICK_BORDER_DP = 2; // Between zones
+    private static final float NOTE_MARGIN_DP = 2;
+    private static final float VALUE_TEXT_SP = 22;
+    private static final float NOTE_TEXT_SP = 8;
+
+    /**
+     * Told when the user touches a Tile.
+     */
+    public interface OnTileSelectedListener {
+        void onTileSelected(int index);
+    }
+
+    private int boardSize; // Tiles per row, column and zone
+    private int zoneWidth;
+    private int[] values; // Value of each Tile, 0 if empty or in Note mode
+    private int[] notes; // Bit (v - 1) is set if the Tile shows note v
+    private boolean[] orig;
+    private int selectedIndex;
+    private OnTileSelectedListener listener;
+    private int batchDepth; // Open beginBatch() calls
+    private final Rect batchDirty; // Area changed in the open batch
+
+    private final Paint valuePaint;
+    private final Paint origPaint;
+    private final Paint notePaint;
+    private final Paint borderPaint;
+    private final Paint selectedPaint;
+    private final Rect dirty;
+    private final float thinBorder;
+    private final float thickBorder;
+    private final float noteMargin;
+    private final int defaultCellHeight;
+
+    //region Layout, worked out in onSizeChanged()
+    private float cellWidth;
+    private float cellHeight;
+    private String[] glyphs; // Text of each value, by value
+    private float[] valueX; // Offset within a Tile to draw each value at, by value
+    private float valueBaseline;
+    private float[] noteX; // Offset within a Tile to draw each note at, by value
+    private float[] noteY;
+    //endregion
+
+    public SudokuGridView(Context context) {
+        this(context, null);
+    }
+
+    public SudokuGridView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        thinBorder = dpToPx(THIN_BORDER_DP);
+        thickBorder = dpToPx(THICK_BORDER_DP);
+        noteMargin = dpToPx(NOTE_MARGIN_DP);
+        defaultCellHeight = Math.round(dpToPx(CELL_HEIGHT_DP));
+
+        int textColor = context.getResources().getColor(android.R.color.secondary_text_light);
+        valuePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        valuePaint.setColor(textColor);
+        valuePaint.setTextSize(spToPx(VALUE_TEXT_SP));
+        origPaint = new Paint(valuePaint);
+        origPaint.setColor(Color.BLACK);
+        origPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        notePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        notePaint.setColor(textColor);
+        notePaint.setTextSize(spToPx(NOTE_TEXT_SP));
+        borderPaint = new Paint();
+        borderPaint.setColor(Color.BLACK);
+        selectedPaint = new Paint();
+        selectedPaint.setColor(context.getResources().getColor(android.R.color.holo_blue_bright));
+        dirty = new Rect();
+        batchDirty = new Rect();
+
+        selectedIndex = -1;
+        setBoardSize(9);
+    }
+
+    //region State
+
+    /**
+     * Set the size of the board and clear every Tile.
+     *
+     * @param _boardSize Tiles per row, column and zone; must be a square.
+     */
+    public void setBoardSize(int _boardSize) {
+        boardSize = _boardSize;
+        zoneWidth = (int) Math.sqrt(boardSize);
+        values = new int[boardSize * boardSize];
+        notes = new int[boardSize * boardSize];
+        orig = new boolean[boardSize * boardSize];
+        selectedIndex = -1;
+        glyphs = new String[boardSize + 1];
+        for (int v = 1; v <= boardSize; ++v)
+            glyphs[v] = Integer.toString(v);
+        valueX = new float[boardSize + 1];
+        noteX = new float[boardSize + 1];
+        noteY = new float[boardSize + 1];
+        layoutGlyphs();
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Set what a Tile shows and redraw it. Callers are expected to only pass Tiles that changed.
+     *
+     * @param index     The index of the Tile.
+     * @param value     The value of the Tile, 0 if it is empty or in Note mode.
+     * @param notesMask Bit (v - 1) is set for every note v the Tile shows, 0 if it is not in Note mode.
+     * @param isOrig    Whether the Tile is part of the original puzzle.
+     */
+    public void setTile(int index, int value, int notesMask, boolean isOrig) {
+        values[index] = value;
+        notes[index] = notesMask;
+        orig[index] = isOrig;
+        invalidateTile(index);
+    }
+
+    /**
+     * Highlight a Tile, un-highlighting the one highlighted before.
+     *
+     * @param index The index of the Tile, -1 for none.
+     */
+    public void setSelectedIndex(int index) {
+        if (index == selectedIndex)
+            return;
+        if (selectedIndex > -1)
+            invalidateTile(selectedIndex);
+        selectedIndex = index;
+        if (selectedIndex > -1)
+            invalidateTile(selectedIndex);
+    }
+
+    public int getSelectedIndex() { return selectedIndex; }
+
+    public void setOnTileSelectedListener(OnTileSelectedListener _listener) { listener = _listener; }
+
+    /**
+     * Hold back redrawing the Tiles changed from here until the matching endBatch(). Batches may nest.
+     */
+    public void beginBatch() {
+        if (batchDepth++ == 0)
+            batchDirty.setEmpty();
+    }
+
+    /**
+     * Redraw every Tile changed since the matching beginBatch(), in one frame.
+     */
+    @SuppressWarnings("deprecation") // invalidate(Rect) still limits redraws on software-rendered windows
+    public void endBatch() {
+        if (batchDepth == 0 || --batchDepth > 0)
+            return;
+        if (!batchDirty.isEmpty())
+            invalidate(batchDirty);
+    }
+
+    @SuppressWarnings("deprecation")
+    private void invalidateTile(int index) {
+        getTileBounds(index, dirty);
+        if (batchDepth > 0)
+            batchDirty.union(dirty);
+        else
+            invalidate(dirty);
+    }
+
+    /**
+     * @param bounds Set to the rectangle a Tile is drawn in, including the borders it shares with its neighbours.
+     */
+    private void getTileBounds(int index, Rect bounds) {
+        int row = index / boardSize;
+        int column = index % boardSize;
+        float left = getPaddingLeft() + column * cellWidth;
+        float top = getPaddingTop() + row * cellHeight;
+        bounds.set((int) Math.floor(left - thickBorder), (int) Math.floor(top - thickBorder),
+                (int) Math.ceil(left + cellWidth + thickBorder), (int) Math.ceil(top + cellHeight + thickBorder));
+    }
+    //endregion
+
+    //region Measuring & Layout
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = getDefaultSize(getSuggestedMinimumWidth(), widthMeasureSpec);
+        int height = resolveSize(boardSize * defaultCellHeight + getPaddingTop() + getPaddingBottom(),
+                heightMeasureSpec);
+        setMeasuredDimension(width, height);
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        layoutGlyphs();
+    }
+
+    /**
+     * Work out the size of a Tile and where each value and note is drawn within one.
+     */
+    private void layoutGlyphs() {
+        cellWidth = (float) (getWidth() - getPaddingLeft() - getPaddingRight()) / boardSize;
+        cellHeight = (float) (getHeight() - getPaddingTop() - getPaddingBottom()) / boardSize;
+        if (cellWidth <= 0 || cellHeight <= 0)
+            return;
+
+        Paint.FontMetrics metrics = valuePaint.getFontMetrics();
+        valueBaseline = (cellHeight - metrics.ascent - metrics.descent) / 2;
+        Paint.FontMetrics noteMetrics = notePaint.getFontMetrics();
+        float noteHeight = noteMetrics.descent - noteMetrics.ascent;
+        for (int v = 1; v <= boardSize; ++v) {
+            valueX[v] = (cellWidth - origPaint.measureText(glyphs[v])) / 2;
+
+            // Notes sit in a zoneWidth x zoneWidth grid: left, centre and right columns; top, middle and bottom rows
+            float noteWidth = notePaint.measureText(glyphs[v]);
+            int column = (v - 1) % zoneWidth;
+            int row = (v - 1) / zoneWidth;
+            float columnSpace = cellWidth - 2 * noteMargin - noteWidth;
+            float rowSpace = cellHeight - thinBorder - noteHeight;
+            noteX[v] = noteMargin + (zoneWidth > 1 ? columnSpace * column / (zoneWidth - 1) : columnSpace / 2);
+            noteY[v] = thinBorder - noteMetrics.ascent
+                    + (zoneWidth > 1 ? rowSpace * row / (zoneWidth - 1) : rowSpace / 2);
+        }
+    }
+    //endregion
+
+    //region Drawing
+    @Override
+    protected void onDraw(Canvas canvas) {
+        if (cellWidth <= 0 || cellHeight <= 0)
+            return;
+        float left = getPaddingLeft();
+        float top = getPaddingTop();
+        float right = left + boardSize * cellWidth;
+        float bottom = top + boardSize * cellHeight;
+
+        // Only draw the Tiles within the area being redrawn
+        if (!canvas.getClipBounds(dirty))
+            dirty.set(0, 0, getWidth(), getHeight());
+        int firstColumn = clamp((int) ((dirty.left - left) / cellWidth) - 1);
+        int lastColumn = clamp((int) ((dirty.right - left) / cellWidth) + 1);
+        int firstRow = clamp((int) ((dirty.top - top) / cellHeight) - 1);
+        int lastRow = clamp((int) ((dirty.bottom - top) / cellHeight) + 1);
+
+        for (int row = firstRow; row <= lastRow; ++row) {
+            for (int column = firstColumn; column <= lastColumn; ++column) {
+                int index = row * boardSize + column;
+                float x = left + column * cellWidth;
+                float y = top + row * cellHeight;
+                if (index == selectedIndex)
+                    canvas.drawRect(x, y, x + cellWidth, y + cellHeight, selectedPaint);
+                if (values[index] > 0) {
+                    int value = values[index];
+                    canvas.drawText(glyphs[value], x + valueX[value], y + valueBaseline,
+                            orig[index] ? origPaint : valuePaint);
+                }
+                else if (notes[index] != 0) {
+                    for (int v = 1; v <= boardSize; ++v)
+                        if ((notes[index] & (1 << (v - 1))) != 0)
+                            canvas.drawText(glyphs[v], x + noteX[v], y + noteY[v], notePaint);
+                }
+            }
+        }
+
+        // Borders between Tiles, thicker between zones
+        for (int i = 1; i < boardSize; ++i) {
+            float width = (i % zoneWidth == 0) ? thickBorder : thinBorder;
+            float x = left + i * cellWidth;
+            float y = top + i * cellHeight;
+            canvas.drawRect(x - width / 2, top, x + width / 2, bottom, borderPaint);
+            canvas.drawRect(left, y - width / 2, right, y + width / 2, borderPaint);
+        }
+    }
+
+    private int clamp(int rowOrColumn) {
+        return Math.max(0, Math.min(boardSize - 1, rowOrColumn));
+    }
+    //endregion
+
+    //region Touch
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                int index = getTileAt(event.getX(), event.getY());
+                if (index > -1) {
+                    setSelectedIndex(index);
+                    if (listener != null)
+                        listener.onTileSelected(index);
+                }
+                return true;
+            case MotionEvent.ACTION_UP:
+                performClick();
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public boolean performClick() {
+        return super.performClick();
+    }
+
+    /**
+     * @return The index of the Tile at a point in the View, -1 if the point is outside the grid.
+     */
+    private int getTileAt(float x, float y) {
+        if (cellWidth <= 0 || cellHeight <= 0)
+            return -1;
+        int column = (int) Math.floor((x - getPaddingLeft()) / cellWidth);
+        int row = (int) Math.floor((y - getPaddingTop()) / cellHeight);
+        if (column < 0 || column >= boardSize || row < 0 || row >= boardSize)
+            return -1;
+        return row * boardSize + column;
+    }
+    //endregion
+
+    private float dpToPx(float dp) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, getResources().getDisplayMetrics());
+    }
+
+    private float spToPx(float sp) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, sp, getResources().getDisplayMetrics());
+    }
+}
@@ -0,0 +1,23 @@
+package me.valesken.jeff.util;
+
+import android.util.Log;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated by jeff on 10/17/2026.
+ *
+ * Logger Sink that writes to the Android log.
+ */
+public class AndroidLogSink implements Logger.Sink {
+
+    @Override
+    public void debug(String tag, String message) {
+        Log.d(tag, message);
+    }
+
+    @Override
+    public void error(String tag, String message) {
+        Log.e(tag, message);
+    }
+
+}
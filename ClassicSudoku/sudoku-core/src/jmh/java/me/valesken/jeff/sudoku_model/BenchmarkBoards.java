@@ -0,0 +1,119 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Random;
+
+import me.valesken.jeff.util.Logger;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Shared setup for the benchmarks, kept out of the measured code. Setup builds its inputs directly instead of
+ * generating puzzles, from a fixed seed, so every run measures the same puzzles. Benchmarks that do generate take their
+ * seeds from SEEDS for the same reason.
+ */
+class BenchmarkBoards {
+
+    static final int HOUSE_SIZE = 9;
+    static final long SEED = 20261017L;
+    static final int NUM_SEEDS = 60; // Seeds 0 - 59, which BoardTest generates every difficulty from
+
+    /**
+     * @param call The number of the call to pick a seed for.
+     * @return The seed for that call, cycling through seeds 0 to NUM_SEEDS - 1.
+     */
+    static long seed(int call) {
+        return call % NUM_SEEDS;
+    }
+
+    /**
+     * Drops every log message, so that logging does not show up in the measurements.
+     */
+    static final Logger.Sink SILENT_SINK = new Logger.Sink() {
+        @Override
+        public void debug(String tag, String message) {
+        }
+
+        @Override
+        public void error(String tag, String message) {
+        }
+    };
+
+    /**
+     * @return A freshly initialized, empty Board.
+     */
+    static Board emptyBoard() {
+        Board board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+        return board;
+    }
+
+    /**
+     * @return A complete, valid solution: the first one DancingLinks finds for an empty grid, with its values
+     * relabeled by a seeded shuffle.
+     */
+    static int[] completeSolution() {
+        int boardSize = HOUSE_SIZE * HOUSE_SIZE;
+        int[] solution = new int[boardSize];
+        new DancingLinks(HOUSE_SIZE).solve(new int[boardSize], solution, 1);
+        int[] relabel = new int[HOUSE_SIZE + 1];
+        for (int v = 1; v <= HOUSE_SIZE; ++v) {
+            relabel[v] = v;
+        }
+        Random random = new Random(SEED);
+        for (int v = HOUSE_SIZE; v > 1; --v) {
+            int swap = random.nextInt(v) + 1;
+            int temp = relabel[v];
+            relabel[v] = relabel[swap];
+            relabel[swap] = temp;
+        }
+        for (int i = 0; i < boardSize; ++i) {
+            solution[i] = relabel[solution[i]];
+        }
+        return solution;
+    }
+
+    /**
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @return A new game at the given difficulty, dug and bounded the way newGame() does after buildCompleteBoard(),
+     * but not yet rated (see Board.fitDifficulty()).
+     */
+    static Board puzzle(int difficulty) {
+        Board board = filledBoard(completeSolution());
+        board.randGen = new Random(SEED);
+        board.seed = SEED;
+        board.difficulty = difficulty;
+        board.digHoles(board.getNumberOfGivens(difficulty));
+        board.checkBounds(board.getBound(difficulty));
+        board.markOriginals();
+        return board;
+    }
+
+    /**
+     * @param board The Board to read.
+     * @return The value of every Tile in Board index order, 0 for empty Tiles.
+     */
+    static int[] givens(Board board) {
+        int[] givens = new int[board.boardSize];
+        for (int i = 0; i < givens.length; ++i) {
+            givens[i] = board.getTile(i).getValue();
+        }
+        return givens;
+    }
+
+    /**
+     * @param solution The value of every Tile in Board index order.
+     * @return An initialized Board with every Tile set to its solution value, the same state buildCompleteBoard()
+     * leaves a Board in.
+     */
+    static Board filledBoard(int[] solution) {
+        Board board = emptyBoard();
+        System.arraycopy(solution, 0, board.solution, 0, solution.length);
+        for (int i = 0; i < solution.length; ++i) {
+            board.getTile(i).update(solution[i]);
+        }
+        return board;
+    }
+
+}
@@ -0,0 +1,75 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * The path a single tap takes through ModelProxy.updateTile(). Each call enters the solution value into the next
+ * empty Tile and then enters it again to take it back out, so the Board stays the same between calls.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameplayBenchmark {
+
+    private int[] emptyPositions;
+    private int[] values;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Board puzzle = BenchmarkBoards.puzzle(3);
+        ModelProxy.initializeNewBoard(BenchmarkBoards.HOUSE_SIZE);
+        ModelProxy.board.loadPuzzle(3, BenchmarkBoards.SEED, BenchmarkBoards.givens(puzzle), puzzle.solution);
+        Board board = ModelProxy.board;
+        int count = 0;
+        for (int i = 0; i < board.boardSize; ++i) {
+            if (!board.tileIsOrig(i)) {
+                ++count;
+            }
+        }
+        emptyPositions = new int[count];
+        values = new int[count];
+        count = 0;
+        for (int i = 0; i < board.boardSize; ++i) {
+            if (!board.tileIsOrig(i)) {
+                emptyPositions[count] = i;
+                values[count++] = board.getSolutionForTile(i);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        ModelProxy.board = null;
+    }
+
+    @Benchmark
+    public void updateTile(Blackhole blackhole) {
+        int position = emptyPositions[next];
+        int value = values[next];
+        next = (next + 1) % emptyPositions.length;
+        blackhole.consume(ModelProxy.updateTile(position, value));
+        blackhole.consume(ModelProxy.updateTile(position, value));
+    }
+
+}
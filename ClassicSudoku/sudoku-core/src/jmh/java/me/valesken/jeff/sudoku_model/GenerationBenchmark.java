@@ -0,0 +1,135 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import me.valesken.jeff.util.Logger;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Puzzle generation: building a complete board, digging holes, enforcing row/column bounds, the whole of newGame()
+ * for each difficulty, and deriving a game from an existing puzzle instead. SampleTime mode reports the latency
+ * percentiles, which matter here because newGame() may go through several attempts before a puzzle rates at its
+ * difficulty. Generating calls cycle through the fixed seeds of BenchmarkBoards.seed(), so every run measures the same
+ * boards.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int difficulty;
+
+    private int calls; // Generating calls so far, to pick each one's seed
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Logger.setSink(BenchmarkBoards.SILENT_SINK); // The Solver logs while newGame() rates puzzles
+    }
+
+    /**
+     * A complete Board, as buildCompleteBoard() leaves it, rebuilt before every call.
+     */
+    @State(Scope.Thread)
+    public static class CompleteBoard {
+        Board board;
+        private int[] solution;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            solution = BenchmarkBoards.completeSolution();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation(GenerationBenchmark benchmark) {
+            board = BenchmarkBoards.filledBoard(solution);
+            board.difficulty = benchmark.difficulty;
+        }
+    }
+
+    /**
+     * A Board with randomly dug holes that ignore the row/column bounds, so that checkBounds() has givens to move.
+     */
+    @State(Scope.Thread)
+    public static class DugBoard {
+        Board board;
+        private int[] solution;
+
+        @Setup(Level.Trial)
+        public void setUpTrial() {
+            solution = BenchmarkBoards.completeSolution();
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpInvocation(GenerationBenchmark benchmark) {
+            board = BenchmarkBoards.filledBoard(solution);
+            board.difficulty = benchmark.difficulty;
+            board.uniqueHoles = false;
+            board.digHoles(board.getNumberOfGivens(benchmark.difficulty));
+        }
+    }
+
+    /**
+     * A generated puzzle to derive new games from.
+     */
+    @State(Scope.Thread)
+    public static class Template {
+        int[] givens;
+        int[] solution;
+
+        @Setup(Level.Trial)
+        public void setUpTrial(GenerationBenchmark benchmark) {
+            Board puzzle = BenchmarkBoards.puzzle(benchmark.difficulty);
+            givens = BenchmarkBoards.givens(puzzle);
+            solution = puzzle.solution.clone();
+        }
+    }
+
+    @Benchmark
+    public boolean buildCompleteBoard() {
+        Board board = BenchmarkBoards.emptyBoard();
+        board.randGen.setSeed(BenchmarkBoards.seed(calls++));
+        return board.buildCompleteBoard();
+    }
+
+    @Benchmark
+    public Board digHoles(CompleteBoard state) {
+        state.board.digHoles(state.board.getNumberOfGivens(difficulty));
+        return state.board;
+    }
+
+    @Benchmark
+    public Board checkBounds(DugBoard state) {
+        state.board.checkBounds(state.board.getBound(difficulty));
+        return state.board;
+    }
+
+    @Benchmark
+    public int newGame() {
+        return BenchmarkBoards.emptyBoard().newGame(difficulty, BenchmarkBoards.seed(calls++));
+    }
+
+    @Benchmark
+    public int deriveGame(Template template) {
+        return BenchmarkBoards.emptyBoard().deriveGame(difficulty, template.givens, template.solution);
+    }
+
+}
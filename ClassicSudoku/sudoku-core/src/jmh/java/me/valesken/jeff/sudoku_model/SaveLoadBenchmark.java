@@ -0,0 +1,76 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * JSON save and load of a game in progress, separately and as a full round trip through the saved String.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SaveLoadBenchmark {
+
+    private static final int SECONDS = 12 * 60 + 34;
+
+    private Board board;
+    private Board loadBoard;
+    private JSONObject saved;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        board = BenchmarkBoards.puzzle(2);
+        board.resetClock(SECONDS);
+        // Play a few moves, so that the save holds values and notes as well as givens
+        int moves = 0;
+        for (int i = 0; i < board.boardSize && moves < 10; ++i) {
+            if (!board.tileIsOrig(i)) {
+                if (moves % 2 == 0) {
+                    board.updateTile(i, board.getSolutionForTile(i));
+                } else {
+                    board.toggleNoteMode(i);
+                    board.updateTile(i, 1);
+                    board.updateTile(i, board.houseSize);
+                }
+                ++moves;
+            }
+        }
+        saved = board.save();
+        loadBoard = BenchmarkBoards.emptyBoard();
+    }
+
+    @Benchmark
+    public JSONObject save() {
+        return board.save();
+    }
+
+    @Benchmark
+    public int loadGame() {
+        return loadBoard.loadGame(saved);
+    }
+
+    @Benchmark
+    public int roundTrip() {
+        String json = board.save().toString();
+        return loadBoard.loadGame(new JSONObject(json));
+    }
+
+}
@@ -0,0 +1,62 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import me.valesken.jeff.util.Logger;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Solver.solve() on a puzzle of each difficulty. Solving fills in the Board, so every call gets
+ * its own copy of the puzzle.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SolverBenchmark {
+
+    @Param({"1", "2", "3", "4"})
+    public int difficulty;
+
+    private int[] givens;
+    private int[] solution;
+    private Board board;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Logger.setSink(BenchmarkBoards.SILENT_SINK);
+        Board puzzle = BenchmarkBoards.puzzle(difficulty);
+        givens = BenchmarkBoards.givens(puzzle);
+        solution = puzzle.solution.clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        board = BenchmarkBoards.emptyBoard();
+        board.loadPuzzle(difficulty, BenchmarkBoards.SEED, givens, solution);
+    }
+
+    @Benchmark
+    public Board solve() {
+        new Solver(board).solve(difficulty);
+        return board;
+    }
+
+}
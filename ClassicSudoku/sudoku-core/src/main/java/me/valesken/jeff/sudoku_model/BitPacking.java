@@ -0,0 +1,47 @@
+package me.valesken.jeff.sudoku_model;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Helpers for packing small values into byte arrays, for the binary file formats (see PuzzleBank and SaveCodec).
+ * Bits are numbered from the most significant bit of the first byte.
+ */
+class BitPacking {
+
+    /**
+     * @return The number of bits needed to store any value 0 - houseSize.
+     */
+    static protected int getBitsPerValue(int houseSize) {
+        return 32 - Integer.numberOfLeadingZeros(houseSize);
+    }
+
+    /**
+     * @return The number of bytes needed to hold count bits.
+     */
+    static protected int getByteCount(int count) {
+        return (count + 7) / 8;
+    }
+
+    /**
+     * @return count bits starting at bit position 'bit'.
+     */
+    static protected int readBits(byte[] bytes, int bit, int count) {
+        int result = 0;
+        for (int i = 0; i < count; ++i, ++bit) {
+            result = (result << 1) | ((bytes[bit >>> 3] >>> (7 - (bit & 7))) & 1);
+        }
+        return result;
+    }
+
+    /**
+     * Write the lowest count bits of value starting at bit position 'bit'. The bits must still be clear.
+     */
+    static protected void writeBits(byte[] bytes, int bit, int count, int value) {
+        for (int i = count - 1; i >= 0; --i, ++bit) {
+            if (((value >>> i) & 1) != 0) {
+                bytes[bit >>> 3] |= (byte) (1 << (7 - (bit & 7)));
+            }
+        }
+    }
+}
@@ -0,0 +1,1409 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.Stack;
+
+import me.valesken.jeff.util.Logger;
+
+/**
+ * Created by Jeff on 2/28/2015.
+ * Last updated on 10/17/2026
+ */
+class Board {
+    static final protected String JSON_TIME_ID = "time";
+    static final protected String JSON_DIFFICULTY_ID = "difficulty";
+    static final protected String JSON_SOLUTION_ID = "solution";
+    static final protected String JSON_TILES_ID = "tiles";
+    static final protected String JSON_SEED_ID = "seed";
+
+    /**
+     * Bump whenever a change to generation would make a seed produce a different puzzle than before.
+     */
+    static final protected int GENERATOR_VERSION = 3;
+    static final protected int DIG_BUDGET_PER_TILE = 2;
+    static final protected int MAX_BUILD_ATTEMPTS = 100;
+    static final protected int BUILD_BUDGET_PER_TILE = 10;
+    static final protected int MAX_RATING_ATTEMPTS = 60; // Puzzles generated to find one rated at its difficulty
+    static final protected int NUM_DIFFICULTIES = 4; // Easy, Medium, Hard, Expert (needs Master Techniques)
+
+    /**
+     * Flags of a Tile in a snapshot (see getSnapshot()), FLAG_BITS bits per Tile packed into longs.
+     */
+    static final protected int FLAG_ORIG = 1;
+    static final protected int FLAG_NOTE_MODE = 2;
+    static final protected int FLAG_BITS = 2;
+    static final protected int TILES_PER_FLAG_WORD = Long.SIZE / FLAG_BITS;
+
+    static final protected int NO_CHANGE = -1; // See batchChange
+    static final protected int MANY_CHANGES = -2;
+
+    static final protected long NANOS_PER_SECOND = 1000000000L;
+
+    protected Logger logger;
+    protected int houseSize;
+    protected int boardSize;
+    protected int difficulty;
+    protected Tile[] tiles;
+    protected House[] rows, columns, zones;
+    protected Set<Tile> solvedTiles;
+    protected int[] solution;
+    protected Random randGen;
+    protected Long seed; // Seed the current puzzle was generated from, null if unknown
+    protected long elapsedNanos; // Time played before the clock was last started, see getElapsedNanos()
+    protected long clockStartedAt; // nanoTime() when the clock was last started
+    protected boolean clockRunning;
+    protected boolean uniqueHoles; // true = digHoles only removes givens that keep the solution unique
+    protected DancingLinks dancingLinks;
+    protected Solver solver;
+    protected PuzzleTransformer transformer;
+    protected BoardListener listener;
+    protected int batchDepth; // Open beginBatch() calls
+    protected int batchChange; // Change in the open batch: NO_CHANGE, the index of the one Tile changed, or MANY_CHANGES
+
+    //region Construction Methods
+
+    /**
+     * Constructor for Board. Initializes all objects to be non-null.
+     *
+     * @param houseSize Number of Tiles one House can contain in this game.
+     */
+    protected Board(int houseSize) {
+        this(houseSize, new Random());
+    }
+
+    /**
+     * Constructor for Board. Initializes all objects to be non-null.
+     *
+     * @param houseSize Number of Tiles one House can contain in this game.
+     * @param _randGen  The random number generator to draw puzzle seeds and hints from.
+     */
+    protected Board(int houseSize, Random _randGen) {
+        this.houseSize = houseSize;
+        boardSize = houseSize * houseSize;
+        solution = new int[boardSize];
+        rows = new House[houseSize];
+        columns = new House[houseSize];
+        zones = new House[houseSize];
+        solvedTiles = new HashSet<>();
+        tiles = new Tile[boardSize];
+        logger = new Logger();
+        randGen = _randGen;
+        uniqueHoles = true;
+    }
+
+    /**
+     * This will populate the House arrays with actual Houses. For use in initialization of the Board.
+     * TODO: Make self-healing if error occurs during initialization
+     */
+    protected void initializeHouses() {
+        for (int i = 0; i < houseSize; ++i) {
+            rows[i] = buildHouse(i);
+            columns[i] = buildHouse(i);
+            zones[i] = buildHouse(i);
+        }
+    }
+
+    /**
+     * This will populate the Tile array with the actual Tiles. It will also put the Tile in the appropriate Houses.
+     * //TODO: Make self-healing if error occurs during initialization
+     */
+    protected void initializeTiles() {
+        for (int i = 0; i < tiles.length; ++i) {
+            Tile tile = buildTile(i);
+            tiles[i] = tile;
+            addTileToHouses(tile, tile.getRowNumber(), tile.getColumnNumber(), tile.getZoneNumber());
+        }
+    }
+
+    /**
+     * This function puts a Tile into the specified Houses.
+     * //TODO: Make self-healing if error occurs during initialization
+     *
+     * @param tile         The Tile to insert.
+     * @param rowNumber    The index of the row to insert the Tile into.
+     * @param columnNumber The index of the column to insert the Tile into.
+     * @param zoneNumber   The index of the zone to insert the Tile into.
+     */
+    protected void addTileToHouses(Tile tile, int rowNumber, int columnNumber, int zoneNumber) {
+        House row = (rowNumber > -1 && rowNumber < houseSize) ? getRow(rowNumber) : null;
+        House column = (columnNumber > -1 && columnNumber < houseSize) ? getColumn(columnNumber) : null;
+        House zone = (zoneNumber > -1 && zoneNumber < houseSize) ? getZone(zoneNumber) : null;
+        if (row != null && column != null && zone != null) {
+            row.addMember(tile);
+            column.addMember(tile);
+            zone.addMember(tile);
+            tile.setHouses(row, column, zone);
+        }
+    }
+
+    /**
+     * This will create a House with the specified index.
+     * TODO: Make self-healing if error occurs during initialization
+     *
+     * @param index The index for the House. E.g. Row 5 has index 5.
+     * @return The resultant House.
+     */
+    protected House buildHouse(int index) {
+        return (index > -1 && index < houseSize) ? new House(houseSize, index) : null;
+    }
+
+    /**
+     * This will create a Tile with the specified index.
+     * TODO: Make self-healing if error occurs during initialization
+     *
+     * @param index The index for the Tile. E.g. Tile 63 has index 63.
+     * @return The resultant Tile.
+     */
+    protected Tile buildTile(int index) {
+        if (index > -1 && index < boardSize) {
+            return new Tile(houseSize, index);
+        }
+        return null;
+    }
+
+    //endregion
+
+    //region Getters
+
+    /**
+     * @param index The 0-8 index of the row you want.
+     * @return The desired row (House). Null if index is out of bounds.
+     */
+    protected House getRow(int index) {
+        return (index > -1 && index < houseSize) ? rows[index] : null;
+    }
+
+    /**
+     * @param index The 0-8 index of the column you want.
+     * @return The desired column (House). Null if index is out of bounds.
+     */
+    protected House getColumn(int index) {
+        return (index > -1 && index < houseSize) ? columns[index] : null;
+    }
+
+    /**
+     * @param index The 0-8 index of the zone you want.
+     * @return The desired zone (House). Null if index is out of bounds.
+     */
+    protected House getZone(int index) {
+        return (index > -1 && index < houseSize) ? zones[index] : null;
+    }
+
+    /**
+     * @param index The index (0 to boardSize - 1) of the tile you want.
+     * @return The desired Tile. Null if index is out of bounds.
+     */
+    protected Tile getTile(int index) {
+        return (index > -1 && index < boardSize) ? tiles[index] : null;
+    }
+
+    /**
+     * @param index The index (0 to boardSize - 1) of the solution tile you want.
+     * @return The desired solution value. -1 if index is out of bounds.
+     */
+    protected int getSolutionForTile(int index) {
+        return (index > -1 && index < boardSize) ? solution[index] : -1;
+    }
+
+    /**
+     * @param position The index (0 to boardSize - 1) of the Tile to get.
+     * @return A LinkedList of the current hints on the Tile if the Tile is in Note Mode, or a Linked List with only
+     * 1 value (which is the Tile's current value) if it is in Value Mode. Return null if the index is invalid.
+     */
+    protected LinkedList<Integer> getTileNotesOrValue(int position) {
+        if (position > -1 && position < boardSize) {
+            return getTile(position).getNotesOrValue();
+        }
+        return null;
+    }
+
+    /**
+     * Getter for whether or not a Tile is in note-mode.
+     *
+     * @param index The index (0 to boardSize - 1) of the Tile to check
+     * @return True: Tile is in note mode. False: Tile is in value mode or does not exist.
+     */
+    protected boolean tileIsNoteMode(int index) {
+        Tile tile = getTile(index);
+        return tile != null && tile.isNoteMode();
+    }
+
+    /**
+     * Getter for whether or not a given Tile is an 'original' Tile.
+     *
+     * @param index The index (0 to boardSize - 1) of the Tile to check
+     * @return True: Tile is an 'original' Tile. False: Tile is open to be changed or does not exist.
+     */
+    protected boolean tileIsOrig(int index) {
+        Tile tile = getTile(index);
+        return tile != null && tile.isOrig();
+    }
+
+    /**
+     * @return An Array of all the tiles in the board.
+     */
+    protected Tile[] getTiles() {
+        return tiles;
+    }
+
+    /**
+     * @return An array of all the rows in the board.
+     */
+    protected House[] getRows() {
+        return rows;
+    }
+
+    /**
+     * @return An array of all the columns in the board.
+     */
+    protected House[] getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return An array of all the zones in the board.
+     */
+    protected House[] getZones() {
+        return zones;
+    }
+
+    /**
+     * Getter for the current board state. Tile value/notes returned as a list of Integers.
+     *
+     * @return list of value/notes for each Tile in the board
+     */
+    protected LinkedList[] getBoard() {
+        LinkedList[] list = new LinkedList[tiles.length];
+        for (int i = 0; i < list.length; ++i) {
+            list[i] = getTileNotesOrValue(i);
+        }
+        return list;
+    }
+
+    /**
+     * Copy the current board state into primitive arrays, without allocating anything. Each array must hold at least
+     * one entry per Tile (flags: getFlagsLength(boardSize) entries).
+     *
+     * @param values Set to the value of each Tile, 0 if it has none or is in Note mode.
+     * @param notes  Set to the notes of each Tile, bit (v - 1) set for the note v. 0 if it is in Value mode.
+     * @param flags  Set to the FLAG_ORIG and FLAG_NOTE_MODE flags of each Tile, see getFlags().
+     */
+    protected void getSnapshot(int[] values, int[] notes, long[] flags) {
+        Arrays.fill(flags, 0, getFlagsLength(boardSize), 0L);
+        for (int i = 0; i < boardSize; ++i) {
+            Tile tile = tiles[i];
+            boolean noteMode = tile.isNoteMode();
+            values[i] = tile.getValue();
+            notes[i] = noteMode ? tile.getNotesMask() : 0;
+            long tileFlags = (tile.isOrig() ? FLAG_ORIG : 0) | (noteMode ? FLAG_NOTE_MODE : 0);
+            flags[i / TILES_PER_FLAG_WORD] |= tileFlags << ((i % TILES_PER_FLAG_WORD) * FLAG_BITS);
+        }
+    }
+
+    /**
+     * @param boardSize The number of Tiles on the board.
+     * @return The number of longs needed to hold the flags of every Tile in a snapshot.
+     */
+    static protected int getFlagsLength(int boardSize) {
+        return (boardSize + TILES_PER_FLAG_WORD - 1) / TILES_PER_FLAG_WORD;
+    }
+
+    /**
+     * @param flags The flags of a snapshot.
+     * @param index The index of the Tile.
+     * @return The FLAG_ORIG and FLAG_NOTE_MODE flags of the Tile.
+     */
+    static protected int getFlags(long[] flags, int index) {
+        return (int) (flags[index / TILES_PER_FLAG_WORD] >>> ((index % TILES_PER_FLAG_WORD) * FLAG_BITS))
+                & ((1 << FLAG_BITS) - 1);
+    }
+
+    /**
+     * @return A list of all Tiles that currently are assigned the wrong value in the board.
+     */
+    protected LinkedList<Tile> getWrongTiles() {
+        LinkedList<Tile> wrongTiles = new LinkedList<>();
+        for (int i = 0; i < tiles.length; ++i) {
+            Tile tile = getTile(i);
+            int solvedValue = getSolutionForTile(i);
+            if (tile.getValue() == 0 || tile.getValue() != solvedValue) {
+                wrongTiles.add(tile);
+            }
+        }
+        return wrongTiles;
+    }
+
+    /**
+     * @return True if every Tile on the board has the correct value, otherwise False.
+     */
+    protected boolean isGameOver() {
+        return solvedTiles.size() == boardSize;
+    }
+
+    /**
+     * @return The time spent on this game so far. String format will be "mm:ss", with as many minutes as needed.
+     */
+    protected String getTime() {
+        return SaveCodec.formatTime(getElapsedSeconds());
+    }
+    //endregion
+
+    //region Setters
+
+    /**
+     * This updates a specific Tile with the desired value/note (depending on its mode).
+     *
+     * @param position The index (0 to boardSize - 1) of the Tile to update
+     * @param value    The new value/note for the Tile
+     * @return The new values of the Tile, or null if the index is out of bounds
+     */
+    protected LinkedList<Integer> updateTile(int position, int value) {
+        if (position > -1 && position < boardSize) {
+            Tile tile = getTile(position);
+            tile.update(value);
+
+            // Add or removed to solvedTiles set
+            if (tile.getValue() == getSolutionForTile(position)) {
+                solvedTiles.add(tile);
+            } else {
+                solvedTiles.remove(tile);
+            }
+            tileChanged(position);
+            return tile.getNotesOrValue();
+        }
+        return null;
+    }
+
+    /**
+     * This removes all values and hints from the selected Tile.
+     *
+     * @param position The index (0 to boardSize - 1) of the Tile to clear
+     * @return The new values of the Tile, or null if the index is out of bounds
+     */
+    protected LinkedList<Integer> clearTile(int position) {
+        if (position > -1 && position < boardSize) {
+            Tile tile = getTile(position);
+            tile.clear();
+
+            // Remove from solvedTiles set if not an original tile
+            if(!tile.isOrig()) {
+                solvedTiles.remove(tile);
+            }
+            tileChanged(position);
+            return tile.getNotesOrValue();
+        }
+        return null;
+    }
+
+    /**
+     * This toggles the mode of the selected Tile between Note Mode and Value Mode. If it is one, it will switch to
+     * the other.
+     *
+     * @param position The index (0 to boardSize - 1) of the Tile to toggle the mode of.
+     * @return True if Tile exists (index is valid) and note mode toggled, false otherwise
+     */
+    protected boolean toggleNoteMode(int position) {
+        if (position > -1 && position < boardSize) {
+            Tile tile = getTile(position);
+            tile.toggleMode();
+
+            // Add or removed to solvedTiles set
+            if(tile.getValue() == getSolutionForTile(position)) {
+                solvedTiles.add(tile);
+            } else {
+                solvedTiles.remove(tile);
+            }
+            tileChanged(position);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * This puts the selected Tile back into a state it had before, such as when undoing a move.
+     *
+     * @param position  The index (0 to boardSize - 1) of the Tile to set.
+     * @param noteMode  Whether the Tile should be in Note mode.
+     * @param value     The value the Tile should have, 0 if none. Ignored in Note mode.
+     * @param notesMask The notes the Tile should have, bit (v - 1) set for the note v. Ignored in Value mode.
+     * @return True if Tile exists (index is valid) and is not an original, false otherwise
+     */
+    protected boolean setTileState(int position, boolean noteMode, int value, int notesMask) {
+        if (position > -1 && position < boardSize && !tileIsOrig(position)) {
+            Tile tile = getTile(position);
+            tile.clear();
+            if (tile.isNoteMode() != noteMode) {
+                tile.toggleMode();
+            }
+            if (noteMode) {
+                for (int v = 1; v <= houseSize; ++v) {
+                    if ((notesMask & (1 << (v - 1))) != 0) {
+                        tile.update(v);
+                    }
+                }
+            } else {
+                tile.update(value);
+            }
+
+            // Add or removed to solvedTiles set
+            if (tile.getValue() == getSolutionForTile(position)) {
+                solvedTiles.add(tile);
+            } else {
+                solvedTiles.remove(tile);
+            }
+            tileChanged(position);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * This will randomly select one Tile which does not currently have the correct value and it will assign it the
+     * value it should have according to the solution array. It will make that Tile an "original" Tile so that it
+     * cannot be changed later.
+     *
+     * @return The index (0 to boardSize - 1) of the Tile that was set. -1 if no Tile was set.
+     */
+    protected int useHint() {
+        LinkedList<Tile> wrongTiles = getWrongTiles();
+        if (wrongTiles.size() > 0) {
+            return addGiven(wrongTiles.get(randGen.nextInt(wrongTiles.size())));
+        }
+        return -1;
+    }
+
+    /**
+     * Assign a Tile the value it should have according to the solution array and make it an "original" Tile so that
+     * it cannot be changed later.
+     *
+     * @param tile The Tile to set.
+     * @return The index (0 to boardSize - 1) of the Tile.
+     */
+    protected int addGiven(Tile tile) {
+        int index = tile.getIndex();
+        if (tile.isNoteMode()) {
+            tile.toggleMode();
+        }
+        tile.clear();
+        tile.update(getSolutionForTile(index));
+        tile.setOrig(true);
+        solvedTiles.add(tile);
+        tileChanged(index);
+        return index;
+    }
+
+    /**
+     * This function will solve the game according to the saved solution.
+     *
+     * @return True if the game was not already solved and now has been solve, False otherwise.
+     */
+    protected boolean solve() {
+        if(isGameOver()) {
+            return false;
+        }
+        for (int i = 0; i < getTiles().length; ++i) {
+            Tile tile = getTile(i);
+            if (tile.isNoteMode()) {
+                tile.toggleMode();
+            }
+            tile.clear();
+            tile.update(getSolutionForTile(i));
+            solvedTiles.add(tile);
+        }
+        boardChanged();
+        return true;
+    }
+    //endregion
+
+    //region Change Notification
+
+    /**
+     * @param _listener Told about every change made to the game from now on, null for none.
+     */
+    protected void setListener(BoardListener _listener) {
+        listener = _listener;
+    }
+
+    /**
+     * Hold back notifying the listener of changes from here until the matching endBatch(), which reports them all at
+     * once. Batches may nest.
+     */
+    protected void beginBatch() {
+        if (batchDepth++ == 0) {
+            batchChange = NO_CHANGE;
+        }
+    }
+
+    /**
+     * Report the changes made since the matching beginBatch(): onTileChanged() if they were all to one Tile, or a
+     * single onBoardChanged() if they touched more.
+     */
+    protected void endBatch() {
+        if (batchDepth == 0 || --batchDepth > 0) {
+            return;
+        }
+        if (batchChange == MANY_CHANGES) {
+            boardChanged();
+        } else if (batchChange != NO_CHANGE) {
+            tileChanged(batchChange);
+        }
+    }
+
+    /**
+     * Tell the listener that a Tile changed, or add it to the open batch. Stops the game clock if that finished the
+     * game.
+     */
+    protected void tileChanged(int index) {
+        stopClockIfGameOver();
+        if (batchDepth > 0) {
+            batchChange = (batchChange == NO_CHANGE || batchChange == index) ? index : MANY_CHANGES;
+        } else if (listener != null) {
+            Tile tile = tiles[index];
+            int notes = tile.isNoteMode() ? tile.getNotesMask() : 0;
+            listener.onTileChanged(index, tile.getValue(), notes, tile.isOrig(), isGameOver());
+        }
+    }
+
+    /**
+     * Tell the listener that any number of Tiles changed, or add that to the open batch. Stops the game clock if that
+     * finished the game.
+     */
+    protected void boardChanged() {
+        stopClockIfGameOver();
+        if (batchDepth > 0) {
+            batchChange = MANY_CHANGES;
+        } else if (listener != null) {
+            listener.onBoardChanged(isGameOver());
+        }
+    }
+    //endregion
+
+    //region Game Clock
+
+    /**
+     * @return The current value of the monotonic clock the game is timed with, in nanoseconds.
+     */
+    protected long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * @return The time spent on this game so far, in nanoseconds, not counting the time the clock was stopped.
+     */
+    protected long getElapsedNanos() {
+        return clockRunning ? elapsedNanos + (nanoTime() - clockStartedAt) : elapsedNanos;
+    }
+
+    /**
+     * @return The time spent on this game so far, in whole seconds.
+     */
+    protected int getElapsedSeconds() {
+        return (int) Math.min(getElapsedNanos() / NANOS_PER_SECOND, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Start counting the time spent on the game, e.g. when it is shown or resumed. Does nothing if the game is
+     * finished or the clock is already running.
+     */
+    protected void startClock() {
+        if (!clockRunning && !isGameOver()) {
+            clockStartedAt = nanoTime();
+            clockRunning = true;
+        }
+    }
+
+    /**
+     * Stop counting the time spent on the game, e.g. when it is paused or hidden.
+     */
+    protected void stopClock() {
+        if (clockRunning) {
+            elapsedNanos += nanoTime() - clockStartedAt;
+            clockRunning = false;
+        }
+    }
+
+    /**
+     * @return True if the clock is counting, otherwise False.
+     */
+    protected boolean isClockRunning() {
+        return clockRunning;
+    }
+
+    /**
+     * Stop the clock and set the time spent on the game, e.g. to the time of a saved game.
+     *
+     * @param seconds The time spent on the game, in seconds. Treated as 0 if negative.
+     */
+    protected void resetClock(int seconds) {
+        elapsedNanos = Math.max(seconds, 0) * NANOS_PER_SECOND;
+        clockRunning = false;
+    }
+
+    private void stopClockIfGameOver() {
+        if (clockRunning && isGameOver()) {
+            stopClock();
+        }
+    }
+    //endregion
+
+    //region Save Game Methods
+
+    /**
+     * This function will serialize the current time, difficulty, solution board, and Tile states
+     * as a single JSONObject. The time is read from the game clock and stored as returned by getTime().
+     *
+     * @return A JSON Object representing the current state of the game.
+     */
+    protected JSONObject save() {
+        JSONObject jsonObject = new JSONObject();
+        try {
+            jsonObject.put(JSON_TIME_ID, getTime());
+            jsonObject.put(JSON_DIFFICULTY_ID, difficulty);
+            if (seed != null) {
+                jsonObject.put(JSON_SEED_ID, seed.longValue());
+            }
+
+            JSONArray solutionArray = new JSONArray();
+            for (int solution_value : solution) {
+                solutionArray.put(solution_value);
+            }
+            jsonObject.put(JSON_SOLUTION_ID, solutionArray);
+
+            JSONArray tilesArray = new JSONArray();
+            for (Tile tile : tiles) {
+                tilesArray.put(tile.getJSON());
+            }
+            jsonObject.put(JSON_TILES_ID, tilesArray);
+        } catch (JSONException e) {
+            e.printStackTrace();
+        }
+        return jsonObject;
+    }
+
+    /**
+     * Serialize the same state as save() in a compact binary form, a few hundred bytes instead of several KB.
+     *
+     * @return The binary representation of the current state of the game (see SaveCodec).
+     */
+    protected byte[] saveBinary() {
+        return SaveCodec.encode(this);
+    }
+    //endregion
+
+    //region Load Game Methods
+
+    /**
+     * To load an old game, call this function after initializing the Board.
+     *
+     * @param jsonObject JSON representation of the entire Board.
+     * @return the difficulty level of the game as determined by the provided JSON Object.
+     */
+    protected int loadGame(JSONObject jsonObject) {
+        try {
+            // Try to load values from JSON
+            int tempDifficulty = jsonObject.getInt(JSON_DIFFICULTY_ID);
+            int tempSecondsElapsed = SaveCodec.parseTime(jsonObject.getString(JSON_TIME_ID));
+            Long tempSeed = jsonObject.has(JSON_SEED_ID) ? jsonObject.getLong(JSON_SEED_ID) : null;
+            int[] tempSolution = new int[boardSize];
+            Tile[] tempTiles = new Tile[boardSize];
+            JSONArray jsonSolutionArray = jsonObject.getJSONArray(JSON_SOLUTION_ID);
+            JSONArray jsonTileArray = jsonObject.getJSONArray(JSON_TILES_ID);
+            for (int i = 0; i < boardSize; ++i) {
+                tempSolution[i] = jsonSolutionArray.getInt(i);
+                tempTiles[i] = loadTile(jsonTileArray.getJSONObject(i));
+            }
+
+            // JSON loading succeeded, so now load values
+            return loadState(tempDifficulty, tempSecondsElapsed, tempSeed, tempSolution, tempTiles);
+        } catch (JSONException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * To load an old game from the contents of a save file, call this function after initializing the Board. Reads
+     * both the binary format written by saveBinary() and the JSON text written by save().
+     *
+     * @param data The binary representation of the entire Board (see SaveCodec), or its JSON text.
+     * @return the difficulty level of the saved game, -1 if the data is corrupted or was saved from another Board size.
+     */
+    protected int loadGame(byte[] data) {
+        if (data == null) {
+            return -1;
+        }
+        if (SaveCodec.isBinary(data)) {
+            return SaveCodec.decode(this, data);
+        }
+        try {
+            return loadGame(new JSONObject(new String(data, Charset.forName("UTF-8"))));
+        } catch (JSONException ignored) {
+            return -1;
+        }
+    }
+
+    /**
+     * Replace the state of the game with a fully loaded saved state.
+     *
+     * @param _difficulty  difficulty level of the saved game
+     * @param _secondsElapsed time spent on the saved game, in seconds
+     * @param _seed        seed the saved puzzle was generated from, null if unknown
+     * @param _solution    solution value of every Tile in Board index order
+     * @param loadedTiles  every Tile in Board index order, not yet attached to any House
+     * @return difficulty level of the saved game
+     */
+    protected int loadState(int _difficulty, int _secondsElapsed, Long _seed, int[] _solution, Tile[] loadedTiles) {
+        difficulty = _difficulty;
+        resetClock(_secondsElapsed);
+        seed = _seed;
+        System.arraycopy(_solution, 0, solution, 0, boardSize);
+        System.arraycopy(loadedTiles, 0, tiles, 0, boardSize);
+        for (Tile t : tiles) {
+            t.setHouses(getRow(t.getRowNumber()), getColumn(t.getColumnNumber()), getZone(t.getZoneNumber()));
+        }
+        boardChanged();
+        return difficulty;
+    }
+
+    /**
+     * This function will load a single Tile from a saved JSON state.
+     *
+     * @param tileState The saved state in JSON format.
+     * @return The loaded Tile.
+     * @throws JSONException if JSON format is incorrect.
+     */
+    protected Tile loadTile(JSONObject tileState) throws JSONException {
+        return new Tile(houseSize, tileState);
+    }
+
+    //endregion
+
+    //region Game Start Methods
+
+    /**
+     * To create a new game, but not to load an old game, call this function before anything else.
+     * Returns the actual difficulty level (useful if 'Random'). 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     *
+     * @param _difficulty difficulty level for the game
+     * @return difficulty level for the game, -1 if no complete board could be built or the thread was interrupted
+     */
+    protected int newGame(int _difficulty) {
+        return newGame(_difficulty, randGen.nextLong());
+    }
+
+    /**
+     * Create a new game from a seed. The same difficulty level and seed always produce the same puzzle, as long as
+     * GENERATOR_VERSION is the same. A 'Random' difficulty level is picked before seeding, so to regenerate such a
+     * puzzle pass the returned difficulty level along with the seed.
+     *
+     * The puzzle is rated with the Solver and adjusted until the hardest Techniques it needs are those of its
+     * difficulty level (see fitDifficulty()). If MAX_RATING_ATTEMPTS puzzles in a row cannot be adjusted, the last one
+     * is kept; it can still be solved with the Techniques of its difficulty level, but may not need all of them.
+     *
+     * Generation always finishes: the complete board is built with a bounded search (see buildCompleteBoard_DLX()).
+     * It also stops early, returning -1, if the calling thread is interrupted (see PuzzlePool.shutdown()).
+     *
+     * @param _difficulty difficulty level for the game
+     * @param _seed       seed for every random choice made while generating the puzzle
+     * @return difficulty level for the game, -1 if no complete board could be built or the thread was interrupted
+     */
+    protected int newGame(int _difficulty, long _seed) {
+        difficulty = _difficulty;
+        resetClock(0);
+
+        // if 'Random', select between easy, medium, hard, and expert
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES) {
+            difficulty = randGen.nextInt(NUM_DIFFICULTIES) + 1;
+        }
+
+        seed = _seed;
+        randGen.setSeed(_seed);
+        beginBatch(); // The Solver fills in Tiles while rating the puzzle, so report only the finished puzzle
+        try {
+            for (int attempt = 1; ; ++attempt) {
+                if (!buildCompleteBoard()) {
+                    return -1;
+                }
+                digHoles(getNumberOfGivens(difficulty));
+                checkBounds(getBound(difficulty));
+                markOriginals();
+                if (fitDifficulty(getSolver()) || attempt >= MAX_RATING_ATTEMPTS) {
+                    break;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    return -1;
+                }
+                resetTiles();
+            }
+            boardChanged();
+        } finally {
+            endBatch();
+        }
+        return difficulty;
+    }
+
+    /**
+     * To start a new game from an already generated puzzle, call this function instead of newGame() on a freshly
+     * initialized Board.
+     *
+     * @param _difficulty The difficulty level of the puzzle. 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @param _seed       The seed the puzzle was generated from.
+     * @param givens      The starting value of every Tile in Board index order, 0 for empty Tiles.
+     * @param _solution   The solution value of every Tile in Board index order.
+     * @return difficulty level for the game, -1 if the puzzle does not fit this Board
+     */
+    protected int loadPuzzle(int _difficulty, long _seed, int[] givens, int[] _solution) {
+        if (givens == null || _solution == null || givens.length != boardSize || _solution.length != boardSize) {
+            return -1;
+        }
+        difficulty = _difficulty;
+        seed = _seed;
+        resetClock(0);
+        System.arraycopy(_solution, 0, solution, 0, boardSize);
+        for (int i = 0; i < boardSize; ++i) {
+            if (givens[i] > 0) {
+                getTile(i).update(givens[i]);
+            }
+        }
+        markOriginals();
+        boardChanged();
+        return difficulty;
+    }
+
+    /**
+     * To start a new game derived from an already generated puzzle, call this function instead of newGame() on a
+     * freshly initialized Board. The template is shuffled into an equivalent puzzle of the same difficulty (see
+     * PuzzleTransformer), which takes microseconds instead of a full generation.
+     *
+     * @param _difficulty      The difficulty level of the template puzzle. 1 = Easy, 2 = Medium, 3 = Hard,
+     *                         4 = Expert.
+     * @param templateGivens   The starting value of every Tile of the template in Board index order, 0 for empty.
+     * @param templateSolution The solution value of every Tile of the template in Board index order.
+     * @return difficulty level for the game, -1 if the template does not fit this Board
+     */
+    protected int deriveGame(int _difficulty, int[] templateGivens, int[] templateSolution) {
+        return deriveGame(_difficulty, templateGivens, templateSolution, randGen.nextLong());
+    }
+
+    /**
+     * Derive a new game from a template puzzle using a seed. The same template and seed always derive the same
+     * puzzle. The derived game's seed is unknown, since newGame() cannot regenerate it from the seed alone.
+     *
+     * @param _difficulty      The difficulty level of the template puzzle. 1 = Easy, 2 = Medium, 3 = Hard,
+     *                         4 = Expert.
+     * @param templateGivens   The starting value of every Tile of the template in Board index order, 0 for empty.
+     * @param templateSolution The solution value of every Tile of the template in Board index order.
+     * @param _seed            Seed for picking the transformation.
+     * @return difficulty level for the game, -1 if the template does not fit this Board
+     */
+    protected int deriveGame(int _difficulty, int[] templateGivens, int[] templateSolution, long _seed) {
+        if (templateGivens == null || templateSolution == null || templateGivens.length != boardSize
+                || templateSolution.length != boardSize) {
+            return -1;
+        }
+        int[] givens = new int[boardSize];
+        int[] derivedSolution = new int[boardSize];
+        PuzzleTransformer puzzleTransformer = getTransformer();
+        randGen.setSeed(_seed);
+        puzzleTransformer.randomize(randGen);
+        puzzleTransformer.apply(templateGivens, givens);
+        puzzleTransformer.apply(templateSolution, derivedSolution);
+        int result = loadPuzzle(_difficulty, _seed, givens, derivedSolution);
+        seed = null;
+        return result;
+    }
+
+    /**
+     * @return The puzzle transformer for this Board's size, built on first use.
+     */
+    protected PuzzleTransformer getTransformer() {
+        if (transformer == null) {
+            transformer = new PuzzleTransformer(houseSize);
+        }
+        return transformer;
+    }
+
+    /**
+     * This function will generate a new, complete, valid board and save the resultant values in the solution array.
+     * Every Board size is built with buildCompleteBoard_DLX(), whose search is bounded, so this always finishes
+     * quickly whatever the seed.
+     *
+     * @return True if initialization succeeds, otherwise False
+     */
+    protected boolean buildCompleteBoard() {
+        return buildCompleteBoard_DLX();
+    }
+
+    /**
+     * This function will generate a new, complete, valid board by filling the zones on the diagonal with random
+     * values, then completing the grid with DancingLinks. The diagonal zones share no row or column, so any values
+     * are valid there. The few starts that cannot be completed are shuffled again, as are the rare ones DancingLinks
+     * cannot complete within BUILD_BUDGET_PER_TILE search steps per Tile. When finished, it will save the resultant
+     * values in the solution array. Stops retrying if the thread is interrupted.
+     *
+     * @return True if initialization succeeds, false otherwise
+     */
+    protected boolean buildCompleteBoard_DLX() {
+        int zoneWidth = (int) Math.sqrt(houseSize);
+        int[] grid = new int[boardSize];
+        int[] values = new int[houseSize];
+        int[] complete = new int[boardSize];
+        DancingLinks solver = getDancingLinks();
+        solver.searchBudget = BUILD_BUDGET_PER_TILE * boardSize;
+        try {
+            for (int attempt = 0; attempt < MAX_BUILD_ATTEMPTS && !Thread.currentThread().isInterrupted(); ++attempt) {
+                for (int zone = 0; zone < zoneWidth; ++zone) {
+                    for (int i = 0; i < houseSize; ++i) {
+                        values[i] = i + 1;
+                    }
+                    for (int i = houseSize - 1; i > 0; --i) { // Shuffle values
+                        int j = randGen.nextInt(i + 1);
+                        int temp = values[i];
+                        values[i] = values[j];
+                        values[j] = temp;
+                    }
+                    for (int i = 0; i < houseSize; ++i) {
+                        int rowNumber = zone * zoneWidth + i / zoneWidth;
+                        int columnNumber = zone * zoneWidth + i % zoneWidth;
+                        grid[rowNumber * houseSize + columnNumber] = values[i];
+                    }
+                }
+                if (solver.solve(grid, complete, 1) > 0) {
+                    for (int i = 0; i < boardSize; ++i) {
+                        getTile(i).update(complete[i]);
+                    }
+                    saveBoardToSolution();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            solver.searchBudget = 0;
+        }
+    }
+
+    /**
+     * This function will save the current values of all Tiles as the correct solution for the Board. However, if any
+     * Tiles are null or their values are empty, then this function will abort and no values will be saved.
+     */
+    protected void saveBoardToSolution() {
+        // Make sure board is complete before saving it to solution
+        boolean boardComplete = true;
+        for (int i = 0; i < boardSize; ++i) {
+            Tile tile = getTile(i);
+            if (tile == null || tile.getValue() == 0) {
+                boardComplete = false;
+                break;
+            }
+        }
+        // If board IS complete, then go ahead and save it
+        if (boardComplete) {
+            for (int i = 0; i < boardSize; ++i) {
+                solution[i] = getTile(i).getValue();
+            }
+        }
+    }
+
+    /**
+     * Get the number of givens that the game should start with. (A "given" is an unchangeable Tile whose solution is
+     * visible from the beginning of the game.) Ranges are for a 9x9 Board and scale with the number of Tiles on other
+     * Board sizes.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, otherwise Expert.
+     * @return 40 - 49 for Easy, 32 - 39 for Medium, 27 - 31 for Hard, 22 - 26 for Expert
+     */
+    protected int getNumberOfGivens(int difficulty) {
+        switch (difficulty) {
+            case 1: // easy
+                return Math.abs(randGen.nextInt(scaleToBoard(10))) + scaleToBoard(40);
+            case 2: // medium
+                return Math.abs(randGen.nextInt(scaleToBoard(8))) + scaleToBoard(32);
+            case 3: // hard
+                return Math.abs(randGen.nextInt(scaleToBoard(5))) + scaleToBoard(27);
+            default:
+                return Math.abs(randGen.nextInt(scaleToBoard(5))) + scaleToBoard(22);
+        }
+    }
+
+    /**
+     * @param count A number of Tiles on a 9x9 Board.
+     * @return The same proportion of Tiles on this Board, at least 1.
+     */
+    protected int scaleToBoard(int count) {
+        return Math.max(1, count * boardSize / 81);
+    }
+
+    /**
+     * Pick Holes in Board by randomly selecting a set of Tiles as the starting tiles, where the number of Tiles in
+     * the set is determined by the difficulty level. If uniqueHoles is set, only holes that keep the puzzle uniquely
+     * solvable are dug (see digUniqueHoles).
+     *
+     * @param numGivens The number of givens to begin the game with.
+     */
+    protected void digHoles(int numGivens) {
+        if (uniqueHoles) {
+            digUniqueHoles(numGivens, getBound(difficulty));
+            return;
+        }
+        for (int i = numGivens; i < boardSize; ++i) {
+            int indexToDig = Math.abs(randGen.nextInt(boardSize));
+            if (getTile(indexToDig).getValue() > 0) {
+                getTile(indexToDig).clear();
+            } else {
+                --i;
+            }
+        }
+    }
+
+    /**
+     * Dig holes in a complete Board in random order, keeping each hole only if the puzzle still has exactly one
+     * solution. Since the solution is already known, each removal is checked by searching for a solution that puts a
+     * different value in the dug Tile; the same DancingLinks matrix is reused for every check. Tiles are also never
+     * dug below the row/column bound, so that checkBounds does not need to move givens afterwards.
+     *
+     * If the puzzle cannot be brought down to numGivens without losing uniqueness, more givens are left.
+     *
+     * @param numGivens The number of givens to begin the game with.
+     * @param bound     The minimum number of givens in each row and column.
+     */
+    protected void digUniqueHoles(int numGivens, int bound) {
+        int[] grid = new int[boardSize];
+        int[] rowCounts = new int[houseSize];
+        int[] columnCounts = new int[houseSize];
+        int givens = 0;
+        for (int i = 0; i < boardSize; ++i) {
+            grid[i] = getTile(i).getValue();
+            if (grid[i] > 0) {
+                ++rowCounts[i / houseSize];
+                ++columnCounts[i % houseSize];
+                ++givens;
+            }
+        }
+        int[] order = getDigOrder();
+        DancingLinks solver = getDancingLinks();
+        solver.searchBudget = getDigBudget();
+        for (int i = 0; i < boardSize && givens > numGivens; ++i) {
+            int index = order[i];
+            int rowNumber = index / houseSize;
+            int columnNumber = index % houseSize;
+            int value = grid[index];
+            if (value == 0 || rowCounts[rowNumber] <= bound || columnCounts[columnNumber] <= bound) {
+                continue;
+            }
+            grid[index] = 0;
+            if (solver.hasAlternativeSolution(grid, index, value)) {
+                grid[index] = value; // Hole would allow a second solution, so keep the given
+            } else {
+                getTile(index).clear();
+                --rowCounts[rowNumber];
+                --columnCounts[columnNumber];
+                --givens;
+            }
+        }
+        solver.searchBudget = 0;
+    }
+
+    /**
+     * @return Every Tile index, in random order.
+     */
+    protected int[] getDigOrder() {
+        int[] order = new int[boardSize];
+        for (int i = 0; i < boardSize; ++i) {
+            order[i] = i;
+        }
+        for (int i = boardSize - 1; i > 0; --i) { // Shuffle dig order
+            int j = randGen.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+        return order;
+    }
+
+    /**
+     * Uniqueness checks on sparse boards larger than 9x9 can take exponentially long, so digUniqueHoles gives each
+     * one a budget of search steps and keeps the given when the budget runs out. That never makes a puzzle ambiguous,
+     * it only leaves some holes undug.
+     *
+     * @return The search steps allowed per uniqueness check, 0 for no limit.
+     */
+    protected int getDigBudget() {
+        return (houseSize > 9) ? DIG_BUDGET_PER_TILE * boardSize : 0;
+    }
+
+    /**
+     * @return The exact-cover solver for this Board's size, built on first use.
+     */
+    protected DancingLinks getDancingLinks() {
+        if (dancingLinks == null) {
+            dancingLinks = new DancingLinks(houseSize);
+        }
+        return dancingLinks;
+    }
+
+    /**
+     * This function returns the lower bound on the number of Tiles allowed in a row or column. Bounds are for a 9x9
+     * Board and scale with the House size on other Board sizes.
+     *
+     * @param difficulty 4 = Expert, 3 = Hard, 2 = Medium, otherwise Easy
+     * @return 1 for Expert, 2 for Hard, 3 for Medium, 4 for Easy
+     */
+    protected int getBound(int difficulty) {
+        int bound = (difficulty == 4) ? 1 : ((difficulty == 3) ? 2 : ((difficulty == 2) ? 3 : 4));
+        return bound * houseSize / 9;
+    }
+
+    /**
+     * This function makes sure that no Row or Column contains fewer Tiles than the boundary for the corresponding
+     * difficulty level. Easy: boundary = 4. Medium: boundary = 3. Hard: boundary = 2. Expert: boundary = 1.
+     *
+     * @param bound The lowest number of Tiles allowed in a Row or Column (see getBound())
+     */
+    protected void checkBounds(int bound) {
+        Stack<House> highHouses = new Stack<>();
+        Stack<House> lowHouses = new Stack<>();
+        // Check Rows
+        fillHighAndLowHouses(getRows(), highHouses, lowHouses, bound);
+        adjustHousesToBounds(highHouses, lowHouses, bound, true);
+        // Check Columns
+        fillHighAndLowHouses(getColumns(), highHouses, lowHouses, bound);
+        adjustHousesToBounds(highHouses, lowHouses, bound, false);
+    }
+
+    /**
+     * This function will fill the provided "highHouse" Stack with houses (from the provided array) that contain more
+     * initialized Tiles than the provided minimum bound, and the "lowHouse" Stack with houses that contain fewer
+     * initialized Tiles than the provided minimum bound.
+     *
+     * @param houses     The houses to divvy up into highHouse and lowHouse Stacks.
+     * @param highHouses The Stack to contain Houses with more Tiles than the minimum bound.
+     * @param lowHouses  The Stack to contain Houses with fewer Tiles than the minimum bound.
+     * @param bound      The minimum bound.
+     */
+    protected void fillHighAndLowHouses(House[] houses, Stack<House> highHouses, Stack<House> lowHouses, int bound) {
+        if (highHouses != null && lowHouses != null) {
+            highHouses.clear();
+            lowHouses.clear();
+            for (House house : houses) {
+                if (house.getValueCount() > bound) {
+                    highHouses.push(house);
+                } else if (house.getValueCount() < bound) {
+                    lowHouses.push(house);
+                }
+            }
+        }
+    }
+
+    /**
+     * This function will raise the number of Tiles in all the Houses in the lowHouses Stack to the minimum bound. It
+     * will do this by removing a Tile in one of the Houses in the highHouse Stack and adding a Tile to a House in
+     * the lowHouse Stack along the complementary House (e.g. Row 1 is a high House and Row 2 is a low House. A Tile
+     * in Column 3 of Row 1 is removed, and a Tile in Column 3 of Row 2 is added.)
+     *
+     * @param highHouses The Stack that contains Houses with more Tiles than the minimum bound.
+     * @param lowHouses  The Stack that contains Houses with fewer Tiles than the minimum bound.
+     * @param bound      The minimum bound.
+     * @param isRow      Whether the Houses being adjusted are Rows or not.
+     */
+    protected void adjustHousesToBounds(Stack<House> highHouses, Stack<House> lowHouses, int bound, boolean isRow) {
+        House highHouse = highHouses.pop();
+        LinkedList<Tile> highHouseTiles = highHouse.getValueTiles();
+        // Adjust houses as long as there are any houses with too few starting Tiles
+        while (lowHouses.size() > 0) {
+            House lowHouse = lowHouses.pop();
+            // Add however many starting Tiles the house needs to reach the bound
+            while (lowHouse.getValueCount() < bound) {
+                // If the House we're taking Tiles from no longer has excess Tiles, use the next House with excess Tiles
+                if (highHouse.getValueCount() == bound) {
+                    highHouse = highHouses.pop();
+                    highHouseTiles = highHouse.getValueTiles();
+                }
+                swapHighHouseToLowHouseTile(highHouseTiles, lowHouse, isRow);
+            }
+        }
+    }
+
+    /**
+     * Search for an empty Tile in the lowHouse that corresponds to a filled Tile in the highHouse.
+     *
+     * @param highHouseTiles The Tiles to select a swap from
+     * @param lowHouse       The House that is lacking Tiles
+     * @param isRow          Whether or not the Houses we're looking at are rows
+     */
+    protected void swapHighHouseToLowHouseTile(List<Tile> highHouseTiles, House lowHouse, boolean isRow) {
+        if(highHouseTiles != null && lowHouse != null) {
+            for (Tile highTile : highHouseTiles) {
+                Tile lowTile = lowHouse.getMember((isRow) ? highTile.getColumnNumber() : highTile.getRowNumber());
+                if (lowTile.getValue() == 0) {
+                    int tileSolution = getSolutionForTile(lowTile.getIndex());
+                    lowTile.update(tileSolution);
+                    highTile.clear();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * For all tiles with a value, mark them as originals. Use only in initialization process and only after
+     * boundaries have been checked, but before attempting to solve with the Solver.
+     */
+    protected void markOriginals() {
+        for (Tile tile : getTiles()) {
+            if (tile.getValue() > 0) {
+                tile.setOrig(true);
+                solvedTiles.add(tile);
+            }
+        }
+    }
+
+    /**
+     * @return The Solver for this Board, built on first use.
+     */
+    protected Solver getSolver() {
+        if (solver == null) {
+            solver = new Solver(this);
+        }
+        return solver;
+    }
+
+    /**
+     * Make the puzzle need exactly the Techniques of its difficulty level, as rated by the Solver. A puzzle that needs
+     * harder Techniques gets the givens the Solver needs to get through with easier ones (see runSolver()). A puzzle
+     * that only needs easier Techniques has more holes dug until it needs harder ones (see digToRating()). Use after
+     * markOriginals().
+     *
+     * @param solver The Solver to rate the puzzle with.
+     * @return True if the puzzle now rates at its difficulty level, otherwise False.
+     */
+    protected boolean fitDifficulty(Solver solver) {
+        int rating = ratePuzzle(solver);
+        if (rating > difficulty) {
+            runSolver(solver);
+            rating = ratePuzzle(solver);
+        }
+        if (rating < difficulty) {
+            rating = digToRating(solver, rating);
+        }
+        return rating == difficulty;
+    }
+
+    /**
+     * Solve the puzzle with the Techniques of its difficulty level, then clear every Tile that is not an original.
+     *
+     * @param solver The Solver to rate the puzzle with.
+     * @return The difficulty level of the hardest Technique the puzzle needs. One more than its difficulty level if
+     * the Techniques of that level cannot solve it.
+     */
+    protected int ratePuzzle(Solver solver) {
+        int rating = solver.isSolvable(difficulty) ? solver.getRating() : difficulty + 1;
+        clearBoard();
+        return rating;
+    }
+
+    /**
+     * Dig more holes, in random order, while the puzzle rates below its difficulty level. A hole is only kept if the
+     * puzzle stays uniquely solvable, no row or column drops below the bound, and the puzzle does not become harder
+     * than its difficulty level. This can leave fewer givens than getNumberOfGivens() asked for.
+     *
+     * @param solver The Solver to rate the puzzle with.
+     * @param rating The rating of the puzzle as it is.
+     * @return The rating of the puzzle afterwards.
+     */
+    protected int digToRating(Solver solver, int rating) {
+        int bound = getBound(difficulty);
+        int[] grid = new int[boardSize];
+        int[] rowCounts = new int[houseSize];
+        int[] columnCounts = new int[houseSize];
+        for (int i = 0; i < boardSize; ++i) {
+            grid[i] = getTile(i).getValue();
+            if (grid[i] > 0) {
+                ++rowCounts[i / houseSize];
+                ++columnCounts[i % houseSize];
+            }
+        }
+        int[] order = getDigOrder();
+        DancingLinks dancing = getDancingLinks();
+        dancing.searchBudget = getDigBudget();
+        try {
+            for (int i = 0; i < boardSize && rating < difficulty && !Thread.currentThread().isInterrupted(); ++i) {
+                int index = order[i];
+                int rowNumber = index / houseSize;
+                int columnNumber = index % houseSize;
+                int value = grid[index];
+                if (value == 0 || rowCounts[rowNumber] <= bound || columnCounts[columnNumber] <= bound) {
+                    continue;
+                }
+                grid[index] = 0;
+                if (dancing.hasAlternativeSolution(grid, index, value)) {
+                    grid[index] = value;
+                    continue;
+                }
+                Tile tile = getTile(index);
+                tile.setOrig(false);
+                tile.clear();
+                solvedTiles.remove(tile);
+                int holeRating = ratePuzzle(solver);
+                if (holeRating > difficulty) { // Too hard, so keep the given
+                    grid[index] = value;
+                    tile.update(value);
+                    tile.setOrig(true);
+                    solvedTiles.add(tile);
+                } else {
+                    rating = holeRating;
+                    --rowCounts[rowNumber];
+                    --columnCounts[columnNumber];
+                }
+            }
+        } finally {
+            dancing.searchBudget = 0;
+        }
+        return rating;
+    }
+
+    /**
+     * Run Solver and clean up the board when finished. This step makes sure the board is solvable at the desired
+     * difficulty level, by making the Tiles the Solver cannot get past without harder Techniques originals.
+     */
+    protected void runSolver(Solver solver) {
+        if(solver != null) {
+            solver.solve(difficulty);
+            clearBoard();
+        }
+    }
+
+    /**
+     * Empty every Tile, originals included, for another attempt at generating a puzzle.
+     */
+    protected void resetTiles() {
+        for (Tile tile : getTiles()) {
+            tile.setOrig(false);
+            tile.clear();
+        }
+        solvedTiles.clear();
+    }
+
+    /**
+     * Clear every tile that is not an original tile. This essentially resets the board.
+     */
+    protected void clearBoard() {
+        for (Tile tile : getTiles()) {
+            tile.clear();
+            if(!tile.isOrig()) {
+                solvedTiles.remove(tile);
+            }
+        }
+    }
+
+    //endregion
+
+}
@@ -0,0 +1,32 @@
+package me.valesken.jeff.sudoku_model;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Told about every change to the current game (see ModelProxy.setBoardListener()), so that whatever shows the board
+ * can redraw what changed without reading the board back after every move. Called on the thread that made the change.
+ *
+ * A move that changes one Tile, including undo() and redo(), is reported with onTileChanged(). Changes to many Tiles
+ * at once (solve(), loading a game, starting a new one) are reported with a single onBoardChanged().
+ */
+public interface BoardListener {
+
+    /**
+     * One Tile changed.
+     *
+     * @param position The index of the Tile, 0 to ModelProxy.getTileCount() - 1.
+     * @param value    The value of the Tile, 0 if it has none or is in Note mode.
+     * @param notes    The notes of the Tile, bit (v - 1) set for the note v. 0 if it is in Value mode.
+     * @param orig     Whether the Tile is an "original" Tile.
+     * @param gameOver Whether the game is now finished.
+     */
+    void onTileChanged(int position, int value, int notes, boolean orig, boolean gameOver);
+
+    /**
+     * Any number of Tiles changed at once. Read the board again, e.g. with ModelProxy.getSnapshot().
+     *
+     * @param gameOver Whether the game is now finished.
+     */
+    void onBoardChanged(boolean gameOver);
+}
@@ -0,0 +1,284 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Arrays;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * The pencil marks a human solver keeps: the value of every Tile, and for every empty Tile a bitmask of the values it
+ * can still hold (bit v - 1 for value v). Placing a value removes it from the candidates of every peer right away, and
+ * techniques remove further candidates with eliminate(), so the marks are kept up to date incrementally instead of
+ * being recomputed from the Houses every time a technique looks at them.
+ *
+ * The same marks are also kept the other way around, as per-value bitboards: for every unit and value, a mask of the
+ * positions in the unit that can still hold the value. Techniques that reason about where a value can go read those
+ * directly instead of collecting them Tile by Tile.
+ *
+ * Every change to a Tile's candidates is reported to the WorkQueues registered with watchCells(), watchUnits() and
+ * watchValues(): the Tile goes onto every cell queue, its row, column and zone onto every unit queue, and the removed
+ * values (as value - 1) onto every value queue. Techniques drain their own queue, so they only look again at the parts
+ * of the grid that changed since they last looked.
+ *
+ * Units are numbered rows first (0 to houseSize - 1), then columns, then zones. Positions within a unit follow Board
+ * index order, so position p of a zone is local row p / zoneWidth and local column p % zoneWidth.
+ */
+class CandidateGrid {
+
+    protected int houseSize;
+    protected int boardSize;
+    protected int zoneWidth;
+    protected int fullMask; // Bitmask with a bit set for every value 1 through houseSize
+    protected int[] values; // Value of every Tile, 0 if empty
+    protected int[] candidates; // Candidate mask of every empty Tile, 0 for Tiles with a value
+    protected int[] unitValues; // Mask of the values already placed in every unit
+    protected int[][] units; // Tile indices of every unit, in position order
+    protected int[][] cellUnits; // The row, column and zone unit of every Tile
+    protected int[][] cellPositions; // The position of every Tile within its row, column and zone
+    protected int[] positions; // Positions in every unit that can hold every value, at unit * houseSize + value - 1
+    protected int emptyCount;
+    protected WorkQueue[] cellWatchers = new WorkQueue[0]; // Queues told about every changed Tile
+    protected WorkQueue[] unitWatchers = new WorkQueue[0]; // Queues told about every unit with a changed Tile
+    protected WorkQueue[] valueWatchers = new WorkQueue[0]; // Queues told about every value removed from a Tile
+
+    /**
+     * @param houseSize Number of Tiles one House contains. Must be a perfect square.
+     */
+    protected CandidateGrid(int houseSize) {
+        this.houseSize = houseSize;
+        boardSize = houseSize * houseSize;
+        zoneWidth = (int) Math.sqrt(houseSize);
+        fullMask = (1 << houseSize) - 1;
+        values = new int[boardSize];
+        candidates = new int[boardSize];
+        unitValues = new int[3 * houseSize];
+        units = new int[3 * houseSize][houseSize];
+        cellUnits = new int[boardSize][3];
+        cellPositions = new int[boardSize][3];
+        positions = new int[3 * houseSize * houseSize];
+        int[] nextPosition = new int[3 * houseSize];
+        for (int cell = 0; cell < boardSize; ++cell) {
+            int rowNumber = cell / houseSize;
+            int columnNumber = cell % houseSize;
+            int zoneNumber = zoneWidth * (rowNumber / zoneWidth) + columnNumber / zoneWidth;
+            cellUnits[cell][0] = rowNumber;
+            cellUnits[cell][1] = houseSize + columnNumber;
+            cellUnits[cell][2] = 2 * houseSize + zoneNumber;
+            for (int k = 0; k < 3; ++k) {
+                int unit = cellUnits[cell][k];
+                cellPositions[cell][k] = nextPosition[unit];
+                units[unit][nextPosition[unit]++] = cell;
+            }
+        }
+    }
+
+    //region Watchers
+
+    /**
+     * Report every Tile whose candidates change to a queue from now on.
+     *
+     * @param queue A queue with a capacity of at least boardSize.
+     */
+    protected void watchCells(WorkQueue queue) {
+        cellWatchers = Arrays.copyOf(cellWatchers, cellWatchers.length + 1);
+        cellWatchers[cellWatchers.length - 1] = queue;
+    }
+
+    /**
+     * Report every unit holding a Tile whose candidates change to a queue from now on.
+     *
+     * @param queue A queue with a capacity of at least 3 * houseSize.
+     */
+    protected void watchUnits(WorkQueue queue) {
+        unitWatchers = Arrays.copyOf(unitWatchers, unitWatchers.length + 1);
+        unitWatchers[unitWatchers.length - 1] = queue;
+    }
+
+    /**
+     * Report every value removed from the candidates of any Tile to a queue from now on.
+     *
+     * @param queue A queue with a capacity of at least houseSize.
+     */
+    protected void watchValues(WorkQueue queue) {
+        valueWatchers = Arrays.copyOf(valueWatchers, valueWatchers.length + 1);
+        valueWatchers[valueWatchers.length - 1] = queue;
+    }
+
+    /**
+     * Remove candidates from a Tile, keep the per-value bitboards in step and tell every watcher.
+     *
+     * @param removed The candidates to remove. Every one of them must currently be a candidate of the Tile.
+     */
+    private void removeCandidates(int cell, int removed) {
+        candidates[cell] &= ~removed;
+        for (int k = 0; k < 3; ++k) {
+            int base = cellUnits[cell][k] * houseSize;
+            int keep = ~(1 << cellPositions[cell][k]);
+            for (int bits = removed; bits != 0; bits &= bits - 1) {
+                positions[base + Integer.numberOfTrailingZeros(bits)] &= keep;
+            }
+        }
+        for (WorkQueue queue : cellWatchers) {
+            queue.add(cell);
+        }
+        for (WorkQueue queue : unitWatchers) {
+            for (int unit : cellUnits[cell]) {
+                queue.add(unit);
+            }
+        }
+        for (WorkQueue queue : valueWatchers) {
+            for (int bits = removed; bits != 0; bits &= bits - 1) {
+                queue.add(Integer.numberOfTrailingZeros(bits));
+            }
+        }
+    }
+    //endregion
+
+    //region Loading
+
+    /**
+     * Reset the grid to the current values of a Board's Tiles. Notes are ignored.
+     *
+     * @param board The Board to read. It is not modified.
+     */
+    protected void load(Board board) {
+        int[] grid = new int[boardSize];
+        for (int i = 0; i < boardSize; ++i) {
+            grid[i] = board.getTile(i).getValue();
+        }
+        load(grid);
+    }
+
+    /**
+     * Reset the grid to the given values. Every watcher is reset to hold every Tile or unit, since nothing has been
+     * looked at yet.
+     *
+     * @param grid The value of every Tile in Board index order, 0 for empty Tiles.
+     */
+    protected void load(int[] grid) {
+        emptyCount = boardSize;
+        for (int i = 0; i < unitValues.length; ++i) {
+            unitValues[i] = 0;
+        }
+        for (int cell = 0; cell < boardSize; ++cell) {
+            values[cell] = 0;
+            candidates[cell] = fullMask;
+        }
+        for (int i = 0; i < positions.length; ++i) {
+            positions[i] = fullMask;
+        }
+        for (int cell = 0; cell < boardSize; ++cell) {
+            if (grid[cell] > 0) {
+                place(cell, grid[cell]);
+            }
+        }
+        for (WorkQueue queue : cellWatchers) {
+            queue.clear();
+            queue.addAll();
+        }
+        for (WorkQueue queue : unitWatchers) {
+            queue.clear();
+            queue.addAll();
+        }
+        for (WorkQueue queue : valueWatchers) {
+            queue.clear();
+            queue.addAll();
+        }
+    }
+
+    /**
+     * Make this grid a copy of another one of the same size, for trying out a value without touching the original.
+     * Watchers are not told about the change.
+     *
+     * @param other The grid to copy.
+     */
+    protected void copyFrom(CandidateGrid other) {
+        System.arraycopy(other.values, 0, values, 0, boardSize);
+        System.arraycopy(other.candidates, 0, candidates, 0, boardSize);
+        System.arraycopy(other.unitValues, 0, unitValues, 0, unitValues.length);
+        System.arraycopy(other.positions, 0, positions, 0, positions.length);
+        emptyCount = other.emptyCount;
+    }
+    //endregion
+
+    //region Updates
+
+    /**
+     * Give a Tile its value and remove that value from the candidates of every Tile that shares a unit with it.
+     *
+     * @param cell  The index of an empty Tile.
+     * @param value The 1 - houseSize value to place.
+     */
+    protected void place(int cell, int value) {
+        int bit = 1 << (value - 1);
+        values[cell] = value;
+        --emptyCount;
+        removeCandidates(cell, candidates[cell]);
+        for (int unit : cellUnits[cell]) {
+            unitValues[unit] |= bit;
+            for (int peer : units[unit]) {
+                if ((candidates[peer] & bit) != 0) {
+                    removeCandidates(peer, bit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Remove candidates from a Tile.
+     *
+     * @param cell The index of the Tile.
+     * @param mask The candidates to remove.
+     * @return True if any of them were still candidates of the Tile, otherwise False.
+     */
+    protected boolean eliminate(int cell, int mask) {
+        if ((candidates[cell] & mask) == 0) {
+            return false;
+        }
+        removeCandidates(cell, candidates[cell] & mask);
+        return true;
+    }
+    //endregion
+
+    //region Getters
+
+    protected int getValue(int cell) {
+        return values[cell];
+    }
+
+    protected int getCandidates(int cell) {
+        return candidates[cell];
+    }
+
+    /**
+     * @return True if every Tile has a value.
+     */
+    protected boolean isSolved() {
+        return emptyCount == 0;
+    }
+
+    /**
+     * @param unit  The unit to search.
+     * @param value The 1 - houseSize value to look for.
+     * @return A mask with bit p set for every empty position p in the unit that can still hold the value.
+     */
+    protected int getPositions(int unit, int value) {
+        return positions[unit * houseSize + value - 1];
+    }
+
+    /**
+     * @param unit  The unit to search.
+     * @param value The 1 - houseSize value to look for.
+     * @return The position of the Tile in the unit that holds the value, -1 if none does.
+     */
+    protected int getPlacedPosition(int unit, int value) {
+        int[] cells = units[unit];
+        for (int p = 0; p < houseSize; ++p) {
+            if (values[cells[p]] == value) {
+                return p;
+            }
+        }
+        return -1;
+    }
+    //endregion
+}
@@ -0,0 +1,339 @@
+package me.valesken.jeff.sudoku_model;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Exact-cover solver for Sudoku grids using Knuth's Dancing Links (Algorithm X).
+ *
+ * Every (cell, value) pair is a row in the exact-cover matrix, and every row covers 4 columns: the cell is filled,
+ * the row has the value, the column has the value, and the zone has the value. The matrix is built once per
+ * DancingLinks and kept in flat int arrays, so solving a grid does not allocate. Givens are covered before the
+ * search and uncovered afterwards, leaving the matrix ready for the next grid.
+ */
+class DancingLinks {
+
+    protected int houseSize;
+    protected int boardSize;
+    protected int zoneWidth;
+
+    // Node links. Node 0 is the root, nodes 1 to columnCount are column headers, the rest are row nodes.
+    protected int[] left, right, up, down;
+    protected int[] columnOf; // Column header of each node
+    protected int[] rowOf; // Matrix row of each row node (cell * houseSize + value - 1)
+    protected int[] columnSize; // Number of nodes currently in each column
+    protected int[] rowStart; // First node of each matrix row
+    protected int columnCount;
+
+    // Search state
+    protected int[] choices; // Matrix row chosen at each search depth
+    protected int[] givenRows; // Matrix rows covered for the givens, in cover order
+    protected int givenCount;
+    protected int solutionCount;
+    protected int solutionLimit;
+    protected int[] solutionOut;
+    protected long searchBudget; // Maximum search steps per query, 0 for no limit
+    protected long searchSteps;
+    protected boolean outOfBudget; // True if the last query ran out of search steps before finishing
+
+    /**
+     * @param houseSize Number of Tiles one House contains. Must be a perfect square.
+     */
+    protected DancingLinks(int houseSize) {
+        this.houseSize = houseSize;
+        boardSize = houseSize * houseSize;
+        zoneWidth = (int) Math.sqrt(houseSize);
+        columnCount = 4 * boardSize;
+        int rowCount = boardSize * houseSize;
+        int nodeCount = 1 + columnCount + 4 * rowCount;
+        left = new int[nodeCount];
+        right = new int[nodeCount];
+        up = new int[nodeCount];
+        down = new int[nodeCount];
+        columnOf = new int[nodeCount];
+        rowOf = new int[nodeCount];
+        columnSize = new int[columnCount + 1];
+        rowStart = new int[rowCount];
+        choices = new int[boardSize];
+        givenRows = new int[boardSize];
+        buildMatrix();
+    }
+
+    //region Matrix Construction
+
+    /**
+     * Link the root, the column headers, and one 4-node row for every (cell, value) pair.
+     */
+    protected void buildMatrix() {
+        for (int c = 0; c <= columnCount; ++c) {
+            left[c] = (c == 0) ? columnCount : c - 1;
+            right[c] = (c == columnCount) ? 0 : c + 1;
+            up[c] = c;
+            down[c] = c;
+            columnOf[c] = c;
+        }
+        int node = columnCount + 1;
+        for (int cell = 0; cell < boardSize; ++cell) {
+            int rowNumber = cell / houseSize;
+            int columnNumber = cell % houseSize;
+            int zoneNumber = zoneWidth * (rowNumber / zoneWidth) + columnNumber / zoneWidth;
+            for (int v = 0; v < houseSize; ++v) {
+                int matrixRow = cell * houseSize + v;
+                rowStart[matrixRow] = node;
+                appendNode(node, 1 + cell, matrixRow);
+                appendNode(node + 1, 1 + boardSize + rowNumber * houseSize + v, matrixRow);
+                appendNode(node + 2, 1 + 2 * boardSize + columnNumber * houseSize + v, matrixRow);
+                appendNode(node + 3, 1 + 3 * boardSize + zoneNumber * houseSize + v, matrixRow);
+                for (int i = 0; i < 4; ++i) {
+                    left[node + i] = node + (i + 3) % 4;
+                    right[node + i] = node + (i + 1) % 4;
+                }
+                node += 4;
+            }
+        }
+    }
+
+    /**
+     * Add a node to the bottom of a column.
+     */
+    private void appendNode(int node, int column, int matrixRow) {
+        columnOf[node] = column;
+        rowOf[node] = matrixRow;
+        up[node] = up[column];
+        down[node] = column;
+        down[up[column]] = node;
+        up[column] = node;
+        ++columnSize[column];
+    }
+    //endregion
+
+    //region Solving
+
+    /**
+     * Solve a Board using the current values of its Tiles as givens. Notes are ignored.
+     *
+     * @param board    The Board to solve. It is not modified.
+     * @param solution Array of at least boardSize entries to receive the first solution found. May be null.
+     * @param limit    Stop searching once this many solutions have been found (1 to solve, 2 to check uniqueness).
+     * @return The number of solutions found, up to the limit. 0 if the Board has no solution.
+     */
+    protected int solve(Board board, int[] solution, int limit) {
+        int[] grid = new int[boardSize];
+        for (int i = 0; i < boardSize; ++i) {
+            grid[i] = board.getTile(i).getValue();
+        }
+        return solve(grid, solution, limit);
+    }
+
+    /**
+     * Solve a grid of values in row-major order, where 0 is an empty cell.
+     *
+     * @param grid     The grid to solve. It is not modified.
+     * @param solution Array of at least boardSize entries to receive the first solution found. May be null.
+     * @param limit    Stop searching once this many solutions have been found (1 to solve, 2 to check uniqueness).
+     * @return The number of solutions found, up to the limit. 0 if the grid has no solution or contradicts itself.
+     * If the search budget runs out first, outOfBudget is set and the count is only a lower bound.
+     */
+    protected int solve(int[] grid, int[] solution, int limit) {
+        if (grid == null || grid.length < boardSize || limit < 1) {
+            return 0;
+        }
+        solutionCount = 0;
+        solutionLimit = limit;
+        solutionOut = solution;
+        searchSteps = 0;
+        outOfBudget = false;
+        if (coverGivens(grid)) {
+            search(0);
+        }
+        uncoverGivens();
+        if (solutionCount > 0 && solution != null) {
+            for (int i = 0; i < boardSize; ++i) {
+                if (grid[i] > 0) {
+                    solution[i] = grid[i];
+                }
+            }
+        }
+        solutionOut = null;
+        return solutionCount;
+    }
+
+    /**
+     * @param grid The grid to check, in row-major order with 0 for empty cells.
+     * @return True if the grid has exactly one solution, otherwise False.
+     */
+    protected boolean hasUniqueSolution(int[] grid) {
+        return solve(grid, null, 2) == 1;
+    }
+
+    /**
+     * Check whether an empty cell could hold a different value than the one it is known to have. Digging a given out
+     * of a uniquely solvable grid keeps it unique exactly when no other value fits, so this answers the count-to-two
+     * question while only searching for one solution, and only in the part of the tree that differs from the known one.
+     *
+     * @param grid  The grid to check, in row-major order with 0 for empty cells. It is not modified.
+     * @param cell  The 0-80 index of an empty cell in the grid.
+     * @param value The 1-9 value the cell has in the known solution.
+     * @return True if the grid has a solution in which the cell does not hold the value, or if the search budget ran
+     * out before that was settled. Otherwise False.
+     */
+    protected boolean hasAlternativeSolution(int[] grid, int cell, int value) {
+        if (grid == null || grid.length < boardSize || cell < 0 || cell >= boardSize || grid[cell] != 0) {
+            return false;
+        }
+        solutionCount = 0;
+        solutionLimit = 1;
+        solutionOut = null;
+        searchSteps = 0;
+        outOfBudget = false;
+        boolean found = false;
+        if (coverGivens(grid)) {
+            // Branch on the cell first, skipping its known value
+            int column = 1 + cell;
+            int excludedRow = cell * houseSize + value - 1;
+            cover(column);
+            for (int r = down[column]; r != column && !found; r = down[r]) {
+                if (rowOf[r] != excludedRow) {
+                    choices[0] = rowOf[r];
+                    for (int j = right[r]; j != r; j = right[j]) {
+                        cover(columnOf[j]);
+                    }
+                    found = search(1);
+                    for (int j = left[r]; j != r; j = left[j]) {
+                        uncover(columnOf[j]);
+                    }
+                }
+            }
+            uncover(column);
+        }
+        uncoverGivens();
+        return found || outOfBudget;
+    }
+
+    /**
+     * Select the matrix row of every given. Stops at the first given that conflicts with an earlier one.
+     *
+     * @return True if every given was covered, False if the givens contradict each other or are out of bounds.
+     */
+    protected boolean coverGivens(int[] grid) {
+        givenCount = 0;
+        for (int cell = 0; cell < boardSize; ++cell) {
+            int value = grid[cell];
+            if (value != 0) {
+                if (value < 0 || value > houseSize) {
+                    return false;
+                }
+                int node = rowStart[cell * houseSize + value - 1];
+                // Every column of this row must still be uncovered, otherwise an earlier given conflicts
+                int j = node;
+                do {
+                    if (isCovered(columnOf[j])) {
+                        return false;
+                    }
+                    j = right[j];
+                } while (j != node);
+                j = node;
+                do {
+                    cover(columnOf[j]);
+                    j = right[j];
+                } while (j != node);
+                givenRows[givenCount++] = node;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Restore the matrix after coverGivens, in reverse order.
+     */
+    protected void uncoverGivens() {
+        while (givenCount > 0) {
+            int node = givenRows[--givenCount];
+            int j = left[node];
+            do {
+                uncover(columnOf[j]);
+                j = left[j];
+            } while (j != left[node]);
+        }
+    }
+
+    /**
+     * Algorithm X. Always branches on the column with the fewest remaining rows.
+     *
+     * @param depth Number of rows chosen so far in this search.
+     * @return True once the solution limit has been reached, so callers can stop searching.
+     */
+    protected boolean search(int depth) {
+        if (searchBudget > 0 && ++searchSteps > searchBudget) {
+            outOfBudget = true;
+            return true;
+        }
+        if (right[0] == 0) {
+            if (solutionCount++ == 0 && solutionOut != null) {
+                for (int i = 0; i < depth; ++i) {
+                    int matrixRow = choices[i];
+                    solutionOut[matrixRow / houseSize] = matrixRow % houseSize + 1;
+                }
+            }
+            return solutionCount >= solutionLimit;
+        }
+        int column = right[0];
+        for (int c = right[column]; c != 0; c = right[c]) {
+            if (columnSize[c] < columnSize[column]) {
+                column = c;
+                if (columnSize[c] < 2) {
+                    break;
+                }
+            }
+        }
+        if (columnSize[column] == 0) {
+            return false;
+        }
+        boolean done = false;
+        cover(column);
+        for (int r = down[column]; r != column && !done; r = down[r]) {
+            choices[depth] = rowOf[r];
+            for (int j = right[r]; j != r; j = right[j]) {
+                cover(columnOf[j]);
+            }
+            done = search(depth + 1);
+            for (int j = left[r]; j != r; j = left[j]) {
+                uncover(columnOf[j]);
+            }
+        }
+        uncover(column);
+        return done;
+    }
+
+    /**
+     * @return True if the column header has been unlinked from the header list.
+     */
+    private boolean isCovered(int column) {
+        return right[left[column]] != column;
+    }
+
+    private void cover(int column) {
+        right[left[column]] = right[column];
+        left[right[column]] = left[column];
+        for (int i = down[column]; i != column; i = down[i]) {
+            for (int j = right[i]; j != i; j = right[j]) {
+                up[down[j]] = up[j];
+                down[up[j]] = down[j];
+                --columnSize[columnOf[j]];
+            }
+        }
+    }
+
+    private void uncover(int column) {
+        for (int i = up[column]; i != column; i = up[i]) {
+            for (int j = left[i]; j != i; j = left[j]) {
+                ++columnSize[columnOf[j]];
+                up[down[j]] = j;
+                down[up[j]] = j;
+            }
+        }
+        right[left[column]] = column;
+        left[right[column]] = column;
+    }
+    //endregion
+}
@@ -1,38 +1,43 @@
 package me.valesken.jeff.sudoku_model;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 
 /**
  * Created by Jeff on 2/28/2015.
- * Last updated on 1/15/2016
+ * Last updated on 10/17/2026
  *
  * House contains a row, column, or zone of 9 Tiles.
  * House can check if it already contains a tile with a given value.
  * House can check if there are contradictions in it and say which Tiles contradict.
  * House can return a tile at the specified position in the House.
  * House does not need to do anything else;
+ *
+ * Value ownership is kept as primitive bitmasks: bit (v - 1) of valueMask is set while any member claims the value
+ * v, and ownerMasks[v - 1] has bit p set while the member at position p claims v. A member's position is looked up
+ * by its Board index in positions, which holds -1 for Tiles that are not members.
  */
 class House implements Iterable<Tile> {
 
-    protected HashSet<Integer>[] valueToOwnersMap;
+    protected int valueMask;
+    protected int[] ownerMasks;
+    protected byte[] positions; // A byte is enough, as ownerMasks limits a House to 32 members
     protected ArrayList<Tile> members;
     protected int houseIndex;
     protected int houseSize;
     protected int boardSize;
 
-    @SuppressWarnings("unchecked")
     protected House(int _houseSize, int _houseIndex) {
         houseIndex = _houseIndex;
         houseSize = _houseSize;
         boardSize = houseSize * houseSize;
         members = new ArrayList<>(houseSize);
-        valueToOwnersMap = new HashSet[9];
-        for (int i = 0; i < 9; ++i) {
-            valueToOwnersMap[i] = new HashSet<>();
-        }
+        positions = new byte[boardSize];
+        Arrays.fill(positions, (byte) -1);
+        ownerMasks = new int[houseSize];
+        valueMask = 0;
     }
 
     //region Setters
@@ -45,6 +50,10 @@ class House implements Iterable<Tile> {
      */
     protected void addMember(Tile tile) {
         if (members.size() < houseSize && !members.contains(tile)) {
+            int tileIndex = tile.getIndex();
+            if (tileIndex > -1 && tileIndex < boardSize) {
+                positions[tileIndex] = (byte) members.size();
+            }
             members.add(tile); // Add to end - O(1) insert to end, maintains position in House
         }
     }
@@ -57,15 +66,27 @@ class House implements Iterable<Tile> {
      * @param value     The 1-9 value to assign (or remove assignment) to the Tile.
      * @param assign    Whether to assign or remove assignment of the value to the Tile.
      * @param tileIndex The index of the Tile that the value will be assigned to.
-     * @return true if successful, false otherwise
+     * @return true if successful, false otherwise (including if the Tile is not a member of this House)
      */
     protected boolean setValueInHouse(int value, boolean assign, int tileIndex) {
         if (value > 0 && value <= houseSize && tileIndex > -1 && tileIndex < boardSize) {
-            if (assign) {
-                return valueToOwnersMap[value - 1].add(tileIndex);
+            int position = getPosition(tileIndex);
+            if (position < 0) {
+                return false;
+            }
+            int owners = ownerMasks[value - 1];
+            int ownerBit = 1 << position;
+            if (assign == ((owners & ownerBit) != 0)) {
+                return false; // Already assigned (or already unassigned)
+            }
+            owners ^= ownerBit;
+            ownerMasks[value - 1] = owners;
+            if (owners == 0) {
+                valueMask &= ~(1 << (value - 1));
             } else {
-                return valueToOwnersMap[value - 1].remove(tileIndex);
+                valueMask |= 1 << (value - 1);
             }
+            return true;
         }
         return false;
     }
@@ -79,7 +100,8 @@ class House implements Iterable<Tile> {
      */
     protected boolean clearValueInHouse(int value) {
         if (value > 0 && value <= houseSize) {
-            valueToOwnersMap[value - 1].clear();
+            ownerMasks[value - 1] = 0;
+            valueMask &= ~(1 << (value - 1));
             return true;
         }
         return false;
@@ -106,7 +128,31 @@ class House implements Iterable<Tile> {
      * @return True if this House contains a Tile to which the value is assigned, otherwise False.
      */
     protected boolean hasValue(int value) {
-        return (value > 0 && value <= houseSize && valueToOwnersMap[value - 1].size() > 0);
+        return (value > 0 && value <= houseSize && (valueMask & (1 << (value - 1))) != 0);
+    }
+
+    /**
+     * @return A bitmask of the values claimed in this House. Bit (v - 1) is set if the value v is claimed by at least
+     * one Tile.
+     */
+    protected int getValueMask() {
+        return valueMask;
+    }
+
+    /**
+     * @param value The 1-9 value to count owners for.
+     * @return The number of Tiles in this House which currently claim the value. 0 if the value is out of bounds.
+     */
+    protected int getOwnerCount(int value) {
+        return (value > 0 && value <= houseSize) ? Integer.bitCount(ownerMasks[value - 1]) : 0;
+    }
+
+    /**
+     * @param tileIndex The 0-80 Board index of a Tile.
+     * @return The 0-8 position of that Tile within this House, -1 if the Tile is not a member.
+     */
+    protected int getPosition(int tileIndex) {
+        return (tileIndex > -1 && tileIndex < boardSize) ? positions[tileIndex] : -1;
     }
 
     /**
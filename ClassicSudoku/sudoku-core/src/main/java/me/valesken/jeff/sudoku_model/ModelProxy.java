@@ -0,0 +1,703 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+
+/**
+ * Created by jeff on 2/8/2016.
+ * Last updated on 10/17/2026.
+ */
+public class ModelProxy {
+
+    /**
+     * Puzzles generated from the same seed are only identical when generated with the same GENERATOR_VERSION.
+     */
+    public static final int GENERATOR_VERSION = Board.GENERATOR_VERSION;
+
+    /**
+     * Flags of a Tile in a snapshot, see getSnapshot() and getFlags().
+     */
+    public static final int FLAG_ORIG = Board.FLAG_ORIG;
+    public static final int FLAG_NOTE_MODE = Board.FLAG_NOTE_MODE;
+
+    protected static Board board;
+    protected static PuzzlePool puzzlePool;
+    protected static PuzzleBank puzzleBank;
+    protected static MoveJournal journal;
+    protected static MoveHistory history;
+    protected static int undoMemoryLimit = MoveHistory.DEFAULT_MEMORY_LIMIT;
+    protected static BoardListener listener;
+
+    /**
+     * Initialize a new board for a new game. Stops journaling the previous game (see startJournal), and drops the
+     * listener of the previous game (see setBoardListener), as the new game is usually set up on another thread.
+     *
+     * @param houseSize The size of each House (row, column, zone) in the board.
+     */
+    public static void initializeNewBoard(int houseSize) {
+        stopJournal();
+        listener = null;
+        board = new Board(houseSize);
+        board.initializeHouses();
+        board.initializeTiles();
+        history = new MoveHistory(undoMemoryLimit);
+    }
+
+    /**
+     * Start generating puzzles in the background, so that newGame() can hand them out without waiting. Does nothing
+     * if the pool has already been started.
+     *
+     * @param houseSize  The size of each House (row, column, zone) in the generated boards.
+     * @param capacity   The maximum number of puzzles to keep ready for each difficulty level.
+     * @param numWorkers The number of background threads to generate puzzles with.
+     */
+    public static synchronized void startPuzzlePool(int houseSize, int capacity, int numWorkers) {
+        if (puzzlePool == null) {
+            puzzlePool = new PuzzlePool(houseSize, capacity, numWorkers);
+        }
+    }
+
+    /**
+     * Stop generating puzzles in the background. newGame() will generate every puzzle itself from now on.
+     */
+    public static synchronized void stopPuzzlePool() {
+        if (puzzlePool != null) {
+            puzzlePool.shutdown();
+            puzzlePool = null;
+        }
+    }
+
+    /**
+     * Open a file of pre-generated puzzles for newGame() to draw from, closing any bank opened before. Puzzles are
+     * read straight from the file as they are drawn, so the bank can be far larger than memory.
+     *
+     * @param bankFile A puzzle bank file.
+     * @throws IOException if the file cannot be read or is not a puzzle bank.
+     */
+    public static synchronized void openPuzzleBank(File bankFile) throws IOException {
+        PuzzleBank bank = new PuzzleBank(bankFile);
+        closePuzzleBank();
+        puzzleBank = bank;
+    }
+
+    /**
+     * Stop drawing puzzles from the puzzle bank. Does nothing if no bank is open.
+     */
+    public static synchronized void closePuzzleBank() {
+        if (puzzleBank != null) {
+            try {
+                puzzleBank.close();
+            } catch (IOException ignored) {
+                // Nothing more will be read from it either way
+            }
+            puzzleBank = null;
+        }
+    }
+
+    /**
+     * Create a new game. Draws a puzzle from the puzzle bank if one is open and holds puzzles of the difficulty level.
+     * Otherwise uses a ready puzzle from the puzzle pool if there is one. If the pool has run dry, derives a puzzle
+     * from the last one it generated, and only generates a puzzle if the pool has none to offer.
+     *
+     * @param difficulty The difficulty level for the new game. 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert, anything
+     *                   else = Random.
+     * @return The actual difficulty level of the game. Should be the same (unless random, which case this tells you
+     * the selected difficulty level). -1 if the board has not yet been initialized, or no puzzle could be generated.
+     */
+    public static int newGame(int difficulty) {
+        if (board == null) {
+            return -1;
+        }
+        history.clear();
+        PuzzleBank bank = puzzleBank;
+        if (bank != null && bank.houseSize == board.houseSize) {
+            PuzzlePool.Puzzle puzzle = bank.draw(difficulty);
+            if (puzzle != null) {
+                return board.loadPuzzle(puzzle.difficulty, puzzle.seed, puzzle.givens, puzzle.solution);
+            }
+        }
+        PuzzlePool pool = puzzlePool;
+        if (pool != null && pool.houseSize == board.houseSize) {
+            PuzzlePool.Puzzle puzzle = pool.take(difficulty);
+            if (puzzle != null) {
+                return board.loadPuzzle(puzzle.difficulty, puzzle.seed, puzzle.givens, puzzle.solution);
+            }
+            PuzzlePool.Puzzle template = pool.getTemplate(difficulty);
+            if (template != null) {
+                return board.deriveGame(template.difficulty, template.givens, template.solution);
+            }
+        }
+        return board.newGame(difficulty);
+    }
+
+    /**
+     * Create a new game from a seed, such as one returned by getSeed(). The same difficulty level and seed always
+     * produce the same puzzle (see GENERATOR_VERSION). Always generates, never uses the puzzle bank or pool.
+     *
+     * @param difficulty The difficulty level for the new game. A 'Random' difficulty level is picked before seeding.
+     * @param seed       The seed to generate the puzzle from.
+     * @return The actual difficulty level of the game. -1 if the board has not yet been initialized, or no puzzle could
+     * be generated.
+     */
+    public static int newGame(int difficulty, long seed) {
+        if (board == null) {
+            return -1;
+        }
+        history.clear();
+        return board.newGame(difficulty, seed);
+    }
+
+    /**
+     * Get the seed the current puzzle was generated from. Passing it to newGame(difficulty, seed) along with the
+     * current difficulty level regenerates the same puzzle.
+     *
+     * @return The seed of the current puzzle. Null if it is unknown (e.g. a game saved before seeds were recorded)
+     * or the board has not yet been initialized.
+     */
+    public static Long getSeed() {
+        if (board == null) {
+            return null;
+        }
+        return board.seed;
+    }
+
+    /**
+     * Load a saved game.
+     *
+     * @param jsonObject The JSON Object representing your saved game.
+     * @return The difficulty level of the saved game. -1 if the JSON is badly formatted or the board has not yet
+     * been initialized.
+     */
+    public static int loadGame(JSONObject jsonObject) {
+        if (board == null) {
+            return -1;
+        }
+        history.clear();
+        return board.loadGame(jsonObject);
+    }
+
+    /**
+     * Load a saved game from the contents of a save file. Reads both the binary format written by saveBinary() and the
+     * JSON text written by save(), so games saved before the binary format existed can still be loaded.
+     *
+     * @param data The contents of your save file.
+     * @return The difficulty level of the saved game. -1 if the data is badly formatted, was saved from another board
+     * size, or the board has not yet been initialized.
+     */
+    public static int loadGame(byte[] data) {
+        if (board == null) {
+            return -1;
+        }
+        history.clear();
+        return board.loadGame(data);
+    }
+
+    /**
+     * Start keeping the current game saved as it is played: the game is written to a snapshot file, and from then on
+     * every updateTile(), clearTile(), toggleNoteMode(), getHint() and solve() appends a few bytes to a journal file.
+     * The journal is compacted into a new snapshot every so often. Use recoverJournal() to load the game back, even
+     * if the process was killed mid-game.
+     *
+     * If the journal cannot be written to, journaling stops and the game carries on unsaved.
+     *
+     * @param snapshotFile The file to keep the snapshot in.
+     * @param journalFile  The file to keep the journal in.
+     * @return True if journaling started. False if the files cannot be written or there is no current game.
+     */
+    public static synchronized boolean startJournal(File snapshotFile, File journalFile) {
+        stopJournal();
+        if (board == null) {
+            return false;
+        }
+        MoveJournal moveJournal = new MoveJournal(snapshotFile, journalFile, MoveJournal.DEFAULT_COMPACT_EVERY);
+        try {
+            moveJournal.start(board);
+        } catch (IOException e) {
+            closeQuietly(moveJournal);
+            return false;
+        }
+        journal = moveJournal;
+        return true;
+    }
+
+    /**
+     * Load a game kept by startJournal(): its snapshot, with every move journaled since replayed onto it. Journaling
+     * then carries on into the same files.
+     *
+     * @param snapshotFile The file the snapshot is kept in.
+     * @param journalFile  The file the journal is kept in.
+     * @return The difficulty level of the game. -1 if the snapshot cannot be read or the board has not yet been
+     * initialized.
+     */
+    public static synchronized int recoverJournal(File snapshotFile, File journalFile) {
+        stopJournal();
+        if (board == null) {
+            return -1;
+        }
+        history.clear();
+        board.beginBatch(); // Report the snapshot and every move replayed onto it as one change
+        try {
+            int difficulty = MoveJournal.recover(board, snapshotFile, journalFile);
+            if (difficulty != -1) {
+                startJournal(snapshotFile, journalFile);
+            }
+            return difficulty;
+        } catch (IOException e) {
+            return -1;
+        } finally {
+            board.endBatch();
+        }
+    }
+
+    /**
+     * Record the time spent on the current game in the journal, as a cheap autosave. Does nothing unless journaling.
+     */
+    public static synchronized void journalTime() {
+        if (journal != null) {
+            try {
+                journal.recordTime(board);
+            } catch (IOException e) {
+                stopJournal();
+            }
+        }
+    }
+
+    /**
+     * Stop journaling the current game. The snapshot and journal files are left for recoverJournal().
+     */
+    public static synchronized void stopJournal() {
+        if (journal != null) {
+            closeQuietly(journal);
+            journal = null;
+        }
+    }
+
+    /**
+     * Append a move to the journal, if journaling.
+     */
+    protected static synchronized void journal(byte operation, int position, int value) {
+        if (journal != null) {
+            try {
+                journal.record(board, operation, position, value);
+            } catch (IOException e) {
+                stopJournal();
+            }
+        }
+    }
+
+    /**
+     * Append the current state of a Tile to the journal, if journaling.
+     */
+    protected static synchronized void journalTileState(int position, boolean wasNoteMode) {
+        if (journal != null) {
+            try {
+                journal.recordTileState(board, position, wasNoteMode);
+            } catch (IOException e) {
+                stopJournal();
+            }
+        }
+    }
+
+    private static void closeQuietly(MoveJournal moveJournal) {
+        try {
+            moveJournal.close();
+        } catch (IOException ignored) {
+            // Nothing more will be written to it either way
+        }
+    }
+
+    /**
+     * Save the game that you are currently playing in the compact binary format. Prefer this over save() when writing
+     * save files; loadGame(byte[]) reads both. The time saved is the time on the game clock.
+     *
+     * @return The binary representation of your saved game. Null if there is no current game.
+     */
+    public static byte[] saveBinary() {
+        if (board == null) {
+            return null;
+        }
+        return board.saveBinary();
+    }
+
+    /**
+     * Save the game that you are currently playing. The time saved is the time on the game clock.
+     *
+     * @return The JSON Object representing your saved game. Null if there is no current game.
+     */
+    public static JSONObject save() {
+        if (board == null) {
+            return null;
+        }
+        return board.save();
+    }
+
+    /**
+     * @return The amount of time you have spent playing the current game. Null if there is no current game.
+     */
+    public static String getTime() {
+        if (board == null) {
+            return null;
+        }
+        return board.getTime();
+    }
+
+    /**
+     * @return The time spent playing the current game, in nanoseconds of a monotonic clock. 0 if there is no current
+     * game.
+     */
+    public static long getElapsedNanos() {
+        if (board == null) {
+            return 0;
+        }
+        return board.getElapsedNanos();
+    }
+
+    /**
+     * Start timing the current game, e.g. when it is shown or resumed. New and loaded games start with the clock
+     * stopped, and it stops by itself once the game is finished.
+     */
+    public static void startClock() {
+        if (board != null) {
+            board.startClock();
+        }
+    }
+
+    /**
+     * Stop timing the current game, e.g. when it is paused or hidden.
+     */
+    public static void stopClock() {
+        if (board != null) {
+            board.stopClock();
+        }
+    }
+
+    /**
+     * @param seconds A time in seconds.
+     * @return The time in the format of "mm:ss", with as many minutes as needed, as returned by getTime().
+     */
+    public static String formatTime(int seconds) {
+        return SaveCodec.formatTime(seconds);
+    }
+
+    /**
+     * @param time A time in the format returned by getTime().
+     * @return The number of seconds, 0 if the time cannot be read.
+     */
+    public static int parseTime(String time) {
+        return SaveCodec.parseTime(time);
+    }
+
+    /**
+     * @return An array of LinkedLists representing the notes/values for every Tile in the current game. Null if
+     * there is no current game.
+     */
+    public static LinkedList[] getBoard() {
+        if (board == null) {
+            return null;
+        }
+        return board.getBoard();
+    }
+
+    /**
+     * Be told about every change to the current game from now on, instead of reading the board back after each move.
+     * A move that changes one Tile is reported with BoardListener.onTileChanged(); solve(), loading a game and
+     * recoverJournal() are reported with a single BoardListener.onBoardChanged(). Calls are made on the thread that
+     * made the change. The listener is dropped by initializeNewBoard().
+     *
+     * @param _listener The listener, null for none.
+     */
+    public static void setBoardListener(BoardListener _listener) {
+        listener = _listener;
+        if (board != null) {
+            board.setListener(listener);
+        }
+    }
+
+    /**
+     * @return The number of Tiles in the current game, 0 if there is no current game.
+     */
+    public static int getTileCount() {
+        return board == null ? 0 : board.boardSize;
+    }
+
+    /**
+     * @param tileCount The number of Tiles in the game, see getTileCount().
+     * @return The length of the flags array to pass to getSnapshot().
+     */
+    public static int getFlagsLength(int tileCount) {
+        return Board.getFlagsLength(tileCount);
+    }
+
+    /**
+     * Copy the state of every Tile into arrays the caller owns, so that they can be reused from one call to the next
+     * and reading the board allocates nothing. Unlike getBoard(), nothing is boxed.
+     *
+     * @param values Set to the value of each Tile, 0 if it has none or is in Note mode. At least getTileCount() long.
+     * @param notes  Set to the notes of each Tile, bit (v - 1) set for the note v, 0 if it is in Value mode. At least
+     *               getTileCount() long.
+     * @param flags  Set to the FLAG_ORIG and FLAG_NOTE_MODE flags of every Tile, read with getFlags(). At least
+     *               getFlagsLength(getTileCount()) long.
+     * @return True if the arrays were filled. False if any is too short, or there is no current game.
+     */
+    public static boolean getSnapshot(int[] values, int[] notes, long[] flags) {
+        if (board == null || values.length < board.boardSize || notes.length < board.boardSize
+                || flags.length < Board.getFlagsLength(board.boardSize)) {
+            return false;
+        }
+        board.getSnapshot(values, notes, flags);
+        return true;
+    }
+
+    /**
+     * @param flags    The flags filled in by getSnapshot().
+     * @param position The index of the Tile, 0 to getTileCount() - 1.
+     * @return The FLAG_ORIG and FLAG_NOTE_MODE flags of the Tile.
+     */
+    public static int getFlags(long[] flags, int position) {
+        return Board.getFlags(flags, position);
+    }
+
+    /**
+     * @param position The index of the Tile, 0 to getTileCount() - 1.
+     * @return The value of the Tile, 0 if it has none or is in Note mode. -1 if the provided index is out of bounds or
+     * there is no current game.
+     */
+    public static int getTileValue(int position) {
+        Tile tile = (board == null) ? null : board.getTile(position);
+        return tile == null ? -1 : tile.getValue();
+    }
+
+    /**
+     * @param position The index of the Tile, 0 to getTileCount() - 1.
+     * @return The notes of the Tile, bit (v - 1) set for the note v. 0 if it is in Value mode, the provided index is
+     * out of bounds, or there is no current game.
+     */
+    public static int getTileNotes(int position) {
+        Tile tile = (board == null) ? null : board.getTile(position);
+        return (tile == null || !tile.isNoteMode()) ? 0 : tile.getNotesMask();
+    }
+
+    /**
+     * Check if a given Tile is in Note mode or Value mode.
+     *
+     * @param position The index of the Tile you want to check, 0 to getTileCount() - 1.
+     * @return True if the Tile is in Note mode. False if the Tile is in Value mode, the provided index is out of
+     * bounds, or there is no current game.
+     */
+    public static boolean tileIsNoteMode(int position) {
+        return board != null && board.tileIsNoteMode(position);
+    }
+
+    /**
+     * Check if a given Tile is an "original" Tile (meaning its value cannot be changed).
+     *
+     * @param position The index of the Tile you want to check, 0 to getTileCount() - 1.
+     * @return True if the Tile is an "original" Tile. False if the Tile is not "original", the provided index is out
+     * of bounds, or there is no current game.
+     */
+    public static boolean tileIsOrig(int position) {
+        return board != null && board.tileIsOrig(position);
+    }
+
+    /**
+     * Update the value or note for a given Tile.
+     *
+     * @param position The index of the Tile you want to update, 0 to getTileCount() - 1.
+     * @param value    The value you want to update it with or note you want to add or remove.
+     * @return A LinkedList of Integers representing the current Value/Notes associated with the selected Tile. Null
+     * if the provided index is out of bounds, the value is out of bounds, or there is no current game.
+     */
+    public static LinkedList updateTile(int position, int value) {
+        if (board == null) {
+            return null;
+        }
+        long before = getUndoState(position);
+        LinkedList result = board.updateTile(position, value);
+        if (result != null) {
+            recordUndo(position, before);
+            journal(MoveJournal.UPDATE, position, value);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve a LinkedList of Integers representing the current Value/Notes associated with the selected Tile.
+     *
+     * @param position The index of the Tile you want, 0 to getTileCount() - 1.
+     * @return A LinkedList of Integers representing the current Value/Notes associated with the selected Tile. Null
+     * if the provided index is out of bounds or there is no current game.
+     */
+    public static LinkedList getTile(int position) {
+        if (board == null) {
+            return null;
+        }
+        return board.getTileNotesOrValue(position);
+    }
+
+    /**
+     * @return True if the current game has finished. False if it is still ongoing or there is no current game.
+     */
+    public static boolean isGameOver() {
+        return board != null && board.isGameOver();
+    }
+
+    /**
+     * Clear the current value and all stored notes on a given Tile.
+     *
+     * @param position The index of the Tile you want to clear, 0 to getTileCount() - 1.
+     * @return A LinkedList of Integers representing the current Value/Notes associated with the selected Tile. Null
+     * if the provided index is out of bounds or there is no current game.
+     */
+    public static LinkedList clearTile(int position) {
+        if (board == null) {
+            return null;
+        }
+        long before = getUndoState(position);
+        LinkedList result = board.clearTile(position);
+        if (result != null) {
+            recordUndo(position, before);
+            journal(MoveJournal.CLEAR, position, 0);
+        }
+        return result;
+    }
+
+    /**
+     * Switch a Tile between Note mode and Value mode. If it's currently in Note mode, then it will switch to Value
+     * mode. If it's currently in Value mode, then it will switch to Note mode.
+     *
+     * @param position The index of the Tile you want to toggle, 0 to getTileCount() - 1.
+     * @return True if the toggle succeeds. False if it does not, if the provided index is out of bounds, or if there
+     * is no current game.
+     */
+    public static boolean toggleNoteMode(int position) {
+        if (board == null) {
+            return false;
+        }
+        long before = getUndoState(position);
+        if (!board.toggleNoteMode(position)) {
+            return false;
+        }
+        recordUndo(position, before);
+        journal(MoveJournal.TOGGLE, position, 0);
+        return true;
+    }
+
+    /**
+     * Ask the game to provide you with a hint. This means selecting a random Tile that is unsolved (or incorrectly
+     * solved) and setting it to its solved value. The solved Tile will be marked as an "original", meaning its value
+     * is now unchangeable. Moves made before the hint can no longer be undone.
+     *
+     * @return The index of the Tile that was solved for you. -1 if the game is already solved or there is no current
+     * game.
+     */
+    public static int getHint() {
+        if (board == null) {
+            return -1;
+        }
+        int position = board.useHint();
+        if (position != -1) {
+            history.clear();
+            journal(MoveJournal.HINT, position, 0);
+        }
+        return position;
+    }
+
+    /**
+     * Solve the game.
+     *
+     * @return True if the game is now solved, False if the game has already been solved or there is no current game.
+     */
+    public static boolean solve() {
+        if (board == null || !board.solve()) {
+            return false;
+        }
+        history.clear();
+        journal(MoveJournal.SOLVE, 0, 0);
+        return true;
+    }
+
+    /**
+     * Undo the latest updateTile(), clearTile() or toggleNoteMode() that changed a Tile.
+     *
+     * @return The index of the Tile that was restored. -1 if there is nothing to undo or there is no current game.
+     */
+    public static int undo() {
+        if (board == null) {
+            return -1;
+        }
+        int position = history.getUndoPosition();
+        if (position != -1) {
+            boolean wasNoteMode = board.tileIsNoteMode(position);
+            history.undo(board);
+            journalTileState(position, wasNoteMode);
+        }
+        return position;
+    }
+
+    /**
+     * Make the latest undone move again. Any new move made after an undo() drops the moves that could be redone.
+     *
+     * @return The index of the Tile that was restored. -1 if there is nothing to redo or there is no current game.
+     */
+    public static int redo() {
+        if (board == null) {
+            return -1;
+        }
+        int position = history.getRedoPosition();
+        if (position != -1) {
+            boolean wasNoteMode = board.tileIsNoteMode(position);
+            history.redo(board);
+            journalTileState(position, wasNoteMode);
+        }
+        return position;
+    }
+
+    /**
+     * @return True if undo() has a move to undo, otherwise False.
+     */
+    public static boolean canUndo() {
+        return board != null && history.getUndoPosition() != -1;
+    }
+
+    /**
+     * @return True if redo() has a move to redo, otherwise False.
+     */
+    public static boolean canRedo() {
+        return board != null && history.getRedoPosition() != -1;
+    }
+
+    /**
+     * Set how much memory the undo history may take up. Each move takes 8 bytes; once the limit is reached, every new
+     * move forgets the oldest one.
+     *
+     * @param bytes The most memory in bytes the undo history may take up.
+     */
+    public static void setUndoMemoryLimit(int bytes) {
+        undoMemoryLimit = bytes;
+        if (history != null) {
+            history.setMemoryLimit(bytes);
+        }
+    }
+
+    /**
+     * @return The undo entry for the current state of a Tile, MoveHistory.NONE if the move cannot be undone.
+     */
+    protected static long getUndoState(int position) {
+        if (position < 0 || position >= board.boardSize || board.tileIsOrig(position)) {
+            return MoveHistory.NONE;
+        }
+        return MoveHistory.encode(board, position);
+    }
+
+    /**
+     * Push the state of a Tile before a move onto the undo history, unless the move left the Tile as it was.
+     */
+    protected static void recordUndo(int position, long before) {
+        if (before != MoveHistory.NONE && before != MoveHistory.encode(board, position)) {
+            history.push(before);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package me.valesken.jeff.sudoku_model;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * The undo/redo log of a game. Every move on a Tile pushes one entry holding the Tile index and the state the Tile had
+ * before the move, packed into a long. Undo swaps that entry with the Tile's current state, so the same slot then holds
+ * what redo needs to restore, and neither direction allocates anything.
+ *
+ * Entries live in a ring buffer that doubles as needed up to maxEntries (the memory cap divided by ENTRY_SIZE); once it
+ * is full, every new move drops the oldest entry.
+ *
+ * Entry layout: Tile index (bits 48 - 63), note mode (bit 40), value (bits 32 - 39), notes mask (bits 0 - 31).
+ */
+class MoveHistory {
+
+    static final protected int ENTRY_SIZE = 8; // Bytes per entry
+    static final protected int INITIAL_CAPACITY = 16;
+    static final protected int DEFAULT_MEMORY_LIMIT = 64 * 1024; // Bytes, 8192 moves
+    static final protected long NONE = -1L; // Never a valid entry, since the index is below 2^15
+
+    protected long[] entries;
+    protected int maxEntries;
+    protected int start; // Slot of the oldest entry
+    protected int size; // Number of entries, undoable and redoable
+    protected int position; // Number of undoable entries; entries from here on are redoable
+
+    /**
+     * @param memoryLimit The most memory in bytes the entries may take up. Holds at least one entry.
+     */
+    protected MoveHistory(int memoryLimit) {
+        maxEntries = Math.max(memoryLimit / ENTRY_SIZE, 1);
+        entries = new long[Math.min(INITIAL_CAPACITY, maxEntries)];
+    }
+
+    //region Encoding
+
+    /**
+     * @param board    The Board holding the Tile.
+     * @param position The index of the Tile. Must be on the Board.
+     * @return The entry describing the current state of the Tile.
+     */
+    static protected long encode(Board board, int position) {
+        Tile tile = board.getTile(position);
+        return ((long) position << 48) | (tile.isNoteMode() ? 1L << 40 : 0L) | ((long) tile.getValue() << 32)
+                | (tile.getNotesMask() & 0xFFFFFFFFL);
+    }
+
+    static protected int getIndex(long entry) {
+        return (int) (entry >>> 48);
+    }
+
+    static protected boolean isNoteMode(long entry) {
+        return (entry & (1L << 40)) != 0;
+    }
+
+    static protected int getValue(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    static protected int getNotesMask(long entry) {
+        return (int) entry;
+    }
+    //endregion
+
+    //region Undo / Redo
+
+    /**
+     * Record a move. Drops every redoable entry, and the oldest entry if the history is at its memory limit.
+     *
+     * @param before The entry describing the Tile before the move (see encode()).
+     */
+    protected void push(long before) {
+        size = position;
+        if (size == entries.length) {
+            if (entries.length < maxEntries) {
+                resize(Math.min(entries.length * 2, maxEntries));
+            } else {
+                start = getSlot(1);
+                --size;
+                --position;
+            }
+        }
+        entries[getSlot(size)] = before;
+        ++size;
+        ++position;
+    }
+
+    /**
+     * Restore the Tile changed by the latest move to its state before that move.
+     *
+     * @param board The Board the moves were made on.
+     * @return The index of the restored Tile. -1 if there is nothing to undo.
+     */
+    protected int undo(Board board) {
+        if (position == 0) {
+            return -1;
+        }
+        --position;
+        return swap(board, getSlot(position));
+    }
+
+    /**
+     * Make the latest undone move again.
+     *
+     * @param board The Board the moves were made on.
+     * @return The index of the restored Tile. -1 if there is nothing to redo.
+     */
+    protected int redo(Board board) {
+        if (position == size) {
+            return -1;
+        }
+        int index = swap(board, getSlot(position));
+        ++position;
+        return index;
+    }
+
+    /**
+     * Put the state in a slot on the Board, and the state it replaces in the slot.
+     */
+    private int swap(Board board, int slot) {
+        long entry = entries[slot];
+        int index = getIndex(entry);
+        entries[slot] = encode(board, index);
+        board.setTileState(index, isNoteMode(entry), getValue(entry), getNotesMask(entry));
+        return index;
+    }
+
+    /**
+     * @return The index of the Tile undo() would restore. -1 if there is nothing to undo.
+     */
+    protected int getUndoPosition() {
+        return position == 0 ? -1 : getIndex(entries[getSlot(position - 1)]);
+    }
+
+    /**
+     * @return The index of the Tile redo() would restore. -1 if there is nothing to redo.
+     */
+    protected int getRedoPosition() {
+        return position == size ? -1 : getIndex(entries[getSlot(position)]);
+    }
+
+    /**
+     * Forget every move, such as when a new game starts.
+     */
+    protected void clear() {
+        start = 0;
+        size = 0;
+        position = 0;
+    }
+    //endregion
+
+    //region Memory
+
+    /**
+     * Change the memory cap. If the history holds more than now fits, the redoable entries are dropped first, then the
+     * oldest ones.
+     *
+     * @param memoryLimit The most memory in bytes the entries may take up. Holds at least one entry.
+     */
+    protected void setMemoryLimit(int memoryLimit) {
+        maxEntries = Math.max(memoryLimit / ENTRY_SIZE, 1);
+        if (entries.length > maxEntries) {
+            if (size > maxEntries) {
+                size = position;
+            }
+            if (size > maxEntries) {
+                start = getSlot(size - maxEntries);
+                size = position = maxEntries;
+            }
+            resize(maxEntries);
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] resized = new long[capacity];
+        for (int i = 0; i < size; ++i) {
+            resized[i] = entries[getSlot(i)];
+        }
+        entries = resized;
+        start = 0;
+    }
+
+    /**
+     * @return The slot holding the i-th oldest entry.
+     */
+    private int getSlot(int i) {
+        int slot = start + i;
+        return slot < entries.length ? slot : slot - entries.length;
+    }
+    //endregion
+}
@@ -0,0 +1,262 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+import me.valesken.jeff.util.FileStore;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Keeps a game saved as it is played: a snapshot file holding a binary save (see SaveCodec), and a journal file that
+ * every move is appended to as one RECORD_SIZE byte record. Saving a move is a tiny sequential write instead of a
+ * rewrite of the whole game, and since every record reaches the file as soon as the move is made, the game survives
+ * the process being killed at any point.
+ *
+ * Every compactEvery records the journal is compacted: the current game is written as a new snapshot and the journal
+ * starts over. The journal header holds the CRC32 of the snapshot it continues, so a journal left over from before a
+ * compaction that was cut short is never replayed onto the newer snapshot.
+ *
+ * Record layout: operation (byte), Tile index (unsigned short), value (byte). TIME records hold the elapsed seconds
+ * in the three bytes after the operation instead.
+ */
+class MoveJournal {
+
+    static final protected int MAGIC = 0x53444B4A; // "SDKJ"
+    static final protected int FORMAT_VERSION = 1;
+    static final protected int HEADER_SIZE = 4 + 4 + 8; // MAGIC, FORMAT_VERSION, snapshot CRC32
+    static final protected int RECORD_SIZE = 4;
+    static final protected int DEFAULT_COMPACT_EVERY = 256;
+    static final protected int MAX_SECONDS = 0xFFFFFF;
+
+    static final protected byte UPDATE = 1; // Board.updateTile(index, value)
+    static final protected byte CLEAR = 2; // Board.clearTile(index)
+    static final protected byte TOGGLE = 3; // Board.toggleNoteMode(index)
+    static final protected byte HINT = 4; // Board.addGiven(index), the Tile Board.useHint() picked
+    static final protected byte SOLVE = 5; // Board.solve()
+    static final protected byte TIME = 6; // Time elapsed, in seconds
+
+    protected File snapshotFile;
+    protected File journalFile;
+    protected int compactEvery;
+    protected FileChannel channel; // Journal file, positioned at its end
+    protected ByteBuffer record;
+    protected int entries; // Records in the journal since the last compaction
+
+    /**
+     * @param snapshotFile The file holding the latest snapshot of the game.
+     * @param journalFile  The file holding the moves made since the snapshot.
+     * @param compactEvery The number of records after which the journal is compacted into a new snapshot.
+     */
+    protected MoveJournal(File snapshotFile, File journalFile, int compactEvery) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.compactEvery = Math.max(compactEvery, 1);
+        record = ByteBuffer.allocate(RECORD_SIZE);
+    }
+
+    //region Recording
+
+    /**
+     * Start journaling a game, replacing any snapshot and journal in the files.
+     *
+     * @param board The Board holding the game.
+     * @throws IOException if either file cannot be written.
+     */
+    protected void start(Board board) throws IOException {
+        compact(board);
+    }
+
+    /**
+     * Write the game as a new snapshot and start an empty journal continuing it. The snapshot is written to a
+     * temporary file first and renamed over the old one, so there is always a complete snapshot on disk. The snapshot
+     * holds the time on the Board's game clock.
+     *
+     * @param board The Board holding the game.
+     * @throws IOException if either file cannot be written.
+     */
+    protected void compact(Board board) throws IOException {
+        byte[] snapshot = board.saveBinary();
+        FileStore.writeAtomically(snapshotFile, snapshot);
+
+        close();
+        channel = new RandomAccessFile(journalFile, "rw").getChannel();
+        channel.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(getChecksum(snapshot));
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        entries = 0;
+    }
+
+    /**
+     * Append a move to the journal, then compact it if it has grown to compactEvery records.
+     *
+     * @param board     The Board the move was made on, with the move already applied.
+     * @param operation UPDATE, CLEAR, TOGGLE, HINT or SOLVE.
+     * @param index     The index of the Tile the move was made on, 0 for SOLVE.
+     * @param value     The value passed to UPDATE, 0 for the others.
+     * @throws IOException if the journal cannot be written.
+     */
+    protected void record(Board board, byte operation, int index, int value) throws IOException {
+        append(operation, index, value);
+        compactIfFull(board);
+    }
+
+    /**
+     * Append the records that take a Tile from an unknown state to its current one: CLEAR, TOGGLE if its mode changed,
+     * then an UPDATE for its value or every note. Used for undo and redo. The journal is only compacted once all of
+     * them are written, as the snapshot would already hold the state the remaining records set up.
+     *
+     * @param board       The Board holding the Tile, with the Tile already in its new state.
+     * @param index       The index of the Tile.
+     * @param wasNoteMode Whether the Tile was in Note mode before it changed.
+     * @throws IOException if the journal cannot be written.
+     */
+    protected void recordTileState(Board board, int index, boolean wasNoteMode) throws IOException {
+        Tile tile = board.getTile(index);
+        append(CLEAR, index, 0);
+        if (tile.isNoteMode() != wasNoteMode) {
+            append(TOGGLE, index, 0);
+        }
+        if (tile.isNoteMode()) {
+            int notesMask = tile.getNotesMask();
+            for (int v = 1; v <= board.houseSize; ++v) {
+                if ((notesMask & (1 << (v - 1))) != 0) {
+                    append(UPDATE, index, v);
+                }
+            }
+        } else if (tile.getValue() > 0) {
+            append(UPDATE, index, tile.getValue());
+        }
+        compactIfFull(board);
+    }
+
+    /**
+     * Append the time on the Board's game clock to the journal, then compact it if it has grown to compactEvery
+     * records, so that a game left paused and resumed over and over does not grow the journal without bound.
+     *
+     * @param board The Board holding the game.
+     * @throws IOException if the journal cannot be written.
+     */
+    protected void recordTime(Board board) throws IOException {
+        record.clear();
+        record.putInt((TIME << 24) | Math.min(board.getElapsedSeconds(), MAX_SECONDS));
+        write();
+        compactIfFull(board);
+    }
+
+    private void append(byte operation, int index, int value) throws IOException {
+        record.clear();
+        record.put(operation).putShort((short) index).put((byte) value);
+        write();
+    }
+
+    private void compactIfFull(Board board) throws IOException {
+        if (entries >= compactEvery) {
+            compact(board);
+        }
+    }
+
+    private void write() throws IOException {
+        if (channel == null) {
+            throw new IOException("Journal is closed");
+        }
+        record.flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        ++entries;
+    }
+
+    /**
+     * Stop journaling. The files are left in place for recover().
+     */
+    protected void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+    //endregion
+
+    //region Recovery
+
+    /**
+     * Load the game from a snapshot and replay the journal onto it. Replay stops at the first record that is
+     * incomplete (the process died while writing it) or invalid, and the journal is ignored entirely if it does not
+     * continue this snapshot.
+     *
+     * @param board        The initialized Board to load the game into.
+     * @param snapshotFile The file holding the latest snapshot of the game.
+     * @param journalFile  The file holding the moves made since the snapshot. Need not exist.
+     * @return the difficulty level of the game, -1 if the snapshot cannot be loaded.
+     * @throws IOException if either file cannot be read.
+     */
+    static protected int recover(Board board, File snapshotFile, File journalFile) throws IOException {
+        byte[] snapshot = FileStore.readFile(snapshotFile);
+        int difficulty = board.loadGame(snapshot);
+        if (difficulty == -1 || !journalFile.exists()) {
+            return difficulty;
+        }
+        ByteBuffer journal = ByteBuffer.wrap(FileStore.readFile(journalFile));
+        if (journal.remaining() < HEADER_SIZE || journal.getInt() != MAGIC || journal.getInt() != FORMAT_VERSION
+                || journal.getLong() != getChecksum(snapshot)) {
+            return difficulty;
+        }
+        while (journal.remaining() >= RECORD_SIZE) {
+            if (!replay(board, journal.getInt())) {
+                break;
+            }
+        }
+        return difficulty;
+    }
+
+    /**
+     * Apply one record to a Board.
+     *
+     * @return True if the record was valid, otherwise False.
+     */
+    static protected boolean replay(Board board, int entry) {
+        int operation = entry >>> 24;
+        int index = (entry >>> 8) & 0xFFFF;
+        int value = entry & 0xFF;
+        if (operation == TIME) {
+            board.resetClock(entry & MAX_SECONDS);
+            return true;
+        }
+        if (operation != SOLVE && index >= board.boardSize) {
+            return false;
+        }
+        switch (operation) {
+            case UPDATE:
+                return board.updateTile(index, value) != null;
+            case CLEAR:
+                return board.clearTile(index) != null;
+            case TOGGLE:
+                return board.toggleNoteMode(index);
+            case HINT:
+                board.addGiven(board.getTile(index));
+                return true;
+            case SOLVE:
+                board.solve();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    static protected long getChecksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return crc.getValue();
+    }
+    //endregion
+}
@@ -0,0 +1,384 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Random;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * A read-only file of pre-generated puzzles, memory-mapped so that drawing a puzzle is a single read of one fixed-size
+ * record, whatever the number of puzzles in the file. Nothing is loaded up front beyond the header, so memory use
+ * stays flat even for tens of millions of puzzles; the operating system pages records in as they are read.
+ *
+ * File layout (big-endian):
+ *   header:  MAGIC, FORMAT_VERSION, houseSize, NUM_DIFFICULTIES, NUM_RATINGS (ints), then one long per section
+ *            giving the index of its first record, followed by the total number of records.
+ *   records: sorted into sections by difficulty level, then by Solver rating. Every record holds the seed the puzzle
+ *            was generated from (long), the solution packed at bitsPerValue bits per Tile, and a bitmask of the
+ *            Tiles that are givens, both in Board index order.
+ *
+ * Since givens always match the solution, storing which Tiles are given is enough to rebuild them. Use Writer to
+ * build a bank file.
+ */
+class PuzzleBank {
+
+    static final protected int MAGIC = 0x53444B42; // "SDKB"
+    static final protected int FORMAT_VERSION = 1;
+    static final protected int NUM_DIFFICULTIES = PuzzlePool.NUM_DIFFICULTIES;
+    static final protected int NUM_RATINGS = 5; // Solver ratings 0 (no Technique needed) through 4 (Master)
+    static final protected int NUM_SECTIONS = NUM_DIFFICULTIES * NUM_RATINGS;
+    static final protected int HEADER_SIZE = 5 * 4 + (NUM_SECTIONS + 1) * 8;
+
+    protected int houseSize;
+    protected int boardSize;
+    protected int bitsPerValue;
+    protected int recordSize;
+    protected long[] sectionStarts; // Index of the first record of every section, then the total number of records
+    protected int recordsPerChunk;
+    protected MappedByteBuffer[] chunks; // A single mapping is limited to 2 GB, so large files are mapped in chunks
+    protected RandomAccessFile file;
+    protected Random randGen;
+
+    //region Layout
+
+    /**
+     * @return The size in bytes of one record for boards of the given House size.
+     */
+    static protected int getRecordSize(int houseSize) {
+        int boardSize = houseSize * houseSize;
+        return 8 + BitPacking.getByteCount(boardSize * BitPacking.getBitsPerValue(houseSize))
+                + BitPacking.getByteCount(boardSize);
+    }
+
+    /**
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @param rating     Solver rating, 0 - NUM_RATINGS - 1.
+     * @return The index of the section holding puzzles of that difficulty level and rating.
+     */
+    static protected int getSection(int difficulty, int rating) {
+        return (difficulty - 1) * NUM_RATINGS + rating;
+    }
+    //endregion
+
+    //region Reading
+
+    /**
+     * Open a bank file for reading.
+     *
+     * @param bankFile A file built with Writer.
+     * @throws IOException if the file cannot be read or is not a puzzle bank of a supported format version.
+     */
+    protected PuzzleBank(File bankFile) throws IOException {
+        file = new RandomAccessFile(bankFile, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Truncated puzzle bank header");
+                }
+            }
+            header.flip();
+            if (header.getInt() != MAGIC || header.getInt() != FORMAT_VERSION) {
+                throw new IOException("Not a puzzle bank, or an unsupported format version");
+            }
+            houseSize = header.getInt();
+            if (header.getInt() != NUM_DIFFICULTIES || header.getInt() != NUM_RATINGS || houseSize < 1) {
+                throw new IOException("Unsupported puzzle bank index");
+            }
+            boardSize = houseSize * houseSize;
+            bitsPerValue = BitPacking.getBitsPerValue(houseSize);
+            recordSize = getRecordSize(houseSize);
+            sectionStarts = new long[NUM_SECTIONS + 1];
+            for (int i = 0; i <= NUM_SECTIONS; ++i) {
+                sectionStarts[i] = header.getLong();
+            }
+            long count = sectionStarts[NUM_SECTIONS];
+            if (channel.size() < HEADER_SIZE + count * recordSize) {
+                throw new IOException("Truncated puzzle bank records");
+            }
+            recordsPerChunk = Integer.MAX_VALUE / recordSize;
+            chunks = new MappedByteBuffer[(int) ((count + recordsPerChunk - 1) / recordsPerChunk)];
+            for (int c = 0; c < chunks.length; ++c) {
+                long first = (long) c * recordsPerChunk;
+                long size = Math.min(recordsPerChunk, count - first) * recordSize;
+                chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * recordSize, size);
+            }
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+        randGen = new Random();
+    }
+
+    /**
+     * @return The total number of puzzles in the bank.
+     */
+    protected long size() {
+        return sectionStarts[NUM_SECTIONS];
+    }
+
+    /**
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @return The number of puzzles of that difficulty level, 0 if the difficulty is out of bounds.
+     */
+    protected long size(int difficulty) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES) {
+            return 0;
+        }
+        return sectionStarts[getSection(difficulty + 1, 0)] - sectionStarts[getSection(difficulty, 0)];
+    }
+
+    /**
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @param rating     Solver rating, 0 - NUM_RATINGS - 1.
+     * @return The number of puzzles of that difficulty level and rating, 0 if either is out of bounds.
+     */
+    protected long size(int difficulty, int rating) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES || rating < 0 || rating >= NUM_RATINGS) {
+            return 0;
+        }
+        int section = getSection(difficulty, rating);
+        return sectionStarts[section + 1] - sectionStarts[section];
+    }
+
+    /**
+     * Draw a random puzzle. Thread safe.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert, anything else = Random.
+     * @return A puzzle of the requested difficulty (or a random one if 'Random'), null if the bank has none.
+     */
+    protected PuzzlePool.Puzzle draw(int difficulty) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES) {
+            difficulty = randGen.nextInt(NUM_DIFFICULTIES) + 1;
+        }
+        return draw(sectionStarts[getSection(difficulty, 0)], size(difficulty));
+    }
+
+    /**
+     * Draw a random puzzle with a given Solver rating. Thread safe.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @param rating     Solver rating, 0 - NUM_RATINGS - 1.
+     * @return A puzzle of the requested difficulty level and rating, null if the bank has none.
+     */
+    protected PuzzlePool.Puzzle draw(int difficulty, int rating) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES || rating < 0 || rating >= NUM_RATINGS) {
+            return null;
+        }
+        return draw(sectionStarts[getSection(difficulty, rating)], size(difficulty, rating));
+    }
+
+    /**
+     * @return A random puzzle out of the count records starting at first, null if count is 0.
+     */
+    private PuzzlePool.Puzzle draw(long first, long count) {
+        if (count <= 0) {
+            return null;
+        }
+        // Random.nextLong(bound) does not exist before Java 8
+        long offset = (randGen.nextLong() & Long.MAX_VALUE) % count;
+        return get(first + offset);
+    }
+
+    /**
+     * Read one puzzle. Thread safe.
+     *
+     * @param index The 0 - size() - 1 index of the record.
+     * @return The puzzle, null if the index is out of bounds.
+     */
+    protected PuzzlePool.Puzzle get(long index) {
+        if (index < 0 || index >= size()) {
+            return null;
+        }
+        MappedByteBuffer chunk = chunks[(int) (index / recordsPerChunk)];
+        int offset = (int) (index % recordsPerChunk) * recordSize;
+        // Absolute reads only, so concurrent draws never share a buffer position
+        byte[] record = new byte[recordSize];
+        for (int i = 0; i < recordSize; ++i) {
+            record[i] = chunk.get(offset + i);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        long seed = buffer.getLong();
+        int[] solution = new int[boardSize];
+        int[] givens = new int[boardSize];
+        int bitBase = 8 * 8; // After the seed
+        for (int i = 0; i < boardSize; ++i) {
+            solution[i] = BitPacking.readBits(record, bitBase + i * bitsPerValue, bitsPerValue);
+        }
+        bitBase += BitPacking.getByteCount(boardSize * bitsPerValue) * 8;
+        for (int i = 0; i < boardSize; ++i) {
+            if (BitPacking.readBits(record, bitBase + i, 1) != 0) {
+                givens[i] = solution[i];
+            }
+        }
+        return new PuzzlePool.Puzzle(getDifficulty(index), seed, givens, solution);
+    }
+
+    /**
+     * @return The difficulty level of the section holding a record.
+     */
+    protected int getDifficulty(long index) {
+        int difficulty = 1;
+        while (difficulty < NUM_DIFFICULTIES && index >= sectionStarts[getSection(difficulty + 1, 0)]) {
+            ++difficulty;
+        }
+        return difficulty;
+    }
+
+    /**
+     * Stop reading the bank. The mappings are released once they are garbage collected.
+     */
+    protected void close() throws IOException {
+        file.close();
+    }
+    //endregion
+
+    //region Writer
+
+    /**
+     * Builds a bank file. Puzzles can be added in any order; each one is streamed to a temporary file for its section,
+     * and close() concatenates the sections behind the header, so memory use stays flat however many are added.
+     */
+    static class Writer {
+
+        protected File bankFile;
+        protected int houseSize;
+        protected int boardSize;
+        protected int bitsPerValue;
+        protected int recordSize;
+        protected File[] sectionFiles;
+        protected DataOutputStream[] sectionStreams;
+        protected long[] sectionCounts;
+
+        /**
+         * @param bankFile  The file to build. It is overwritten by close().
+         * @param houseSize The size of each House (row, column, zone) of the puzzles.
+         * @throws IOException if the temporary section files cannot be created.
+         */
+        protected Writer(File bankFile, int houseSize) throws IOException {
+            this.bankFile = bankFile;
+            this.houseSize = houseSize;
+            boardSize = houseSize * houseSize;
+            bitsPerValue = BitPacking.getBitsPerValue(houseSize);
+            recordSize = getRecordSize(houseSize);
+            sectionFiles = new File[NUM_SECTIONS];
+            sectionStreams = new DataOutputStream[NUM_SECTIONS];
+            sectionCounts = new long[NUM_SECTIONS];
+            File directory = bankFile.getAbsoluteFile().getParentFile();
+            try {
+                for (int i = 0; i < NUM_SECTIONS; ++i) {
+                    sectionFiles[i] = File.createTempFile("bank", ".section", directory);
+                    sectionStreams[i] = new DataOutputStream(
+                            new BufferedOutputStream(new FileOutputStream(sectionFiles[i])));
+                }
+            } catch (IOException e) {
+                discard();
+                throw e;
+            }
+        }
+
+        /**
+         * Add a puzzle to the bank.
+         *
+         * @param puzzle The puzzle, with a difficulty level of 1 - NUM_DIFFICULTIES.
+         * @param rating The puzzle's Solver rating (see Solver.getRating), 0 - NUM_RATINGS - 1.
+         * @throws IOException              if the puzzle cannot be written.
+         * @throws IllegalArgumentException if the puzzle does not fit this bank.
+         */
+        protected void add(PuzzlePool.Puzzle puzzle, int rating) throws IOException {
+            if (puzzle.difficulty < 1 || puzzle.difficulty > NUM_DIFFICULTIES || rating < 0 || rating >= NUM_RATINGS
+                    || puzzle.givens.length != boardSize || puzzle.solution.length != boardSize) {
+                throw new IllegalArgumentException("Puzzle does not fit this puzzle bank");
+            }
+            byte[] record = new byte[recordSize - 8];
+            for (int i = 0; i < boardSize; ++i) {
+                BitPacking.writeBits(record, i * bitsPerValue, bitsPerValue, puzzle.solution[i]);
+            }
+            int bitBase = BitPacking.getByteCount(boardSize * bitsPerValue) * 8;
+            for (int i = 0; i < boardSize; ++i) {
+                if (puzzle.givens[i] > 0) {
+                    BitPacking.writeBits(record, bitBase + i, 1, 1);
+                }
+            }
+            int section = getSection(puzzle.difficulty, rating);
+            sectionStreams[section].writeLong(puzzle.seed);
+            sectionStreams[section].write(record);
+            ++sectionCounts[section];
+        }
+
+        /**
+         * Write the bank file and remove the temporary section files.
+         *
+         * @throws IOException if the bank file cannot be written.
+         */
+        protected void close() throws IOException {
+            try {
+                for (DataOutputStream stream : sectionStreams) {
+                    stream.close();
+                }
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(houseSize)
+                        .putInt(NUM_DIFFICULTIES).putInt(NUM_RATINGS);
+                long start = 0;
+                for (long count : sectionCounts) {
+                    header.putLong(start);
+                    start += count;
+                }
+                header.putLong(start);
+                header.flip();
+                FileChannel out = new FileOutputStream(bankFile).getChannel();
+                try {
+                    while (header.hasRemaining()) {
+                        out.write(header);
+                    }
+                    for (File sectionFile : sectionFiles) {
+                        FileChannel in = new FileInputStream(sectionFile).getChannel();
+                        try {
+                            long position = 0;
+                            long size = in.size();
+                            while (position < size) {
+                                position += in.transferTo(position, size - position, out);
+                            }
+                        } finally {
+                            in.close();
+                        }
+                    }
+                } finally {
+                    out.close();
+                }
+            } finally {
+                discard();
+            }
+        }
+
+        /**
+         * Close and delete the temporary section files.
+         */
+        private void discard() {
+            for (int i = 0; i < NUM_SECTIONS; ++i) {
+                if (sectionStreams[i] != null) {
+                    try {
+                        sectionStreams[i].close();
+                    } catch (IOException ignored) {
+                        // Being deleted anyway
+                    }
+                }
+                if (sectionFiles[i] != null && !sectionFiles[i].delete()) {
+                    sectionFiles[i].deleteOnExit();
+                }
+            }
+        }
+    }
+    //endregion
+}
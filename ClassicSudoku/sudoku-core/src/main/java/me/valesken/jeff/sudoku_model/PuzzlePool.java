@@ -0,0 +1,186 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * A bounded pool of ready-to-play puzzles for each difficulty level (1 = Easy, 2 = Medium, 3 = Hard,
+ * 4 = Expert).
+ *
+ * Each pool starts full of pending generation jobs, and taking a puzzle out queues a job to replace it, so the number
+ * of puzzles ready or being generated for a difficulty never exceeds the capacity. Jobs run on low priority daemon
+ * threads, each with its own Board. Generation is bounded (see Board.newGame()) and gives up as soon as its thread is
+ * interrupted, so shutdown() does not wait on a job that cannot finish.
+ *
+ * The latest puzzle generated for each difficulty is also kept as a template, so that when a pool runs dry a new game
+ * can still be derived from it instantly (see Board.deriveGame).
+ */
+class PuzzlePool {
+
+    static final protected int NUM_DIFFICULTIES = Board.NUM_DIFFICULTIES;
+
+    /**
+     * A generated puzzle: the seed it was generated from, the givens (0 for empty Tiles) and the solution, both in
+     * Board index order.
+     */
+    static class Puzzle {
+        final protected int difficulty;
+        final protected long seed;
+        final protected int[] givens;
+        final protected int[] solution;
+
+        protected Puzzle(int difficulty, long seed, int[] givens, int[] solution) {
+            this.difficulty = difficulty;
+            this.seed = seed;
+            this.givens = givens;
+            this.solution = solution;
+        }
+    }
+
+    protected int houseSize;
+    protected int capacity;
+    protected ArrayBlockingQueue<Puzzle>[] pools;
+    protected AtomicReferenceArray<Puzzle> templates;
+    protected ExecutorService executor;
+    protected Random randGen;
+
+    /**
+     * Create the pool and start filling it in the background.
+     *
+     * @param houseSize  The size of each House (row, column, zone) in the generated boards.
+     * @param capacity   The maximum number of puzzles kept for each difficulty.
+     * @param numWorkers The number of background threads generating puzzles.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected PuzzlePool(int houseSize, int capacity, int numWorkers) {
+        this.houseSize = houseSize;
+        this.capacity = capacity;
+        randGen = new Random();
+        pools = new ArrayBlockingQueue[NUM_DIFFICULTIES];
+        for (int i = 0; i < NUM_DIFFICULTIES; ++i) {
+            pools[i] = new ArrayBlockingQueue<>(capacity);
+        }
+        templates = new AtomicReferenceArray<>(NUM_DIFFICULTIES);
+        executor = Executors.newFixedThreadPool(numWorkers, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "PuzzlePool");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+        // Interleave difficulties so that every pool gets its first puzzle early
+        for (int i = 0; i < capacity; ++i) {
+            for (int difficulty = 1; difficulty <= NUM_DIFFICULTIES; ++difficulty) {
+                refill(difficulty);
+            }
+        }
+    }
+
+    /**
+     * Take a ready puzzle out of the pool. Never blocks.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert, anything else = Random.
+     * @return A puzzle of the requested difficulty (or a random one if 'Random'), null if none are ready.
+     */
+    protected Puzzle take(int difficulty) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES) {
+            difficulty = randGen.nextInt(NUM_DIFFICULTIES) + 1;
+        }
+        Puzzle puzzle = pools[difficulty - 1].poll();
+        if (puzzle != null) {
+            refill(difficulty);
+        }
+        return puzzle;
+    }
+
+    /**
+     * Get the latest puzzle generated for a difficulty, without taking it out of the pool. Never blocks.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert, anything else = Random.
+     * @return The latest puzzle of the requested difficulty (or a random one if 'Random'), null if none has been
+     * generated yet.
+     */
+    protected Puzzle getTemplate(int difficulty) {
+        if (difficulty < 1 || difficulty > NUM_DIFFICULTIES) {
+            difficulty = randGen.nextInt(NUM_DIFFICULTIES) + 1;
+        }
+        return templates.get(difficulty - 1);
+    }
+
+    /**
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @return The number of puzzles ready for the difficulty, 0 if the difficulty is out of bounds.
+     */
+    protected int size(int difficulty) {
+        return (difficulty > 0 && difficulty <= NUM_DIFFICULTIES) ? pools[difficulty - 1].size() : 0;
+    }
+
+    /**
+     * Stop generating puzzles, interrupting the jobs in progress. Puzzles already in the pool can still be taken.
+     */
+    protected void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue a job to generate one puzzle of the given difficulty. If generation fails, the job queues a replacement.
+     */
+    protected void refill(final int difficulty) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Puzzle puzzle = generate(difficulty);
+                    if (Thread.currentThread().isInterrupted()) {
+                        return;
+                    }
+                    if (puzzle == null) {
+                        refill(difficulty);
+                    } else {
+                        templates.set(difficulty - 1, puzzle);
+                        pools[difficulty - 1].offer(puzzle);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException ignored) {
+            // Pool has been shut down
+        }
+    }
+
+    /**
+     * Generate a puzzle synchronously with a new Board.
+     *
+     * @param difficulty 1 = Easy, 2 = Medium, 3 = Hard, 4 = Expert.
+     * @return The generated puzzle, null if generation failed or the thread was interrupted.
+     */
+    protected Puzzle generate(int difficulty) {
+        Board board = new Board(houseSize);
+        board.initializeHouses();
+        board.initializeTiles();
+        if (board.newGame(difficulty, nextSeed()) == -1) {
+            return null;
+        }
+        int[] givens = new int[board.boardSize];
+        for (int i = 0; i < givens.length; ++i) {
+            givens[i] = board.getTile(i).getValue();
+        }
+        return new Puzzle(board.difficulty, board.seed, givens, board.solution.clone());
+    }
+
+    /**
+     * @return The seed to generate the next puzzle from.
+     */
+    protected long nextSeed() {
+        return randGen.nextLong();
+    }
+}
@@ -0,0 +1,113 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Random;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Derives new puzzles from an existing one with transformations that keep a grid valid: relabeling the values,
+ * permuting rows within a band (a row of zones), permuting the bands, permuting columns within a stack (a column of
+ * zones), permuting the stacks, and transposing. A derived puzzle has exactly as many solutions as the original, and
+ * the same givens up to position, so it keeps the original's difficulty without running the generator or a
+ * uniqueness check. A 9x9 puzzle has 9! * 6^8 * 2, about 1.2 trillion, transformations.
+ *
+ * Call randomize() to pick a transformation, then apply() it to the givens and the solution.
+ */
+class PuzzleTransformer {
+
+    protected int houseSize;
+    protected int boardSize;
+    protected int zoneWidth;
+    protected int[] valueMap; // valueMap[v] is the value v becomes, valueMap[0] = 0
+    protected int[] rowMap; // rowMap[r] is the source row of row r
+    protected int[] columnMap; // columnMap[c] is the source column of column c
+    protected boolean transpose;
+
+    /**
+     * Creates a transformer set to the identity transformation.
+     *
+     * @param houseSize Number of Tiles one House contains. Must be a perfect square.
+     */
+    protected PuzzleTransformer(int houseSize) {
+        this.houseSize = houseSize;
+        boardSize = houseSize * houseSize;
+        zoneWidth = (int) Math.sqrt(houseSize);
+        valueMap = new int[houseSize + 1];
+        rowMap = new int[houseSize];
+        columnMap = new int[houseSize];
+        for (int i = 0; i < houseSize; ++i) {
+            valueMap[i + 1] = i + 1;
+            rowMap[i] = i;
+            columnMap[i] = i;
+        }
+    }
+
+    /**
+     * Pick a new random transformation.
+     *
+     * @param random The source of every random choice, so that the same seed picks the same transformation.
+     */
+    protected void randomize(Random random) {
+        for (int v = 1; v <= houseSize; ++v) {
+            valueMap[v] = v;
+        }
+        shuffle(valueMap, 1, houseSize, random);
+        randomizeLines(rowMap, random);
+        randomizeLines(columnMap, random);
+        transpose = random.nextBoolean();
+    }
+
+    /**
+     * Fill a row or column map with a random band (or stack) order, and a random line order within each band.
+     */
+    protected void randomizeLines(int[] lineMap, Random random) {
+        int[] bandOrder = new int[zoneWidth];
+        int[] lineOrder = new int[zoneWidth];
+        for (int i = 0; i < zoneWidth; ++i) {
+            bandOrder[i] = i;
+        }
+        shuffle(bandOrder, 0, zoneWidth, random);
+        for (int band = 0; band < zoneWidth; ++band) {
+            for (int i = 0; i < zoneWidth; ++i) {
+                lineOrder[i] = i;
+            }
+            shuffle(lineOrder, 0, zoneWidth, random);
+            for (int i = 0; i < zoneWidth; ++i) {
+                lineMap[band * zoneWidth + i] = bandOrder[band] * zoneWidth + lineOrder[i];
+            }
+        }
+    }
+
+    /**
+     * Fisher-Yates shuffle of array[start] through array[start + length - 1].
+     */
+    protected void shuffle(int[] array, int start, int length, Random random) {
+        for (int i = length - 1; i > 0; --i) {
+            int j = random.nextInt(i + 1);
+            int temp = array[start + i];
+            array[start + i] = array[start + j];
+            array[start + j] = temp;
+        }
+    }
+
+    /**
+     * Apply the current transformation to a grid. Apply the same transformation to a puzzle's givens and its
+     * solution to get the derived puzzle.
+     *
+     * @param grid   The value of every Tile in Board index order, 0 for empty Tiles.
+     * @param result Receives the transformed grid. Must not be the same array as grid.
+     */
+    protected void apply(int[] grid, int[] result) {
+        for (int row = 0; row < houseSize; ++row) {
+            int sourceRow = rowMap[row];
+            for (int column = 0; column < houseSize; ++column) {
+                int sourceColumn = columnMap[column];
+                int source = transpose
+                        ? sourceColumn * houseSize + sourceRow
+                        : sourceRow * houseSize + sourceColumn;
+                result[row * houseSize + column] = valueMap[grid[source]];
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * The binary save format: the same state as Board.save() writes to JSON, without the field names and the index, row,
+ * column and zone every Tile repeats. A 9x9 game takes 213 bytes.
+ *
+ * Layout (big-endian):
+ *   header: MAGIC (int), FORMAT_VERSION, houseSize, difficulty, flags (bytes), seed (long, 0 unless HAS_SEED is set),
+ *           time elapsed in seconds (int).
+ *   body:   the solution packed at bitsPerValue bits per Tile, then for every Tile its value (bitsPerValue bits), orig
+ *           bit, note mode bit and notes mask (houseSize bits), all in Board index order.
+ *
+ * Bump FORMAT_VERSION whenever the layout changes, and keep decoding the versions saved before.
+ */
+class SaveCodec {
+
+    static final protected int MAGIC = 0x53444B53; // "SDKS"
+    static final protected int FORMAT_VERSION = 1;
+    static final protected int HEADER_SIZE = 4 + 4 + 8 + 4;
+    static final protected int HAS_SEED = 1;
+
+    /**
+     * @return The size in bytes of a saved game for boards of the given House size.
+     */
+    static protected int getSize(int houseSize) {
+        int boardSize = houseSize * houseSize;
+        int bitsPerValue = BitPacking.getBitsPerValue(houseSize);
+        return HEADER_SIZE + BitPacking.getByteCount(boardSize * (2 * bitsPerValue + 2 + houseSize));
+    }
+
+    /**
+     * @param data Bytes read from a save file.
+     * @return True if the data starts like a binary save, False if it is something else (such as a JSON save).
+     */
+    static protected boolean isBinary(byte[] data) {
+        return data != null && data.length >= 4 && ByteBuffer.wrap(data).getInt() == MAGIC;
+    }
+
+    /**
+     * Serialize the current time, difficulty, seed, solution and Tile states of a Board. The time is read from the
+     * Board's game clock, in whole seconds.
+     *
+     * @param board The Board to save. It is not modified.
+     * @return The binary representation of the game.
+     */
+    static protected byte[] encode(Board board) {
+        int houseSize = board.houseSize;
+        int boardSize = board.boardSize;
+        int bitsPerValue = BitPacking.getBitsPerValue(houseSize);
+        byte[] data = new byte[getSize(houseSize)];
+        ByteBuffer header = ByteBuffer.wrap(data);
+        header.putInt(MAGIC);
+        header.put((byte) FORMAT_VERSION);
+        header.put((byte) houseSize);
+        header.put((byte) board.difficulty);
+        header.put((byte) (board.seed != null ? HAS_SEED : 0));
+        header.putLong(board.seed != null ? board.seed : 0L);
+        header.putInt(board.getElapsedSeconds());
+
+        int bit = HEADER_SIZE * 8;
+        for (int i = 0; i < boardSize; ++i, bit += bitsPerValue) {
+            BitPacking.writeBits(data, bit, bitsPerValue, board.solution[i]);
+        }
+        for (int i = 0; i < boardSize; ++i) {
+            Tile tile = board.getTile(i);
+            BitPacking.writeBits(data, bit, bitsPerValue, tile.getValue());
+            bit += bitsPerValue;
+            BitPacking.writeBits(data, bit++, 1, tile.isOrig() ? 1 : 0);
+            BitPacking.writeBits(data, bit++, 1, tile.isNoteMode() ? 1 : 0);
+            BitPacking.writeBits(data, bit, houseSize, tile.getNotesMask());
+            bit += houseSize;
+        }
+        return data;
+    }
+
+    /**
+     * Load a binary save into a Board. Nothing is changed unless the whole save can be read.
+     *
+     * @param board The initialized Board to load the game into.
+     * @param data  The binary representation of the game.
+     * @return the difficulty level of the saved game, -1 if the data is corrupted or was saved from another Board size.
+     */
+    static protected int decode(Board board, byte[] data) {
+        int houseSize = board.houseSize;
+        int boardSize = board.boardSize;
+        if (!isBinary(data) || data.length < getSize(houseSize)) {
+            return -1;
+        }
+        ByteBuffer header = ByteBuffer.wrap(data);
+        header.getInt();
+        int version = header.get();
+        int savedHouseSize = header.get() & 0xFF;
+        int difficulty = header.get();
+        int flags = header.get();
+        long seed = header.getLong();
+        int seconds = header.getInt();
+        if (version != FORMAT_VERSION || savedHouseSize != houseSize || seconds < 0) {
+            return -1;
+        }
+
+        int bitsPerValue = BitPacking.getBitsPerValue(houseSize);
+        int[] solution = new int[boardSize];
+        Tile[] tiles = new Tile[boardSize];
+        int bit = HEADER_SIZE * 8;
+        for (int i = 0; i < boardSize; ++i, bit += bitsPerValue) {
+            solution[i] = BitPacking.readBits(data, bit, bitsPerValue);
+            if (solution[i] > houseSize) {
+                return -1;
+            }
+        }
+        for (int i = 0; i < boardSize; ++i) {
+            int value = BitPacking.readBits(data, bit, bitsPerValue);
+            bit += bitsPerValue;
+            boolean orig = BitPacking.readBits(data, bit++, 1) != 0;
+            boolean noteMode = BitPacking.readBits(data, bit++, 1) != 0;
+            int notesMask = BitPacking.readBits(data, bit, houseSize);
+            bit += houseSize;
+            if (value > houseSize) {
+                return -1;
+            }
+            tiles[i] = new Tile(houseSize, i);
+            tiles[i].loadTileState(noteMode, orig, value, notesMask);
+        }
+        Long savedSeed = (flags & HAS_SEED) != 0 ? seed : null;
+        return board.loadState(difficulty, seconds, savedSeed, solution, tiles);
+    }
+
+    //region Time
+
+    /**
+     * @param time A time in the format returned by formatTime(), or any other colon separated hours, minutes and
+     *             seconds, as JSON saves hold it.
+     * @return The number of seconds, 0 if the time cannot be read.
+     */
+    static protected int parseTime(String time) {
+        if (time == null) {
+            return 0;
+        }
+        int seconds = 0;
+        try {
+            for (String part : time.trim().split(":")) {
+                seconds = seconds * 60 + Integer.parseInt(part);
+            }
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+        return Math.max(seconds, 0);
+    }
+
+    /**
+     * @return The number of seconds in the format of "mm:ss", as shown by the game clock.
+     */
+    static protected String formatTime(int seconds) {
+        int minutes = seconds / 60;
+        seconds %= 60;
+        return (minutes < 10 ? "0" : "") + minutes + ":" + (seconds < 10 ? "0" : "") + seconds;
+    }
+    //endregion
+}
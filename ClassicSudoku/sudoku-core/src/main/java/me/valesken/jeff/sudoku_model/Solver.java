@@ -0,0 +1,876 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Locale;
+
+import me.valesken.jeff.util.Logger;
+
+/**
+ * Created by jeff on 1/8/16.
+ * Last updated on 10/17/2026.
+ *
+ * Simple AI to solve the Board using a variety of techniques for different difficulty levels
+ * Uses the Command Pattern to manage the Techniques
+ * All Techniques read and update one shared CandidateGrid, which is loaded from the Board at the start of each attempt
+ * and kept up to date as values are placed and candidates are eliminated. The grid puts every changed Tile and unit on
+ * each Technique's WorkQueue, and a Technique only looks at what is on its queue.
+ * Every Technique keeps TechniqueStats on how often it is tried, how often it succeeds and how long it takes.
+ *
+ * Easy: Remainder, Single Candidate, Single Position
+ * Medium: Candidate Line, Double Pair, Multi-Line
+ * Hard: Naked Pairs/Triples, Hidden Pairs/Triples
+ * Master: X-Wing, Swordfish, Jellyfish, Forcing Chains
+ * Obscene: Nishio, Guessing
+ * https://www.sudokuoftheday.com/techniques/
+ */
+public class Solver {
+
+    //region Technique interface
+    /**
+     * Use this interface to implement a new Technique to make a change in the board.
+     */
+    private interface Technique {
+        /**
+         * @return true if Technique makes a change to the board, false otherwise
+         */
+        boolean execute();
+    }
+
+    /**
+     * A Technique that only looks at the Tiles or units the CandidateGrid has reported as changed since the Technique
+     * last looked at them.
+     */
+    private abstract class QueuedTechnique implements Technique {
+        protected WorkQueue queue;
+
+        /**
+         * @param watch WATCH_CELLS to be told about changed Tiles, WATCH_UNITS about changed units, or WATCH_VALUES
+         *              about values removed from any Tile.
+         */
+        protected QueuedTechnique(int watch) {
+            if (watch == WATCH_CELLS) {
+                queue = new WorkQueue(grid.boardSize);
+                grid.watchCells(queue);
+            } else if (watch == WATCH_UNITS) {
+                queue = new WorkQueue(grid.units.length);
+                grid.watchUnits(queue);
+            } else {
+                queue = new WorkQueue(houseSize);
+                grid.watchValues(queue);
+            }
+        }
+
+        @Override
+        public boolean execute() {
+            while (!queue.isEmpty()) {
+                int index = queue.poll();
+                if (process(index)) {
+                    // There may be more to find here, so look again next time
+                    queue.add(index);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @param index The Tile or unit to look at.
+         * @return true if Technique makes a change to the board, false otherwise
+         */
+        protected abstract boolean process(int index);
+    }
+    //endregion
+
+    private Board board;
+    private Logger logger;
+    private CandidateGrid grid;
+    private Technique[] techniques; // Every Technique, from simplest to hardest
+    private TechniqueStats[] stats; // Running totals for every Technique
+    private int[] order; // Indices of the Techniques in the order they are tried
+    private boolean adaptive; // Whether order is re-sorted by yield within each difficulty level
+    private int rating; // Difficulty level of the hardest Technique the last attempt needed
+    private final int[] TECHNIQUES_PER_DIFFICULTY = {0, 3, 6, 8, 12}; // Number of Techniques used at each difficulty
+    private static final int WATCH_CELLS = 0;
+    private static final int WATCH_UNITS = 1;
+    private static final int WATCH_VALUES = 2;
+    private static final int CHAIN_STEPS_PER_HOUSE = 2; // Singles a Forcing Chain may follow, per Tile in a House
+    private static final int NO_SINGLE = Integer.MAX_VALUE; // findSingle() result when a branch has no single
+    private CandidateGrid trial; // Scratch grid for trying out givens
+    private int houseSize;
+    private int zoneWidth;
+
+    public Solver(Board _board) {
+        this.board = _board;
+        logger = new Logger();
+        houseSize = board.houseSize;
+        zoneWidth = (int) Math.sqrt(houseSize);
+        grid = new CandidateGrid(houseSize);
+        trial = new CandidateGrid(houseSize);
+        techniques = new Technique[]{
+                new Remainder(),
+                new SingleCandidate(),
+                new SinglePosition(),
+                new CandidateLine(),
+                new DoublePair(),
+                new MultiLine(),
+                new NakedPairsAndTriples(),
+                new HiddenPairsAndTriples(),
+                new Fish(2),
+                new Fish(3),
+                new Fish(4),
+                new ForcingChains()};
+        String[] names = {"Remainder", "Single Candidate", "Single Position", "Candidate Line", "Double Pair",
+                "Multi-Line", "Naked Pairs/Triples", "Hidden Pairs/Triples", "X-Wing", "Swordfish", "Jellyfish",
+                "Forcing Chains"};
+        stats = new TechniqueStats[techniques.length];
+        order = new int[techniques.length];
+        int difficulty = 1;
+        for (int i = 0; i < techniques.length; ++i) {
+            while (i >= TECHNIQUES_PER_DIFFICULTY[difficulty]) {
+                ++difficulty;
+            }
+            stats[i] = new TechniqueStats(names[i], difficulty);
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Call this method to have the Solver attempt to solve its board like a human player using
+     * an appropriate set of strategies. Whenever the strategies get stuck, the Tile whose solution value unlocks the
+     * most progress is made an "original" Tile, and solving resumes from where it got stuck. Board.newGame() uses this
+     * to repair generated puzzles that need harder Techniques than their difficulty level (see Board.fitDifficulty()).
+     *
+     * @param difficulty 1 = easy, 2 = medium, 3 = hard, 4 = master
+     */
+    public void solve(int difficulty) {
+        int count = getTechniqueCount(difficulty);
+        grid.load(board);
+        rating = 0;
+        runTechniques(count);
+        while (!board.isGameOver()) {
+            int cell = findBestGiven();
+            if (cell == -1) {
+                break;
+            }
+            logger.logDebugMessage("Board not solvable, adding a given.");
+            board.addGiven(board.getTile(cell));
+            grid.place(cell, board.getSolutionForTile(cell));
+            runTechniques(count);
+        }
+        logger.logDebugMessage("Solved.");
+    }
+
+    /**
+     * @param difficulty 1 = easy, 2 = medium, 3 = hard, 4 = master
+     * @return Whether or not the board is solvable at the desired difficulty level
+     */
+    protected boolean isSolvable(int difficulty) {
+        grid.load(board);
+        rating = 0;
+        runTechniques(getTechniqueCount(difficulty));
+        return board.isGameOver();
+    }
+
+    /**
+     * @return The number of Techniques to use at a difficulty level.
+     */
+    private int getTechniqueCount(int difficulty) {
+        return TECHNIQUES_PER_DIFFICULTY[Math.max(1, Math.min(difficulty, TECHNIQUES_PER_DIFFICULTY.length - 1))];
+    }
+
+    /**
+     * Run the first count Techniques (in the current order) on the grid until none of them makes a change.
+     */
+    private void runTechniques(int count) {
+        // Iterate over selected techniques, resetting to simplest technique when possible, and
+        // stopping when no technique succeeds. Each technique only looks at what changed since its last turn.
+        int i = 0;
+        while (i < count) {
+            if (execute(order[i])) {
+                rating = Math.max(rating, stats[order[i]].difficulty);
+                i = 0;
+            } else {
+                ++i;
+            }
+        }
+        if (adaptive) {
+            sortByYield();
+        }
+    }
+
+    /**
+     * Try the solution value of every empty Tile on a copy of the grid, and follow the naked and hidden singles it
+     * leads to.
+     *
+     * @return The empty Tile whose solution value leads to the most solved Tiles. -1 if there is no empty Tile.
+     */
+    private int findBestGiven() {
+        int best = -1;
+        int bestProgress = -1;
+        for (int cell = 0; cell < grid.boardSize; ++cell) {
+            if (grid.getValue(cell) != 0) {
+                continue;
+            }
+            followSingles(trial, cell, board.getSolutionForTile(cell), CHAIN_STEPS_PER_HOUSE * houseSize);
+            int progress = grid.emptyCount - trial.emptyCount;
+            if (progress > bestProgress) {
+                best = cell;
+                bestProgress = progress;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Execute a Technique and add the outcome to its stats.
+     *
+     * @param technique The index of the Technique.
+     * @return true if Technique makes a change to the board, false otherwise
+     */
+    private boolean execute(int technique) {
+        int emptyCount = grid.emptyCount;
+        long start = System.nanoTime();
+        boolean hit = techniques[technique].execute();
+        stats[technique].record(hit, emptyCount - grid.emptyCount, System.nanoTime() - start);
+        return hit;
+    }
+
+    /**
+     * Order the Techniques of each difficulty level by descending yield. Levels stay in order, so a Technique is
+     * still only tried once every easier level is stuck, and the rating stays the hardest level actually needed.
+     */
+    private void sortByYield() {
+        for (int i = 1; i < order.length; ++i) { // Insertion sort, the order barely changes between attempts
+            int technique = order[i];
+            int j = i - 1;
+            while (j >= 0 && stats[order[j]].difficulty == stats[technique].difficulty
+                    && stats[order[j]].getYield() < stats[technique].getYield()) {
+                order[j + 1] = order[j];
+                --j;
+            }
+            order[j + 1] = technique;
+        }
+    }
+
+    //region Stats
+
+    /**
+     * Try the Techniques of each difficulty level in the order of their yield (hits per microsecond) so far, instead
+     * of the fixed order. Easier levels are always tried before harder ones.
+     *
+     * @param _adaptive True to order by yield, false to use the fixed order.
+     */
+    public void setAdaptive(boolean _adaptive) {
+        adaptive = _adaptive;
+        if (adaptive) {
+            sortByYield();
+        } else {
+            for (int i = 0; i < order.length; ++i) {
+                order[i] = i;
+            }
+        }
+    }
+
+    /**
+     * @return The difficulty level of the hardest Technique that changed the board during the last attempt to solve
+     * it. 0 if none was needed.
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    /**
+     * @return A copy of the totals of every Technique, from simplest to hardest.
+     */
+    public TechniqueStats[] getStats() {
+        TechniqueStats[] copy = new TechniqueStats[stats.length];
+        for (int i = 0; i < stats.length; ++i) {
+            copy[i] = stats[i].copy();
+        }
+        return copy;
+    }
+
+    public void resetStats() {
+        for (TechniqueStats techniqueStats : stats) {
+            techniqueStats.reset();
+        }
+    }
+
+    /**
+     * @return A table of the totals of every Technique, and of all of them together.
+     */
+    public String getStatsReport() {
+        return getStatsReport(stats);
+    }
+
+    /**
+     * @param techniqueStats Totals of every Technique, e.g. from getStats() combined over several Solvers.
+     * @return A table of the totals of every Technique, and of all of them together.
+     */
+    public static String getStatsReport(TechniqueStats[] techniqueStats) {
+        StringBuilder report = new StringBuilder(String.format(Locale.US, "%-20s %4s %12s %10s %12s %14s%n",
+                "Technique", "Lvl", "Invocations", "Hits", "Cells", "Microseconds"));
+        TechniqueStats total = new TechniqueStats("Total", 0);
+        for (TechniqueStats stats : techniqueStats) {
+            report.append(stats).append(String.format("%n"));
+            total.add(stats);
+        }
+        return report.append(total).toString();
+    }
+    //endregion
+
+    /**
+     * Place a value in both the candidate grid and the Board.
+     */
+    private void place(int cell, int value) {
+        grid.place(cell, value);
+        board.updateTile(cell, value);
+    }
+
+    /**
+     * @return The value of the single bit set in the mask.
+     */
+    private static int valueOf(int bit) {
+        return Integer.numberOfTrailingZeros(bit) + 1;
+    }
+
+    /**
+     * Copy the grid into a branch, place a value, and keep placing naked and hidden singles.
+     *
+     * @param maxSteps The most singles to place.
+     * @return False if the branch reached a contradiction, otherwise True.
+     */
+    private boolean followSingles(CandidateGrid branch, int cell, int value, int maxSteps) {
+        branch.copyFrom(grid);
+        branch.place(cell, value);
+        for (int step = 0; step < maxSteps; ++step) {
+            int next = findSingle(branch, true);
+            if (next == -1) {
+                return false;
+            }
+            if (next == NO_SINGLE) {
+                return true;
+            }
+            branch.place(next / houseSize, next % houseSize + 1);
+        }
+        return findSingle(branch, false) != -1;
+    }
+
+    /**
+     * @param firstOnly Return the first single found without checking the rest of the branch for contradictions.
+     *                  A contradiction never goes away, so a later call still finds it.
+     * @return The next single in the branch as cell * houseSize + value - 1, NO_SINGLE if there is none, or -1 if
+     * the branch has a Tile with no candidates or a unit with nowhere left for a value.
+     */
+    private int findSingle(CandidateGrid branch, boolean firstOnly) {
+        int single = NO_SINGLE;
+        for (int cell = 0; cell < branch.boardSize; ++cell) {
+            if (branch.getValue(cell) != 0) {
+                continue;
+            }
+            int candidates = branch.getCandidates(cell);
+            if (candidates == 0) {
+                return -1;
+            }
+            if (single == NO_SINGLE && Integer.bitCount(candidates) == 1) {
+                single = cell * houseSize + valueOf(candidates) - 1;
+                if (firstOnly) {
+                    return single;
+                }
+            }
+        }
+        for (int unit = 0; unit < branch.units.length; ++unit) {
+            for (int missing = branch.fullMask & ~branch.unitValues[unit]; missing != 0; missing &= missing - 1) {
+                int valueIndex = Integer.numberOfTrailingZeros(missing);
+                int positions = branch.getPositions(unit, valueIndex + 1);
+                if (positions == 0) {
+                    return -1;
+                }
+                if (single == NO_SINGLE && Integer.bitCount(positions) == 1) {
+                    int cell = branch.units[unit][Integer.numberOfTrailingZeros(positions)];
+                    single = cell * houseSize + valueIndex;
+                    if (firstOnly) {
+                        return single;
+                    }
+                }
+            }
+        }
+        return single;
+    }
+
+    //region Easy Techniques
+    /**
+     * This Technique examines all houses to see if only 1 unassigned tile remains. If so, it will
+     * assign the appropriate value to that tile.
+     */
+    private class Remainder extends QueuedTechnique {
+        Remainder() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            int missing = grid.fullMask & ~grid.unitValues[unit]; // Values not yet placed in unit
+            // If unit is missing only 1 value, solve its empty Tile with that value
+            if (Integer.bitCount(missing) == 1) {
+                for (int cell : grid.units[unit]) {
+                    if ((grid.getCandidates(cell) & missing) != 0) {
+                        place(cell, valueOf(missing));
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * This Technique examines each tile in the board and checks to see if there is only one value
+     * that can be applied to that tile.
+     */
+    private class SingleCandidate extends QueuedTechnique {
+        SingleCandidate() {
+            super(WATCH_CELLS);
+        }
+
+        @Override
+        protected boolean process(int cell) {
+            int candidates = grid.getCandidates(cell);
+            if (grid.getValue(cell) == 0 && Integer.bitCount(candidates) == 1) {
+                place(cell, valueOf(candidates));
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * For each value 1 through 9, this Technique will check each house to see if it contains only
+     * one tile which can hold that value.
+     */
+    private class SinglePosition extends QueuedTechnique {
+        SinglePosition() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            int[] cells = grid.units[unit];
+            int seenOnce = 0; // Values that are candidates in at least one empty Tile
+            int seenTwice = 0; // Values that are candidates in at least two empty Tiles
+            for (int cell : cells) {
+                int candidates = grid.getCandidates(cell);
+                seenTwice |= seenOnce & candidates;
+                seenOnce |= candidates;
+            }
+            int singles = seenOnce & ~seenTwice;
+            if (singles != 0) {
+                int valueBit = Integer.lowestOneBit(singles);
+                for (int cell : cells) {
+                    if ((grid.getCandidates(cell) & valueBit) != 0) {
+                        place(cell, valueOf(valueBit));
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+    //endregion
+
+    //region Medium Techniques
+    /**
+     * If a value can only go in one row (or column) of a zone, it cannot go anywhere else in that row (or column).
+     */
+    private class CandidateLine extends QueuedTechnique {
+        CandidateLine() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            return lockLines(unit, 1, 1, false);
+        }
+    }
+
+    /**
+     * If a value can only go in two Tiles in each of two zones of a band (or stack), and those Tiles lie on the same
+     * two rows (or columns), then the value cannot go on those rows (or columns) in the band's other zones.
+     */
+    private class DoublePair extends QueuedTechnique {
+        DoublePair() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            return lockLines(unit, 2, 2, true);
+        }
+    }
+
+    /**
+     * Like Double Pair, but any number of Tiles per zone: if a value is confined to the same k rows (or columns) in k
+     * zones of a band (or stack), it cannot go on those rows (or columns) in the band's other zones.
+     */
+    private class MultiLine extends QueuedTechnique {
+        MultiLine() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            return lockLines(unit, 2, zoneWidth - 1, false);
+        }
+    }
+
+    /**
+     * Shared search for Candidate Line, Double Pair and Multi-Line, run on the band (a row of zones) and the stack (a
+     * column of zones) of a changed zone. For every value, find a set of zones whose Tiles for the value lie on exactly
+     * as many lines as there are zones in the set. Those lines must then hold the value inside the set, so it is
+     * eliminated from them in every other zone of the band.
+     *
+     * @param unit      The changed unit. Rows and columns are ignored, their zones are reported as well.
+     * @param minZones  Smallest number of zones in a set.
+     * @param maxZones  Largest number of zones in a set.
+     * @param pairsOnly Only use zones where the value is a candidate in exactly two Tiles, on different lines.
+     * @return True if any candidate was eliminated.
+     */
+    private boolean lockLines(int unit, int minZones, int maxZones, boolean pairsOnly) {
+        if (unit < 2 * houseSize) {
+            return false;
+        }
+        int zone = unit - 2 * houseSize;
+        return lockLines(zone / zoneWidth, true, minZones, maxZones, pairsOnly)
+                || lockLines(zone % zoneWidth, false, minZones, maxZones, pairsOnly);
+    }
+
+    /**
+     * Run the locked lines search on one band (if byRow) or stack.
+     */
+    private boolean lockLines(int band, boolean byRow, int minZones, int maxZones, boolean pairsOnly) {
+        int[] lineMasks = new int[zoneWidth];
+        for (int value = 1; value <= houseSize; ++value) {
+            // For every zone of the band, find the lines the value can be on
+            for (int k = 0; k < zoneWidth; ++k) {
+                lineMasks[k] = getLineMask(getZoneUnit(band, k, byRow), value, byRow, pairsOnly);
+            }
+            if (lockLinesInBand(band, value, byRow, lineMasks, minZones, maxZones)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return The unit number of the k-th zone of a band (if byRow) or stack.
+     */
+    private int getZoneUnit(int band, int k, boolean byRow) {
+        return 2 * houseSize + (byRow ? band * zoneWidth + k : k * zoneWidth + band);
+    }
+
+    /**
+     * @return A mask of the local lines (rows if byRow, otherwise columns) of a zone that hold the value or can still
+     * hold it. 0 if the zone does not qualify because pairsOnly is set.
+     */
+    private int getLineMask(int unit, int value, boolean byRow, boolean pairsOnly) {
+        int placed = grid.getPlacedPosition(unit, value);
+        if (placed >= 0) {
+            return pairsOnly ? 0 : 1 << (byRow ? placed / zoneWidth : placed % zoneWidth);
+        }
+        int positions = grid.getPositions(unit, value);
+        if (pairsOnly && Integer.bitCount(positions) != 2) {
+            return 0;
+        }
+        int lines = 0;
+        for (int p = 0; p < houseSize; ++p) {
+            if ((positions & (1 << p)) != 0) {
+                lines |= 1 << (byRow ? p / zoneWidth : p % zoneWidth);
+            }
+        }
+        return (pairsOnly && Integer.bitCount(lines) != 2) ? 0 : lines;
+    }
+
+    /**
+     * Try every set of zones in the band with between minZones and maxZones zones.
+     */
+    private boolean lockLinesInBand(int band, int value, boolean byRow, int[] lineMasks, int minZones,
+                                    int maxZones) {
+        for (int set = 1; set < (1 << zoneWidth) - 1; ++set) {
+            int size = Integer.bitCount(set);
+            if (size < minZones || size > maxZones) {
+                continue;
+            }
+            int lines = 0;
+            boolean usable = true;
+            for (int k = 0; k < zoneWidth && usable; ++k) {
+                if ((set & (1 << k)) != 0) {
+                    usable = lineMasks[k] != 0;
+                    lines |= lineMasks[k];
+                }
+            }
+            if (usable && Integer.bitCount(lines) == size
+                    && eliminateFromLines(band, value, byRow, ~set, lines)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Eliminate a value from the given local lines of the given zones of a band.
+     *
+     * @param zones Mask of the zones within the band to eliminate from.
+     * @param lines Mask of the local lines to eliminate from.
+     * @return True if any candidate was eliminated.
+     */
+    private boolean eliminateFromLines(int band, int value, boolean byRow, int zones, int lines) {
+        int bit = 1 << (value - 1);
+        boolean success = false;
+        for (int k = 0; k < zoneWidth; ++k) {
+            if ((zones & (1 << k)) == 0) {
+                continue;
+            }
+            int[] cells = grid.units[getZoneUnit(band, k, byRow)];
+            for (int p = 0; p < houseSize; ++p) {
+                int line = byRow ? p / zoneWidth : p % zoneWidth;
+                if ((lines & (1 << line)) != 0 && grid.eliminate(cells[p], bit)) {
+                    success = true;
+                }
+            }
+        }
+        return success;
+    }
+    //endregion
+
+    //region Hard Techniques
+    /**
+     * If two (or three) Tiles in a house can only hold the same two (or three) values between them, no other Tile in
+     * the house can hold those values.
+     */
+    private class NakedPairsAndTriples extends QueuedTechnique {
+        NakedPairsAndTriples() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            for (int size = 2; size <= 3; ++size) {
+                if (findNakedSet(grid.units[unit], size, 0, 0, 0, 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Extend a set of Tiles (chosen positions in cellSet, their combined candidates in union) one position at a
+         * time, and eliminate once it has the right size.
+         */
+        private boolean findNakedSet(int[] cells, int size, int start, int count, int cellSet, int union) {
+            if (count == size) {
+                if (Integer.bitCount(union) != size) {
+                    return false;
+                }
+                boolean success = false;
+                for (int p = 0; p < cells.length; ++p) {
+                    if ((cellSet & (1 << p)) == 0 && grid.eliminate(cells[p], union)) {
+                        success = true;
+                    }
+                }
+                return success;
+            }
+            for (int p = start; p < cells.length; ++p) {
+                int candidates = grid.getCandidates(cells[p]);
+                if (candidates != 0 && Integer.bitCount(union | candidates) <= size
+                        && findNakedSet(cells, size, p + 1, count + 1, cellSet | (1 << p), union | candidates)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * If two (or three) values in a house can only go in the same two (or three) Tiles between them, those Tiles
+     * cannot hold any other value.
+     */
+    private class HiddenPairsAndTriples extends QueuedTechnique {
+        private int[] positions = new int[houseSize]; // Positions in the unit that can hold each value
+
+        HiddenPairsAndTriples() {
+            super(WATCH_UNITS);
+        }
+
+        @Override
+        protected boolean process(int unit) {
+            for (int value = 1; value <= houseSize; ++value) {
+                positions[value - 1] = grid.getPositions(unit, value);
+            }
+            for (int size = 2; size <= 3; ++size) {
+                if (findHiddenSet(grid.units[unit], size, 0, 0, 0, 0)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Extend a set of values (as a mask in valueSet, the positions that can hold them in union) one value at a
+         * time, and eliminate once it has the right size.
+         */
+        private boolean findHiddenSet(int[] cells, int size, int start, int count, int valueSet, int union) {
+            if (count == size) {
+                if (Integer.bitCount(union) != size) {
+                    return false;
+                }
+                boolean success = false;
+                for (int p = 0; p < cells.length; ++p) {
+                    if ((union & (1 << p)) != 0 && grid.eliminate(cells[p], ~valueSet)) {
+                        success = true;
+                    }
+                }
+                return success;
+            }
+            for (int v = start; v < houseSize; ++v) {
+                if (positions[v] != 0 && Integer.bitCount(union | positions[v]) <= size
+                        && findHiddenSet(cells, size, v + 1, count + 1, valueSet | (1 << v), union | positions[v])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+    //endregion
+
+    //region Master Techniques
+    /**
+     * X-Wing (size 2), Swordfish (size 3) and Jellyfish (size 4). If the Tiles that can hold a value in some rows all
+     * lie in the same number of columns, those rows must fill the value into those columns, so no other row can hold
+     * it there. The same holds with rows and columns swapped.
+     *
+     * Rows and columns are compared as per-value bitboards from the CandidateGrid, so a set of lines covers their
+     * union of columns (or rows) in a single OR.
+     */
+    private class Fish extends QueuedTechnique {
+        private int size;
+
+        /**
+         * @param size Number of rows (or columns) in the pattern.
+         */
+        Fish(int size) {
+            super(WATCH_VALUES);
+            this.size = size;
+        }
+
+        @Override
+        protected boolean process(int valueIndex) {
+            if (size >= houseSize) {
+                return false;
+            }
+            return findFish(valueIndex + 1, 0, 0, 0, 0, 0) || findFish(valueIndex + 1, houseSize, 0, 0, 0, 0);
+        }
+
+        /**
+         * Extend a set of base lines (rows from unit 0, or columns from unit houseSize) one line at a time, and
+         * eliminate once it has the right size.
+         *
+         * @param firstUnit The unit number of the first base line.
+         * @param lineSet   Mask of the base lines chosen so far.
+         * @param cover     Union of the positions of the value in the chosen base lines.
+         */
+        private boolean findFish(int value, int firstUnit, int start, int count, int lineSet, int cover) {
+            if (count == size) {
+                if (Integer.bitCount(cover) != size) {
+                    return false;
+                }
+                // The cover lines run the other way: columns for row bases, rows for column bases
+                int crossUnit = (firstUnit == 0) ? houseSize : 0;
+                int bit = 1 << (value - 1);
+                boolean success = false;
+                for (int cross = 0; cross < houseSize; ++cross) {
+                    if ((cover & (1 << cross)) == 0) {
+                        continue;
+                    }
+                    int[] cells = grid.units[crossUnit + cross];
+                    for (int p = 0; p < houseSize; ++p) {
+                        if ((lineSet & (1 << p)) == 0 && grid.eliminate(cells[p], bit)) {
+                            success = true;
+                        }
+                    }
+                }
+                return success;
+            }
+            for (int line = start; line < houseSize; ++line) {
+                int lineMask = grid.getPositions(firstUnit + line, value);
+                if (lineMask != 0 && Integer.bitCount(cover | lineMask) <= size
+                        && findFish(value, firstUnit, line + 1, count + 1, lineSet | (1 << line), cover | lineMask)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * For every Tile with exactly two candidates, follow the singles each candidate leads to. If one of them leads to
+     * a contradiction, the Tile holds the other. Otherwise, any candidate that neither of them leaves in a Tile can be
+     * eliminated. Each chain follows at most CHAIN_STEPS_PER_HOUSE * houseSize singles, which bounds the cost.
+     */
+    private class ForcingChains implements Technique {
+        private CandidateGrid first = new CandidateGrid(houseSize);
+        private CandidateGrid second = new CandidateGrid(houseSize);
+
+        @Override
+        public boolean execute() {
+            for (int cell = 0; cell < grid.boardSize; ++cell) {
+                int candidates = grid.getCandidates(cell);
+                if (grid.getValue(cell) != 0 || Integer.bitCount(candidates) != 2) {
+                    continue;
+                }
+                int firstValue = valueOf(Integer.lowestOneBit(candidates));
+                int secondValue = valueOf(Integer.highestOneBit(candidates));
+                boolean firstHolds = followSingles(first, cell, firstValue, CHAIN_STEPS_PER_HOUSE * houseSize);
+                boolean secondHolds = followSingles(second, cell, secondValue, CHAIN_STEPS_PER_HOUSE * houseSize);
+                if (!firstHolds && secondHolds) {
+                    place(cell, secondValue);
+                    return true;
+                }
+                if (firstHolds && !secondHolds) {
+                    place(cell, firstValue);
+                    return true;
+                }
+                if (firstHolds && eliminateCommon()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Eliminate every candidate that is ruled out in both branches.
+         *
+         * @return True if any candidate was eliminated.
+         */
+        private boolean eliminateCommon() {
+            boolean success = false;
+            for (int cell = 0; cell < grid.boardSize; ++cell) {
+                if (grid.getValue(cell) != 0) {
+                    continue;
+                }
+                int allowed = getAllowed(first, cell) | getAllowed(second, cell);
+                if (grid.eliminate(cell, ~allowed)) {
+                    success = true;
+                }
+            }
+            return success;
+        }
+
+        /**
+         * @return The values a Tile can still hold in a branch.
+         */
+        private int getAllowed(CandidateGrid branch, int cell) {
+            int value = branch.getValue(cell);
+            return (value != 0) ? 1 << (value - 1) : branch.getCandidates(cell);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,112 @@
+package me.valesken.jeff.sudoku_model;
+
+import java.util.Locale;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Running totals for one Solver Technique: how often it was tried, how often it changed the board, how many Tiles it
+ * solved and how long it took. Totals from several Solvers (e.g. one per thread) can be combined with add().
+ */
+public class TechniqueStats {
+
+    protected String name;
+    protected int difficulty; // The difficulty level the Technique belongs to
+    protected long invocations;
+    protected long hits; // Invocations that changed the board
+    protected long cellsResolved; // Tiles given a value
+    protected long nanos;
+
+    protected TechniqueStats(String name, int difficulty) {
+        this.name = name;
+        this.difficulty = difficulty;
+    }
+
+    /**
+     * @return A copy of these totals.
+     */
+    protected TechniqueStats copy() {
+        TechniqueStats copy = new TechniqueStats(name, difficulty);
+        copy.add(this);
+        return copy;
+    }
+
+    /**
+     * Count one invocation of the Technique.
+     *
+     * @param hit     Whether the Technique changed the board.
+     * @param cells   The number of Tiles it solved.
+     * @param elapsed The time it took, in nanoseconds.
+     */
+    protected void record(boolean hit, int cells, long elapsed) {
+        ++invocations;
+        if (hit) {
+            ++hits;
+        }
+        cellsResolved += cells;
+        nanos += elapsed;
+    }
+
+    protected void reset() {
+        invocations = 0;
+        hits = 0;
+        cellsResolved = 0;
+        nanos = 0;
+    }
+
+    /**
+     * Add another set of totals to these, e.g. to combine the totals of several Solvers.
+     *
+     * @param other Totals for the same Technique.
+     */
+    public void add(TechniqueStats other) {
+        invocations += other.invocations;
+        hits += other.hits;
+        cellsResolved += other.cellsResolved;
+        nanos += other.nanos;
+    }
+
+    //region Getters
+    public String getName() {
+        return name;
+    }
+
+    public int getDifficulty() {
+        return difficulty;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getCellsResolved() {
+        return cellsResolved;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    /**
+     * @return Hits per microsecond spent, the measure the adaptive Solver orders Techniques by. Techniques that have
+     * not been timed yet get an infinite yield, so they are tried early until there is data on them.
+     */
+    public double getYield() {
+        return (nanos == 0) ? Double.POSITIVE_INFINITY : hits * 1000.0 / nanos;
+    }
+    //endregion
+
+    /**
+     * @return One line of a Solver's stats report.
+     */
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%-20s %4d %12d %10d %12d %14d", name, difficulty, invocations, hits,
+                cellsResolved, nanos / 1000);
+    }
+}
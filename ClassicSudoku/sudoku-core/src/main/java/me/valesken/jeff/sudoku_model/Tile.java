@@ -8,7 +8,7 @@ import java.util.LinkedList;
 
 /**
  * Created by Jeff on 2/28/2015.
- * Last updated on 1/15/2016.
+ * Last updated on 10/17/2026.
  */
 
 class Tile {
@@ -40,18 +40,16 @@ class Tile {
         int zoneWidth = (int) Math.sqrt(houseSize);
         rowNumber = index / houseSize;
         columnNumber = index % houseSize;
-        zoneNumber = 3 * (rowNumber / zoneWidth) + columnNumber / zoneWidth;
+        zoneNumber = zoneWidth * (rowNumber / zoneWidth) + columnNumber / zoneWidth;
         noteMode = false;
         orig = false;
         notes = new boolean[houseSize];
         clear();
-
-        visited = false;
-        lastTried = 0;
     }
 
     protected Tile(int houseSize, JSONObject loadState) throws JSONException {
         this.houseSize = houseSize;
+        notes = new boolean[houseSize];
         loadTileState(loadState);
     }
     //endregion
@@ -124,7 +122,7 @@ class Tile {
 
     /**
      * This will remove this tile's current value from its houses, will clear its current value, and will remove all
-     * its current notes. This will NOT clear the "lastTried" value.
+     * its current notes.
      */
     protected void clear() {
         if (!orig) {
@@ -160,6 +158,7 @@ class Tile {
                 // If there's a value recorded, make it a hint
                 if (value > 0) {
                     notes[value - 1] = true;
+                    setValueInHouses(value, false);
                 }
                 value = 0;
             }
@@ -191,6 +190,14 @@ class Tile {
         return value;
     }
 
+    /**
+     * @return A bitmask of the values that could still be placed in this Tile without contradicting its row, column,
+     * or zone. Bit (v - 1) is set if the value v is a candidate.
+     */
+    protected int getCandidateMask() {
+        return ((1 << houseSize) - 1) & ~(row.getValueMask() | column.getValueMask() | zone.getValueMask());
+    }
+
     /**
      * @return A LinkedList containing the current notes in this tile. If this tile is not in note mode, it will
      * return null.
@@ -270,6 +277,19 @@ class Tile {
         return this.orig;
     }
 
+    /**
+     * @return A bitmask of the notes in this Tile, bit (v - 1) set for the note v.
+     */
+    protected int getNotesMask() {
+        int mask = 0;
+        for (int i = 0; i < houseSize; ++i) {
+            if (notes[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
     /**
      * Only to be used when saving the game.
      *
@@ -295,73 +315,6 @@ class Tile {
 
     //region Initialization
 
-    protected boolean visited;
-    protected int lastTried;
-
-    /**
-     * Mark this Tile as NOT visited in the current initialization path. It also clears its current value so that it
-     * is primed for the next initialization attempt.
-     */
-    protected void unVisit() {
-        clear();
-        visited = false;
-    }
-
-    /**
-     * @return True if this Tile has already been visited in the current initialization path, otherwise False.
-     */
-    protected boolean hasBeenVisited() {
-        return visited;
-    }
-
-    /**
-     * This function is a slightly faster way of trying initial values than calling seedInitialValue() with the values 1
-     * to 9. It keeps track of the last tried value and simply goes to the next one in the series rather than trying
-     * every value from 1 through 9. If the last value was 9, it simply aborts with a return value of false (meaning it
-     * failed to find any possible initial value).
-     *
-     * @return True if this Tile successfully picked a possible initial value, otherwise False
-     */
-    protected boolean tryInitialize() {
-        for (int initValue = lastTried + 1; initValue <= houseSize; ++initValue) {
-            lastTried = initValue; // Save most recently tried value
-            if (!(row.hasValue(initValue) || column.hasValue(initValue) || zone.hasValue(initValue))) {
-                update(initValue);
-                visited = true;
-                return true;
-            }
-        }
-        return false;
-    }
-
-    /**
-     * @param initValue The value to try as an initial value for this Tile (1 - 9)
-     * @return true if the value doesn't contradict anything in any of the houses, false otherwise
-     */
-    protected boolean seedInitialValue(int initValue) {
-        if (initValue < 1 || initValue > houseSize) {
-            return false;
-        }
-        if (row.hasValue(initValue) || column.hasValue(initValue) || zone.hasValue(initValue)) {
-            return false;
-        }
-        update(initValue);
-        visited = true;
-        return true;
-    }
-
-    /**
-     * Call when board initialization has reached a contradiction and needs to clear Tiles.
-     */
-    protected void resetInitializationState() {
-        if (value > 0) {
-            setValueInHouses(value, false);
-        }
-        value = 0;
-        visited = false;
-        lastTried = 0;
-    }
-
     /**
      * Set this Tile as an original, unchangeable, starting Tile on the Board.
      *
@@ -402,5 +355,22 @@ class Tile {
             value = jsonArray.getInt(0);
         }
     }
+
+    /**
+     * Only to be used for loading a previous game from its binary form (see SaveCodec).
+     *
+     * @param _noteMode  Whether the Tile is in Note mode.
+     * @param _orig      Whether the Tile is an original, starting Tile.
+     * @param _value     The 0 - houseSize value of the Tile, 0 if empty.
+     * @param notesMask The notes of the Tile, bit (v - 1) set for the note v.
+     */
+    protected void loadTileState(boolean _noteMode, boolean _orig, int _value, int notesMask) {
+        noteMode = _noteMode;
+        orig = _orig;
+        value = _value;
+        for (int i = 0; i < houseSize; ++i) {
+            notes[i] = (notesMask & (1 << i)) != 0;
+        }
+    }
     //endregion
 }
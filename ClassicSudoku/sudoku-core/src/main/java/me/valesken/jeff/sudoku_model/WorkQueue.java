@@ -0,0 +1,78 @@
+package me.valesken.jeff.sudoku_model;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * First-in first-out queue of the indices 0 to capacity - 1 (Tiles or units) that still need to be looked at. An
+ * index is held at most once, so adding one that is already queued does nothing and the queue never needs more room
+ * than its capacity.
+ */
+class WorkQueue {
+
+    protected int[] items; // Ring buffer of queued indices
+    protected boolean[] queued; // Whether each index is currently in the queue
+    protected int head;
+    protected int size;
+
+    /**
+     * @param capacity The number of distinct indices the queue can hold.
+     */
+    protected WorkQueue(int capacity) {
+        items = new int[capacity];
+        queued = new boolean[capacity];
+    }
+
+    /**
+     * Add an index to the back of the queue, unless it is already queued.
+     *
+     * @param index The 0 - (capacity - 1) index to add.
+     */
+    protected void add(int index) {
+        if (!queued[index]) {
+            queued[index] = true;
+            items[(head + size) % items.length] = index;
+            ++size;
+        }
+    }
+
+    /**
+     * Add every index that is not already queued.
+     */
+    protected void addAll() {
+        for (int index = 0; index < items.length; ++index) {
+            add(index);
+        }
+    }
+
+    /**
+     * Remove the index at the front of the queue.
+     *
+     * @return The removed index. -1 if the queue is empty.
+     */
+    protected int poll() {
+        if (size == 0) {
+            return -1;
+        }
+        int index = items[head];
+        queued[index] = false;
+        head = (head + 1) % items.length;
+        --size;
+        return index;
+    }
+
+    protected void clear() {
+        while (size > 0) {
+            poll();
+        }
+        head = 0;
+    }
+
+    protected boolean isEmpty() {
+        return size == 0;
+    }
+
+    protected int size() {
+        return size;
+    }
+}
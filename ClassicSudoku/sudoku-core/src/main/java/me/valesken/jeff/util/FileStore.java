@@ -0,0 +1,256 @@
+package me.valesken.jeff.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * Reads and writes files on a single background thread, so that callers (such as the UI thread) never wait on the
+ * disk. Operations run one at a time in the order they were made, and each returns a Future to wait on if needed.
+ *
+ * Writing a file that already has a write waiting to start replaces the data of that write instead of queueing
+ * another, so a burst of writes to one file costs a single write. Any other operation on the file ends this, so writes
+ * are never reordered around a read, append or delete. Every write goes to a temporary file first and is renamed over
+ * the target, so the target always holds either its old or its new contents.
+ */
+public class FileStore {
+
+    static final protected String TEMP_EXTENSION = ".tmp";
+    static final protected Charset UTF_8 = Charset.forName("UTF-8");
+
+    protected final ExecutorService executor;
+    protected final Map<File, PendingWrite> pending; // Writes that have not started yet, by file
+    protected final Logger logger;
+
+    public FileStore() {
+        pending = new HashMap<>();
+        logger = new Logger();
+        executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "FileStore");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    //region Operations
+
+    /**
+     * Replace the contents of a file.
+     *
+     * @param file The file to write. Its directory must exist.
+     * @param data The new contents of the file.
+     * @return A Future that completes once the file holds the data (or data written later, if the write was merged
+     * with later ones). Fails with an IOException if the file cannot be written.
+     */
+    public Future<Void> write(File file, byte[] data) {
+        synchronized (pending) {
+            PendingWrite write = pending.get(file);
+            if (write != null) {
+                write.data = data;
+                return write.future;
+            }
+            write = new PendingWrite(file, data);
+            pending.put(file, write);
+            executor.execute(write.future);
+            return write.future;
+        }
+    }
+
+    /**
+     * Replace the contents of a file with UTF-8 text.
+     *
+     * @see #write(File, byte[])
+     */
+    public Future<Void> write(File file, String text) {
+        return write(file, text.getBytes(UTF_8));
+    }
+
+    /**
+     * Add data to the end of a file, once every operation made before has finished. Appends are never merged.
+     *
+     * @param file The file to append to. Created if it does not exist; its directory must exist.
+     * @param data The data to add.
+     * @return A Future that completes once the data is in the file. Fails with an IOException if the file cannot be
+     * written.
+     */
+    public Future<Void> append(final File file, final byte[] data) {
+        synchronized (pending) {
+            pending.remove(file);
+            return executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws IOException {
+                    try {
+                        FileOutputStream out = new FileOutputStream(file, true);
+                        try {
+                            out.write(data);
+                            out.getFD().sync();
+                        } finally {
+                            out.close();
+                        }
+                    } catch (IOException e) {
+                        logger.logErrorMessage("Could not append to " + file + ": " + e.getMessage());
+                        throw e;
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Read a file, once every operation made before has finished.
+     *
+     * @param file The file to read.
+     * @return A Future of the contents of the file, null if it does not exist. Fails with an IOException if the file
+     * cannot be read.
+     */
+    public Future<byte[]> read(final File file) {
+        synchronized (pending) {
+            pending.remove(file);
+            return executor.submit(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws IOException {
+                    return file.exists() ? readFile(file) : null;
+                }
+            });
+        }
+    }
+
+    /**
+     * Delete a file, once every operation made before has finished.
+     *
+     * @param file The file to delete.
+     * @return A Future of whether the file is gone, True if it did not exist in the first place.
+     */
+    public Future<Boolean> delete(final File file) {
+        synchronized (pending) {
+            pending.remove(file);
+            return executor.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return file.delete() || !file.exists();
+                }
+            });
+        }
+    }
+
+    /**
+     * @return A Future that completes once every operation made before has finished.
+     */
+    public Future<?> flush() {
+        return executor.submit(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+    }
+
+    /**
+     * Stop accepting operations. Those already made still run.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+    //endregion
+
+    /**
+     * A write that can still take newer data until it starts.
+     */
+    protected class PendingWrite implements Callable<Void> {
+        protected final File file;
+        protected final FutureTask<Void> future;
+        protected byte[] data; // Guarded by pending
+
+        protected PendingWrite(File file, byte[] data) {
+            this.file = file;
+            this.data = data;
+            future = new FutureTask<>(this);
+        }
+
+        @Override
+        public Void call() throws IOException {
+            byte[] latest;
+            synchronized (pending) {
+                if (pending.get(file) == this) {
+                    pending.remove(file);
+                }
+                latest = data;
+            }
+            try {
+                writeAtomically(file, latest);
+            } catch (IOException e) {
+                logger.logErrorMessage("Could not write " + file + ": " + e.getMessage());
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    //region File Access
+
+    /**
+     * Replace the contents of a file in one step: the data is written and synced to a temporary file next to it,
+     * which is then renamed over the file.
+     *
+     * @param file The file to write. Its directory must exist.
+     * @param data The new contents of the file.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void writeAtomically(File file, byte[] data) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_EXTENSION);
+        FileOutputStream out = new FileOutputStream(tempFile);
+        try {
+            out.write(data);
+            out.getFD().sync();
+        } finally {
+            out.close();
+        }
+        if (!tempFile.renameTo(file) && !(file.delete() && tempFile.renameTo(file))) {
+            throw new IOException("Could not replace " + file);
+        }
+    }
+
+    /**
+     * @param file The file to read.
+     * @return The contents of the file.
+     * @throws IOException if the file cannot be read.
+     */
+    public static byte[] readFile(File file) throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            long length = in.getChannel().size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + file);
+            }
+            byte[] data = new byte[(int) length];
+            int read = 0;
+            while (read < data.length) {
+                int count = in.read(data, read, data.length - read);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+                read += count;
+            }
+            return data;
+        } finally {
+            in.close();
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,62 @@
+package me.valesken.jeff.util;
+
+/**
+ * Created by jeff on 2/16/2016.
+ * Last updated by jeff on 10/17/2026.
+ *
+ * Logs through a pluggable Sink so that the model does not depend on any platform. Messages go to System.out and
+ * System.err until another Sink is installed (e.g. one backed by android.util.Log).
+ */
+public class Logger {
+
+    /**
+     * Destination for log messages.
+     */
+    public interface Sink {
+        void debug(String tag, String message);
+
+        void error(String tag, String message);
+    }
+
+    /**
+     * Default Sink, writes to the standard streams.
+     */
+    public static class ConsoleSink implements Sink {
+        @Override
+        public void debug(String tag, String message) {
+            System.out.println(tag + ": " + message);
+        }
+
+        @Override
+        public void error(String tag, String message) {
+            System.err.println(tag + ": " + message);
+        }
+    }
+
+    private static volatile Sink sink = new ConsoleSink();
+
+    /**
+     * @param _sink The Sink every Logger should write to from now on. Null is ignored.
+     */
+    public static void setSink(Sink _sink) {
+        if (_sink != null) {
+            sink = _sink;
+        }
+    }
+
+    /**
+     * @return The Sink every Logger currently writes to.
+     */
+    public static Sink getSink() {
+        return sink;
+    }
+
+    public void logDebugMessage(String message) {
+        sink.debug("Debug Info", message);
+    }
+
+    public void logErrorMessage(String message) {
+        sink.error("Error Info", message);
+    }
+
+}
@@ -0,0 +1,246 @@
+package me.valesken.jeff.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last updated on 10/17/2026.
+ *
+ * The list of saved games: the name and time of every save, in the order they were first saved. The list is kept in
+ * memory and mirrored to a log file that every change is appended to as one small record (a PUT, or a DELETE
+ * tombstone), so saving, deleting and naming a game cost the same however many saves there are. Once dead records
+ * outnumber the live ones the log is rewritten holding only the live ones.
+ *
+ * Layout (big-endian): MAGIC (int), FORMAT_VERSION (int), then records of an operation (byte), the name (modified
+ * UTF-8, see DataOutput.writeUTF) and, for PUT only, the time.
+ */
+public class SaveIndex {
+
+    static final protected int MAGIC = 0x53444B49; // "SDKI"
+    static final protected int FORMAT_VERSION = 1;
+    static final protected byte PUT = 1;
+    static final protected byte DELETE = 2;
+    static final protected int MIN_COMPACT_RECORDS = 32; // Dead records tolerated before the log is worth rewriting
+
+    protected final FileStore store;
+    protected final File logFile;
+    protected final LinkedHashMap<String, String> times; // Time of every save, by name, in the order first saved
+    protected final Map<String, Integer> lastNumbers; // Highest number given to a name by prefix, see allocateName()
+    protected int records; // Records in the log, live or dead
+
+    /**
+     * Load the saves from the contents of a log file. If the log is missing, unreadable or ends in an incomplete
+     * record (the process died while appending it), it is rewritten from what could be read.
+     *
+     * @param store   The FileStore to write the log through.
+     * @param logFile The log file. Its directory must exist.
+     * @param data    The contents of the log file, null if it does not exist.
+     */
+    public SaveIndex(FileStore store, File logFile, byte[] data) {
+        this.store = store;
+        this.logFile = logFile;
+        times = new LinkedHashMap<>();
+        lastNumbers = new HashMap<>();
+        if (!load(data)) {
+            compact();
+        }
+    }
+
+    //region Reading
+
+    /**
+     * @return The number of saves.
+     */
+    public int size() {
+        return times.size();
+    }
+
+    /**
+     * @return True if there is a save with this name, otherwise False.
+     */
+    public boolean contains(String name) {
+        return times.containsKey(name);
+    }
+
+    /**
+     * @return The time of the save with this name, null if there is none.
+     */
+    public String getTime(String name) {
+        return times.get(name);
+    }
+
+    /**
+     * @return The names of all saves, in the order they were first saved.
+     */
+    public List<String> getNames() {
+        return new ArrayList<>(times.keySet());
+    }
+    //endregion
+
+    //region Writing
+
+    /**
+     * Add a save, or update the time of an existing one (which keeps its place in the list).
+     *
+     * @param name The name of the save.
+     * @param time The time spent on the saved game.
+     */
+    public void put(String name, String time) {
+        if (times.put(name, time) == null) {
+            countName(name);
+        }
+        append(PUT, name, time);
+    }
+
+    /**
+     * Remove a save.
+     *
+     * @param name The name of the save.
+     * @return True if there was a save with this name, otherwise False.
+     */
+    public boolean remove(String name) {
+        if (times.remove(name) == null) {
+            return false;
+        }
+        append(DELETE, name, null);
+        return true;
+    }
+
+    /**
+     * Pick a name for a new save: the prefix followed by a number higher than any that followed it in a save name
+     * before, e.g. "Easy4" after "Easy3".
+     *
+     * @param prefix The start of the name, such as the difficulty level.
+     * @return A name no save has.
+     */
+    public String allocateName(String prefix) {
+        Integer last = lastNumbers.get(prefix);
+        int number = (last == null) ? 1 : last + 1;
+        while (times.containsKey(prefix + number)) { // Only if a save was named by hand with a huge number
+            ++number;
+        }
+        return prefix + number;
+    }
+
+    /**
+     * Note the number at the end of a save name, so that allocateName() never hands it out.
+     */
+    protected void countName(String name) {
+        int split = name.length();
+        while (split > 0 && Character.isDigit(name.charAt(split - 1))) {
+            --split;
+        }
+        if (split == name.length() || name.length() - split > 9) {
+            return;
+        }
+        String prefix = name.substring(0, split);
+        int number = Integer.parseInt(name.substring(split));
+        Integer last = lastNumbers.get(prefix);
+        if (last == null || number > last) {
+            lastNumbers.put(prefix, number);
+        }
+    }
+
+    private void append(byte operation, String name, String time) {
+        ++records;
+        if (records - times.size() >= Math.max(times.size(), MIN_COMPACT_RECORDS)) {
+            compact();
+        } else {
+            store.append(logFile, encodeRecord(operation, name, time));
+        }
+    }
+
+    /**
+     * Rewrite the log holding only the live saves.
+     */
+    protected void compact() {
+        store.write(logFile, toBytes());
+        records = times.size();
+    }
+    //endregion
+
+    //region Encoding
+
+    /**
+     * @return A log holding a PUT for every save.
+     */
+    protected byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            for (Map.Entry<String, String> entry : times.entrySet()) {
+                writeRecord(out, PUT, entry.getKey(), entry.getValue());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Cannot happen writing to memory
+        }
+        return bytes.toByteArray();
+    }
+
+    static protected byte[] encodeRecord(byte operation, String name, String time) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeRecord(new DataOutputStream(bytes), operation, name, time);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // Cannot happen writing to memory
+        }
+        return bytes.toByteArray();
+    }
+
+    static private void writeRecord(DataOutputStream out, byte operation, String name, String time)
+            throws IOException {
+        out.writeByte(operation);
+        out.writeUTF(name);
+        if (operation == PUT) {
+            out.writeUTF(time);
+        }
+    }
+
+    /**
+     * Replay a log into the (empty) index.
+     *
+     * @return True if the whole log was read, False if it is missing or unreadable from some point on.
+     */
+    protected boolean load(byte[] data) {
+        if (data == null) {
+            return false;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        try {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return false;
+            }
+            while (in.available() > 0) {
+                byte operation = in.readByte();
+                String name = in.readUTF();
+                if (operation == PUT) {
+                    String time = in.readUTF();
+                    if (times.put(name, time) == null) {
+                        countName(name);
+                    }
+                } else if (operation == DELETE) {
+                    times.remove(name);
+                } else {
+                    return false;
+                }
+                ++records;
+            }
+        } catch (IOException e) {
+            return false; // Incomplete record
+        }
+        return true;
+    }
+    //endregion
+}
@@ -8,7 +8,6 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
-import java.util.EmptyStackException;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -23,6 +22,7 @@ import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.mockito.AdditionalMatchers.*;
@@ -45,7 +45,7 @@ import static org.mockito.Mockito.when;
 
 /**
  * Created by jeff on 2/8/2016.
- * Last Updated on 4/14/2016.
+ * Last Updated on 10/17/2026.
  */
 public class BoardTest {
 
@@ -84,7 +84,18 @@ public class BoardTest {
         assertEquals(houseSize, board.zones.length);
         assertNotNull(board.logger);
         assertNotNull(board.randGen);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
+        assertFalse(board.clockRunning);
+        assertTrue(board.uniqueHoles);
+        assertNull(board.seed);
+    }
+
+    @Test
+    public void testConstructorWithRandomPass() {
+        Random random = new Random(5);
+        Board seeded = new Board(houseSize, random);
+        assertEquals(houseSize, seeded.houseSize);
+        assertSame(random, seeded.randGen);
     }
     //endregion
 
@@ -616,6 +627,223 @@ public class BoardTest {
     }
     //endregion
 
+    //region getSnapshot() tests
+    @Test
+    public void testGetSnapshotPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.updateTile(0, 5);
+        board.toggleNoteMode(1);
+        board.updateTile(1, 2);
+        board.updateTile(1, 9);
+        board.addGiven(board.getTile(80));
+        int[] values = new int[boardSize];
+        int[] notes = new int[boardSize];
+        long[] flags = new long[Board.getFlagsLength(boardSize)];
+        flags[0] = -1L; // Stale contents are overwritten
+        // Execute
+        board.getSnapshot(values, notes, flags);
+        // Verify
+        assertEquals(5, values[0]);
+        assertEquals(0, notes[0]);
+        assertEquals(0, Board.getFlags(flags, 0));
+        assertEquals(0, values[1]);
+        assertEquals(0x102, notes[1]);
+        assertEquals(Board.FLAG_NOTE_MODE, Board.getFlags(flags, 1));
+        assertEquals(board.getSolutionForTile(80), values[80]);
+        assertEquals(Board.FLAG_ORIG, Board.getFlags(flags, 80));
+        for (int i = 2; i < 80; ++i) {
+            assertEquals(0, values[i]);
+            assertEquals(0, notes[i]);
+            assertEquals(0, Board.getFlags(flags, i));
+        }
+    }
+
+    @Test
+    public void testGetSnapshotLargeBoardNotesPass() {
+        // Setup: notes above 16 only exist on 25x25 boards
+        Board large = new Board(25);
+        large.initializeHouses();
+        large.initializeTiles();
+        int notesMask = (1 << 24) | (1 << 19) | 1;
+        assertTrue(large.setTileState(0, true, 0, notesMask));
+        int[] values = new int[large.boardSize];
+        int[] notes = new int[large.boardSize];
+        long[] flags = new long[Board.getFlagsLength(large.boardSize)];
+        // Execute
+        large.getSnapshot(values, notes, flags);
+        // Verify
+        assertEquals(notesMask, notes[0]);
+        assertEquals(large.getTile(0).getNotesMask(), notes[0]);
+        assertEquals(Board.FLAG_NOTE_MODE, Board.getFlags(flags, 0));
+    }
+
+    @Test
+    public void testGetFlagsLengthPass() {
+        assertEquals(0, Board.getFlagsLength(0));
+        assertEquals(1, Board.getFlagsLength(Board.TILES_PER_FLAG_WORD));
+        assertEquals(2, Board.getFlagsLength(Board.TILES_PER_FLAG_WORD + 1));
+        assertEquals(3, Board.getFlagsLength(81));
+    }
+    //endregion
+
+    //region BoardListener tests
+    @Test
+    public void testListenerTileChangedPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        BoardListener listener = mock(BoardListener.class);
+        board.setListener(listener);
+        // Execute
+        board.updateTile(0, 5);
+        board.toggleNoteMode(1);
+        board.updateTile(1, 3);
+        board.clearTile(0);
+        // Verify
+        verify(listener).onTileChanged(0, 5, 0, false, false);
+        verify(listener).onTileChanged(1, 0, 0, false, false);
+        verify(listener).onTileChanged(1, 0, 0x4, false, false);
+        verify(listener).onTileChanged(0, 0, 0, false, false);
+        verify(listener, never()).onBoardChanged(anyBoolean());
+    }
+
+    @Test
+    public void testListenerSetTileStateOneEventPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        BoardListener listener = mock(BoardListener.class);
+        board.setListener(listener);
+        // Execute
+        board.setTileState(0, true, 0, 0x3);
+        // Verify
+        verify(listener, times(1)).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        verify(listener).onTileChanged(0, 0, 0x3, false, false);
+    }
+
+    @Test
+    public void testListenerLargeBoardNotesPass() {
+        // Setup: notes above 16 only exist on 25x25 boards
+        Board large = new Board(25);
+        large.initializeHouses();
+        large.initializeTiles();
+        BoardListener listener = mock(BoardListener.class);
+        large.setListener(listener);
+        int notesMask = (1 << 24) | (1 << 19) | 1;
+        // Execute
+        large.setTileState(0, true, 0, notesMask);
+        // Verify
+        verify(listener).onTileChanged(0, 0, notesMask, false, false);
+    }
+
+    @Test
+    public void testListenerSolveOneEventPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.buildCompleteBoard();
+        BoardListener listener = mock(BoardListener.class);
+        board.setListener(listener);
+        // Execute
+        board.solve();
+        // Verify
+        verify(listener, times(1)).onBoardChanged(true);
+        verify(listener, never()).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void testListenerBatchPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        BoardListener listener = mock(BoardListener.class);
+        board.setListener(listener);
+        // Execute & Verify: changes to one Tile are reported as one onTileChanged()
+        board.beginBatch();
+        board.updateTile(0, 5);
+        board.updateTile(0, 6);
+        verify(listener, never()).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        board.endBatch();
+        verify(listener, times(1)).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        verify(listener).onTileChanged(0, 6, 0, false, false);
+        // Execute & Verify: changes to several Tiles, in nested batches, are reported as one onBoardChanged()
+        board.beginBatch();
+        board.updateTile(1, 5);
+        board.beginBatch();
+        board.updateTile(2, 5);
+        board.endBatch();
+        verify(listener, never()).onBoardChanged(anyBoolean());
+        board.endBatch();
+        verify(listener, times(1)).onBoardChanged(false);
+        // Execute & Verify: an empty batch reports nothing
+        board.beginBatch();
+        board.endBatch();
+        verify(listener, times(1)).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        verify(listener, times(1)).onBoardChanged(anyBoolean());
+    }
+    //endregion
+
+    //region Game Clock tests
+    @Test
+    public void testClockPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        Board spy = spy(board);
+        long second = Board.NANOS_PER_SECOND;
+        doReturn(1000L).when(spy).nanoTime();
+        // Execute & Verify: counts while running
+        spy.startClock();
+        assertTrue(spy.isClockRunning());
+        doReturn(1000L + 3 * second + 5).when(spy).nanoTime();
+        assertEquals(3 * second + 5, spy.getElapsedNanos());
+        assertEquals(3, spy.getElapsedSeconds());
+        // Execute & Verify: not while stopped
+        spy.stopClock();
+        assertFalse(spy.isClockRunning());
+        doReturn(1000L + 60 * second).when(spy).nanoTime();
+        assertEquals(3 * second + 5, spy.getElapsedNanos());
+        // Execute & Verify: picks up where it stopped
+        spy.startClock();
+        doReturn(1000L + 62 * second).when(spy).nanoTime();
+        assertEquals(5 * second + 5, spy.getElapsedNanos());
+        assertEquals("00:05", spy.getTime());
+    }
+
+    @Test
+    public void testResetClockPass() {
+        // Setup
+        board.startClock();
+        // Execute
+        board.resetClock(90);
+        // Verify
+        assertFalse(board.isClockRunning());
+        assertEquals(90 * Board.NANOS_PER_SECOND, board.getElapsedNanos());
+        assertEquals("01:30", board.getTime());
+        board.resetClock(-5);
+        assertEquals(0, board.getElapsedNanos());
+    }
+
+    @Test
+    public void testClockStopsWhenGameOverPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.buildCompleteBoard();
+        board.startClock();
+        // Execute
+        board.solve();
+        // Verify
+        assertFalse(board.isClockRunning());
+        long elapsed = board.getElapsedNanos();
+        board.startClock();
+        assertFalse(board.isClockRunning());
+        assertEquals(elapsed, board.getElapsedNanos());
+    }
+    //endregion
+
     //region getWrongTiles() tests
     @Test
     public void testGetWrongTilesOneTilePass() {
@@ -694,10 +922,16 @@ public class BoardTest {
     //region getTime() tests
     @Test
     public void testGetTimePass() {
-        board.timeElapsed = "0:12";
-        assertEquals("0:12", board.getTime());
-        board.timeElapsed = "0:13";
-        assertEquals("0:13", board.getTime());
+        board.resetClock(12);
+        assertEquals("00:12", board.getTime());
+        board.resetClock(13);
+        assertEquals("00:13", board.getTime());
+    }
+
+    @Test
+    public void testGetTimePast99MinutesPass() {
+        board.resetClock(123 * 60 + 4);
+        assertEquals("123:04", board.getTime());
     }
     //endregion
 
@@ -907,6 +1141,61 @@ public class BoardTest {
     }
     //endregion
 
+    //region setTileState() tests
+    @Test
+    public void testSetTileStateValuePass() {
+        // Set up
+        board.initializeHouses();
+        board.initializeTiles();
+        board.toggleNoteMode(0);
+        board.updateTile(0, 3);
+        // Execute
+        assertTrue(board.setTileState(0, false, 5, 0));
+        // Verify
+        assertFalse(board.tileIsNoteMode(0));
+        assertEquals(5, board.getTile(0).getValue());
+        assertEquals(0, board.getTile(0).getNotesMask());
+        assertTrue(board.getRow(0).hasValue(5));
+    }
+
+    @Test
+    public void testSetTileStateNotesPass() {
+        // Set up
+        board.initializeHouses();
+        board.initializeTiles();
+        board.updateTile(0, 5);
+        // Execute
+        assertTrue(board.setTileState(0, true, 0, 0x101));
+        // Verify
+        assertTrue(board.tileIsNoteMode(0));
+        assertEquals(0, board.getTile(0).getValue());
+        assertEquals(0x101, board.getTile(0).getNotesMask());
+        assertFalse(board.getRow(0).hasValue(5));
+    }
+
+    @Test
+    public void testSetTileStateOrigIgnore() {
+        // Set up
+        Board spy = spy(board);
+        doReturn(true).when(spy).tileIsOrig(0);
+        doReturn(mockedTile).when(spy).getTile(anyInt());
+        // Execute & Verify
+        assertFalse(spy.setTileState(0, false, 1, 0));
+        verify(mockedTile, never()).clear();
+    }
+
+    @Test
+    public void testSetTileStateBadIndexIgnore() {
+        // Set up
+        Board spy = spy(board);
+        doReturn(mockedTile).when(spy).getTile(anyInt());
+        // Execute & Verify
+        assertFalse(spy.setTileState(-1, false, 1, 0));
+        assertFalse(spy.setTileState(boardSize, false, 1, 0));
+        verify(mockedTile, never()).clear();
+    }
+    //endregion
+
     //region useHint() tests
     @Test
     public void testUseHintOneOpenTileValueModePass() {
@@ -953,6 +1242,25 @@ public class BoardTest {
         verify(mockedTile).setOrig(true);
     }
 
+    @Test
+    public void testAddGivenNoteModePass() {
+        // Setup
+        int index = 3;
+        int solutionValue = 7;
+        Board spy = spy(board);
+        doReturn(solutionValue).when(spy).getSolutionForTile(index);
+        when(mockedTile.isNoteMode()).thenReturn(true);
+        when(mockedTile.getIndex()).thenReturn(index);
+        // Execute
+        assertEquals(index, spy.addGiven(mockedTile));
+        // Verify
+        verify(mockedTile).toggleMode();
+        verify(mockedTile).clear();
+        verify(mockedTile).update(solutionValue);
+        verify(mockedTile).setOrig(true);
+        assertTrue(spy.solvedTiles.contains(mockedTile));
+    }
+
     @Test
     public void testUseHintZeroOpenTilesFail() {
         Board spy = spy(board);
@@ -1091,7 +1399,8 @@ public class BoardTest {
     @Test
     public void testSavePass() throws JSONException {
         // Setup
-        String currentTime = "0:12";
+        String currentTime = "00:12";
+        board.resetClock(12);
         board.difficulty = 1;
         JSONObject object = new JSONObject();
         when(mockedTile.getJSON()).thenReturn(object);
@@ -1100,7 +1409,7 @@ public class BoardTest {
             board.tiles[i] = mockedTile;
         }
         // Execute
-        JSONObject savedGame = board.save(currentTime);
+        JSONObject savedGame = board.save();
         // Verify
         assertNotNull(savedGame);
         assertEquals(board.difficulty, savedGame.getInt(Board.JSON_DIFFICULTY_ID));
@@ -1116,6 +1425,29 @@ public class BoardTest {
             assertEquals(object, tiles.getJSONObject(i));
         }
     }
+
+    @Test
+    public void testSaveAndLoadSeedPass() throws JSONException {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.loadPuzzle(1, Long.MIN_VALUE, new int[boardSize], new int[boardSize]);
+        Board loaded = new Board(houseSize);
+        loaded.initializeHouses();
+        // Execute
+        JSONObject savedGame = board.save();
+        assertEquals(1, loaded.loadGame(new JSONObject(savedGame.toString())));
+        // Verify
+        assertEquals(Long.MIN_VALUE, savedGame.getLong(Board.JSON_SEED_ID));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), loaded.seed);
+    }
+
+    @Test
+    public void testSaveWithoutSeedPass() {
+        board.initializeHouses();
+        board.initializeTiles();
+        assertFalse(board.save().has(Board.JSON_SEED_ID));
+    }
     //endregion
 
     //region loadGame() tests
@@ -1147,7 +1479,8 @@ public class BoardTest {
         assertEquals(difficulty, spy.loadGame(mockLoadGame));
         // Verify
         assertEquals(difficulty, spy.difficulty);
-        assertEquals(savedTime, spy.timeElapsed);
+        assertEquals(savedTime, spy.getTime());
+        assertFalse(spy.clockRunning);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(solutionValue, spy.solution[i]);
             assertEquals(mockedTile, spy.tiles[i]);
@@ -1163,7 +1496,7 @@ public class BoardTest {
         assertEquals(-1, board.loadGame(savedGame));
         // Verify
         assertEquals(1, board.difficulty);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, board.solution[i]);
             assertNull(board.tiles[i]);
@@ -1180,7 +1513,7 @@ public class BoardTest {
         assertEquals(-1, board.loadGame(savedGame));
         // Verify
         assertEquals(1, board.difficulty);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, board.solution[i]);
             assertNull(board.tiles[i]);
@@ -1198,7 +1531,7 @@ public class BoardTest {
         assertEquals(-1, board.loadGame(savedGame));
         // Verify
         assertEquals(1, board.difficulty);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, board.solution[i]);
             assertNull(board.tiles[i]);
@@ -1219,7 +1552,7 @@ public class BoardTest {
         assertEquals(-1, board.loadGame(savedGame));
         // Verify
         assertEquals(1, board.difficulty);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, board.solution[i]);
             assertNull(board.tiles[i]);
@@ -1242,7 +1575,7 @@ public class BoardTest {
         assertEquals(-1, board.loadGame(savedGame));
         // Verify
         assertEquals(1, board.difficulty);
-        assertEquals("", board.timeElapsed);
+        assertEquals(0, board.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, board.solution[i]);
             assertNull(board.tiles[i]);
@@ -1270,7 +1603,7 @@ public class BoardTest {
         assertEquals(-1, spy.loadGame(savedGame));
         // Verify
         assertEquals(1, spy.difficulty);
-        assertEquals("", spy.timeElapsed);
+        assertEquals(0, spy.elapsedNanos);
         for (int i = 0; i < boardSize; ++i) {
             assertEquals(0, spy.solution[i]);
             assertNull(spy.tiles[i]);
@@ -1292,18 +1625,22 @@ public class BoardTest {
         doNothing().when(spy).digHoles(anyInt());
         doNothing().when(spy).checkBounds(anyInt());
         doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
         spy.randGen = mock(Random.class);
         // Execute
         assertEquals(difficulty, spy.newGame(difficulty));
         // Verify
         assertEquals(difficulty, spy.difficulty);
-        assertEquals("00:00", spy.timeElapsed);
+        assertEquals(0, spy.elapsedNanos);
         verify(spy).buildCompleteBoard();
         verify(spy).getNumberOfGivens(difficulty);
         verify(spy).digHoles(numGivens);
         verify(spy).getBound(difficulty);
         verify(spy).checkBounds(bound);
         verify(spy).markOriginals();
+        verify(spy).fitDifficulty(mockSolver);
     }
 
     @Test
@@ -1319,18 +1656,22 @@ public class BoardTest {
         doNothing().when(spy).digHoles(anyInt());
         doNothing().when(spy).checkBounds(anyInt());
         doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
         spy.randGen = mock(Random.class);
         // Execute
         assertEquals(difficulty, spy.newGame(difficulty));
         // Verify
         assertEquals(difficulty, spy.difficulty);
-        assertEquals("00:00", spy.timeElapsed);
+        assertEquals(0, spy.elapsedNanos);
         verify(spy).buildCompleteBoard();
         verify(spy).getNumberOfGivens(difficulty);
         verify(spy).digHoles(numGivens);
         verify(spy).getBound(difficulty);
         verify(spy).checkBounds(bound);
         verify(spy).markOriginals();
+        verify(spy).fitDifficulty(mockSolver);
     }
 
     @Test
@@ -1346,24 +1687,59 @@ public class BoardTest {
         doNothing().when(spy).digHoles(anyInt());
         doNothing().when(spy).checkBounds(anyInt());
         doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
         spy.randGen = mock(Random.class);
         // Execute
         assertEquals(difficulty, spy.newGame(difficulty));
         // Verify
         assertEquals(difficulty, spy.difficulty);
-        assertEquals("00:00", spy.timeElapsed);
+        assertEquals(0, spy.elapsedNanos);
         verify(spy).buildCompleteBoard();
         verify(spy).getNumberOfGivens(difficulty);
         verify(spy).digHoles(numGivens);
         verify(spy).getBound(difficulty);
         verify(spy).checkBounds(bound);
         verify(spy).markOriginals();
+        verify(spy).fitDifficulty(mockSolver);
     }
 
     @Test
-    public void testNewGameRandomPass() {
+    public void testNewGameExpertPass() {
         // Setup
         int difficulty = 4;
+        int numGivens = 22;
+        int bound = 1;
+        Board spy = spy(board);
+        doReturn(true).when(spy).buildCompleteBoard();
+        doReturn(numGivens).when(spy).getNumberOfGivens(difficulty);
+        doReturn(bound).when(spy).getBound(difficulty);
+        doNothing().when(spy).digHoles(anyInt());
+        doNothing().when(spy).checkBounds(anyInt());
+        doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
+        spy.randGen = mock(Random.class);
+        // Execute
+        assertEquals(difficulty, spy.newGame(difficulty));
+        // Verify
+        assertEquals(difficulty, spy.difficulty);
+        assertEquals(0, spy.elapsedNanos);
+        verify(spy).buildCompleteBoard();
+        verify(spy).getNumberOfGivens(difficulty);
+        verify(spy).digHoles(numGivens);
+        verify(spy).getBound(difficulty);
+        verify(spy).checkBounds(bound);
+        verify(spy).markOriginals();
+        verify(spy).fitDifficulty(mockSolver);
+    }
+
+    @Test
+    public void testNewGameRandomPass() {
+        // Setup
+        int difficulty = 0;
         int resultantDifficulty = 2;
         int numGivens = 32;
         int bound = 3;
@@ -1374,239 +1750,343 @@ public class BoardTest {
         doNothing().when(spy).digHoles(anyInt());
         doNothing().when(spy).checkBounds(anyInt());
         doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
         spy.randGen = mock(Random.class);
-        when(spy.randGen.nextInt(3)).thenReturn(resultantDifficulty - 1);
+        when(spy.randGen.nextInt(Board.NUM_DIFFICULTIES)).thenReturn(resultantDifficulty - 1);
         // Execute
         assertEquals(resultantDifficulty, spy.newGame(difficulty));
         // Verify
         assertEquals(resultantDifficulty, spy.difficulty);
-        assertEquals("00:00", spy.timeElapsed);
+        assertEquals(0, spy.elapsedNanos);
         verify(spy).buildCompleteBoard();
         verify(spy).getNumberOfGivens(resultantDifficulty);
         verify(spy).digHoles(numGivens);
         verify(spy).getBound(resultantDifficulty);
         verify(spy).checkBounds(bound);
         verify(spy).markOriginals();
+        verify(spy).fitDifficulty(mockSolver);
     }
-    //endregion
 
-    //region buildCompleteBoard() tests
     @Test
-    @SuppressWarnings("unchecked")
-    public void testBuildCompleteBoardPass() {
+    public void testNewGameDrawsSeedPass() {
         // Setup
+        long seed = 1234L;
         Board spy = spy(board);
-        doNothing().when(spy).seedFirstTiles(argThat(is(any(Stack.class))));
-        doNothing().when(spy).fillBoard_DFS(argThat(is(any(Stack.class))));
-        doNothing().when(spy).saveBoardToSolution();
-        // Execute & Verify
-        assertTrue(spy.buildCompleteBoard());
-    }
-
-    @Test
-    @SuppressWarnings("unchecked")
-    public void testBuildCompleteBoardException() {
-        // Setup
-        Board spy = spy(board);
-        doNothing().when(spy).seedFirstTiles(argThat(is(any(Stack.class))));
-        doThrow(new EmptyStackException()).when(spy).fillBoard_DFS(argThat(is(any(Stack.class))));
-        doNothing().when(spy).saveBoardToSolution();
+        doReturn(1).when(spy).newGame(1, seed);
+        spy.randGen = mock(Random.class);
+        when(spy.randGen.nextLong()).thenReturn(seed);
         // Execute & Verify
-        assertFalse(spy.buildCompleteBoard());
+        assertEquals(1, spy.newGame(1));
+        verify(spy).newGame(1, seed);
     }
-    //endregion
 
-    //region seedFirstTiles() tests
     @Test
-    @SuppressWarnings("unchecked")
-    public void testSeedFirstTilesPass() {
+    public void testNewGameWithSeedPass() {
         // Setup
-        Stack<Tile> mockStack = (Stack<Tile>) (mock(Stack.class));
+        int difficulty = 3;
+        long seed = 1234L;
         Board spy = spy(board);
+        doReturn(true).when(spy).buildCompleteBoard();
+        doNothing().when(spy).digHoles(anyInt());
+        doNothing().when(spy).checkBounds(anyInt());
+        doNothing().when(spy).markOriginals();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(true).when(spy).fitDifficulty(mockSolver);
         spy.randGen = mock(Random.class);
-        doReturn(mockedHouse).when(spy).getColumn(anyInt());
-        when(spy.randGen.nextInt(anyInt())).thenReturn(0); // return value doesn't actually matter
-        when(mockedHouse.getMember(anyInt())).thenReturn(mockedTile);
         // Execute
-        spy.seedFirstTiles(mockStack);
+        assertEquals(difficulty, spy.newGame(difficulty, seed));
         // Verify
-        verify(mockStack, times(houseSize)).add(mockedTile);
+        assertEquals(Long.valueOf(seed), spy.seed);
+        verify(spy.randGen).setSeed(seed);
+    }
+
+    @Test
+    public void testNewGameOtherSizesPass() {
+        for (int size : new int[]{4, 16}) {
+            for (int difficulty = 1; difficulty <= Board.NUM_DIFFICULTIES; ++difficulty) {
+                // Setup
+                Board sized = new Board(size);
+                sized.initializeHouses();
+                sized.initializeTiles();
+                // Execute
+                assertEquals(difficulty, sized.newGame(difficulty, difficulty));
+                // Verify
+                int[] givens = new int[size * size];
+                for (int i = 0; i < givens.length; ++i) {
+                    givens[i] = sized.getTile(i).getValue();
+                    if (givens[i] > 0) {
+                        assertEquals(sized.solution[i], givens[i]);
+                    }
+                }
+                assertTrue(sized.getDancingLinks().hasUniqueSolution(givens));
+                assertTrue(sized.solve());
+                assertTrue(sized.isGameOver());
+            }
+        }
     }
-    //endregion
 
-    //region fillBoard_DFS() tests
     @Test
-    @SuppressWarnings("unchecked")
-    public void testFillBoardDFS_LoopAndExit_Pass() {
+    public void testNewGameBuildFailsPass() {
         // Setup
-        int index = 8;
         Board spy = spy(board);
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.peek()).thenReturn(mockedTile);
-        when(mockedTile.getIndex()).thenReturn(index);
-        doReturn(mockedTile).when(spy).getTile(index);
-        doReturn(true).doReturn(false).when(spy).keepSearching_DFS(mockStack);
-        doReturn(index + 2).when(spy).executeOneStep_DFS(index + 1, mockStack);
-        // Execute
-        spy.fillBoard_DFS(mockStack);
-        // Verify
-        verify(spy, times(2)).keepSearching_DFS(mockStack);
-        verify(spy).executeOneStep_DFS(index + 1, mockStack);
+        doReturn(false).when(spy).buildCompleteBoard();
+        // Execute & Verify
+        assertEquals(-1, spy.newGame(1, 1234L));
+        verify(spy, never()).digHoles(anyInt());
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testFillBoardDFS_ThrowException() {
+    public void testNewGameInterruptedPass() {
         // Setup
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.peek()).thenThrow(new EmptyStackException());
-        // Expect
-        expectedException.expect(EmptyStackException.class);
-        // Execute
-        board.fillBoard_DFS(mockStack);
+        board.initializeHouses();
+        board.initializeTiles();
+        Thread.currentThread().interrupt();
+        // Execute & Verify
+        try {
+            assertEquals(-1, board.newGame(2, 1234L));
+        } finally {
+            Thread.interrupted();
+        }
     }
-    //endregion
 
-    //region keepSearching_DFS() tests
-    @Test
-    @SuppressWarnings("unchecked")
-    public void testKeepSearchingDFS_MidSize_Pass() {
-        // Setup
-        int size = 35;
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.size()).thenReturn(size);
-        // Execute & Verify
-        assertTrue(board.keepSearching_DFS(mockStack));
+    @Test(timeout = 30000)
+    public void testNewGameEverySeedFinishesPass() {
+        // Seeds 4, 32, 42 and 46 used to send the board builder into a search that never finished
+        for (long seed = 0; seed < 60; ++seed) {
+            for (int difficulty = 1; difficulty <= Board.NUM_DIFFICULTIES; ++difficulty) {
+                // Setup
+                Board seeded = new Board(houseSize);
+                seeded.initializeHouses();
+                seeded.initializeTiles();
+                // Execute
+                assertEquals(difficulty, seeded.newGame(difficulty, seed));
+                // Verify
+                int[] givens = new int[boardSize];
+                for (int i = 0; i < boardSize; ++i) {
+                    givens[i] = seeded.getTile(i).getValue();
+                    if (givens[i] > 0) {
+                        assertEquals(seeded.solution[i], givens[i]);
+                    }
+                }
+                assertTrue(seeded.getDancingLinks().hasUniqueSolution(givens));
+            }
+        }
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testKeepSearchingDFS_MinSize_Pass() {
+    public void testNewGameRetriesUntilRatedPass() {
         // Setup
-        int size = 0;
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.size()).thenReturn(size);
-        // Execute & Verify
-        assertTrue(board.keepSearching_DFS(mockStack));
+        Board spy = spy(board);
+        doReturn(true).when(spy).buildCompleteBoard();
+        doNothing().when(spy).digHoles(anyInt());
+        doNothing().when(spy).checkBounds(anyInt());
+        doNothing().when(spy).markOriginals();
+        doNothing().when(spy).resetTiles();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(false).doReturn(false).doReturn(true).when(spy).fitDifficulty(mockSolver);
+        // Execute
+        assertEquals(2, spy.newGame(2, 1234L));
+        // Verify
+        verify(spy, times(3)).buildCompleteBoard();
+        verify(spy, times(3)).fitDifficulty(mockSolver);
+        verify(spy, times(2)).resetTiles();
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testKeepSearchingDFS_MaxSize_Pass() {
+    public void testNewGameKeepsLastAttemptPass() {
         // Setup
-        int size = boardSize-1;
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.size()).thenReturn(size);
-        // Execute & Verify
-        assertTrue(board.keepSearching_DFS(mockStack));
+        Board spy = spy(board);
+        doReturn(true).when(spy).buildCompleteBoard();
+        doNothing().when(spy).digHoles(anyInt());
+        doNothing().when(spy).checkBounds(anyInt());
+        doNothing().when(spy).markOriginals();
+        doNothing().when(spy).resetTiles();
+        Solver mockSolver = mock(Solver.class);
+        doReturn(mockSolver).when(spy).getSolver();
+        doReturn(false).when(spy).fitDifficulty(mockSolver);
+        // Execute
+        assertEquals(2, spy.newGame(2, 1234L));
+        // Verify
+        verify(spy, times(Board.MAX_RATING_ATTEMPTS)).buildCompleteBoard();
+        verify(spy, times(Board.MAX_RATING_ATTEMPTS - 1)).resetTiles();
+    }
+
+    @Test(timeout = 30000)
+    public void testNewGameRatedAtDifficultyPass() {
+        for (long seed = 0; seed < 20; ++seed) {
+            for (int difficulty = 1; difficulty <= Board.NUM_DIFFICULTIES; ++difficulty) {
+                // Setup
+                Board seeded = new Board(houseSize);
+                seeded.initializeHouses();
+                seeded.initializeTiles();
+                // Execute
+                assertEquals(difficulty, seeded.newGame(difficulty, seed));
+                // Verify
+                Solver solver = new Solver(seeded);
+                assertTrue(solver.isSolvable(difficulty));
+                assertEquals(difficulty, solver.getRating());
+            }
+        }
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testKeepSearchingDFS_TooLargeSize_Pass() {
-        // Setup
-        int size = boardSize;
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        when(mockStack.size()).thenReturn(size);
-        // Execute & Verify
-        assertFalse(board.keepSearching_DFS(mockStack));
+    public void testNewGameSameSeedSamePuzzlePass() {
+        for (int difficulty = 1; difficulty <= Board.NUM_DIFFICULTIES; ++difficulty) {
+            Board first = new Board(houseSize);
+            first.initializeHouses();
+            first.initializeTiles();
+            Board second = new Board(houseSize);
+            second.initializeHouses();
+            second.initializeTiles();
+            assertEquals(difficulty, first.newGame(difficulty, 20261017L));
+            assertEquals(difficulty, second.newGame(difficulty, 20261017L));
+            assertArrayEquals(first.solution, second.solution);
+            for (int i = 0; i < boardSize; ++i) {
+                assertEquals(first.getTile(i).getValue(), second.getTile(i).getValue());
+            }
+        }
     }
     //endregion
 
-    //region executeOneStep_DFS() tests
+    //region deriveGame() tests
     @Test
-    @SuppressWarnings("unchecked")
-    public void testExecuteOneStepDFS_SuccessfulInitialize_Pass() {
+    public void testDeriveGamePass() {
         // Setup
-        int index = 9;
-        Board spy = spy(board);
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        doReturn(mockedTile).when(spy).getNextTile_DFS(index);
-        when(mockedTile.tryInitialize()).thenReturn(true);
-        when(mockedTile.getIndex()).thenReturn(index + 1);
-        // Execute & Verify
-        assertEquals(index + 1, spy.executeOneStep_DFS(index, mockStack));
-        verify(mockStack).add(mockedTile);
+        int difficulty = 3;
+        Board template = new Board(houseSize);
+        template.initializeHouses();
+        template.initializeTiles();
+        template.newGame(difficulty, 20261017L);
+        int[] givens = new int[boardSize];
+        for (int i = 0; i < boardSize; ++i) {
+            givens[i] = template.getTile(i).getValue();
+        }
+        board.initializeHouses();
+        board.initializeTiles();
+        // Execute
+        assertEquals(difficulty, board.deriveGame(difficulty, givens, template.solution, 8L));
+        // Verify
+        assertEquals(difficulty, board.difficulty);
+        assertNull(board.seed);
+        int[] derived = new int[boardSize];
+        int numGivens = 0;
+        for (int i = 0; i < boardSize; ++i) {
+            derived[i] = board.getTile(i).getValue();
+            if (derived[i] > 0) {
+                assertEquals(board.solution[i], derived[i]);
+                assertTrue(board.getTile(i).isOrig());
+                ++numGivens;
+            }
+        }
+        assertEquals(template.solvedTiles.size(), numGivens);
+        assertTrue(board.getDancingLinks().hasUniqueSolution(derived));
     }
 
     @Test
-    @SuppressWarnings("unchecked")
-    public void testExecuteOneStepDFS_FailedInitialize_Pass() {
-        // Setup
-        int index = 9;
+    public void testDeriveGameDrawsSeedPass() {
+        int[] givens = new int[boardSize];
         Board spy = spy(board);
-        Stack<Tile> mockStack = (Stack<Tile>) mock(Stack.class);
-        Tile mockTile1 = mock(Tile.class);
-        Tile mockTile2 = mock(Tile.class);
-        doReturn(mockTile2).when(spy).getNextTile_DFS(index);
-        when(mockTile2.getIndex()).thenReturn(index + 1);
-        when(mockTile2.tryInitialize()).thenReturn(false);
-        when(mockStack.pop()).thenReturn(mockTile1);
-        when(mockTile1.getIndex()).thenReturn(index);
-        // Execute & Verify
-        assertEquals(index, spy.executeOneStep_DFS(index, mockStack));
-        verify(mockTile2).resetInitializationState();
-        verify(mockStack).pop();
-        verify(mockTile1).unVisit();
+        doReturn(1).when(spy).deriveGame(1, givens, givens, 77L);
+        spy.randGen = mock(Random.class);
+        when(spy.randGen.nextLong()).thenReturn(77L);
+        assertEquals(1, spy.deriveGame(1, givens, givens));
+        verify(spy).deriveGame(1, givens, givens, 77L);
     }
-    //endregion
 
-    //region incrementIndex_DFS() tests
     @Test
-    public void testIncrementIndexDFS_MidIndex_Pass() {
-        int index = boardSize / 2;
-        assertEquals(index + 1, board.incrementIndex_DFS(index));
+    public void testDeriveGameWrongSizeFail() {
+        board.initializeHouses();
+        board.initializeTiles();
+        assertEquals(-1, board.deriveGame(1, new int[boardSize - 1], new int[boardSize], 0L));
+        assertEquals(-1, board.deriveGame(1, new int[boardSize], null, 0L));
+        assertEquals(0, board.difficulty);
     }
 
     @Test
-    public void testIncrementIndexDFS_MaxIndex_Pass() {
-        int index = boardSize - 1;
-        assertEquals(0, board.incrementIndex_DFS(index));
+    public void testGetTransformerPass() {
+        PuzzleTransformer transformer = board.getTransformer();
+        assertNotNull(transformer);
+        assertSame(transformer, board.getTransformer());
+        assertEquals(houseSize, transformer.houseSize);
     }
     //endregion
 
-    //region getNextTile_DFS() tests
+    //region loadPuzzle() tests
     @Test
-    public void testGetNextTileDFS_NotVisited_Pass() {
+    public void testLoadPuzzlePass() {
         // Setup
-        int index = 0;
-        Board spy = spy(board);
-        when(mockedTile.hasBeenVisited()).thenReturn(false);
-        doReturn(mockedTile).when(spy).getTile(index);
-        // Execute & Verify
-        assertEquals(mockedTile, spy.getNextTile_DFS(index));
+        int difficulty = 2;
+        int[] givens = new int[boardSize];
+        int[] solution = new int[boardSize];
+        for (int i = 0; i < boardSize; ++i) {
+            solution[i] = (i % houseSize) + 1;
+        }
+        givens[0] = solution[0];
+        givens[40] = solution[40];
+        board.initializeHouses();
+        board.initializeTiles();
+        // Execute
+        assertEquals(difficulty, board.loadPuzzle(difficulty, 99L, givens, solution));
+        // Verify
+        assertEquals(difficulty, board.difficulty);
+        assertEquals(Long.valueOf(99L), board.seed);
+        assertEquals(0, board.elapsedNanos);
+        assertArrayEquals(solution, board.solution);
+        for (int i = 0; i < boardSize; ++i) {
+            assertEquals(givens[i], board.getTile(i).getValue());
+            assertEquals(givens[i] > 0, board.getTile(i).isOrig());
+        }
+        assertEquals(2, board.solvedTiles.size());
     }
 
     @Test
-    public void testGetNextTileDFS_VisitedThenNotVisited_Pass() {
-        // Setup
-        int index = 0;
-        Board spy = spy(board);
-        Tile mockTile1 = mock(Tile.class);
-        Tile mockTile2 = mock(Tile.class);
-        when(mockTile1.hasBeenVisited()).thenReturn(true);
-        when(mockTile2.hasBeenVisited()).thenReturn(false);
-        doReturn(mockTile1).when(spy).getTile(index);
-        doReturn(mockTile2).when(spy).getTile(index + 1);
-        doReturn(index + 1).when(spy).incrementIndex_DFS(index);
-        // Execute & Verify
-        assertEquals(mockTile2, spy.getNextTile_DFS(index));
+    public void testLoadPuzzleWrongSizeFail() {
+        board.initializeHouses();
+        board.initializeTiles();
+        assertEquals(-1, board.loadPuzzle(1, 0L, new int[boardSize - 1], new int[boardSize]));
+        assertEquals(-1, board.loadPuzzle(1, 0L, new int[boardSize], null));
+        assertEquals(0, board.difficulty);
     }
+    //endregion
 
+    //region buildCompleteBoard() tests
     @Test
-    public void testGetNextTileDFS_MaxIndexVisitedThenWrapAround_Pass() {
-        // Setup
-        int index = boardSize - 1;
+    public void testBuildCompleteBoardUsesDancingLinksPass() {
+        for (int size : new int[]{9, 16}) {
+            Board spy = spy(new Board(size));
+            doReturn(true).when(spy).buildCompleteBoard_DLX();
+            assertTrue(spy.buildCompleteBoard());
+            verify(spy).buildCompleteBoard_DLX();
+        }
         Board spy = spy(board);
-        Tile mockTileMax = mock(Tile.class);
-        Tile mockTile0 = mock(Tile.class);
-        when(mockTileMax.hasBeenVisited()).thenReturn(true);
-        when(mockTile0.hasBeenVisited()).thenReturn(false);
-        doReturn(mockTileMax).when(spy).getTile(index);
-        doReturn(mockTile0).when(spy).getTile(0);
-        doReturn(0).when(spy).incrementIndex_DFS(index);
-        // Execute & Verify
-        assertEquals(mockTile0, spy.getNextTile_DFS(index));
+        doReturn(false).when(spy).buildCompleteBoard_DLX();
+        assertFalse(spy.buildCompleteBoard());
+    }
+
+    @Test
+    public void testBuildCompleteBoard_DLXPass() {
+        for (int size : new int[]{4, 9, 16}) {
+            // Setup
+            Board sized = new Board(size);
+            sized.initializeHouses();
+            sized.initializeTiles();
+            // Execute
+            assertTrue(sized.buildCompleteBoard_DLX());
+            // Verify every House holds every value once
+            int fullMask = (1 << size) - 1;
+            for (int i = 0; i < size; ++i) {
+                assertEquals(fullMask, sized.getRow(i).getValueMask());
+                assertEquals(fullMask, sized.getColumn(i).getValueMask());
+                assertEquals(fullMask, sized.getZone(i).getValueMask());
+            }
+            for (int i = 0; i < size * size; ++i) {
+                assertEquals(sized.getTile(i).getValue(), sized.solution[i]);
+            }
+        }
     }
     //endregion
 
@@ -1681,6 +2161,38 @@ public class BoardTest {
         assertEquals(randInt + 27, board.getNumberOfGivens(difficulty));
         verify(board.randGen).nextInt(5);
     }
+
+    @Test
+    public void testGetNumberOfGivens_Expert_Pass() {
+        // Setup
+        int randInt = 0;
+        int difficulty = 4;
+        board.randGen = mock(Random.class);
+        when(board.randGen.nextInt(anyInt())).thenReturn(randInt);
+        // Execute & Verify
+        assertEquals(randInt + 22, board.getNumberOfGivens(difficulty));
+        verify(board.randGen).nextInt(5);
+    }
+
+    @Test
+    public void testGetNumberOfGivens_LargeBoard_Pass() {
+        // Setup
+        Board large = new Board(16);
+        large.randGen = mock(Random.class);
+        when(large.randGen.nextInt(anyInt())).thenReturn(0);
+        // Execute & Verify
+        assertEquals(40 * 256 / 81, large.getNumberOfGivens(1));
+        verify(large.randGen).nextInt(10 * 256 / 81);
+        assertEquals(27 * 256 / 81, large.getNumberOfGivens(3));
+        assertEquals(22 * 256 / 81, large.getNumberOfGivens(4));
+    }
+
+    @Test
+    public void testScaleToBoardPass() {
+        assertEquals(40, board.scaleToBoard(40));
+        assertEquals(1, new Board(4).scaleToBoard(5)); // Never below 1
+        assertEquals(308, new Board(25).scaleToBoard(40));
+    }
     //endregion
 
     //region digHoles() tests
@@ -1690,6 +2202,7 @@ public class BoardTest {
         int numGivens = boardSize - 2;
         int value = 5; // value of Tiles to be reset
         Board spy = spy(board);
+        spy.uniqueHoles = false;
         spy.randGen = mock(Random.class);
         Tile mockTile1 = mock(Tile.class);
         Tile mockTile2 = mock(Tile.class);
@@ -1710,6 +2223,7 @@ public class BoardTest {
         int numGivens = boardSize - 2;
         int value = 5; // value of Tiles to be reset
         Board spy = spy(board);
+        spy.uniqueHoles = false;
         spy.randGen = mock(Random.class);
         Tile mockTile1 = mock(Tile.class);
         Tile mockTile2 = mock(Tile.class);
@@ -1729,6 +2243,85 @@ public class BoardTest {
     }
     //endregion
 
+    //region digUniqueHoles() tests
+    @Test
+    public void testDigHoles_UniqueMode_Pass() {
+        // Setup
+        int numGivens = 30;
+        Board spy = spy(board);
+        spy.difficulty = 2;
+        doNothing().when(spy).digUniqueHoles(anyInt(), anyInt());
+        // Execute & Verify
+        spy.digHoles(numGivens);
+        verify(spy).digUniqueHoles(numGivens, spy.getBound(2));
+        verify(spy, never()).getTile(anyInt());
+    }
+
+    @Test
+    public void testDigUniqueHoles_KeepsSolutionUnique_Pass() {
+        // Setup
+        int numGivens = 27;
+        int bound = 2;
+        board.initializeHouses();
+        board.initializeTiles();
+        board.buildCompleteBoard();
+        // Execute
+        board.digUniqueHoles(numGivens, bound);
+        // Verify
+        int[] grid = new int[boardSize];
+        int givens = 0;
+        for (int i = 0; i < boardSize; ++i) {
+            grid[i] = board.getTile(i).getValue();
+            if (grid[i] > 0) {
+                assertEquals(board.getSolutionForTile(i), grid[i]);
+                ++givens;
+            }
+        }
+        assertTrue(givens >= numGivens);
+        assertTrue(board.getDancingLinks().hasUniqueSolution(grid));
+        for (int i = 0; i < houseSize; ++i) {
+            assertTrue(board.getRow(i).getValueCount() >= bound);
+            assertTrue(board.getColumn(i).getValueCount() >= bound);
+        }
+    }
+
+    @Test
+    public void testDigUniqueHoles_StopsAtNumGivens_Pass() {
+        // Setup
+        int numGivens = 60;
+        board.initializeHouses();
+        board.initializeTiles();
+        board.buildCompleteBoard();
+        // Execute
+        board.digUniqueHoles(numGivens, 4);
+        // Verify
+        int givens = 0;
+        for (Tile tile : board.getTiles()) {
+            if (tile.getValue() > 0) {
+                ++givens;
+            }
+        }
+        assertEquals(numGivens, givens);
+    }
+
+    @Test
+    public void testGetDancingLinks_ReusesInstance_Pass() {
+        assertNull(board.dancingLinks);
+        DancingLinks dancingLinks = board.getDancingLinks();
+        assertNotNull(dancingLinks);
+        assertEquals(dancingLinks, board.getDancingLinks());
+    }
+    //endregion
+
+    //region getDigBudget() tests
+    @Test
+    public void testGetDigBudgetPass() {
+        assertEquals(0, board.getDigBudget());
+        assertEquals(0, new Board(4).getDigBudget());
+        assertEquals(Board.DIG_BUDGET_PER_TILE * 256, new Board(16).getDigBudget());
+    }
+    //endregion
+
     //region getBound() tests
     @Test
     public void testGetBounds_Easy_Pass() {
@@ -1750,6 +2343,22 @@ public class BoardTest {
         int expectedBound = 2;
         assertEquals(expectedBound, board.getBound(difficulty));
     }
+
+    @Test
+    public void testGetBounds_Expert_Pass() {
+        int difficulty = 4;
+        int expectedBound = 1;
+        assertEquals(expectedBound, board.getBound(difficulty));
+    }
+
+    @Test
+    public void testGetBounds_LargeBoard_Pass() {
+        Board large = new Board(16);
+        assertEquals(7, large.getBound(1));
+        assertEquals(5, large.getBound(2));
+        assertEquals(3, large.getBound(3));
+        assertEquals(1, large.getBound(4));
+    }
     //endregion
 
     //region checkBounds() tests
@@ -2207,6 +2816,147 @@ public class BoardTest {
     }
     //endregion
 
+    //region getSolver() tests
+    @Test
+    public void testGetSolverPass() {
+        Solver solver = board.getSolver();
+        assertNotNull(solver);
+        assertSame(solver, board.getSolver());
+    }
+    //endregion
+
+    //region fitDifficulty() tests
+    @Test
+    public void testFitDifficultyRatedPass() {
+        // Setup
+        Board spy = spy(board);
+        spy.difficulty = 2;
+        Solver mockSolver = mock(Solver.class);
+        doReturn(2).when(spy).ratePuzzle(mockSolver);
+        // Execute & Verify
+        assertTrue(spy.fitDifficulty(mockSolver));
+        verify(spy, never()).runSolver(mockSolver);
+        verify(spy, never()).digToRating(mockSolver, 2);
+    }
+
+    @Test
+    public void testFitDifficultyTooHardPass() {
+        // Setup
+        Board spy = spy(board);
+        spy.difficulty = 2;
+        Solver mockSolver = mock(Solver.class);
+        doReturn(3).doReturn(2).when(spy).ratePuzzle(mockSolver);
+        doNothing().when(spy).runSolver(mockSolver);
+        // Execute & Verify
+        assertTrue(spy.fitDifficulty(mockSolver));
+        verify(spy).runSolver(mockSolver);
+        verify(spy, times(2)).ratePuzzle(mockSolver);
+    }
+
+    @Test
+    public void testFitDifficultyTooEasyPass() {
+        // Setup
+        Board spy = spy(board);
+        spy.difficulty = 3;
+        Solver mockSolver = mock(Solver.class);
+        doReturn(1).when(spy).ratePuzzle(mockSolver);
+        doReturn(2).when(spy).digToRating(mockSolver, 1);
+        // Execute & Verify
+        assertFalse(spy.fitDifficulty(mockSolver));
+        verify(spy, never()).runSolver(mockSolver);
+        verify(spy).digToRating(mockSolver, 1);
+    }
+    //endregion
+
+    //region ratePuzzle() tests
+    @Test
+    public void testRatePuzzleSolvablePass() {
+        // Setup
+        Board spy = spy(board);
+        spy.difficulty = 3;
+        Solver mockSolver = mock(Solver.class);
+        doReturn(true).when(mockSolver).isSolvable(3);
+        doReturn(2).when(mockSolver).getRating();
+        doNothing().when(spy).clearBoard();
+        // Execute & Verify
+        assertEquals(2, spy.ratePuzzle(mockSolver));
+        verify(spy).clearBoard();
+    }
+
+    @Test
+    public void testRatePuzzleUnsolvablePass() {
+        // Setup
+        Board spy = spy(board);
+        spy.difficulty = 2;
+        Solver mockSolver = mock(Solver.class);
+        doReturn(false).when(mockSolver).isSolvable(2);
+        doNothing().when(spy).clearBoard();
+        // Execute & Verify
+        assertEquals(3, spy.ratePuzzle(mockSolver));
+        verify(spy).clearBoard();
+    }
+    //endregion
+
+    //region digToRating() tests
+    @Test
+    public void testDigToRatingPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.randGen.setSeed(7);
+        assertTrue(board.buildCompleteBoard());
+        board.difficulty = 2;
+        board.digHoles(board.getNumberOfGivens(board.difficulty));
+        board.markOriginals();
+        Solver solver = board.getSolver();
+        int before = 0;
+        for (Tile tile : board.getTiles()) {
+            before += tile.isOrig() ? 1 : 0;
+        }
+        // Execute
+        int rating = board.digToRating(solver, 1);
+        // Verify
+        int[] givens = new int[boardSize];
+        int after = 0;
+        for (int i = 0; i < boardSize; ++i) {
+            Tile tile = board.getTile(i);
+            if (tile.isOrig()) {
+                givens[i] = tile.getValue();
+                assertEquals(board.solution[i], givens[i]);
+                ++after;
+            } else {
+                assertEquals(0, tile.getValue());
+            }
+        }
+        assertTrue(after <= before);
+        assertEquals(after, board.solvedTiles.size());
+        assertTrue(board.getDancingLinks().hasUniqueSolution(givens));
+        assertTrue(rating <= board.difficulty);
+        assertEquals(rating, board.ratePuzzle(solver));
+    }
+    //endregion
+
+    //region resetTiles() tests
+    @Test
+    public void testResetTilesPass() {
+        // Setup
+        board.initializeHouses();
+        board.initializeTiles();
+        board.randGen.setSeed(7);
+        assertTrue(board.buildCompleteBoard());
+        board.markOriginals();
+        // Execute
+        board.resetTiles();
+        // Verify
+        for (Tile tile : board.getTiles()) {
+            assertFalse(tile.isOrig());
+            assertEquals(0, tile.getValue());
+            assertEquals(0, tile.getCandidateMask() ^ ((1 << houseSize) - 1));
+        }
+        assertTrue(board.solvedTiles.isEmpty());
+    }
+    //endregion
+
     //region clearBoard() tests
     @Test
     public void test_clearBoard_pass() {
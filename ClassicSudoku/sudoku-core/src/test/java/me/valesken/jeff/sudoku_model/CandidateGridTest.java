@@ -0,0 +1,288 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class CandidateGridTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private final int FULL_MASK = 0x1FF;
+    private CandidateGrid grid;
+
+    //region setup
+    @Before
+    public void setUp() {
+        grid = new CandidateGrid(HOUSE_SIZE);
+    }
+    //endregion
+
+    //region constructor tests
+    @Test
+    public void test_constructor_units_pass() {
+        assertEquals(3 * HOUSE_SIZE, grid.units.length);
+        for (int p = 0; p < HOUSE_SIZE; ++p) {
+            assertEquals(9 + p, grid.units[1][p]); // Row 1
+            assertEquals(9 * p + 2, grid.units[HOUSE_SIZE + 2][p]); // Column 2
+        }
+        // Zone 4 is the center zone
+        int[] center = {30, 31, 32, 39, 40, 41, 48, 49, 50};
+        for (int p = 0; p < HOUSE_SIZE; ++p) {
+            assertEquals(center[p], grid.units[2 * HOUSE_SIZE + 4][p]);
+        }
+    }
+
+    @Test
+    public void test_constructor_cellUnits_pass() {
+        assertEquals(7, grid.cellUnits[70][0]);
+        assertEquals(HOUSE_SIZE + 7, grid.cellUnits[70][1]);
+        assertEquals(2 * HOUSE_SIZE + 8, grid.cellUnits[70][2]);
+    }
+    //endregion
+
+    //region load() tests
+    @Test
+    public void test_load_emptyGrid_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        assertEquals(BOARD_SIZE, grid.emptyCount);
+        for (int cell = 0; cell < BOARD_SIZE; ++cell) {
+            assertEquals(0, grid.getValue(cell));
+            assertEquals(FULL_MASK, grid.getCandidates(cell));
+        }
+    }
+
+    @Test
+    public void test_load_resetsPreviousGrid_pass() {
+        int[] values = new int[BOARD_SIZE];
+        values[0] = 5;
+        grid.load(values);
+        grid.load(new int[BOARD_SIZE]);
+        assertEquals(0, grid.getValue(0));
+        assertEquals(FULL_MASK, grid.getCandidates(1));
+        assertEquals(0, grid.unitValues[0]);
+    }
+
+    @Test
+    public void test_load_board_pass() {
+        Board board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+        board.updateTile(40, 7);
+        grid.load(board);
+        assertEquals(7, grid.getValue(40));
+        assertEquals(BOARD_SIZE - 1, grid.emptyCount);
+    }
+    //endregion
+
+    //region place() tests
+    @Test
+    public void test_place_removesCandidateFromPeers_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        grid.place(40, 5);
+        int bit = 1 << 4;
+        assertEquals(0, grid.getCandidates(40));
+        assertEquals(5, grid.getValue(40));
+        assertEquals(0, grid.getCandidates(36) & bit); // Same row
+        assertEquals(0, grid.getCandidates(4) & bit); // Same column
+        assertEquals(0, grid.getCandidates(30) & bit); // Same zone
+        assertEquals(bit, grid.getCandidates(0) & bit); // Not a peer
+        assertEquals(bit, grid.unitValues[4]);
+        assertEquals(bit, grid.unitValues[HOUSE_SIZE + 4]);
+        assertEquals(bit, grid.unitValues[2 * HOUSE_SIZE + 4]);
+        assertEquals(BOARD_SIZE - 1, grid.emptyCount);
+    }
+    //endregion
+
+    //region eliminate() tests
+    @Test
+    public void test_eliminate_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        assertTrue(grid.eliminate(0, 0x3));
+        assertEquals(FULL_MASK & ~0x3, grid.getCandidates(0));
+    }
+
+    @Test
+    public void test_eliminate_nothingToRemove_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        grid.eliminate(0, 0x3);
+        assertFalse(grid.eliminate(0, 0x3));
+    }
+    //endregion
+
+    //region getPositions() and getPlacedPosition() tests
+    @Test
+    public void test_getPositions_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        grid.place(11, 9); // Zone 0, blocks row 0 positions 0 - 2
+        grid.place(23, 9); // Zone 1, blocks row 0 positions 3 - 5
+        assertEquals(0x1C0, grid.getPositions(0, 9)); // Positions 6, 7, 8
+        assertEquals(FULL_MASK, grid.getPositions(0, 1));
+    }
+
+    @Test
+    public void test_getPlacedPosition_pass() {
+        grid.load(new int[BOARD_SIZE]);
+        grid.place(20, 3);
+        assertEquals(2, grid.getPlacedPosition(2, 3));
+        assertEquals(8, grid.getPlacedPosition(2 * HOUSE_SIZE, 3));
+        assertEquals(-1, grid.getPlacedPosition(2, 4));
+    }
+    //endregion
+
+    //region isSolved() tests
+    @Test
+    public void test_isSolved_pass() {
+        int[] values = new int[BOARD_SIZE];
+        grid.load(values);
+        assertFalse(grid.isSolved());
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, new DancingLinks(HOUSE_SIZE).solve(values, solution, 1));
+        grid.load(solution);
+        assertTrue(grid.isSolved());
+    }
+    //endregion
+
+    //region watcher tests
+    @Test
+    public void test_load_fillsWatchers_pass() {
+        WorkQueue cells = new WorkQueue(BOARD_SIZE);
+        WorkQueue units = new WorkQueue(3 * HOUSE_SIZE);
+        grid.watchCells(cells);
+        grid.watchUnits(units);
+        grid.load(new int[BOARD_SIZE]);
+        assertEquals(BOARD_SIZE, cells.size());
+        assertEquals(3 * HOUSE_SIZE, units.size());
+    }
+
+    @Test
+    public void test_place_reportsChangedPeers_pass() {
+        WorkQueue cells = new WorkQueue(BOARD_SIZE);
+        WorkQueue units = new WorkQueue(3 * HOUSE_SIZE);
+        grid.watchCells(cells);
+        grid.watchUnits(units);
+        grid.load(new int[BOARD_SIZE]);
+        cells.clear();
+        units.clear();
+        grid.place(0, 1);
+        // The Tile itself and its 20 peers
+        assertEquals(21, cells.size());
+        // Every row and column, and zones 0, 1, 2, 3 and 6
+        assertEquals(HOUSE_SIZE + HOUSE_SIZE + 5, units.size());
+    }
+
+    @Test
+    public void test_place_unchangedPeers_ignore() {
+        WorkQueue cells = new WorkQueue(BOARD_SIZE);
+        grid.watchCells(cells);
+        grid.load(new int[BOARD_SIZE]);
+        for (int cell = 1; cell < HOUSE_SIZE; ++cell) {
+            grid.eliminate(cell, 1);
+        }
+        cells.clear();
+        grid.place(0, 1);
+        assertFalse(cells.queued[1]);
+        assertTrue(cells.queued[9]);
+    }
+
+    @Test
+    public void test_eliminate_reportsCell_pass() {
+        WorkQueue cells = new WorkQueue(BOARD_SIZE);
+        WorkQueue units = new WorkQueue(3 * HOUSE_SIZE);
+        grid.watchCells(cells);
+        grid.watchUnits(units);
+        grid.load(new int[BOARD_SIZE]);
+        cells.clear();
+        units.clear();
+        grid.eliminate(40, 1);
+        grid.eliminate(41, 1 << 8);
+        grid.eliminate(41, 1 << 8); // No change
+        assertEquals(2, cells.size());
+        assertEquals(40, cells.poll());
+        assertEquals(41, cells.poll());
+        // Row 4, columns 4 and 5, zone 4
+        assertEquals(4, units.size());
+    }
+    //endregion
+
+    //region per-value bitboard tests
+    @Test
+    public void test_constructor_cellPositions_pass() {
+        // Tile 70 is row 7 column 7, at position 4 (local row 1, column 1) of zone 8
+        assertEquals(7, grid.cellPositions[70][0]);
+        assertEquals(7, grid.cellPositions[70][1]);
+        assertEquals(4, grid.cellPositions[70][2]);
+    }
+
+    @Test
+    public void test_positions_matchCandidates_pass() {
+        int[] puzzle = new int[BOARD_SIZE];
+        puzzle[0] = 1;
+        puzzle[40] = 2;
+        puzzle[80] = 3;
+        grid.load(puzzle);
+        grid.eliminate(13, 0x1F0);
+        for (int unit = 0; unit < grid.units.length; ++unit) {
+            for (int value = 1; value <= HOUSE_SIZE; ++value) {
+                int expected = 0;
+                for (int p = 0; p < HOUSE_SIZE; ++p) {
+                    if ((grid.getCandidates(grid.units[unit][p]) & (1 << (value - 1))) != 0) {
+                        expected |= 1 << p;
+                    }
+                }
+                assertEquals(expected, grid.getPositions(unit, value));
+            }
+        }
+    }
+    //endregion
+
+    //region copyFrom() tests
+    @Test
+    public void test_copyFrom_pass() {
+        int[] puzzle = new int[BOARD_SIZE];
+        puzzle[10] = 4;
+        grid.load(puzzle);
+        grid.eliminate(20, 1);
+        CandidateGrid copy = new CandidateGrid(HOUSE_SIZE);
+        copy.copyFrom(grid);
+        assertEquals(4, copy.getValue(10));
+        assertEquals(grid.getCandidates(20), copy.getCandidates(20));
+        assertEquals(grid.getPositions(2, 1), copy.getPositions(2, 1));
+        assertEquals(grid.emptyCount, copy.emptyCount);
+        // Changing the copy leaves the original alone
+        copy.place(20, 2);
+        assertEquals(0, grid.getValue(20));
+    }
+
+    @Test
+    public void test_copyFrom_doesNotReportToWatchers_pass() {
+        WorkQueue cells = new WorkQueue(BOARD_SIZE);
+        grid.watchCells(cells);
+        grid.load(new int[BOARD_SIZE]);
+        cells.clear();
+        grid.copyFrom(new CandidateGrid(HOUSE_SIZE));
+        assertTrue(cells.isEmpty());
+    }
+    //endregion
+
+    //region watchValues() tests
+    @Test
+    public void test_eliminate_reportsValues_pass() {
+        WorkQueue values = new WorkQueue(HOUSE_SIZE);
+        grid.watchValues(values);
+        grid.load(new int[BOARD_SIZE]);
+        values.clear();
+        grid.eliminate(0, 0x5);
+        assertEquals(2, values.size());
+        assertEquals(0, values.poll());
+        assertEquals(2, values.poll());
+    }
+    //endregion
+}
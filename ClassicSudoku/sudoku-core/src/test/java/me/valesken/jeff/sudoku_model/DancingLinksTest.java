@@ -0,0 +1,234 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class DancingLinksTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private DancingLinks dancingLinks;
+
+    private final int[] PUZZLE = {
+            5, 3, 0, 0, 7, 0, 0, 0, 0,
+            6, 0, 0, 1, 9, 5, 0, 0, 0,
+            0, 9, 8, 0, 0, 0, 0, 6, 0,
+            8, 0, 0, 0, 6, 0, 0, 0, 3,
+            4, 0, 0, 8, 0, 3, 0, 0, 1,
+            7, 0, 0, 0, 2, 0, 0, 0, 6,
+            0, 6, 0, 0, 0, 0, 2, 8, 0,
+            0, 0, 0, 4, 1, 9, 0, 0, 5,
+            0, 0, 0, 0, 8, 0, 0, 7, 9};
+
+    private final int[] SOLUTION = {
+            5, 3, 4, 6, 7, 8, 9, 1, 2,
+            6, 7, 2, 1, 9, 5, 3, 4, 8,
+            1, 9, 8, 3, 4, 2, 5, 6, 7,
+            8, 5, 9, 7, 6, 1, 4, 2, 3,
+            4, 2, 6, 8, 5, 3, 7, 9, 1,
+            7, 1, 3, 9, 2, 4, 8, 5, 6,
+            9, 6, 1, 5, 3, 7, 2, 8, 4,
+            2, 8, 7, 4, 1, 9, 6, 3, 5,
+            3, 4, 5, 2, 8, 6, 1, 7, 9};
+
+    //region setup
+    @Before
+    public void setUp() {
+        dancingLinks = new DancingLinks(HOUSE_SIZE);
+    }
+    //endregion
+
+    //region solve() tests
+    @Test
+    public void test_solve_uniquePuzzle_pass() {
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, dancingLinks.solve(PUZZLE, solution, 2));
+        assertArrayEquals(SOLUTION, solution);
+    }
+
+    @Test
+    public void test_solve_doesNotModifyGrid_pass() {
+        int[] puzzle = PUZZLE.clone();
+        dancingLinks.solve(puzzle, new int[BOARD_SIZE], 1);
+        assertArrayEquals(PUZZLE, puzzle);
+    }
+
+    @Test
+    public void test_solve_emptyGrid_stopsAtLimit_pass() {
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, dancingLinks.solve(new int[BOARD_SIZE], solution, 1));
+        assertEquals(2, dancingLinks.solve(new int[BOARD_SIZE], null, 2));
+        int[] complete = solution.clone();
+        assertEquals(1, dancingLinks.solve(complete, null, 2));
+    }
+
+    @Test
+    public void test_solve_reusable_pass() {
+        int[] solution = new int[BOARD_SIZE];
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(1, dancingLinks.solve(PUZZLE, solution, 2));
+            assertArrayEquals(SOLUTION, solution);
+            assertEquals(2, dancingLinks.solve(new int[BOARD_SIZE], null, 2));
+        }
+    }
+
+    @Test
+    public void test_solve_conflictingGivens_fail() {
+        int[] puzzle = PUZZLE.clone();
+        puzzle[2] = 5; // Second 5 in first row
+        assertEquals(0, dancingLinks.solve(puzzle, new int[BOARD_SIZE], 2));
+        // Matrix must be intact afterwards
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, dancingLinks.solve(PUZZLE, solution, 2));
+        assertArrayEquals(SOLUTION, solution);
+    }
+
+    @Test
+    public void test_solve_unsolvable_fail() {
+        int[] puzzle = PUZZLE.clone();
+        puzzle[2] = 1; // No direct conflicts, but differs from the unique solution
+        puzzle[3] = 2;
+        assertEquals(0, dancingLinks.solve(puzzle, null, 2));
+    }
+
+    @Test
+    public void test_solve_outOfBoundsValue_fail() {
+        int[] puzzle = PUZZLE.clone();
+        puzzle[2] = 10;
+        assertEquals(0, dancingLinks.solve(puzzle, null, 2));
+        puzzle[2] = -1;
+        assertEquals(0, dancingLinks.solve(puzzle, null, 2));
+    }
+
+    @Test
+    public void test_solve_badArguments_fail() {
+        assertEquals(0, dancingLinks.solve((int[]) null, null, 1));
+        assertEquals(0, dancingLinks.solve(new int[BOARD_SIZE - 1], null, 1));
+        assertEquals(0, dancingLinks.solve(PUZZLE, null, 0));
+    }
+
+    @Test
+    public void test_solve_board_pass() {
+        Board board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            if (PUZZLE[i] > 0) {
+                board.getTile(i).update(PUZZLE[i]);
+            }
+        }
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, dancingLinks.solve(board, solution, 2));
+        assertArrayEquals(SOLUTION, solution);
+    }
+
+    @Test
+    public void test_solve_fourByFour_pass() {
+        DancingLinks small = new DancingLinks(4);
+        int[] solution = new int[16];
+        assertEquals(1, small.solve(new int[16], solution, 1));
+        for (int i = 0; i < 16; ++i) {
+            assertTrue(solution[i] > 0 && solution[i] <= 4);
+        }
+        assertEquals(1, small.solve(solution.clone(), null, 2));
+    }
+    //endregion
+
+    //region hasAlternativeSolution() tests
+    @Test
+    public void test_hasAlternativeSolution_uniqueHole_fail() {
+        int[] puzzle = PUZZLE.clone();
+        puzzle[0] = 0;
+        assertFalse(dancingLinks.hasAlternativeSolution(puzzle, 0, 5));
+        assertEquals(0, puzzle[0]);
+    }
+
+    @Test
+    public void test_hasAlternativeSolution_ambiguousHole_pass() {
+        // Only one given: many solutions put something other than the solution value in cell 0
+        int[] puzzle = new int[BOARD_SIZE];
+        puzzle[1] = SOLUTION[1];
+        assertTrue(dancingLinks.hasAlternativeSolution(puzzle, 0, SOLUTION[0]));
+    }
+
+    @Test
+    public void test_hasAlternativeSolution_matchesCountToTwo_pass() {
+        int[] puzzle = SOLUTION.clone();
+        for (int cell = 0; cell < BOARD_SIZE; ++cell) {
+            int value = puzzle[cell];
+            puzzle[cell] = 0;
+            boolean unique = dancingLinks.hasUniqueSolution(puzzle);
+            assertEquals(!unique, dancingLinks.hasAlternativeSolution(puzzle, cell, value));
+            if (!unique) {
+                puzzle[cell] = value;
+            }
+        }
+    }
+
+    @Test
+    public void test_hasAlternativeSolution_filledCell_fail() {
+        assertFalse(dancingLinks.hasAlternativeSolution(PUZZLE, 0, 5));
+    }
+    //endregion
+
+    //region hasUniqueSolution() tests
+    @Test
+    public void test_hasUniqueSolution_pass() {
+        assertTrue(dancingLinks.hasUniqueSolution(PUZZLE));
+    }
+
+    @Test
+    public void test_hasUniqueSolution_multipleSolutions_fail() {
+        assertFalse(dancingLinks.hasUniqueSolution(new int[BOARD_SIZE]));
+    }
+    //endregion
+
+    //region search budget tests
+    @Test
+    public void test_hasAlternativeSolution_outOfBudget_pass() {
+        // Digging a cell that keeps the puzzle unique needs more than one search step to prove it
+        int cell = 2;
+        int[] grid = PUZZLE.clone();
+        dancingLinks.searchBudget = 1;
+        assertTrue(dancingLinks.hasAlternativeSolution(new int[BOARD_SIZE], 0, 1));
+        assertTrue(dancingLinks.outOfBudget);
+        dancingLinks.searchBudget = 0;
+        assertFalse(dancingLinks.hasAlternativeSolution(grid, cell, SOLUTION[cell]));
+        assertFalse(dancingLinks.outOfBudget);
+    }
+
+    @Test
+    public void test_solve_outOfBudget_pass() {
+        dancingLinks.searchBudget = 5;
+        assertEquals(0, dancingLinks.solve(new int[BOARD_SIZE], null, 1));
+        assertTrue(dancingLinks.outOfBudget);
+        // Matrix is left intact
+        dancingLinks.searchBudget = 0;
+        int[] solution = new int[BOARD_SIZE];
+        assertEquals(1, dancingLinks.solve(PUZZLE, solution, 2));
+        assertArrayEquals(SOLUTION, solution);
+    }
+    //endregion
+
+    //region other sizes tests
+    @Test
+    public void test_solve_largeBoard_pass() {
+        DancingLinks large = new DancingLinks(16);
+        int[] solution = new int[256];
+        assertEquals(1, large.solve(new int[256], solution, 1));
+        for (int i = 0; i < 256; ++i) {
+            assertTrue(solution[i] >= 1 && solution[i] <= 16);
+        }
+        assertTrue(large.hasUniqueSolution(solution));
+    }
+    //endregion
+}
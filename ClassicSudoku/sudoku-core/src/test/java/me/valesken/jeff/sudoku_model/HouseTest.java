@@ -12,7 +12,7 @@ import static org.mockito.Mockito.when;
 
 /**
  * Created by jeff on 1/28/2016.
- * Last Updated on 2/8/2016.
+ * Last Updated on 10/17/2026.
  */
 public class HouseTest {
 
@@ -27,6 +27,17 @@ public class HouseTest {
         house = new House(houseSize, houseIndex);
         mockedTile = mock(Tile.class);
     }
+
+    private void addRowMembers() {
+        for (int i = 0; i < houseSize; ++i) {
+            house.addMember(new Tile(houseSize, i));
+        }
+    }
+
+    private void claim(int value, int position) {
+        house.ownerMasks[value - 1] |= 1 << position;
+        house.valueMask |= 1 << (value - 1);
+    }
     //endregion
 
     //region constructor tests
@@ -36,11 +47,11 @@ public class HouseTest {
         assertEquals(houseIndex, house.houseIndex);
         assertNotNull(house.members);
         assertEquals(0, house.members.size());
-        assertNotNull(house.valueToOwnersMap);
-        assertEquals(9, house.valueToOwnersMap.length);
-        for (HashSet set : house.valueToOwnersMap) {
-            assertNotNull(set);
-            assertEquals(0, set.size());
+        assertEquals(0, house.valueMask);
+        assertNotNull(house.ownerMasks);
+        assertEquals(9, house.ownerMasks.length);
+        for (int owners : house.ownerMasks) {
+            assertEquals(0, owners);
         }
     }
     //endregion
@@ -92,112 +103,132 @@ public class HouseTest {
     //region setValueInHouse() tests
     @Test
     public void testSetValueNoClaimPass() {
+        addRowMembers();
         assertTrue(house.setValueInHouse(1, true, 0));
-        assertEquals(1, house.valueToOwnersMap[0].size());
-        assertTrue(house.valueToOwnersMap[0].contains(0));
+        assertEquals(1, house.ownerMasks[0]);
+        assertEquals(1, house.valueMask);
     }
 
     @Test
     public void testSetValueOneClaimPass() {
-        house.valueToOwnersMap[0].add(0);
+        addRowMembers();
+        claim(1, 0);
         assertTrue(house.setValueInHouse(1, true, 1));
-        assertEquals(2, house.valueToOwnersMap[0].size());
-        assertTrue(house.valueToOwnersMap[0].contains(0));
-        assertTrue(house.valueToOwnersMap[0].contains(1));
+        assertEquals(3, house.ownerMasks[0]);
+        assertEquals(1, house.valueMask);
+        assertEquals(2, house.getOwnerCount(1));
     }
 
     @Test
     public void testRemoveValueOneClaimPass() {
-        house.valueToOwnersMap[0].add(0);
+        addRowMembers();
+        claim(1, 0);
         assertTrue(house.setValueInHouse(1, false, 0));
-        assertEquals(0, house.valueToOwnersMap[0].size());
-        assertFalse(house.valueToOwnersMap[0].contains(0));
+        assertEquals(0, house.ownerMasks[0]);
+        assertEquals(0, house.valueMask);
     }
 
     @Test
     public void testRemoveValueTwoClaimsPass() {
-        house.valueToOwnersMap[0].add(0);
-        house.valueToOwnersMap[0].add(1);
+        addRowMembers();
+        claim(1, 0);
+        claim(1, 1);
         assertTrue(house.setValueInHouse(1, false, 0));
-        assertEquals(1, house.valueToOwnersMap[0].size());
-        assertFalse(house.valueToOwnersMap[0].contains(0));
-        assertTrue(house.valueToOwnersMap[0].contains(1));
+        assertEquals(2, house.ownerMasks[0]);
+        assertEquals(1, house.valueMask);
     }
 
     @Test
     public void testAddSameTileTwiceFail() {
-        house.valueToOwnersMap[0].add(0);
+        addRowMembers();
+        claim(1, 0);
         assertFalse(house.setValueInHouse(1, true, 0));
     }
 
+    @Test
+    public void testAddNonMemberTileFail() {
+        addRowMembers();
+        assertFalse(house.setValueInHouse(1, true, 80));
+        assertEquals(0, house.valueMask);
+    }
+
     @Test
     public void testAddZeroValueFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(0, true, 0));
     }
 
     @Test
     public void testAddNegativeValueFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(-1, true, 0));
     }
 
     @Test
     public void testAddLargeValueFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(1000, true, 0));
     }
 
     @Test
     public void testAddNegativeTileIndexFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(1, true, -1));
     }
 
     @Test
     public void testAddLargeTileIndexFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(1, true, 1000));
     }
 
     @Test
     public void testRemoveValueNoClaimsFail() {
+        addRowMembers();
         assertFalse(house.setValueInHouse(1, false, 0));
     }
 
     @Test
     public void testRemoveMissingValueOneClaimFail() {
-        house.valueToOwnersMap[0].add(0);
+        addRowMembers();
+        claim(1, 0);
         assertFalse(house.setValueInHouse(1, false, 1));
-        assertEquals(1, house.valueToOwnersMap[0].size());
-        assertTrue(house.valueToOwnersMap[0].contains(0));
+        assertEquals(1, house.ownerMasks[0]);
+        assertEquals(1, house.valueMask);
     }
     //endregion
 
     //region clearValueInHouse() tests
     @Test
     public void testClearOneValueInHousePass() {
-        house.valueToOwnersMap[0].add(0);
+        claim(1, 0);
         assertTrue(house.clearValueInHouse(1));
-        assertEquals(0, house.valueToOwnersMap[0].size());
+        assertEquals(0, house.ownerMasks[0]);
+        assertEquals(0, house.valueMask);
     }
 
     @Test
     public void testClearMultipleValuesInHousePass() {
-        house.valueToOwnersMap[0].add(0);
-        house.valueToOwnersMap[0].add(1);
+        claim(1, 0);
+        claim(1, 1);
         assertTrue(house.clearValueInHouse(1));
-        assertEquals(0, house.valueToOwnersMap[0].size());
+        assertEquals(0, house.ownerMasks[0]);
+        assertEquals(0, house.valueMask);
     }
 
     @Test
     public void testClearNoValuesInHousePass() {
         assertTrue(house.clearValueInHouse(1));
-        assertEquals(0, house.valueToOwnersMap[0].size());
+        assertEquals(0, house.ownerMasks[0]);
     }
 
     @Test
     public void testClearDoesNotAffectOtherValuesPass() {
-        house.valueToOwnersMap[0].add(0);
-        house.valueToOwnersMap[1].add(1);
+        claim(1, 0);
+        claim(2, 1);
         assertTrue(house.clearValueInHouse(1));
-        assertEquals(1, house.valueToOwnersMap[1].size());
-        assertTrue(house.valueToOwnersMap[1].contains(1));
+        assertEquals(2, house.ownerMasks[1]);
+        assertEquals(2, house.valueMask);
     }
 
     @Test
@@ -249,14 +280,14 @@ public class HouseTest {
     //region hasValue() tests
     @Test
     public void testOneTileHasValuePass() {
-        house.valueToOwnersMap[0].add(0);
+        claim(1, 0);
         assertTrue(house.hasValue(1));
     }
 
     @Test
     public void testMultipleTilesHaveValuePass() {
-        house.valueToOwnersMap[0].add(0);
-        house.valueToOwnersMap[0].add(1);
+        claim(1, 0);
+        claim(1, 1);
         assertTrue(house.hasValue(1));
     }
 
@@ -281,6 +312,73 @@ public class HouseTest {
     }
     //endregion
 
+    //region getValueMask() tests
+    @Test
+    public void testDefaultValueMaskEmptyPass() {
+        assertEquals(0, house.getValueMask());
+    }
+
+    @Test
+    public void testValueMaskTracksClaimsPass() {
+        addRowMembers();
+        house.setValueInHouse(1, true, 0);
+        house.setValueInHouse(9, true, 1);
+        assertEquals(0x101, house.getValueMask());
+        house.setValueInHouse(1, false, 0);
+        assertEquals(0x100, house.getValueMask());
+    }
+    //endregion
+
+    //region getOwnerCount() tests
+    @Test
+    public void testOwnerCountPass() {
+        claim(1, 0);
+        claim(1, 4);
+        assertEquals(2, house.getOwnerCount(1));
+        assertEquals(0, house.getOwnerCount(2));
+    }
+
+    @Test
+    public void testOwnerCountOutOfBoundsFail() {
+        assertEquals(0, house.getOwnerCount(0));
+        assertEquals(0, house.getOwnerCount(1000));
+    }
+    //endregion
+
+    //region getPosition() tests
+    @Test
+    public void testGetPositionPass() {
+        addRowMembers();
+        for (int i = 0; i < houseSize; ++i) {
+            assertEquals(i, house.getPosition(i));
+        }
+    }
+
+    @Test
+    public void testGetPositionNonMemberFail() {
+        addRowMembers();
+        assertEquals(-1, house.getPosition(80));
+    }
+
+    @Test
+    public void testGetPositionOutOfBoundsFail() {
+        addRowMembers();
+        assertEquals(-1, house.getPosition(-1));
+        assertEquals(-1, house.getPosition(81));
+    }
+
+    @Test
+    public void testGetPositionColumnPass() {
+        for (int i = 0; i < houseSize; ++i) {
+            house.addMember(new Tile(houseSize, i * houseSize + 4));
+        }
+        for (int i = 0; i < houseSize; ++i) {
+            assertEquals(i, house.getPosition(i * houseSize + 4));
+        }
+        assertEquals(-1, house.getPosition(3));
+    }
+    //endregion
+
     //region getValueCount() tests
     @Test
     public void testDefaultValueCountZeroPass() {
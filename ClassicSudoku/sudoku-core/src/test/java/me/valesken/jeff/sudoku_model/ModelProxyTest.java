@@ -0,0 +1,1097 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalMatchers.and;
+import static org.mockito.AdditionalMatchers.gt;
+import static org.mockito.AdditionalMatchers.lt;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Created by Jeff on 4/14/16.
+ * Last Updated on 10/17/2026.
+ */
+public class ModelProxyTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private Board mockBoard;
+
+    //region setup
+    @Before
+    public void setUp() {
+        mockBoard = mock(Board.class);
+        ModelProxy.board = mockBoard;
+        ModelProxy.puzzlePool = null;
+        ModelProxy.puzzleBank = null;
+        ModelProxy.stopJournal();
+        ModelProxy.history = new MoveHistory(MoveHistory.DEFAULT_MEMORY_LIMIT);
+    }
+
+    /**
+     * @return The index of the first Tile of the current game that is not an original.
+     */
+    private int getOpenTile() {
+        int position = 0;
+        while (ModelProxy.tileIsOrig(position)) {
+            ++position;
+        }
+        return position;
+    }
+    //endregion
+
+    //region constructor tests
+    @Test
+    public void test_constructor_pass() {
+        assertNotNull(new ModelProxy());
+    }
+    //endregion
+
+    //region newGame() tests
+    @Test
+    public void test_newGame_pass() {
+        // Set up
+        int difficulty = 1;
+        int randomDifficulty = 2;
+        doReturn(randomDifficulty).when(mockBoard).newGame(anyInt());
+        doReturn(difficulty).when(mockBoard).newGame(and(gt(0), lt(Board.NUM_DIFFICULTIES + 1)));
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBoard).newGame(difficulty);
+    }
+
+    @Test
+    public void test_newGame_random_pass() {
+        // Set up
+        int difficulty = 0;
+        int randomDifficulty = 2;
+        doReturn(randomDifficulty).when(mockBoard).newGame(anyInt());
+        doReturn(difficulty).when(mockBoard).newGame(and(gt(0), lt(Board.NUM_DIFFICULTIES + 1)));
+        // Execute & Verify
+        assertEquals(randomDifficulty, ModelProxy.newGame(difficulty));
+        verify(mockBoard).newGame(difficulty);
+    }
+
+    @Test
+    public void test_newGame_null_fail() {
+        // Setup
+        int difficulty = 1;
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertEquals(ModelProxy.newGame(difficulty), -1);
+    }
+
+    @Test
+    public void test_newGame_fromPuzzlePool_pass() {
+        // Setup
+        int difficulty = 3;
+        int[] givens = new int[BOARD_SIZE];
+        int[] solution = new int[BOARD_SIZE];
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        long seed = 42L;
+        doReturn(new PuzzlePool.Puzzle(difficulty, seed, givens, solution)).when(mockPool).take(difficulty);
+        doReturn(difficulty).when(mockBoard).loadPuzzle(difficulty, seed, givens, solution);
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBoard).loadPuzzle(difficulty, seed, givens, solution);
+        verify(mockBoard, never()).newGame(anyInt());
+    }
+
+    @Test
+    public void test_newGame_fromPuzzleBank_pass() {
+        // Setup
+        int difficulty = 2;
+        int[] givens = new int[BOARD_SIZE];
+        int[] solution = new int[BOARD_SIZE];
+        long seed = 17L;
+        PuzzleBank mockBank = mock(PuzzleBank.class);
+        mockBank.houseSize = HOUSE_SIZE;
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(new PuzzlePool.Puzzle(difficulty, seed, givens, solution)).when(mockBank).draw(difficulty);
+        doReturn(difficulty).when(mockBoard).loadPuzzle(difficulty, seed, givens, solution);
+        ModelProxy.puzzleBank = mockBank;
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBoard).loadPuzzle(difficulty, seed, givens, solution);
+        verify(mockPool, never()).take(anyInt());
+        verify(mockBoard, never()).newGame(anyInt());
+    }
+
+    @Test
+    public void test_newGame_puzzleBankMissingDifficulty_pass() {
+        // Setup
+        int difficulty = 3;
+        PuzzleBank mockBank = mock(PuzzleBank.class);
+        mockBank.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(null).when(mockBank).draw(difficulty);
+        doReturn(difficulty).when(mockBoard).newGame(difficulty);
+        ModelProxy.puzzleBank = mockBank;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBank).draw(difficulty);
+        verify(mockBoard).newGame(difficulty);
+    }
+
+    @Test
+    public void test_newGame_puzzleBankWrongSize_pass() {
+        // Setup
+        int difficulty = 1;
+        PuzzleBank mockBank = mock(PuzzleBank.class);
+        mockBank.houseSize = 16;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(difficulty).when(mockBoard).newGame(difficulty);
+        ModelProxy.puzzleBank = mockBank;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBank, never()).draw(anyInt());
+    }
+
+    @Test
+    public void test_newGame_emptyPuzzlePool_pass() {
+        // Setup
+        int difficulty = 2;
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(null).when(mockPool).take(difficulty);
+        doReturn(difficulty).when(mockBoard).newGame(difficulty);
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockPool).take(difficulty);
+        verify(mockBoard).newGame(difficulty);
+    }
+
+    @Test
+    public void test_newGame_derivedFromTemplate_pass() {
+        // Setup
+        int difficulty = 2;
+        int[] givens = new int[BOARD_SIZE];
+        int[] solution = new int[BOARD_SIZE];
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(null).when(mockPool).take(difficulty);
+        doReturn(new PuzzlePool.Puzzle(difficulty, 5L, givens, solution)).when(mockPool).getTemplate(difficulty);
+        doReturn(difficulty).when(mockBoard).deriveGame(difficulty, givens, solution);
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockBoard).deriveGame(difficulty, givens, solution);
+        verify(mockBoard, never()).newGame(anyInt());
+    }
+
+    @Test
+    public void test_newGame_puzzlePoolWrongSize_pass() {
+        // Setup
+        int difficulty = 1;
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = 4;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(difficulty).when(mockBoard).newGame(difficulty);
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty));
+        verify(mockPool, never()).take(anyInt());
+    }
+
+    @Test
+    public void test_newGame_withSeed_pass() {
+        // Setup
+        int difficulty = 2;
+        long seed = -7L;
+        PuzzlePool mockPool = mock(PuzzlePool.class);
+        mockPool.houseSize = HOUSE_SIZE;
+        mockBoard.houseSize = HOUSE_SIZE;
+        doReturn(difficulty).when(mockBoard).newGame(difficulty, seed);
+        ModelProxy.puzzlePool = mockPool;
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.newGame(difficulty, seed));
+        verify(mockBoard).newGame(difficulty, seed);
+        verify(mockPool, never()).take(anyInt());
+    }
+
+    @Test
+    public void test_newGame_withSeed_fail() {
+        ModelProxy.board = null;
+        assertEquals(-1, ModelProxy.newGame(1, 1L));
+    }
+    //endregion
+
+    //region getSeed() tests
+    @Test
+    public void test_getSeed_pass() {
+        mockBoard.seed = 123456789L;
+        assertEquals(Long.valueOf(123456789L), ModelProxy.getSeed());
+    }
+
+    @Test
+    public void test_getSeed_fail() {
+        ModelProxy.board = null;
+        assertNull(ModelProxy.getSeed());
+    }
+    //endregion
+
+    //region startPuzzlePool() / stopPuzzlePool() tests
+    @Test
+    public void test_startAndStopPuzzlePool_pass() {
+        ModelProxy.startPuzzlePool(HOUSE_SIZE, 1, 1);
+        PuzzlePool pool = ModelProxy.puzzlePool;
+        assertNotNull(pool);
+        ModelProxy.startPuzzlePool(HOUSE_SIZE, 1, 1);
+        assertEquals(pool, ModelProxy.puzzlePool);
+        ModelProxy.stopPuzzlePool();
+        assertNull(ModelProxy.puzzlePool);
+        assertTrue(pool.executor.isShutdown());
+    }
+
+    @Test
+    public void test_stopPuzzlePool_notStarted_pass() {
+        ModelProxy.stopPuzzlePool();
+        assertNull(ModelProxy.puzzlePool);
+    }
+    //endregion
+
+    //region openPuzzleBank() / closePuzzleBank() tests
+    @Test
+    public void test_openAndClosePuzzleBank_pass() throws IOException {
+        File file = File.createTempFile("bank", ".bin");
+        try {
+            new PuzzleBank.Writer(file, HOUSE_SIZE).close();
+            ModelProxy.openPuzzleBank(file);
+            assertNotNull(ModelProxy.puzzleBank);
+            assertEquals(HOUSE_SIZE, ModelProxy.puzzleBank.houseSize);
+            ModelProxy.closePuzzleBank();
+            assertNull(ModelProxy.puzzleBank);
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void test_openPuzzleBank_fail() throws IOException {
+        ModelProxy.openPuzzleBank(new File("no-such-puzzle-bank.bin"));
+    }
+
+    @Test
+    public void test_closePuzzleBank_notOpen_pass() {
+        ModelProxy.closePuzzleBank();
+        assertNull(ModelProxy.puzzleBank);
+    }
+    //endregion
+
+    //region startJournal() / recoverJournal() tests
+    @Test
+    public void test_journal_recover_pass() throws IOException {
+        File snapshotFile = File.createTempFile("AutoSave", ".txt");
+        File journalFile = File.createTempFile("AutoSave", ".journal");
+        try {
+            // Setup
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            ModelProxy.newGame(1, 5L);
+            assertTrue(ModelProxy.startJournal(snapshotFile, journalFile));
+            int position = 0;
+            while (ModelProxy.tileIsOrig(position)) {
+                ++position;
+            }
+            ModelProxy.toggleNoteMode(position);
+            ModelProxy.updateTile(position, 4);
+            ModelProxy.board.resetClock(42);
+            ModelProxy.journalTime();
+            LinkedList expected = ModelProxy.getTile(position);
+            // Execute
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            assertNull(ModelProxy.journal);
+            assertEquals(1, ModelProxy.recoverJournal(snapshotFile, journalFile));
+            // Verify
+            assertNotNull(ModelProxy.journal);
+            assertTrue(ModelProxy.tileIsNoteMode(position));
+            assertEquals(expected, ModelProxy.getTile(position));
+            assertEquals("00:42", ModelProxy.getTime());
+        } finally {
+            ModelProxy.stopJournal();
+            assertTrue(snapshotFile.delete());
+            assertTrue(journalFile.delete());
+        }
+    }
+
+    @Test
+    public void test_startJournal_null_fail() {
+        ModelProxy.board = null;
+        assertFalse(ModelProxy.startJournal(new File("AutoSave.txt"), new File("AutoSave.journal")));
+        assertNull(ModelProxy.journal);
+    }
+
+    @Test
+    public void test_recoverJournal_null_fail() {
+        ModelProxy.board = null;
+        assertEquals(-1, ModelProxy.recoverJournal(new File("AutoSave.txt"), new File("AutoSave.journal")));
+    }
+
+    @Test
+    public void test_recoverJournal_noSnapshot_fail() {
+        assertEquals(-1, ModelProxy.recoverJournal(new File("no-such-snapshot"), new File("no-such-journal")));
+        assertNull(ModelProxy.journal);
+    }
+
+    @Test
+    public void test_journalTime_notJournaling_pass() {
+        ModelProxy.journalTime();
+        assertNull(ModelProxy.journal);
+    }
+    //endregion
+
+    //region loadGame() tests
+    @Test
+    public void test_loadGame_pass() {
+        // Setup
+        int difficulty = 1;
+        JSONObject mockJson = mock(JSONObject.class);
+        doReturn(difficulty).when(mockBoard).loadGame(mockJson);
+        // Execute & Verify
+        assertEquals(ModelProxy.loadGame(mockJson), difficulty);
+    }
+
+    @Test
+    public void test_loadGame_null_fail() {
+        // Setup
+        ModelProxy.board = null;
+        JSONObject mockJson = mock(JSONObject.class);
+        // Execute & Verify
+        assertEquals(ModelProxy.loadGame(mockJson), -1);
+    }
+
+    @Test
+    public void test_loadGame_bytes_pass() {
+        // Setup
+        int difficulty = 2;
+        byte[] data = new byte[SaveCodec.getSize(HOUSE_SIZE)];
+        doReturn(difficulty).when(mockBoard).loadGame(data);
+        // Execute & Verify
+        assertEquals(difficulty, ModelProxy.loadGame(data));
+    }
+
+    @Test
+    public void test_loadGame_binaryNullBoard_fail() {
+        ModelProxy.board = null;
+        assertEquals(-1, ModelProxy.loadGame(new byte[SaveCodec.getSize(HOUSE_SIZE)]));
+    }
+    //endregion
+
+    //region save() tests
+    @Test
+    public void test_save_pass() {
+        // Setup
+        JSONObject mockJson = mock(JSONObject.class);
+        doReturn(mockJson).when(mockBoard).save();
+        // Execute & Verify
+        assertEquals(mockJson, ModelProxy.save());
+    }
+
+    @Test
+    public void test_save_null_fail() {
+        ModelProxy.board = null;
+        assertNull(ModelProxy.save());
+    }
+
+    @Test
+    public void test_saveBinary_pass() {
+        byte[] data = new byte[1];
+        doReturn(data).when(mockBoard).saveBinary();
+        assertEquals(data, ModelProxy.saveBinary());
+    }
+
+    @Test
+    public void test_saveBinary_null_fail() {
+        ModelProxy.board = null;
+        assertNull(ModelProxy.saveBinary());
+    }
+    //endregion
+
+    //region getTime() tests
+    @Test
+    public void test_getTime_pass() {
+        // Set up
+        String time = "1:05";
+        doReturn(time).when(mockBoard).getTime();
+        // Execute & Verify
+        assertEquals(time, ModelProxy.getTime());
+    }
+
+    @Test
+    public void test_getTime_null_fail() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertNull(ModelProxy.getTime());
+    }
+    //endregion
+
+    //region Clock tests
+    @Test
+    public void test_clock_pass() {
+        // Set up
+        doReturn(42L).when(mockBoard).getElapsedNanos();
+        // Execute
+        ModelProxy.startClock();
+        ModelProxy.stopClock();
+        // Verify
+        verify(mockBoard).startClock();
+        verify(mockBoard).stopClock();
+        assertEquals(42L, ModelProxy.getElapsedNanos());
+    }
+
+    @Test
+    public void test_clock_null_fail() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        ModelProxy.startClock();
+        ModelProxy.stopClock();
+        assertEquals(0, ModelProxy.getElapsedNanos());
+    }
+
+    @Test
+    public void test_formatTime_parseTime_pass() {
+        assertEquals("100:00", ModelProxy.formatTime(100 * 60));
+        assertEquals(100 * 60 + 1, ModelProxy.parseTime("100:01"));
+        assertEquals(ModelProxy.parseTime("9:59"), ModelProxy.parseTime("09:59"));
+        assertTrue(ModelProxy.parseTime("100:00") > ModelProxy.parseTime("99:59"));
+    }
+    //endregion
+
+    //region getBoard() tests
+    @Test
+    public void test_getBoard_pass() {
+        // Set up
+        LinkedList[] lists = new LinkedList[BOARD_SIZE];
+        doReturn(lists).when(mockBoard).getBoard();
+        // Execute & Verify
+        assertArrayEquals(lists, ModelProxy.getBoard());
+    }
+
+    @Test
+    public void test_getBoard_null_fail() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertNull(ModelProxy.getBoard());
+    }
+    //endregion
+
+    //region tileIsNoteMode() tests
+    @Test
+    public void test_tileIsNoteMode_true() {
+        // Set up
+        int position = 40;
+        doReturn(false).when(mockBoard).tileIsNoteMode(anyInt());
+        doReturn(true).when(mockBoard).tileIsNoteMode(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertTrue(ModelProxy.tileIsNoteMode(position));
+    }
+
+    @Test
+    public void test_tileIsNoteMode_false() {
+        // Set up
+        int position = 40;
+        doReturn(false).when(mockBoard).tileIsNoteMode(anyInt());
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsNoteMode(position));
+    }
+
+    @Test
+    public void test_tileIsNoteMode_badIndex_false() {
+        // Set up
+        int position = -1;
+        doReturn(false).when(mockBoard).tileIsNoteMode(anyInt());
+        doReturn(true).when(mockBoard).tileIsNoteMode(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsNoteMode(position));
+    }
+
+    @Test
+    public void test_tileIsNoteMode_nullBoard_false() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsNoteMode(40));
+    }
+    //endregion
+
+    //region tileIsOrig() tests
+    @Test
+    public void test_tileIsOrig_true() {
+        // Set up
+        int position = 40;
+        doReturn(false).when(mockBoard).tileIsOrig(anyInt());
+        doReturn(true).when(mockBoard).tileIsOrig(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertTrue(ModelProxy.tileIsOrig(position));
+    }
+
+    @Test
+    public void test_tileIsOrig_false() {
+        // Set up
+        int position = 40;
+        doReturn(false).when(mockBoard).tileIsOrig(anyInt());
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsOrig(position));
+    }
+
+    @Test
+    public void test_tileIsOrig_badIndex_false() {
+        // Set up
+        int position = -1;
+        doReturn(false).when(mockBoard).tileIsOrig(anyInt());
+        doReturn(true).when(mockBoard).tileIsOrig(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsOrig(position));
+    }
+
+    @Test
+    public void test_tileIsOrig_nullBoard_false() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertFalse(ModelProxy.tileIsOrig(40));
+    }
+    //endregion
+
+    //region updateTile() tests
+    @Test
+    public void test_updateTile_pass() {
+        // Set up
+        int position = 40;
+        int value = 3;
+        doReturn(null).when(mockBoard).updateTile(anyInt(), anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).updateTile(and(gt(0), lt(BOARD_SIZE)), and(gt(0), lt(HOUSE_SIZE)));
+        // Execute
+        Object obj = ModelProxy.updateTile(position, value);
+        // Verify
+        assertNotNull(obj);
+        assertEquals(LinkedList.class, obj.getClass());
+        verify(mockBoard).updateTile(position, value);
+    }
+
+    @Test
+    public void test_updateTile_badIndex_null() {
+        // Set up
+        int position = -1;
+        int value = 3;
+        doReturn(null).when(mockBoard).updateTile(anyInt(), anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).updateTile(and(gt(0), lt(BOARD_SIZE)), and(gt(0), lt(HOUSE_SIZE)));
+        // Execute
+        Object obj = ModelProxy.updateTile(position, value);
+        // Verify
+        assertNull(obj);
+        verify(mockBoard).updateTile(position, value);
+    }
+
+    @Test
+    public void test_updateTile_badValue_null() {
+        // Set up
+        int position = 40;
+        int value = -1;
+        doReturn(null).when(mockBoard).updateTile(anyInt(), anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).updateTile(and(gt(0), lt(BOARD_SIZE)), and(gt(0), lt(HOUSE_SIZE)));
+        // Execute
+        Object obj = ModelProxy.updateTile(position, value);
+        // Verify
+        assertNull(obj);
+        verify(mockBoard).updateTile(position, value);
+    }
+
+    @Test
+    public void test_updateTile_nullBoard_ignore() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertNull(ModelProxy.updateTile(40, 3));
+    }
+    //endregion
+
+    //region getTile() tests
+    @Test
+    public void test_getTile_pass() {
+        // Set up
+        int position = 40;
+        doReturn(null).when(mockBoard).getTileNotesOrValue(anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).getTileNotesOrValue(and(gt(0), lt(BOARD_SIZE)));
+        // Execute
+        Object obj = ModelProxy.getTile(position);
+        // Verify
+        assertNotNull(obj);
+        assertEquals(LinkedList.class, obj.getClass());
+        verify(mockBoard).getTileNotesOrValue(position);
+    }
+
+    @Test
+    public void test_getTile_badIndex_null() {
+        // Set up
+        int position = -1;
+        doReturn(null).when(mockBoard).getTileNotesOrValue(anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).getTileNotesOrValue(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertNull(ModelProxy.getTile(position));
+        verify(mockBoard).getTileNotesOrValue(position);
+    }
+
+    @Test
+    public void test_getTile_nullBoard_null() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertNull(ModelProxy.getTile(40));
+    }
+    //endregion
+
+    //region isGameOver() tests
+    @Test
+    public void test_isGameOver_true() {
+        // Set up
+        doReturn(true).when(mockBoard).isGameOver();
+        // Execute & Verify
+        assertTrue(ModelProxy.isGameOver());
+        verify(mockBoard).isGameOver();
+    }
+
+    @Test
+    public void test_isGameOver_false() {
+        // Set up
+        doReturn(false).when(mockBoard).isGameOver();
+        // Execute & Verify
+        assertFalse(ModelProxy.isGameOver());
+        verify(mockBoard).isGameOver();
+    }
+
+    @Test
+    public void test_isGameOver_nullBoard_false() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertFalse(ModelProxy.isGameOver());
+    }
+    //endregion
+
+    //region clearTile() tests
+    @Test
+    public void test_clearTile_pass() {
+        // Set up
+        int position = 40;
+        doReturn(null).when(mockBoard).clearTile(anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).clearTile(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertNotNull(ModelProxy.clearTile(position));
+        verify(mockBoard).clearTile(position);
+    }
+
+    @Test
+    public void test_clearTile_badIndex_null() {
+        // Set up
+        int position = -1;
+        doReturn(null).when(mockBoard).clearTile(anyInt());
+        doReturn(new LinkedList<>()).when(mockBoard).clearTile(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertNull(ModelProxy.clearTile(position));
+        verify(mockBoard).clearTile(position);
+    }
+
+    @Test
+    public void test_clearTile_nullBoard_null() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertNull(ModelProxy.clearTile(40));
+    }
+    //endregion
+
+    //region toggleNoteMode() tests
+    @Test
+    public void test_toggleNoteMode_true() {
+        // Set up
+        int position = 40;
+        doReturn(false).when(mockBoard).toggleNoteMode(anyInt());
+        doReturn(true).when(mockBoard).toggleNoteMode(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertTrue(ModelProxy.toggleNoteMode(position));
+        verify(mockBoard).toggleNoteMode(position);
+    }
+
+    @Test
+    public void test_toggleNoteMode_badIndex_false() {
+        // Set up
+        int position = -1;
+        doReturn(false).when(mockBoard).toggleNoteMode(anyInt());
+        doReturn(true).when(mockBoard).toggleNoteMode(and(gt(0), lt(BOARD_SIZE)));
+        // Execute & Verify
+        assertFalse(ModelProxy.toggleNoteMode(position));
+        verify(mockBoard).toggleNoteMode(position);
+    }
+
+    @Test
+    public void test_toggleNoteMode_nullBoard_false() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertFalse(ModelProxy.toggleNoteMode(40));
+    }
+    //endregion
+
+    //region getHint() tests
+    @Test
+    public void test_getHint_pass() {
+        // Set up
+        int position = 40;
+        doReturn(position).when(mockBoard).useHint();
+        // Execute & Verify
+        assertEquals(position, ModelProxy.getHint());
+        verify(mockBoard).useHint();
+    }
+
+    @Test
+    public void test_getHint_boardSolved_fail() {
+        // Set up
+        int position = -1;
+        doReturn(position).when(mockBoard).useHint();
+        // Execute & Verify
+        assertEquals(position, ModelProxy.getHint());
+        verify(mockBoard).useHint();
+    }
+
+    @Test
+    public void test_getHint_boardNull_fail() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertEquals(-1, ModelProxy.getHint());
+    }
+    //endregion
+
+    //region solve() tests
+    @Test
+    public void test_solve_true() {
+        // Set up
+        doReturn(true).when(mockBoard).solve();
+        // Execute & Verify
+        assertTrue(ModelProxy.solve());
+        verify(mockBoard).solve();
+    }
+
+    @Test
+    public void test_solve_false() {
+        // Set up
+        doReturn(false).when(mockBoard).solve();
+        // Execute & Verify
+        assertFalse(ModelProxy.solve());
+        verify(mockBoard).solve();
+    }
+
+    @Test
+    public void test_solve_nullBoard_false() {
+        // Set up
+        ModelProxy.board = null;
+        // Execute & Verify
+        assertFalse(ModelProxy.solve());
+    }
+    //endregion
+
+    //region getSnapshot() tests
+    @Test
+    public void test_getSnapshot_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        int position = getOpenTile();
+        ModelProxy.toggleNoteMode(position);
+        ModelProxy.updateTile(position, 4);
+        int tileCount = ModelProxy.getTileCount();
+        int[] values = new int[tileCount];
+        int[] notes = new int[tileCount];
+        long[] flags = new long[ModelProxy.getFlagsLength(tileCount)];
+        // Execute
+        assertTrue(ModelProxy.getSnapshot(values, notes, flags));
+        // Verify: matches the per-Tile getters
+        assertEquals(BOARD_SIZE, tileCount);
+        for (int i = 0; i < tileCount; ++i) {
+            int tileFlags = ModelProxy.getFlags(flags, i);
+            assertEquals(ModelProxy.tileIsOrig(i), (tileFlags & ModelProxy.FLAG_ORIG) != 0);
+            assertEquals(ModelProxy.tileIsNoteMode(i), (tileFlags & ModelProxy.FLAG_NOTE_MODE) != 0);
+            assertEquals(ModelProxy.getTileValue(i), values[i]);
+            assertEquals(ModelProxy.getTileNotes(i), notes[i]);
+            if (!ModelProxy.tileIsNoteMode(i)) {
+                assertEquals(ModelProxy.getTile(i).getFirst(), values[i]);
+            }
+        }
+        assertEquals(1 << 3, notes[position]);
+    }
+
+    @Test
+    public void test_getSnapshot_largeBoardNotes_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(25);
+        int tileCount = ModelProxy.getTileCount();
+        int notesMask = (1 << 24) | (1 << 19) | 1;
+        ModelProxy.board.setTileState(0, true, 0, notesMask);
+        int[] values = new int[tileCount];
+        int[] notes = new int[tileCount];
+        long[] flags = new long[ModelProxy.getFlagsLength(tileCount)];
+        // Execute
+        assertTrue(ModelProxy.getSnapshot(values, notes, flags));
+        // Verify
+        assertEquals(notesMask, notes[0]);
+        assertEquals(notesMask, ModelProxy.getTileNotes(0));
+    }
+
+    @Test
+    public void test_getSnapshot_shortBuffers_false() {
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        int[] values = new int[BOARD_SIZE];
+        int[] notes = new int[BOARD_SIZE];
+        long[] flags = new long[ModelProxy.getFlagsLength(BOARD_SIZE)];
+        assertFalse(ModelProxy.getSnapshot(new int[BOARD_SIZE - 1], notes, flags));
+        assertFalse(ModelProxy.getSnapshot(values, new int[BOARD_SIZE - 1], flags));
+        assertFalse(ModelProxy.getSnapshot(values, notes, new long[flags.length - 1]));
+    }
+
+    @Test
+    public void test_getSnapshot_nullBoard_false() {
+        ModelProxy.board = null;
+        assertEquals(0, ModelProxy.getTileCount());
+        assertFalse(ModelProxy.getSnapshot(new int[BOARD_SIZE], new int[BOARD_SIZE], new long[2]));
+        assertEquals(-1, ModelProxy.getTileValue(0));
+        assertEquals(0, ModelProxy.getTileNotes(0));
+    }
+
+    @Test
+    public void test_getTileValue_badIndex_fail() {
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        assertEquals(-1, ModelProxy.getTileValue(BOARD_SIZE));
+        assertEquals(-1, ModelProxy.getTileValue(-1));
+        assertEquals(0, ModelProxy.getTileNotes(BOARD_SIZE));
+    }
+    //endregion
+
+    //region setBoardListener() tests
+    @Test
+    public void test_setBoardListener_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        int position = getOpenTile();
+        BoardListener listener = mock(BoardListener.class);
+        ModelProxy.setBoardListener(listener);
+        // Execute & Verify
+        ModelProxy.updateTile(position, 3);
+        verify(listener).onTileChanged(position, 3, 0, false, false);
+        ModelProxy.undo();
+        verify(listener).onTileChanged(position, 0, 0, false, false);
+        ModelProxy.solve();
+        verify(listener).onBoardChanged(true);
+    }
+
+    @Test
+    public void test_setBoardListener_loadGameOneEvent_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        byte[] save = ModelProxy.saveBinary();
+        BoardListener listener = mock(BoardListener.class);
+        ModelProxy.setBoardListener(listener);
+        // Execute
+        ModelProxy.loadGame(save);
+        // Verify
+        verify(listener, times(1)).onBoardChanged(false);
+        verify(listener, never()).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+    }
+
+    @Test
+    public void test_setBoardListener_recoverJournalOneEvent_pass() throws IOException {
+        File snapshotFile = File.createTempFile("AutoSave", ".txt");
+        File journalFile = File.createTempFile("AutoSave", ".journal");
+        try {
+            // Setup
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            ModelProxy.newGame(1, 5L);
+            assertTrue(ModelProxy.startJournal(snapshotFile, journalFile));
+            int position = getOpenTile();
+            ModelProxy.updateTile(position, 3);
+            ModelProxy.toggleNoteMode(position + 1);
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            BoardListener listener = mock(BoardListener.class);
+            ModelProxy.setBoardListener(listener);
+            // Execute
+            assertEquals(1, ModelProxy.recoverJournal(snapshotFile, journalFile));
+            // Verify: the snapshot and both replayed moves are one change
+            verify(listener, times(1)).onBoardChanged(false);
+            verify(listener, never()).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+        } finally {
+            ModelProxy.stopJournal();
+            snapshotFile.delete();
+            journalFile.delete();
+        }
+    }
+
+    @Test
+    public void test_setBoardListener_droppedByInitializeNewBoard_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        BoardListener listener = mock(BoardListener.class);
+        ModelProxy.setBoardListener(listener);
+        // Execute
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        ModelProxy.updateTile(getOpenTile(), 3);
+        // Verify
+        assertNull(ModelProxy.listener);
+        verify(listener, never()).onBoardChanged(anyBoolean());
+        verify(listener, never()).onTileChanged(anyInt(), anyInt(), anyInt(), anyBoolean(), anyBoolean());
+    }
+    //endregion
+
+    //region undo() / redo() tests
+    @Test
+    public void test_undoRedo_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        int position = getOpenTile();
+        assertFalse(ModelProxy.canUndo());
+        ModelProxy.updateTile(position, 3);
+        ModelProxy.toggleNoteMode(position);
+        ModelProxy.updateTile(position, 7);
+        LinkedList notes = ModelProxy.getTile(position);
+        ModelProxy.clearTile(position);
+        // Execute & Verify
+        assertTrue(ModelProxy.canUndo());
+        assertEquals(position, ModelProxy.undo());
+        assertEquals(notes, ModelProxy.getTile(position));
+        assertEquals(position, ModelProxy.undo());
+        assertEquals(position, ModelProxy.undo());
+        assertFalse(ModelProxy.tileIsNoteMode(position));
+        assertEquals(3, ModelProxy.getTile(position).getFirst());
+        assertEquals(position, ModelProxy.undo());
+        assertEquals(0, ModelProxy.getTile(position).getFirst());
+        assertEquals(-1, ModelProxy.undo());
+        assertTrue(ModelProxy.canRedo());
+        for (int i = 0; i < 4; ++i) {
+            assertEquals(position, ModelProxy.redo());
+        }
+        assertEquals(-1, ModelProxy.redo());
+        assertFalse(ModelProxy.canRedo());
+        assertTrue(ModelProxy.tileIsNoteMode(position));
+        assertTrue(ModelProxy.getTile(position).isEmpty());
+    }
+
+    @Test
+    public void test_undo_skipsNoOps_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        int position = getOpenTile();
+        int orig = 0;
+        while (!ModelProxy.tileIsOrig(orig)) {
+            ++orig;
+        }
+        // Execute: clearing an empty Tile and updating an original change nothing
+        ModelProxy.clearTile(position);
+        ModelProxy.updateTile(orig, 1);
+        ModelProxy.toggleNoteMode(orig);
+        // Verify
+        assertFalse(ModelProxy.canUndo());
+    }
+
+    @Test
+    public void test_undo_clearedByHintAndLoadGame_pass() {
+        // Setup
+        ModelProxy.initializeNewBoard(HOUSE_SIZE);
+        ModelProxy.newGame(1, 5L);
+        ModelProxy.updateTile(getOpenTile(), 1);
+        // Execute & Verify
+        ModelProxy.getHint();
+        assertFalse(ModelProxy.canUndo());
+        ModelProxy.updateTile(getOpenTile(), 1);
+        ModelProxy.loadGame(ModelProxy.saveBinary());
+        assertFalse(ModelProxy.canUndo());
+        assertEquals(-1, ModelProxy.undo());
+    }
+
+    @Test
+    public void test_undo_journaled_pass() throws IOException {
+        File snapshotFile = File.createTempFile("AutoSave", ".txt");
+        File journalFile = File.createTempFile("AutoSave", ".journal");
+        try {
+            // Setup
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            ModelProxy.newGame(1, 5L);
+            assertTrue(ModelProxy.startJournal(snapshotFile, journalFile));
+            int position = getOpenTile();
+            ModelProxy.toggleNoteMode(position);
+            ModelProxy.updateTile(position, 2);
+            ModelProxy.updateTile(position, 5);
+            ModelProxy.toggleNoteMode(position);
+            ModelProxy.updateTile(position, 8);
+            ModelProxy.undo();
+            ModelProxy.undo();
+            ModelProxy.undo();
+            ModelProxy.redo();
+            LinkedList expected = ModelProxy.getTile(position);
+            // Execute
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            assertEquals(1, ModelProxy.recoverJournal(snapshotFile, journalFile));
+            // Verify
+            assertTrue(ModelProxy.tileIsNoteMode(position));
+            assertEquals(expected, ModelProxy.getTile(position));
+        } finally {
+            ModelProxy.stopJournal();
+            assertTrue(snapshotFile.delete());
+            assertTrue(journalFile.delete());
+        }
+    }
+
+    @Test
+    public void test_undoRedo_nullBoard_fail() {
+        ModelProxy.board = null;
+        assertEquals(-1, ModelProxy.undo());
+        assertEquals(-1, ModelProxy.redo());
+        assertFalse(ModelProxy.canUndo());
+        assertFalse(ModelProxy.canRedo());
+    }
+
+    @Test
+    public void test_setUndoMemoryLimit_pass() {
+        try {
+            ModelProxy.setUndoMemoryLimit(2 * MoveHistory.ENTRY_SIZE);
+            assertEquals(2, ModelProxy.history.maxEntries);
+            ModelProxy.initializeNewBoard(HOUSE_SIZE);
+            assertEquals(2, ModelProxy.history.maxEntries);
+        } finally {
+            ModelProxy.setUndoMemoryLimit(MoveHistory.DEFAULT_MEMORY_LIMIT);
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,215 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class MoveHistoryTest {
+
+    private final int HOUSE_SIZE = 9;
+    private Board board;
+    private MoveHistory history;
+
+    //region setup
+    @Before
+    public void setUp() {
+        board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+        history = new MoveHistory(MoveHistory.DEFAULT_MEMORY_LIMIT);
+    }
+
+    private void update(int index, int value) {
+        long before = MoveHistory.encode(board, index);
+        board.updateTile(index, value);
+        history.push(before);
+    }
+
+    private void toggle(int index) {
+        long before = MoveHistory.encode(board, index);
+        board.toggleNoteMode(index);
+        history.push(before);
+    }
+    //endregion
+
+    //region encode() tests
+    @Test
+    public void test_encode_pass() {
+        board.toggleNoteMode(80);
+        board.updateTile(80, 1);
+        board.updateTile(80, 9);
+        long entry = MoveHistory.encode(board, 80);
+        assertEquals(80, MoveHistory.getIndex(entry));
+        assertTrue(MoveHistory.isNoteMode(entry));
+        assertEquals(0, MoveHistory.getValue(entry));
+        assertEquals(0x101, MoveHistory.getNotesMask(entry));
+
+        board.setTileState(3, false, 7, 0);
+        entry = MoveHistory.encode(board, 3);
+        assertEquals(3, MoveHistory.getIndex(entry));
+        assertFalse(MoveHistory.isNoteMode(entry));
+        assertEquals(7, MoveHistory.getValue(entry));
+        assertEquals(0, MoveHistory.getNotesMask(entry));
+        assertTrue(entry != MoveHistory.NONE);
+    }
+    //endregion
+
+    //region undo() / redo() tests
+    @Test
+    public void test_undoRedo_pass() {
+        update(0, 4);
+        update(0, 6);
+        toggle(1);
+        update(1, 2);
+        update(1, 3);
+
+        assertEquals(1, history.undo(board));
+        assertEquals(0x2, board.getTile(1).getNotesMask());
+        assertEquals(1, history.undo(board));
+        assertEquals(1, history.undo(board));
+        assertFalse(board.tileIsNoteMode(1));
+        assertEquals(0, history.undo(board));
+        assertEquals(4, board.getTile(0).getValue());
+        assertTrue(board.getRow(0).hasValue(4));
+        assertFalse(board.getRow(0).hasValue(6));
+        assertEquals(0, history.undo(board));
+        assertEquals(0, board.getTile(0).getValue());
+        assertEquals(-1, history.undo(board));
+
+        assertEquals(0, history.redo(board));
+        assertEquals(0, history.redo(board));
+        assertEquals(6, board.getTile(0).getValue());
+        assertEquals(1, history.redo(board));
+        assertEquals(1, history.redo(board));
+        assertEquals(1, history.redo(board));
+        assertTrue(board.tileIsNoteMode(1));
+        assertEquals(0x6, board.getTile(1).getNotesMask());
+        assertEquals(-1, history.redo(board));
+    }
+
+    @Test
+    public void test_push_dropsRedo_pass() {
+        update(0, 4);
+        update(1, 5);
+        history.undo(board);
+        assertEquals(1, history.getRedoPosition());
+        update(2, 6);
+        assertEquals(-1, history.getRedoPosition());
+        assertEquals(-1, history.redo(board));
+        assertEquals(2, history.undo(board));
+        assertEquals(0, history.undo(board));
+        assertEquals(0, board.getTile(1).getValue());
+    }
+
+    @Test
+    public void test_getPositions_pass() {
+        assertEquals(-1, history.getUndoPosition());
+        assertEquals(-1, history.getRedoPosition());
+        update(7, 1);
+        assertEquals(7, history.getUndoPosition());
+        history.undo(board);
+        assertEquals(-1, history.getUndoPosition());
+        assertEquals(7, history.getRedoPosition());
+    }
+
+    @Test
+    public void test_clear_pass() {
+        update(0, 4);
+        update(1, 5);
+        history.undo(board);
+        history.clear();
+        assertEquals(-1, history.undo(board));
+        assertEquals(-1, history.redo(board));
+        assertEquals(4, board.getTile(0).getValue());
+    }
+    //endregion
+
+    //region memory tests
+    @Test
+    public void test_push_grows_pass() {
+        int moves = MoveHistory.INITIAL_CAPACITY * 3;
+        for (int i = 0; i < moves; ++i) {
+            update(i, i % HOUSE_SIZE + 1);
+        }
+        assertEquals(MoveHistory.INITIAL_CAPACITY * 4, history.entries.length);
+        for (int i = moves - 1; i >= 0; --i) {
+            assertEquals(i, history.undo(board));
+        }
+        assertEquals(-1, history.undo(board));
+    }
+
+    @Test
+    public void test_push_memoryLimit_pass() {
+        history = new MoveHistory(4 * MoveHistory.ENTRY_SIZE);
+        for (int i = 0; i < 10; ++i) {
+            update(i, 1);
+        }
+        assertEquals(4, history.entries.length);
+        // Only the 4 latest moves are kept
+        for (int i = 9; i >= 6; --i) {
+            assertEquals(i, history.undo(board));
+        }
+        assertEquals(-1, history.undo(board));
+        assertEquals(1, board.getTile(5).getValue());
+        for (int i = 6; i <= 9; ++i) {
+            assertEquals(i, history.redo(board));
+        }
+    }
+
+    @Test
+    public void test_setMemoryLimit_dropsRedoFirst_pass() {
+        for (int i = 0; i < 6; ++i) {
+            update(i, 1);
+        }
+        history.undo(board);
+        history.undo(board);
+        history.setMemoryLimit(4 * MoveHistory.ENTRY_SIZE);
+        assertEquals(4, history.entries.length);
+        assertEquals(-1, history.getRedoPosition());
+        for (int i = 3; i >= 0; --i) {
+            assertEquals(i, history.undo(board));
+        }
+        assertEquals(-1, history.undo(board));
+    }
+
+    @Test
+    public void test_setMemoryLimit_dropsOldest_pass() {
+        for (int i = 0; i < 6; ++i) {
+            update(i, 1);
+        }
+        history.undo(board);
+        history.setMemoryLimit(2 * MoveHistory.ENTRY_SIZE);
+        assertEquals(-1, history.getRedoPosition());
+        assertEquals(4, history.undo(board));
+        assertEquals(3, history.undo(board));
+        assertEquals(-1, history.undo(board));
+    }
+
+    @Test
+    public void test_setMemoryLimit_keepsRedo_pass() {
+        for (int i = 0; i < 3; ++i) {
+            update(i, 1);
+        }
+        history.undo(board);
+        history.setMemoryLimit(4 * MoveHistory.ENTRY_SIZE);
+        assertEquals(2, history.getRedoPosition());
+        assertEquals(1, history.getUndoPosition());
+    }
+
+    @Test
+    public void test_memoryLimit_atLeastOne_pass() {
+        history = new MoveHistory(0);
+        update(0, 1);
+        update(1, 1);
+        assertEquals(1, history.undo(board));
+        assertEquals(-1, history.undo(board));
+    }
+    //endregion
+}
@@ -0,0 +1,262 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.Charset;
+
+import me.valesken.jeff.util.FileStore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class MoveJournalTest {
+
+    private final int HOUSE_SIZE = 9;
+    private final int BOARD_SIZE = 81;
+    private Board board;
+    private File snapshotFile;
+    private File journalFile;
+    private MoveJournal journal;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    //region setup
+    @Before
+    public void setUp() {
+        board = newBoard();
+        board.newGame(1, 77L);
+        snapshotFile = new File(folder.getRoot(), "AutoSave.txt");
+        journalFile = new File(folder.getRoot(), "AutoSave.journal");
+        journal = new MoveJournal(snapshotFile, journalFile, 1000);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        journal.close();
+    }
+
+    private Board newBoard() {
+        Board newBoard = new Board(HOUSE_SIZE);
+        newBoard.initializeHouses();
+        newBoard.initializeTiles();
+        return newBoard;
+    }
+
+    /**
+     * @return The index of the n-th Tile that is not an original.
+     */
+    private int getOpenTile(int n) {
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            if (!board.tileIsOrig(i) && n-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void update(int index, int value) throws IOException {
+        board.updateTile(index, value);
+        journal.record(board, MoveJournal.UPDATE, index, value);
+    }
+
+    private void toggle(int index) throws IOException {
+        board.toggleNoteMode(index);
+        journal.record(board, MoveJournal.TOGGLE, index, 0);
+    }
+
+    private Board recover() throws IOException {
+        Board recovered = newBoard();
+        assertEquals(board.difficulty, MoveJournal.recover(recovered, snapshotFile, journalFile));
+        return recovered;
+    }
+
+    private void assertSameGame(Board expected, Board actual) {
+        assertEquals(expected.getTime(), actual.getTime());
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            assertEquals(expected.tileIsOrig(i), actual.tileIsOrig(i));
+            assertEquals(expected.tileIsNoteMode(i), actual.tileIsNoteMode(i));
+            assertEquals(expected.getTileNotesOrValue(i), actual.getTileNotesOrValue(i));
+        }
+    }
+    //endregion
+
+    //region start() / record() tests
+    @Test
+    public void test_start_pass() throws IOException {
+        journal.start(board);
+        assertTrue(SaveCodec.isBinary(FileStore.readFile(snapshotFile)));
+        assertEquals(MoveJournal.HEADER_SIZE, journalFile.length());
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_record_appendsOneRecordPerMove_pass() throws IOException {
+        journal.start(board);
+        long snapshotLength = snapshotFile.length();
+        int tile = getOpenTile(0);
+        update(tile, 3);
+        toggle(getOpenTile(1));
+        assertEquals(MoveJournal.HEADER_SIZE + 2 * MoveJournal.RECORD_SIZE, journalFile.length());
+        // The snapshot is left alone
+        assertEquals(snapshotLength, snapshotFile.length());
+    }
+
+    @Test
+    public void test_recover_replaysMoves_pass() throws IOException {
+        journal.start(board);
+        int first = getOpenTile(0);
+        int second = getOpenTile(1);
+        update(first, 4);
+        update(first, 5);
+        toggle(second);
+        update(second, 2);
+        update(second, 7);
+        board.clearTile(first);
+        journal.record(board, MoveJournal.CLEAR, first, 0);
+        int hint = board.useHint();
+        journal.record(board, MoveJournal.HINT, hint, 0);
+        board.resetClock(3 * 60 + 21);
+        journal.recordTime(board);
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_recover_solve_pass() throws IOException {
+        journal.start(board);
+        toggle(getOpenTile(0));
+        board.solve();
+        journal.record(board, MoveJournal.SOLVE, 0, 0);
+        Board recovered = recover();
+        assertSameGame(board, recovered);
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            assertEquals(board.getSolutionForTile(i), recovered.getTile(i).getValue());
+        }
+    }
+
+    @Test
+    public void test_record_compacts_pass() throws IOException {
+        journal = new MoveJournal(snapshotFile, journalFile, 3);
+        board.resetClock(10);
+        journal.start(board);
+        int tile = getOpenTile(0);
+        for (int value = 1; value <= 7; ++value) {
+            update(tile, value);
+        }
+        // 3 records, compaction, 3 records, compaction, 1 record
+        assertEquals(MoveJournal.HEADER_SIZE + MoveJournal.RECORD_SIZE, journalFile.length());
+        assertEquals(1, journal.entries);
+        assertFalse(new File(snapshotFile.getPath() + ".tmp").exists());
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_recordTime_compacts_pass() throws IOException {
+        journal = new MoveJournal(snapshotFile, journalFile, 3);
+        journal.start(board);
+        update(getOpenTile(0), 6);
+        for (int seconds = 1; seconds <= 5; ++seconds) {
+            board.resetClock(seconds);
+            journal.recordTime(board);
+        }
+        // 3 records, compaction, 3 records, compaction
+        assertEquals(MoveJournal.HEADER_SIZE, journalFile.length());
+        assertEquals(0, journal.entries);
+        assertSameGame(board, recover());
+    }
+
+    @Test(expected = IOException.class)
+    public void test_record_closed_fail() throws IOException {
+        journal.start(board);
+        journal.close();
+        journal.recordTime(board);
+    }
+    //endregion
+
+    //region recover() tests
+    @Test
+    public void test_recover_tornRecord_pass() throws IOException {
+        journal.start(board);
+        update(getOpenTile(0), 6);
+        Board expected = newBoard();
+        MoveJournal.recover(expected, snapshotFile, journalFile);
+        update(getOpenTile(1), 8);
+        journal.close();
+        // The process died halfway through writing the last record
+        try (RandomAccessFile file = new RandomAccessFile(journalFile, "rw")) {
+            file.setLength(file.length() - 2);
+        }
+        assertSameGame(expected, recover());
+    }
+
+    @Test
+    public void test_recover_staleJournal_pass() throws IOException {
+        journal.start(board);
+        update(getOpenTile(0), 6);
+        journal.close();
+        byte[] staleJournal = FileStore.readFile(journalFile);
+        // A compaction wrote the new snapshot, but died before resetting the journal
+        journal.start(board);
+        journal.close();
+        try (FileOutputStream out = new FileOutputStream(journalFile)) {
+            out.write(staleJournal);
+        }
+        // The move is in the snapshot already, and is not replayed again (which would clear the Tile)
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_recover_invalidRecord_pass() throws IOException {
+        journal.start(board);
+        Board expected = newBoard();
+        MoveJournal.recover(expected, snapshotFile, journalFile);
+        journal.record(board, MoveJournal.UPDATE, BOARD_SIZE, 1);
+        update(getOpenTile(0), 6);
+        // Replay stops at the invalid record
+        assertSameGame(expected, recover());
+    }
+
+    @Test
+    public void test_recover_noJournal_pass() throws IOException {
+        journal.start(board);
+        journal.close();
+        assertTrue(journalFile.delete());
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_recover_jsonSnapshot_pass() throws IOException {
+        board.resetClock(60);
+        try (FileOutputStream out = new FileOutputStream(snapshotFile)) {
+            out.write(board.save().toString().getBytes(Charset.forName("UTF-8")));
+        }
+        assertSameGame(board, recover());
+    }
+
+    @Test
+    public void test_recover_badSnapshot_fail() throws IOException {
+        try (FileOutputStream out = new FileOutputStream(snapshotFile)) {
+            out.write(new byte[]{1, 2, 3});
+        }
+        assertEquals(-1, MoveJournal.recover(newBoard(), snapshotFile, journalFile));
+    }
+
+    @Test(expected = IOException.class)
+    public void test_recover_noSnapshot_fail() throws IOException {
+        MoveJournal.recover(newBoard(), snapshotFile, journalFile);
+    }
+    //endregion
+}
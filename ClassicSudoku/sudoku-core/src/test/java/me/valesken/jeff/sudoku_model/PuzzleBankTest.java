@@ -0,0 +1,254 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class PuzzleBankTest {
+
+    private final int HOUSE_SIZE = 9;
+    private final int BOARD_SIZE = 81;
+    private PuzzleBank bank;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    //region setup
+    @After
+    public void tearDown() throws IOException {
+        if (bank != null) {
+            bank.close();
+        }
+    }
+
+    /**
+     * @return A puzzle whose solution and givens both depend on the seed, so every puzzle written is distinct.
+     */
+    private PuzzlePool.Puzzle makePuzzle(int houseSize, int difficulty, long seed) {
+        int boardSize = houseSize * houseSize;
+        int[] solution = new int[boardSize];
+        int[] givens = new int[boardSize];
+        int shift = (int) (seed & 0xFF);
+        for (int i = 0; i < boardSize; ++i) {
+            solution[i] = (i + shift) % houseSize + 1;
+            if ((i + shift) % 3 == 0) {
+                givens[i] = solution[i];
+            }
+        }
+        return new PuzzlePool.Puzzle(difficulty, seed, givens, solution);
+    }
+
+    private void assertSamePuzzle(PuzzlePool.Puzzle expected, PuzzlePool.Puzzle actual) {
+        assertNotNull(actual);
+        assertEquals(expected.difficulty, actual.difficulty);
+        assertEquals(expected.seed, actual.seed);
+        assertArrayEquals(expected.givens, actual.givens);
+        assertArrayEquals(expected.solution, actual.solution);
+    }
+    //endregion
+
+    //region layout tests
+    @Test
+    public void test_getRecordSize_pass() {
+        // Seed + 81 values at 4 bits + 81 given bits
+        assertEquals(8 + 41 + 11, PuzzleBank.getRecordSize(HOUSE_SIZE));
+        // Seed + 256 values at 5 bits + 256 given bits
+        assertEquals(8 + 160 + 32, PuzzleBank.getRecordSize(16));
+    }
+    //endregion
+
+    //region Writer / reading tests
+    @Test
+    public void test_roundTrip_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        PuzzlePool.Puzzle hard = makePuzzle(HOUSE_SIZE, 3, 7L);
+        PuzzlePool.Puzzle easy = makePuzzle(HOUSE_SIZE, 1, -123456789L);
+        writer.add(hard, 4);
+        writer.add(easy, 1);
+        writer.close();
+        // Only the bank file is left behind
+        assertEquals(1, folder.getRoot().listFiles().length);
+        assertEquals(PuzzleBank.HEADER_SIZE + 2 * PuzzleBank.getRecordSize(HOUSE_SIZE), file.length());
+
+        bank = new PuzzleBank(file);
+        assertEquals(HOUSE_SIZE, bank.houseSize);
+        assertEquals(2, bank.size());
+        // Sorted by difficulty, easy first
+        assertSamePuzzle(easy, bank.get(0));
+        assertSamePuzzle(hard, bank.get(1));
+        assertNull(bank.get(2));
+        assertNull(bank.get(-1));
+    }
+
+    @Test
+    public void test_roundTrip_largeBoard_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, 16);
+        PuzzlePool.Puzzle puzzle = makePuzzle(16, 2, 15L);
+        writer.add(puzzle, 2);
+        writer.close();
+        bank = new PuzzleBank(file);
+        assertSamePuzzle(puzzle, bank.get(0));
+    }
+
+    @Test
+    public void test_size_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        for (int i = 0; i < 5; ++i) {
+            writer.add(makePuzzle(HOUSE_SIZE, 2, i), i % 2);
+        }
+        writer.add(makePuzzle(HOUSE_SIZE, 3, 9), 4);
+        writer.add(makePuzzle(HOUSE_SIZE, 4, 10), 4);
+        writer.close();
+        bank = new PuzzleBank(file);
+        assertEquals(7, bank.size());
+        assertEquals(0, bank.size(1));
+        assertEquals(5, bank.size(2));
+        assertEquals(1, bank.size(3));
+        assertEquals(1, bank.size(4));
+        assertEquals(0, bank.size(5));
+        assertEquals(3, bank.size(2, 0));
+        assertEquals(2, bank.size(2, 1));
+        assertEquals(1, bank.size(3, 4));
+        assertEquals(0, bank.size(3, 5));
+    }
+
+    @Test
+    public void test_draw_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        for (int i = 0; i < 20; ++i) {
+            writer.add(makePuzzle(HOUSE_SIZE, i % PuzzleBank.NUM_DIFFICULTIES + 1, i), i % PuzzleBank.NUM_RATINGS);
+        }
+        writer.close();
+        bank = new PuzzleBank(file);
+        for (int difficulty = 1; difficulty <= PuzzleBank.NUM_DIFFICULTIES; ++difficulty) {
+            for (int i = 0; i < 10; ++i) {
+                PuzzlePool.Puzzle puzzle = bank.draw(difficulty);
+                assertEquals(difficulty, puzzle.difficulty);
+                assertSamePuzzle(makePuzzle(HOUSE_SIZE, difficulty, puzzle.seed), puzzle);
+            }
+        }
+        // 'Random' picks one of the difficulty levels
+        int difficulty = bank.draw(0).difficulty;
+        assertTrue(difficulty >= 1 && difficulty <= PuzzleBank.NUM_DIFFICULTIES);
+    }
+
+    @Test
+    public void test_draw_byRating_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        writer.add(makePuzzle(HOUSE_SIZE, 2, 1L), 1);
+        writer.add(makePuzzle(HOUSE_SIZE, 2, 2L), 3);
+        writer.close();
+        bank = new PuzzleBank(file);
+        assertEquals(2L, bank.draw(2, 3).seed);
+        assertEquals(1L, bank.draw(2, 1).seed);
+        assertNull(bank.draw(2, 2));
+        assertNull(bank.draw(2, -1));
+        assertNull(bank.draw(0, 1));
+    }
+
+    @Test
+    public void test_draw_empty_pass() throws IOException {
+        File file = folder.newFile("bank.bin");
+        new PuzzleBank.Writer(file, HOUSE_SIZE).close();
+        bank = new PuzzleBank(file);
+        assertEquals(0, bank.size());
+        assertNull(bank.draw(1));
+        assertNull(bank.draw(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_add_wrongSize_fail() throws IOException {
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(folder.newFile("bank.bin"), HOUSE_SIZE);
+        try {
+            writer.add(makePuzzle(4, 1, 0L), 0);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void test_add_badRating_fail() throws IOException {
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(folder.newFile("bank.bin"), HOUSE_SIZE);
+        try {
+            writer.add(makePuzzle(HOUSE_SIZE, 1, 0L), PuzzleBank.NUM_RATINGS);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void test_open_notABank_fail() throws IOException {
+        File file = folder.newFile("bank.bin");
+        try (FileOutputStream out = new FileOutputStream(file)) {
+            out.write(new byte[PuzzleBank.HEADER_SIZE]);
+        }
+        bank = new PuzzleBank(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_open_truncated_fail() throws IOException {
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        writer.add(makePuzzle(HOUSE_SIZE, 1, 0L), 0);
+        writer.close();
+        try (RandomAccessFile truncated = new RandomAccessFile(file, "rw")) {
+            truncated.setLength(file.length() - 1);
+        }
+        bank = new PuzzleBank(file);
+    }
+
+    @Test(expected = IOException.class)
+    public void test_open_otherDifficulties_fail() throws IOException {
+        // A bank written before Expert puzzles were added has sections for 3 difficulty levels
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        writer.add(makePuzzle(HOUSE_SIZE, 1, 0L), 0);
+        writer.close();
+        try (RandomAccessFile old = new RandomAccessFile(file, "rw")) {
+            old.seek(3 * 4); // MAGIC, FORMAT_VERSION, houseSize
+            old.writeInt(3);
+        }
+        bank = new PuzzleBank(file);
+    }
+
+    @Test
+    public void test_roundTrip_generatedPuzzle_pass() throws IOException {
+        Board board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+        int difficulty = board.newGame(1, 99L);
+        int[] givens = new int[BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            givens[i] = board.getTile(i).getValue();
+        }
+        PuzzlePool.Puzzle puzzle = new PuzzlePool.Puzzle(difficulty, 99L, givens, board.solution.clone());
+        File file = folder.newFile("bank.bin");
+        PuzzleBank.Writer writer = new PuzzleBank.Writer(file, HOUSE_SIZE);
+        writer.add(puzzle, 1);
+        writer.close();
+        bank = new PuzzleBank(file);
+        assertSamePuzzle(puzzle, bank.draw(difficulty));
+    }
+    //endregion
+}
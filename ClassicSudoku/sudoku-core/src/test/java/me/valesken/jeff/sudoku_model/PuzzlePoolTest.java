@@ -0,0 +1,247 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class PuzzlePoolTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private PuzzlePool pool;
+
+    /**
+     * Hands out empty puzzles instantly, so tests don't depend on generation time.
+     */
+    private static class InstantPuzzlePool extends PuzzlePool {
+        InstantPuzzlePool(int houseSize, int capacity) {
+            super(houseSize, capacity, 1);
+        }
+
+        @Override
+        protected Puzzle generate(int difficulty) {
+            return new Puzzle(difficulty, 0L, new int[81], new int[81]);
+        }
+    }
+
+    /**
+     * Generates every puzzle from seeds that used to send the board builder into a search that never finished.
+     */
+    private static class BadSeedPuzzlePool extends PuzzlePool {
+        static final long[] SEEDS = {4L, 32L, 42L, 46L};
+        static final AtomicInteger next = new AtomicInteger(); // Static, as refills start in the super constructor
+
+        BadSeedPuzzlePool(int houseSize, int capacity) {
+            super(houseSize, capacity, 2);
+        }
+
+        @Override
+        protected long nextSeed() {
+            return SEEDS[next.getAndIncrement() % SEEDS.length];
+        }
+    }
+
+    /**
+     * Fails every other generation attempt.
+     */
+    private static class FlakyPuzzlePool extends PuzzlePool {
+        static final AtomicInteger attempts = new AtomicInteger();
+
+        FlakyPuzzlePool(int houseSize, int capacity) {
+            super(houseSize, capacity, 1);
+        }
+
+        @Override
+        protected Puzzle generate(int difficulty) {
+            if (attempts.getAndIncrement() % 2 == 0) {
+                return null;
+            }
+            return new Puzzle(difficulty, 0L, new int[81], new int[81]);
+        }
+    }
+
+    //region setup
+    @After
+    public void tearDown() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private void awaitFull(int capacity) throws InterruptedException {
+        for (int i = 0; i < 500; ++i) {
+            if (totalSize() == capacity * PuzzlePool.NUM_DIFFICULTIES) {
+                return;
+            }
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+
+    private int totalSize() {
+        int total = 0;
+        for (int difficulty = 1; difficulty <= PuzzlePool.NUM_DIFFICULTIES; ++difficulty) {
+            total += pool.size(difficulty);
+        }
+        return total;
+    }
+    //endregion
+
+    //region constructor tests
+    @Test
+    public void test_constructor_fillsEveryDifficulty_pass() throws InterruptedException {
+        int capacity = 2;
+        pool = new InstantPuzzlePool(HOUSE_SIZE, capacity);
+        awaitFull(capacity);
+        for (int difficulty = 1; difficulty <= PuzzlePool.NUM_DIFFICULTIES; ++difficulty) {
+            assertEquals(capacity, pool.size(difficulty));
+        }
+    }
+
+    @Test(timeout = 30000)
+    public void test_constructor_badSeedsFillAndShutDown_pass() throws InterruptedException {
+        int capacity = 2;
+        pool = new BadSeedPuzzlePool(HOUSE_SIZE, capacity);
+        while (totalSize() < capacity * PuzzlePool.NUM_DIFFICULTIES) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        for (int difficulty = 1; difficulty <= PuzzlePool.NUM_DIFFICULTIES; ++difficulty) {
+            PuzzlePool.Puzzle puzzle = pool.take(difficulty);
+            assertEquals(difficulty, puzzle.difficulty);
+            assertTrue(puzzle.seed == 4L || puzzle.seed == 32L || puzzle.seed == 42L || puzzle.seed == 46L);
+        }
+        // Shutting down must not wait on the refills queued by take()
+        pool.shutdown();
+        assertTrue(pool.executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void test_constructor_failedGenerationRetried_pass() throws InterruptedException {
+        int capacity = 2;
+        pool = new FlakyPuzzlePool(HOUSE_SIZE, capacity);
+        awaitFull(capacity);
+        for (int difficulty = 1; difficulty <= PuzzlePool.NUM_DIFFICULTIES; ++difficulty) {
+            assertEquals(capacity, pool.size(difficulty));
+        }
+    }
+    //endregion
+
+    //region take() tests
+    @Test
+    public void test_take_pass() throws InterruptedException {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        awaitFull(1);
+        PuzzlePool.Puzzle puzzle = pool.take(2);
+        assertNotNull(puzzle);
+        assertEquals(2, puzzle.difficulty);
+        // Taken puzzle gets replaced
+        awaitFull(1);
+        assertEquals(1, pool.size(2));
+    }
+
+    @Test
+    public void test_take_random_pass() throws InterruptedException {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        awaitFull(1);
+        PuzzlePool.Puzzle puzzle = pool.take(4);
+        assertNotNull(puzzle);
+        assertTrue(puzzle.difficulty > 0 && puzzle.difficulty <= PuzzlePool.NUM_DIFFICULTIES);
+    }
+
+    @Test
+    public void test_take_empty_fail() {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        pool.shutdown();
+        pool.pools[0].clear();
+        assertNull(pool.take(1));
+    }
+    //endregion
+
+    //region getTemplate() tests
+    @Test
+    public void test_getTemplate_keptAfterTake_pass() throws InterruptedException {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        awaitFull(1);
+        pool.shutdown();
+        PuzzlePool.Puzzle puzzle = pool.take(3);
+        assertNotNull(puzzle);
+        assertEquals(0, pool.size(3));
+        assertSame(puzzle, pool.getTemplate(3));
+    }
+
+    @Test
+    public void test_getTemplate_random_pass() throws InterruptedException {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        awaitFull(1);
+        PuzzlePool.Puzzle template = pool.getTemplate(0);
+        assertNotNull(template);
+        assertTrue(template.difficulty > 0 && template.difficulty <= PuzzlePool.NUM_DIFFICULTIES);
+    }
+
+    @Test
+    public void test_getTemplate_noneGenerated_fail() {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        pool.shutdown();
+        pool.templates.set(0, null);
+        assertNull(pool.getTemplate(1));
+    }
+    //endregion
+
+    //region size() tests
+    @Test
+    public void test_size_outOfBounds_fail() {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        assertEquals(0, pool.size(0));
+        assertEquals(0, pool.size(4));
+    }
+    //endregion
+
+    //region shutdown() tests
+    @Test
+    public void test_shutdown_stopsRefills_pass() {
+        pool = new InstantPuzzlePool(HOUSE_SIZE, 1);
+        pool.shutdown();
+        assertTrue(pool.executor.isShutdown());
+        pool.refill(1); // Must not throw
+    }
+    //endregion
+
+    //region generate() tests
+    @Test
+    public void test_generate_pass() {
+        pool = new PuzzlePool(HOUSE_SIZE, 1, 1);
+        pool.shutdown();
+        PuzzlePool.Puzzle puzzle = pool.generate(1);
+        assertEquals(1, puzzle.difficulty);
+        assertEquals(BOARD_SIZE, puzzle.givens.length);
+        assertEquals(BOARD_SIZE, puzzle.solution.length);
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            assertTrue(puzzle.solution[i] > 0);
+            assertTrue(puzzle.givens[i] == 0 || puzzle.givens[i] == puzzle.solution[i]);
+        }
+    }
+
+    @Test
+    public void test_generate_interrupted_fail() {
+        pool = new PuzzlePool(HOUSE_SIZE, 1, 1);
+        pool.shutdown();
+        Thread.currentThread().interrupt();
+        try {
+            assertNull(pool.generate(2));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+    //endregion
+}
@@ -0,0 +1,149 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class PuzzleTransformerTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private PuzzleTransformer transformer;
+
+    private final int[] PUZZLE = {
+            5, 3, 0, 0, 7, 0, 0, 0, 0,
+            6, 0, 0, 1, 9, 5, 0, 0, 0,
+            0, 9, 8, 0, 0, 0, 0, 6, 0,
+            8, 0, 0, 0, 6, 0, 0, 0, 3,
+            4, 0, 0, 8, 0, 3, 0, 0, 1,
+            7, 0, 0, 0, 2, 0, 0, 0, 6,
+            0, 6, 0, 0, 0, 0, 2, 8, 0,
+            0, 0, 0, 4, 1, 9, 0, 0, 5,
+            0, 0, 0, 0, 8, 0, 0, 7, 9};
+
+    private final int[] SOLUTION = {
+            5, 3, 4, 6, 7, 8, 9, 1, 2,
+            6, 7, 2, 1, 9, 5, 3, 4, 8,
+            1, 9, 8, 3, 4, 2, 5, 6, 7,
+            8, 5, 9, 7, 6, 1, 4, 2, 3,
+            4, 2, 6, 8, 5, 3, 7, 9, 1,
+            7, 1, 3, 9, 2, 4, 8, 5, 6,
+            9, 6, 1, 5, 3, 7, 2, 8, 4,
+            2, 8, 7, 4, 1, 9, 6, 3, 5,
+            3, 4, 5, 2, 8, 6, 1, 7, 9};
+
+    //region setup
+    @Before
+    public void setUp() {
+        transformer = new PuzzleTransformer(HOUSE_SIZE);
+    }
+
+    private int countGivens(int[] grid) {
+        int count = 0;
+        for (int value : grid) {
+            if (value > 0) {
+                ++count;
+            }
+        }
+        return count;
+    }
+    //endregion
+
+    //region constructor tests
+    @Test
+    public void test_constructor_identity_pass() {
+        int[] result = new int[BOARD_SIZE];
+        transformer.apply(SOLUTION, result);
+        assertArrayEquals(SOLUTION, result);
+    }
+    //endregion
+
+    //region randomize() / apply() tests
+    @Test
+    public void test_apply_keepsPuzzleUniqueAndSolutionMatching_pass() {
+        DancingLinks dancingLinks = new DancingLinks(HOUSE_SIZE);
+        Random random = new Random(7);
+        int[] givens = new int[BOARD_SIZE];
+        int[] solution = new int[BOARD_SIZE];
+        int[] solved = new int[BOARD_SIZE];
+        for (int i = 0; i < 50; ++i) {
+            transformer.randomize(random);
+            transformer.apply(PUZZLE, givens);
+            transformer.apply(SOLUTION, solution);
+            assertEquals(countGivens(PUZZLE), countGivens(givens));
+            assertEquals(1, dancingLinks.solve(givens, solved, 2));
+            assertArrayEquals(solution, solved);
+        }
+    }
+
+    @Test
+    public void test_apply_keepsGivensInSolution_pass() {
+        int[] givens = new int[BOARD_SIZE];
+        int[] solution = new int[BOARD_SIZE];
+        transformer.randomize(new Random(3));
+        transformer.apply(PUZZLE, givens);
+        transformer.apply(SOLUTION, solution);
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            if (givens[i] > 0) {
+                assertEquals(solution[i], givens[i]);
+            }
+        }
+    }
+
+    @Test
+    public void test_randomize_sameSeedSameTransformation_pass() {
+        int[] first = new int[BOARD_SIZE];
+        int[] second = new int[BOARD_SIZE];
+        transformer.randomize(new Random(11));
+        transformer.apply(PUZZLE, first);
+        transformer.randomize(new Random(11));
+        transformer.apply(PUZZLE, second);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void test_randomize_changesPuzzle_pass() {
+        int[] result = new int[BOARD_SIZE];
+        transformer.randomize(new Random(5));
+        transformer.apply(SOLUTION, result);
+        assertFalse(Arrays.equals(SOLUTION, result));
+    }
+
+    @Test
+    public void test_randomizeLines_keepsLinesInBands_pass() {
+        int[] lineMap = new int[HOUSE_SIZE];
+        transformer.randomizeLines(lineMap, new Random(13));
+        boolean[] seen = new boolean[HOUSE_SIZE];
+        for (int band = 0; band < 3; ++band) {
+            int sourceBand = lineMap[band * 3] / 3;
+            for (int i = 0; i < 3; ++i) {
+                assertEquals(sourceBand, lineMap[band * 3 + i] / 3);
+                assertFalse(seen[lineMap[band * 3 + i]]);
+                seen[lineMap[band * 3 + i]] = true;
+            }
+        }
+    }
+
+    @Test
+    public void test_apply_transpose_pass() {
+        int[] result = new int[BOARD_SIZE];
+        transformer.transpose = true;
+        transformer.apply(SOLUTION, result);
+        for (int row = 0; row < HOUSE_SIZE; ++row) {
+            for (int column = 0; column < HOUSE_SIZE; ++column) {
+                assertEquals(SOLUTION[column * HOUSE_SIZE + row], result[row * HOUSE_SIZE + column]);
+            }
+        }
+    }
+    //endregion
+}
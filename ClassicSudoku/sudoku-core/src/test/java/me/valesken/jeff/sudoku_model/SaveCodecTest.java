@@ -0,0 +1,222 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class SaveCodecTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private Board board;
+
+    //region setup
+    @Before
+    public void setUp() {
+        board = newBoard(HOUSE_SIZE);
+        board.newGame(2, 1234L);
+        // Play a little: a value, and notes in Note mode
+        int played = -1;
+        int noted = -1;
+        for (int i = 0; i < BOARD_SIZE && noted < 0; ++i) {
+            if (!board.tileIsOrig(i)) {
+                if (played < 0) {
+                    played = i;
+                    board.updateTile(i, board.getSolutionForTile(i));
+                } else {
+                    noted = i;
+                    board.toggleNoteMode(i);
+                    board.updateTile(i, 1);
+                    board.updateTile(i, 9);
+                }
+            }
+        }
+    }
+
+    private Board newBoard(int houseSize) {
+        Board newBoard = new Board(houseSize);
+        newBoard.initializeHouses();
+        newBoard.initializeTiles();
+        return newBoard;
+    }
+
+    private void assertSameGame(Board expected, Board actual) {
+        assertEquals(expected.difficulty, actual.difficulty);
+        assertEquals(expected.seed, actual.seed);
+        assertArrayEquals(expected.solution, actual.solution);
+        for (int i = 0; i < expected.boardSize; ++i) {
+            Tile expectedTile = expected.getTile(i);
+            Tile actualTile = actual.getTile(i);
+            assertEquals(i, actualTile.getIndex());
+            assertEquals(expectedTile.getValue(), actualTile.getValue());
+            assertEquals(expectedTile.isOrig(), actualTile.isOrig());
+            assertEquals(expectedTile.isNoteMode(), actualTile.isNoteMode());
+            assertEquals(expectedTile.getNotesMask(), actualTile.getNotesMask());
+            assertEquals(expectedTile.getNotesOrValue(), actualTile.getNotesOrValue());
+        }
+    }
+    //endregion
+
+    //region encode() / decode() tests
+    @Test
+    public void test_getSize_pass() {
+        // 20 byte header, then 81 Tiles of 4 + 4 + 1 + 1 + 9 bits
+        assertEquals(20 + 193, SaveCodec.getSize(HOUSE_SIZE));
+    }
+
+    @Test
+    public void test_roundTrip_pass() {
+        board.resetClock(12 * 60 + 34);
+        byte[] data = SaveCodec.encode(board);
+        assertEquals(SaveCodec.getSize(HOUSE_SIZE), data.length);
+        assertTrue(SaveCodec.isBinary(data));
+        Board loaded = newBoard(HOUSE_SIZE);
+        assertEquals(2, SaveCodec.decode(loaded, data));
+        assertSameGame(board, loaded);
+        assertEquals("12:34", loaded.getTime());
+    }
+
+    @Test
+    public void test_roundTrip_matchesJson_pass() throws JSONException {
+        board.resetClock(62);
+        Board fromJson = newBoard(HOUSE_SIZE);
+        assertEquals(2, fromJson.loadGame(new JSONObject(board.save().toString())));
+        Board fromBinary = newBoard(HOUSE_SIZE);
+        assertEquals(2, fromBinary.loadGame(board.saveBinary()));
+        assertSameGame(fromJson, fromBinary);
+        assertEquals(fromJson.getTime(), fromBinary.getTime());
+        // An order of magnitude smaller than the JSON save
+        assertTrue(board.saveBinary().length * 10 < board.save().toString().length());
+    }
+
+    @Test
+    public void test_roundTrip_noSeed_pass() {
+        board.seed = null;
+        Board loaded = newBoard(HOUSE_SIZE);
+        assertEquals(2, SaveCodec.decode(loaded, SaveCodec.encode(board)));
+        assertNull(loaded.seed);
+    }
+
+    @Test
+    public void test_roundTrip_negativeSeed_pass() {
+        board.seed = Long.MIN_VALUE;
+        Board loaded = newBoard(HOUSE_SIZE);
+        SaveCodec.decode(loaded, SaveCodec.encode(board));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), loaded.seed);
+    }
+
+    @Test
+    public void test_roundTrip_largeBoard_pass() {
+        Board large = newBoard(16);
+        int[] solution = new int[256];
+        int[] givens = new int[256];
+        for (int i = 0; i < 256; ++i) {
+            solution[i] = i % 16 + 1;
+            givens[i] = (i % 5 == 0) ? solution[i] : 0;
+        }
+        large.loadPuzzle(3, 99L, givens, solution);
+        large.toggleNoteMode(1);
+        large.updateTile(1, 16);
+        Board loaded = newBoard(16);
+        assertEquals(3, SaveCodec.decode(loaded, SaveCodec.encode(large)));
+        assertSameGame(large, loaded);
+    }
+
+    @Test
+    public void test_decode_wrongBoardSize_fail() {
+        Board large = newBoard(16);
+        assertEquals(-1, SaveCodec.decode(large, SaveCodec.encode(board)));
+    }
+
+    @Test
+    public void test_decode_truncated_fail() {
+        byte[] data = SaveCodec.encode(board);
+        Board loaded = newBoard(HOUSE_SIZE);
+        assertEquals(-1, SaveCodec.decode(loaded, Arrays.copyOf(data, data.length - 1)));
+        assertEquals(-1, SaveCodec.decode(loaded, new byte[0]));
+        assertEquals(-1, SaveCodec.decode(loaded, null));
+    }
+
+    @Test
+    public void test_decode_badVersion_fail() {
+        byte[] data = SaveCodec.encode(board);
+        data[4] = (byte) (SaveCodec.FORMAT_VERSION + 1);
+        assertEquals(-1, SaveCodec.decode(newBoard(HOUSE_SIZE), data));
+    }
+
+    @Test
+    public void test_decode_badValue_fail() {
+        byte[] data = SaveCodec.encode(board);
+        // First solution value becomes 15
+        data[SaveCodec.HEADER_SIZE] |= (byte) 0xF0;
+        Board loaded = newBoard(HOUSE_SIZE);
+        int[] solution = loaded.solution.clone();
+        assertEquals(-1, SaveCodec.decode(loaded, data));
+        // Nothing was loaded
+        assertArrayEquals(solution, loaded.solution);
+    }
+
+    @Test
+    public void test_loadGame_jsonFallback_pass() {
+        board.resetClock(3 * 60 + 4);
+        byte[] json = board.save().toString().getBytes(Charset.forName("UTF-8"));
+        Board loaded = newBoard(HOUSE_SIZE);
+        assertEquals(2, loaded.loadGame(json));
+        assertSameGame(board, loaded);
+        assertEquals("03:04", loaded.getTime());
+    }
+
+    @Test
+    public void test_loadGame_garbage_fail() {
+        Board loaded = newBoard(HOUSE_SIZE);
+        assertEquals(-1, loaded.loadGame(new byte[]{1, 2, 3}));
+        assertEquals(-1, loaded.loadGame((byte[]) null));
+    }
+
+    @Test
+    public void test_isBinary_pass() {
+        assertTrue(SaveCodec.isBinary(SaveCodec.encode(board)));
+        assertFalse(SaveCodec.isBinary(board.save().toString().getBytes()));
+        assertFalse(SaveCodec.isBinary(new byte[3]));
+        assertFalse(SaveCodec.isBinary(null));
+    }
+    //endregion
+
+    //region time tests
+    @Test
+    public void test_parseTime_pass() {
+        assertEquals(0, SaveCodec.parseTime("00:00"));
+        assertEquals(12 * 60 + 34, SaveCodec.parseTime("12:34"));
+        assertEquals(5 * 60 + 7, SaveCodec.parseTime("5:07"));
+        assertEquals(3600 + 2 * 60 + 3, SaveCodec.parseTime("1:02:03"));
+    }
+
+    @Test
+    public void test_parseTime_fail() {
+        assertEquals(0, SaveCodec.parseTime(null));
+        assertEquals(0, SaveCodec.parseTime("abc"));
+        assertEquals(0, SaveCodec.parseTime("-1:00"));
+    }
+
+    @Test
+    public void test_formatTime_pass() {
+        assertEquals("00:00", SaveCodec.formatTime(0));
+        assertEquals("05:07", SaveCodec.formatTime(5 * 60 + 7));
+        assertEquals("123:45", SaveCodec.formatTime(123 * 60 + 45));
+    }
+    //endregion
+}
@@ -0,0 +1,330 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class SolverTest {
+
+    private final int BOARD_SIZE = 81;
+    private final int HOUSE_SIZE = 9;
+    private Board board;
+
+    private final int[] SOLUTION = {
+            5, 3, 4, 6, 7, 8, 9, 1, 2,
+            6, 7, 2, 1, 9, 5, 3, 4, 8,
+            1, 9, 8, 3, 4, 2, 5, 6, 7,
+            8, 5, 9, 7, 6, 1, 4, 2, 3,
+            4, 2, 6, 8, 5, 3, 7, 9, 1,
+            7, 1, 3, 9, 2, 4, 8, 5, 6,
+            9, 6, 1, 5, 3, 7, 2, 8, 4,
+            2, 8, 7, 4, 1, 9, 6, 3, 5,
+            3, 4, 5, 2, 8, 6, 1, 7, 9};
+
+    // Solvable with Easy techniques
+    private final int[] EASY_PUZZLE = {
+            5, 3, 0, 0, 7, 0, 0, 0, 0,
+            6, 0, 0, 1, 9, 5, 0, 0, 0,
+            0, 9, 8, 0, 0, 0, 0, 6, 0,
+            8, 0, 0, 0, 6, 0, 0, 0, 3,
+            4, 0, 0, 8, 0, 3, 0, 0, 1,
+            7, 0, 0, 0, 2, 0, 0, 0, 6,
+            0, 6, 0, 0, 0, 0, 2, 8, 0,
+            0, 0, 0, 4, 1, 9, 0, 0, 5,
+            0, 0, 0, 0, 8, 0, 0, 7, 9};
+
+    // Needs Medium techniques
+    private final int[] MEDIUM_PUZZLE = {
+            0, 0, 0, 0, 0, 0, 0, 1, 2,
+            6, 7, 0, 0, 0, 0, 0, 0, 0,
+            0, 9, 0, 0, 0, 0, 0, 6, 0,
+            0, 5, 0, 0, 6, 0, 0, 0, 3,
+            0, 0, 0, 0, 5, 3, 7, 0, 0,
+            7, 0, 0, 0, 2, 0, 0, 0, 0,
+            0, 0, 1, 0, 0, 7, 2, 0, 4,
+            0, 0, 0, 0, 0, 9, 0, 0, 5,
+            0, 0, 5, 2, 8, 0, 1, 0, 0};
+
+    // Needs Hard techniques
+    private final int[] HARD_PUZZLE = {
+            5, 0, 4, 6, 0, 0, 0, 0, 2,
+            0, 0, 0, 0, 0, 0, 3, 0, 8,
+            0, 0, 0, 0, 0, 0, 0, 0, 0,
+            8, 0, 0, 0, 0, 0, 0, 2, 0,
+            0, 0, 0, 0, 5, 0, 7, 9, 1,
+            7, 0, 0, 9, 0, 4, 0, 0, 0,
+            9, 6, 1, 5, 0, 0, 0, 0, 0,
+            0, 0, 0, 4, 0, 9, 6, 0, 0,
+            0, 0, 0, 0, 8, 0, 0, 7, 0};
+
+    // Needs Master techniques
+    private final int[] MASTER_PUZZLE = {
+            0, 0, 0, 0, 0, 0, 0, 1, 0,
+            6, 0, 0, 0, 9, 0, 0, 0, 0,
+            1, 0, 8, 0, 0, 2, 5, 0, 0,
+            0, 5, 0, 7, 0, 1, 4, 0, 0,
+            0, 2, 0, 0, 5, 0, 0, 0, 0,
+            0, 0, 0, 0, 0, 0, 0, 0, 6,
+            0, 0, 0, 0, 3, 7, 0, 8, 0,
+            0, 8, 0, 4, 0, 0, 0, 0, 0,
+            3, 0, 0, 0, 0, 0, 1, 7, 9};
+
+    //region setup
+    @Before
+    public void setUp() {
+        board = new Board(HOUSE_SIZE);
+        board.initializeHouses();
+        board.initializeTiles();
+    }
+
+    private Solver loadSolver(int[] puzzle) {
+        board.loadPuzzle(1, 0L, puzzle.clone(), SOLUTION.clone());
+        return new Solver(board);
+    }
+
+    private void assertSolvedCorrectly() {
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            assertEquals(SOLUTION[i], board.getTile(i).getValue());
+        }
+    }
+
+    private int countGivens(int[] puzzle) {
+        int givens = 0;
+        for (int value : puzzle) {
+            if (value != 0) {
+                ++givens;
+            }
+        }
+        return givens;
+    }
+
+    /**
+     * @return True if every Tile holds either no value or its solved value.
+     */
+    private boolean isConsistent() {
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            int value = board.getTile(i).getValue();
+            if (value != 0 && value != SOLUTION[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    //endregion
+
+    //region isSolvable() tests
+    @Test
+    public void test_isSolvable_easyPuzzleAtEasy_pass() {
+        assertTrue(loadSolver(EASY_PUZZLE).isSolvable(1));
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_isSolvable_mediumPuzzleAtEasy_pass() {
+        assertFalse(loadSolver(MEDIUM_PUZZLE).isSolvable(1));
+        assertTrue(isConsistent());
+    }
+
+    @Test
+    public void test_isSolvable_mediumPuzzleAtMedium_pass() {
+        assertTrue(loadSolver(MEDIUM_PUZZLE).isSolvable(2));
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_isSolvable_hardPuzzleAtMedium_pass() {
+        assertFalse(loadSolver(HARD_PUZZLE).isSolvable(2));
+        assertTrue(isConsistent());
+    }
+
+    @Test
+    public void test_isSolvable_hardPuzzleAtHard_pass() {
+        assertTrue(loadSolver(HARD_PUZZLE).isSolvable(3));
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_isSolvable_masterPuzzleAtHard_pass() {
+        assertFalse(loadSolver(MASTER_PUZZLE).isSolvable(3));
+        assertTrue(isConsistent());
+    }
+
+    @Test
+    public void test_isSolvable_masterPuzzleAtMaster_pass() {
+        assertTrue(loadSolver(MASTER_PUZZLE).isSolvable(4));
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_isSolvable_aboveMaster_pass() {
+        assertTrue(loadSolver(MASTER_PUZZLE).isSolvable(5));
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_isSolvable_retryAfterClearBoard_pass() {
+        Solver solver = loadSolver(HARD_PUZZLE);
+        assertFalse(solver.isSolvable(1));
+        board.clearBoard();
+        assertTrue(solver.isSolvable(3));
+        assertSolvedCorrectly();
+    }
+    //endregion
+
+    //region solve() tests
+    @Test
+    public void test_solve_hardPuzzleAtEasy_pass() {
+        loadSolver(HARD_PUZZLE).solve(1);
+        assertTrue(board.isGameOver());
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_solve_addedGivensMakePuzzleSolvable_pass() {
+        Solver solver = loadSolver(MASTER_PUZZLE);
+        solver.solve(1);
+        board.clearBoard();
+        int givens = 0;
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            Tile tile = board.getTile(i);
+            if (tile.isOrig()) {
+                assertEquals(SOLUTION[i], tile.getValue());
+                ++givens;
+            } else {
+                assertEquals(0, tile.getValue());
+            }
+        }
+        assertTrue(givens > countGivens(MASTER_PUZZLE));
+        assertTrue(solver.isSolvable(1));
+    }
+
+    @Test
+    public void test_solve_repairsGeneratedPuzzle_pass() {
+        board.loadPuzzle(2, 0L, MASTER_PUZZLE.clone(), SOLUTION.clone());
+        Solver solver = new Solver(board);
+        board.fitDifficulty(solver);
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            Tile tile = board.getTile(i);
+            assertEquals(tile.isOrig() ? SOLUTION[i] : 0, tile.getValue());
+        }
+        assertTrue(solver.isSolvable(2));
+        assertTrue(solver.getRating() <= 2);
+    }
+
+    @Test
+    public void test_solve_solvablePuzzle_noGivensAdded() {
+        Solver solver = loadSolver(EASY_PUZZLE);
+        solver.solve(1);
+        assertSolvedCorrectly();
+        board.clearBoard();
+        int givens = 0;
+        for (int i = 0; i < BOARD_SIZE; ++i) {
+            if (board.getTile(i).isOrig()) {
+                ++givens;
+            }
+        }
+        assertEquals(countGivens(EASY_PUZZLE), givens);
+    }
+    //endregion
+
+    //region rating tests
+    @Test
+    public void test_getRating_pass() {
+        Solver solver = loadSolver(HARD_PUZZLE);
+        assertTrue(solver.isSolvable(4));
+        assertEquals(3, solver.getRating());
+        board.clearBoard();
+        solver = loadSolver(EASY_PUZZLE);
+        assertTrue(solver.isSolvable(4));
+        assertEquals(1, solver.getRating());
+    }
+
+    @Test
+    public void test_getRating_adaptive_pass() {
+        Solver solver = loadSolver(MEDIUM_PUZZLE);
+        solver.setAdaptive(true);
+        for (int i = 0; i < 3; ++i) {
+            board.clearBoard();
+            assertTrue(solver.isSolvable(4));
+            assertEquals(2, solver.getRating());
+        }
+        assertSolvedCorrectly();
+    }
+
+    @Test
+    public void test_getRating_solvedBoard_pass() {
+        Solver solver = loadSolver(SOLUTION);
+        assertTrue(solver.isSolvable(1));
+        assertEquals(0, solver.getRating());
+    }
+    //endregion
+
+    //region stats tests
+    @Test
+    public void test_getStats_pass() {
+        Solver solver = loadSolver(MASTER_PUZZLE);
+        assertTrue(solver.isSolvable(4));
+        TechniqueStats[] stats = solver.getStats();
+        assertEquals(12, stats.length);
+        assertEquals("Remainder", stats[0].getName());
+        assertEquals(1, stats[0].getDifficulty());
+        assertEquals(4, stats[11].getDifficulty());
+        long cells = 0;
+        for (TechniqueStats techniqueStats : stats) {
+            assertTrue(techniqueStats.getHits() <= techniqueStats.getInvocations());
+            cells += techniqueStats.getCellsResolved();
+        }
+        assertEquals(BOARD_SIZE - countGivens(MASTER_PUZZLE), cells);
+        assertTrue(stats[0].getInvocations() > 0);
+    }
+
+    @Test
+    public void test_getStats_accumulate_pass() {
+        Solver solver = loadSolver(EASY_PUZZLE);
+        solver.isSolvable(1);
+        long invocations = solver.getStats()[0].getInvocations();
+        board.clearBoard();
+        solver.isSolvable(1);
+        assertEquals(2 * invocations, solver.getStats()[0].getInvocations());
+    }
+
+    @Test
+    public void test_getStats_returnsCopy_pass() {
+        Solver solver = loadSolver(EASY_PUZZLE);
+        solver.isSolvable(1);
+        TechniqueStats copy = solver.getStats()[0];
+        long invocations = copy.getInvocations();
+        copy.add(copy.copy());
+        assertEquals(2 * invocations, copy.getInvocations());
+        assertEquals(invocations, solver.getStats()[0].getInvocations());
+    }
+
+    @Test
+    public void test_resetStats_pass() {
+        Solver solver = loadSolver(EASY_PUZZLE);
+        solver.isSolvable(1);
+        solver.resetStats();
+        for (TechniqueStats techniqueStats : solver.getStats()) {
+            assertEquals(0, techniqueStats.getInvocations());
+            assertEquals(0, techniqueStats.getNanos());
+        }
+    }
+
+    @Test
+    public void test_getStatsReport_pass() {
+        Solver solver = loadSolver(EASY_PUZZLE);
+        solver.isSolvable(1);
+        String[] lines = solver.getStatsReport().split("\\r?\\n");
+        assertEquals(14, lines.length); // Header, 12 Techniques, total
+        assertTrue(lines[1].startsWith("Remainder"));
+        assertTrue(lines[13].startsWith("Total"));
+    }
+    //endregion
+}
@@ -0,0 +1,84 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class TechniqueStatsTest {
+
+    private TechniqueStats stats;
+
+    //region setup
+    @Before
+    public void setUp() {
+        stats = new TechniqueStats("X-Wing", 4);
+    }
+    //endregion
+
+    //region record() tests
+    @Test
+    public void test_record_pass() {
+        stats.record(true, 2, 1000);
+        stats.record(false, 0, 500);
+        assertEquals(2, stats.getInvocations());
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getCellsResolved());
+        assertEquals(1500, stats.getNanos());
+    }
+    //endregion
+
+    //region getYield() tests
+    @Test
+    public void test_getYield_pass() {
+        stats.record(true, 1, 2000);
+        stats.record(true, 1, 2000);
+        assertEquals(0.5, stats.getYield(), 1e-9);
+    }
+
+    @Test
+    public void test_getYield_untimed_pass() {
+        assertTrue(Double.isInfinite(stats.getYield()));
+    }
+    //endregion
+
+    //region add() and reset() tests
+    @Test
+    public void test_add_pass() {
+        stats.record(true, 3, 100);
+        TechniqueStats other = new TechniqueStats("X-Wing", 4);
+        other.record(false, 0, 50);
+        stats.add(other);
+        assertEquals(2, stats.getInvocations());
+        assertEquals(1, stats.getHits());
+        assertEquals(3, stats.getCellsResolved());
+        assertEquals(150, stats.getNanos());
+    }
+
+    @Test
+    public void test_reset_pass() {
+        stats.record(true, 3, 100);
+        stats.reset();
+        assertEquals(0, stats.getInvocations());
+        assertEquals(0, stats.getHits());
+        assertEquals(0, stats.getCellsResolved());
+        assertEquals(0, stats.getNanos());
+        assertEquals("X-Wing", stats.getName());
+    }
+    //endregion
+
+    //region toString() tests
+    @Test
+    public void test_toString_pass() {
+        stats.record(true, 3, 12000);
+        String line = stats.toString();
+        assertTrue(line.startsWith("X-Wing"));
+        assertTrue(line.trim().endsWith("12"));
+    }
+    //endregion
+}
@@ -24,7 +24,7 @@ import static org.mockito.Mockito.when;
 
 /**
  * Created by jeff on 1/25/2016.
- * Last updated on 1/28/2016.
+ * Last updated on 10/17/2026.
  */
 public class TileTest {
 
@@ -89,10 +89,19 @@ public class TileTest {
         }
     }
 
+    @Test
+    public void testConstructorZoneLargeBoardPass() {
+        // 16x16 board: zones are 4x4
+        assertEquals(0, new Tile(16, 0).zoneNumber);
+        assertEquals(3, new Tile(16, 15).zoneNumber);
+        assertEquals(4, new Tile(16, 4 * 16).zoneNumber);
+        assertEquals(15, new Tile(16, 255).zoneNumber);
+        assertEquals(5, new Tile(16, 5 * 16 + 6).zoneNumber);
+    }
+
     @Test
     public void testConstructorInitializationVarsPass() {
         assertEquals(0, tile.value);
-        assertEquals(0, tile.lastTried);
     }
     //endregion
 
@@ -387,6 +396,15 @@ public class TileTest {
         assertTrue(tile.notes[0]);
     }
 
+    @Test
+    public void testToggleNoteModeOnReleasesValuePass() {
+        Tile spy = spy(tile);
+        spy.value = 1;
+        spy.toggleMode();
+        verify(spy).setValueInHouses(1, false);
+        assertEquals(0, spy.value);
+    }
+
     @Test
     public void testToggleNoteModeOffPass() {
         tile.toggleMode();
@@ -560,6 +578,21 @@ public class TileTest {
     }
     //endregion
 
+    //region getNotesMask() tests
+    @Test
+    public void testGetNotesMaskNoNotesPass() {
+        assertEquals(0, tile.getNotesMask());
+    }
+
+    @Test
+    public void testGetNotesMaskPass() {
+        tile.noteMode = true;
+        tile.notes[0] = true; // note '1'
+        tile.notes[8] = true; // note '9'
+        assertEquals(0x101, tile.getNotesMask());
+    }
+    //endregion
+
     //region getIndex() tests
     @Test
     public void testGetIndexPass() {
@@ -800,267 +833,23 @@ public class TileTest {
     }
     //endregion
 
-    //region unVisit() tests
-    @Test
-    public void testUnVisitVisited() {
-        tile.visited = true;
-        tile.unVisit();
-        assertFalse(tile.visited);
-    }
-
-    @Test
-    public void testUnVisitUnvisited() {
-        tile.visited = false;
-        tile.unVisit();
-        assertFalse(tile.visited);
-    }
-    //endregion
-
-    //region hasBeenVisited() tests
-    @Test
-    public void testHasBeenVisitedPass() {
-        tile.visited = true;
-        assertTrue(tile.hasBeenVisited());
-    }
-
-    @Test
-    public void testHasNotBeenVisitedPass() {
-        tile.visited = false;
-        assertFalse(tile.hasBeenVisited());
-    }
-    //endregion
-
-    //region tryInitialize() tests
-    @Test
-    public void testTryInitializeFromZeroNoContradictionsPass() {
-        Tile spy = spy(tile);
-        when(mockedHouse.hasValue(1)).thenReturn(false);
-        assertTrue(spy.tryInitialize());
-        verify(mockedHouse, times(3)).hasValue(1);
-        verify(spy).update(1);
-        assertEquals(1, spy.value);
-        assertEquals(1, spy.lastTried);
-        assertTrue(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromOneNoContradictionsPass() {
-        Tile spy = spy(tile);
-        spy.lastTried = 1;
-        when(mockedHouse.hasValue(2)).thenReturn(false);
-        assertTrue(spy.tryInitialize());
-        verify(mockedHouse, times(3)).hasValue(2);
-        verify(spy).update(2);
-        assertEquals(2, spy.value);
-        assertEquals(2, spy.lastTried);
-        assertTrue(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromZeroRowContradictsOnePass() {
-        // Setup
-        Tile spy = spy(tile);
-        House mockedRow = mock(House.class);
-        spy.row = mockedRow;
-        when(mockedRow.hasValue(1)).thenReturn(true);
-        when(mockedRow.hasValue(2)).thenReturn(false);
-        when(mockedHouse.hasValue(2)).thenReturn(false);
-        assertTrue(spy.tryInitialize());
-        // Verify method calls
-        verify(mockedRow).hasValue(1);
-        verify(mockedHouse, never()).hasValue(1);
-        verify(mockedRow).hasValue(2);
-        verify(mockedHouse, times(2)).hasValue(2);
-        verify(spy, never()).update(1);
-        verify(spy).update(2);
-        // Verify results
-        assertEquals(2, spy.value);
-        assertEquals(2, spy.lastTried);
-        assertTrue(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromZeroColumnContradictsOnePass() {
-        // Setup
-        Tile spy = spy(tile);
-        House mockedColumn = mock(House.class);
-        spy.column = mockedColumn;
-        when(mockedColumn.hasValue(1)).thenReturn(true);
-        when(mockedColumn.hasValue(2)).thenReturn(false);
-        when(mockedHouse.hasValue(anyInt())).thenReturn(false);
-        assertTrue(spy.tryInitialize());
-        // Verify method calls
-        verify(mockedHouse).hasValue(1);
-        verify(mockedColumn).hasValue(1);
-        verify(mockedHouse, times(2)).hasValue(2);
-        verify(mockedColumn).hasValue(2);
-        verify(spy, never()).update(1);
-        verify(spy).update(2);
-        // Verify results
-        assertEquals(2, spy.value);
-        assertEquals(2, spy.lastTried);
-        assertTrue(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromZeroZoneContradictsOnePass() {
-        // Setup
-        Tile spy = spy(tile);
-        House mockedZone = mock(House.class);
-        spy.zone = mockedZone;
-        when(mockedZone.hasValue(1)).thenReturn(true);
-        when(mockedZone.hasValue(2)).thenReturn(false);
-        when(mockedHouse.hasValue(anyInt())).thenReturn(false);
-        assertTrue(spy.tryInitialize());
-        // Verify method calls
-        verify(mockedHouse, times(2)).hasValue(1);
-        verify(mockedZone).hasValue(1);
-        verify(mockedHouse, times(2)).hasValue(2);
-        verify(mockedZone).hasValue(2);
-        verify(spy, never()).update(1);
-        verify(spy).update(2);
-        // Verify results
-        assertEquals(2, spy.value);
-        assertEquals(2, spy.lastTried);
-        assertTrue(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromZeroAllContradictFail() {
-        // Setup
-        Tile spy = spy(tile);
-        when(mockedHouse.hasValue(anyInt())).thenReturn(true);
-        assertFalse(spy.tryInitialize());
-        // Verify method calls
-        for (int value = 1; value <= houseSize; ++value) {
-            verify(mockedHouse).hasValue(value);
-        }
-        verify(spy, never()).update(anyInt());
-        // Verify results
-        assertEquals(0, spy.value);
-        assertEquals(9, spy.lastTried);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testTryInitializeFromOneAllContradictFail() {
-        // Setup
-        Tile spy = spy(tile);
-        spy.lastTried = 1;
-        when(mockedHouse.hasValue(anyInt())).thenReturn(true);
-        assertFalse(spy.tryInitialize());
-        // Verify method calls
-        verify(mockedHouse, never()).hasValue(1); // Not ideal, but expected to ignore this
-        for (int value = 2; value <= houseSize; ++value) {
-            verify(mockedHouse).hasValue(value);
-        }
-        verify(spy, never()).update(anyInt());
-        // Verify results
-        assertEquals(0, spy.value);
-        assertEquals(9, spy.lastTried);
-        assertFalse(spy.visited);
-    }
-    //endregion
-
-    //region seedInitialValue() tests
+    //region getCandidateMask() tests
     @Test
-    public void testSeedInitialValuePass() {
-        Tile spy = spy(tile);
-        when(mockedHouse.hasValue(1)).thenReturn(false);
-        assertTrue(spy.seedInitialValue(1));
-        verify(mockedHouse, times(3)).hasValue(1);
-        verify(spy).update(1);
-        assertEquals(1, spy.value);
-        assertTrue(spy.visited);
+    public void testCandidateMaskAllFreePass() {
+        when(mockedHouse.getValueMask()).thenReturn(0);
+        assertEquals(0x1FF, tile.getCandidateMask());
     }
 
     @Test
-    public void testSeedInitialValueSmallFail() {
-        Tile spy = spy(tile);
-        assertFalse(spy.seedInitialValue(-1));
-        verify(mockedHouse, never()).hasValue(-1);
-        verify(spy, never()).update(-1);
-        assertNotEquals(-1, spy.value);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testSeedInitialValueBigFail() {
-        Tile spy = spy(tile);
-        assertFalse(spy.seedInitialValue(1000));
-        verify(mockedHouse, never()).hasValue(1000);
-        verify(spy, never()).update(1000);
-        assertNotEquals(1000, spy.value);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testSeedInitialValueRowConflictFail() {
+    public void testCandidateMaskCombinesHousesPass() {
         House mockedRow = mock(House.class);
-        Tile spy = spy(tile);
-        spy.row = mockedRow;
-        when(mockedRow.hasValue(1)).thenReturn(true);
-        assertFalse(spy.seedInitialValue(1));
-        verify(mockedRow).hasValue(1);
-        verify(mockedHouse, never()).hasValue(1);
-        verify(spy, never()).update(1);
-        assertNotEquals(1, spy.value);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testSeedInitialValueColumnConflictFail() {
         House mockedColumn = mock(House.class);
-        Tile spy = spy(tile);
-        spy.column = mockedColumn;
-        when(mockedHouse.hasValue(1)).thenReturn(false);
-        when(mockedColumn.hasValue(1)).thenReturn(true);
-        assertFalse(spy.seedInitialValue(1));
-        verify(mockedHouse).hasValue(1);
-        verify(mockedColumn).hasValue(1);
-        verify(spy, never()).update(1);
-        assertNotEquals(1, spy.value);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testSeedInitialValueZoneConflictFail() {
-        House mockedZone = mock(House.class);
-        Tile spy = spy(tile);
-        spy.zone = mockedZone;
-        when(mockedHouse.hasValue(1)).thenReturn(false);
-        when(mockedZone.hasValue(1)).thenReturn(true);
-        assertFalse(spy.seedInitialValue(1));
-        verify(mockedHouse, times(2)).hasValue(1);
-        verify(mockedZone).hasValue(1);
-        verify(spy, never()).update(1);
-        assertNotEquals(1, spy.value);
-        assertFalse(spy.visited);
-    }
-    //endregion
-
-    //region resetInitializationState() tests
-    @Test
-    public void testResetFromDefaultStatePass() {
-        Tile spy = spy(tile);
-        spy.resetInitializationState();
-        verify(spy, never()).setValueInHouses(anyInt(), eq(false));
-        assertEquals(0, spy.value);
-        assertEquals(0, spy.lastTried);
-        assertFalse(spy.visited);
-    }
-
-    @Test
-    public void testResetFromNonDefaultStatePass() {
-        Tile spy = spy(tile);
-        spy.value = 1;
-        spy.visited = true;
-        spy.lastTried = 1;
-        spy.resetInitializationState();
-        verify(spy).setValueInHouses(1, false);
-        assertEquals(0, spy.value);
-        assertEquals(0, spy.lastTried);
-        assertFalse(spy.visited);
+        tile.row = mockedRow;
+        tile.column = mockedColumn;
+        when(mockedRow.getValueMask()).thenReturn(0x1);
+        when(mockedColumn.getValueMask()).thenReturn(0x10);
+        when(mockedHouse.getValueMask()).thenReturn(0x100);
+        assertEquals(0xEE, tile.getCandidateMask());
     }
     //endregion
 
@@ -1145,6 +934,24 @@ public class TileTest {
         assertEquals(loadedZoneIndex, tile.zoneNumber);
     }
 
+    @Test
+    public void testLoadConstructorWithNotesPass() throws JSONException {
+        JSONObject tileState = setUpTileState();
+        tileState.put(Tile.JSON_ORIG_ID, false);
+        tileState.put(Tile.JSON_NOTE_MODE_ID, true);
+        JSONArray values = new JSONArray();
+        values.put(2);
+        values.put(9);
+        tileState.put(Tile.JSON_VALUES_ID, values);
+        Tile loaded = new Tile(9, tileState);
+        // Verify results
+        assertEquals(0, loaded.value);
+        assertTrue(loaded.noteMode);
+        assertEquals(9, loaded.notes.length);
+        assertTrue(loaded.notes[1]);
+        assertTrue(loaded.notes[8]);
+    }
+
     @Test
     public void testLoadTileWithMissingTagExcept() throws JSONException {
         tile.value = 3;
@@ -1164,5 +971,28 @@ public class TileTest {
             assertEquals(0, tile.zoneNumber);
         }
     }
+
+    @Test
+    public void testLoadTileStateBinaryNoteModePass() {
+        tile.loadTileState(true, false, 0, 0x105);
+        assertTrue(tile.isNoteMode());
+        assertFalse(tile.isOrig());
+        assertEquals(0, tile.getValue());
+        LinkedList<Integer> notes = tile.getNotes();
+        assertEquals(3, notes.size());
+        assertTrue(notes.contains(1));
+        assertTrue(notes.contains(3));
+        assertTrue(notes.contains(9));
+    }
+
+    @Test
+    public void testLoadTileStateBinaryOrigPass() {
+        tile.notes[3] = true;
+        tile.loadTileState(false, true, 7, 0);
+        assertFalse(tile.isNoteMode());
+        assertTrue(tile.isOrig());
+        assertEquals(7, tile.getValue());
+        assertEquals(0, tile.getNotesMask());
+    }
     //endregion
-}
\ No newline at end of file
+}
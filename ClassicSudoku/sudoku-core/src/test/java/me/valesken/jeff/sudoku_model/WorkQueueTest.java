@@ -0,0 +1,97 @@
+package me.valesken.jeff.sudoku_model;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class WorkQueueTest {
+
+    private final int CAPACITY = 5;
+    private WorkQueue queue;
+
+    //region setup
+    @Before
+    public void setUp() {
+        queue = new WorkQueue(CAPACITY);
+    }
+    //endregion
+
+    //region add() and poll() tests
+    @Test
+    public void test_poll_empty_pass() {
+        assertTrue(queue.isEmpty());
+        assertEquals(-1, queue.poll());
+    }
+
+    @Test
+    public void test_poll_firstInFirstOut_pass() {
+        queue.add(3);
+        queue.add(1);
+        queue.add(4);
+        assertEquals(3, queue.size());
+        assertEquals(3, queue.poll());
+        assertEquals(1, queue.poll());
+        assertEquals(4, queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void test_add_alreadyQueued_ignore() {
+        queue.add(2);
+        queue.add(2);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void test_add_afterPoll_pass() {
+        queue.add(2);
+        queue.poll();
+        queue.add(2);
+        assertEquals(1, queue.size());
+        assertEquals(2, queue.poll());
+    }
+
+    @Test
+    public void test_add_wrapsAround_pass() {
+        for (int round = 0; round < 3; ++round) {
+            for (int i = 0; i < CAPACITY; ++i) {
+                queue.add((i + round) % CAPACITY);
+            }
+            for (int i = 0; i < CAPACITY; ++i) {
+                assertEquals((i + round) % CAPACITY, queue.poll());
+            }
+        }
+        assertTrue(queue.isEmpty());
+    }
+    //endregion
+
+    //region addAll() and clear() tests
+    @Test
+    public void test_addAll_pass() {
+        queue.add(4);
+        queue.addAll();
+        assertEquals(CAPACITY, queue.size());
+        assertEquals(4, queue.poll());
+        for (int i = 0; i < CAPACITY - 1; ++i) {
+            assertEquals(i, queue.poll());
+        }
+    }
+
+    @Test
+    public void test_clear_pass() {
+        queue.addAll();
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        queue.add(1);
+        assertEquals(1, queue.poll());
+        assertFalse(queue.queued[1]);
+    }
+    //endregion
+}
@@ -0,0 +1,186 @@
+package me.valesken.jeff.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class FileStoreTest {
+
+    private FileStore store;
+    private File file;
+    private CountDownLatch gate;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    //region setup
+    @Before
+    public void setUp() {
+        store = new FileStore();
+        file = new File(folder.getRoot(), "HighScores.txt");
+        gate = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        gate.countDown();
+        store.shutdown();
+    }
+
+    /**
+     * Hold the background thread until the gate opens, so that operations made meanwhile wait to start.
+     */
+    private void block() {
+        store.executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    private String readText() throws IOException {
+        return new String(FileStore.readFile(file), FileStore.UTF_8);
+    }
+    //endregion
+
+    //region write() tests
+    @Test
+    public void test_write_pass() throws Exception {
+        store.write(file, "{\"length\":0}").get();
+        assertEquals("{\"length\":0}", readText());
+        store.write(file, new byte[]{1, 2, 3}).get();
+        assertArrayEquals(new byte[]{1, 2, 3}, FileStore.readFile(file));
+        // Nothing but the file is left behind
+        assertEquals(1, folder.getRoot().listFiles().length);
+    }
+
+    @Test
+    public void test_write_coalesces_pass() throws Exception {
+        block();
+        Future<Void> first = store.write(file, "a");
+        Future<Void> second = store.write(file, "b");
+        Future<Void> third = store.write(file, "c");
+        assertSame(first, second);
+        assertSame(first, third);
+        assertFalse(first.isDone());
+        gate.countDown();
+        first.get();
+        assertEquals("c", readText());
+    }
+
+    @Test
+    public void test_write_otherFiles_notCoalesced_pass() throws Exception {
+        File other = new File(folder.getRoot(), "LoadGames.txt");
+        block();
+        Future<Void> first = store.write(file, "a");
+        Future<Void> second = store.write(other, "b");
+        assertNotSame(first, second);
+        gate.countDown();
+        second.get();
+        assertTrue(first.isDone());
+        assertEquals("a", readText());
+        assertEquals("b", new String(FileStore.readFile(other), FileStore.UTF_8));
+    }
+
+    @Test
+    public void test_write_afterStart_notCoalesced_pass() throws Exception {
+        Future<Void> first = store.write(file, "a");
+        first.get();
+        Future<Void> second = store.write(file, "b");
+        assertNotSame(first, second);
+        second.get();
+        assertEquals("b", readText());
+    }
+
+    @Test
+    public void test_write_fail() throws InterruptedException {
+        File missingDir = new File(folder.getRoot(), "missing");
+        try {
+            store.write(new File(missingDir, "save.txt"), "a").get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            return;
+        }
+        throw new AssertionError("Write to a missing directory succeeded");
+    }
+    //endregion
+
+    //region read() / delete() tests
+    @Test
+    public void test_read_pass() throws Exception {
+        assertNull(store.read(file).get());
+        store.write(file, "a");
+        assertEquals("a", new String(store.read(file).get(), FileStore.UTF_8));
+    }
+
+    @Test
+    public void test_read_endsCoalescing_pass() throws Exception {
+        block();
+        Future<Void> first = store.write(file, "a");
+        Future<byte[]> read = store.read(file);
+        Future<Void> second = store.write(file, "b");
+        assertNotSame(first, second);
+        gate.countDown();
+        // The read sees the write made before it, not the one made after
+        assertEquals("a", new String(read.get(), FileStore.UTF_8));
+        second.get();
+        assertEquals("b", readText());
+    }
+
+    @Test
+    public void test_delete_pass() throws Exception {
+        store.write(file, "a");
+        assertTrue(store.delete(file).get());
+        assertFalse(file.exists());
+        // Already gone
+        assertTrue(store.delete(file).get());
+    }
+
+    @Test
+    public void test_delete_endsCoalescing_pass() throws Exception {
+        block();
+        store.write(file, "a");
+        Future<Boolean> delete = store.delete(file);
+        Future<Void> write = store.write(file, "b");
+        gate.countDown();
+        assertTrue(delete.get());
+        write.get();
+        assertEquals("b", readText());
+    }
+
+    @Test
+    public void test_flush_pass() throws Exception {
+        block();
+        Future<Void> write = store.write(file, "a");
+        Future<?> flush = store.flush();
+        gate.countDown();
+        flush.get();
+        assertTrue(write.isDone());
+    }
+    //endregion
+}
@@ -0,0 +1,160 @@
+package me.valesken.jeff.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by jeff on 10/17/2026.
+ * Last Updated on 10/17/2026.
+ */
+public class SaveIndexTest {
+
+    private FileStore store;
+    private File file;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    //region setup
+    @Before
+    public void setUp() {
+        store = new FileStore();
+        file = new File(folder.getRoot(), "SaveIndex.bin");
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        store.shutdown();
+        store.executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Load a new index from what is on disk, as the app does on startup.
+     */
+    private SaveIndex reopen() throws Exception {
+        store.flush().get();
+        return new SaveIndex(store, file, store.read(file).get());
+    }
+    //endregion
+
+    //region put() / remove() tests
+    @Test
+    public void test_put_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        index.put("Easy1", "1:05");
+        index.put("Hard1", "12:00");
+        index.put("Easy1", "2:10");
+        assertEquals(2, index.size());
+        assertTrue(index.contains("Easy1"));
+        assertEquals("2:10", index.getTime("Easy1"));
+        // Updating a save keeps its place
+        assertEquals(Arrays.asList("Easy1", "Hard1"), index.getNames());
+
+        SaveIndex reopened = reopen();
+        assertEquals(Arrays.asList("Easy1", "Hard1"), reopened.getNames());
+        assertEquals("2:10", reopened.getTime("Easy1"));
+        assertEquals("12:00", reopened.getTime("Hard1"));
+    }
+
+    @Test
+    public void test_remove_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        index.put("Easy1", "1:05");
+        index.put("Easy2", "0:30");
+        assertTrue(index.remove("Easy1"));
+        assertFalse(index.remove("Easy1"));
+        assertFalse(index.contains("Easy1"));
+        assertNull(index.getTime("Easy1"));
+
+        SaveIndex reopened = reopen();
+        assertEquals(Arrays.asList("Easy2"), reopened.getNames());
+    }
+
+    @Test
+    public void test_put_appendsRecord_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        store.flush().get();
+        long length = file.length();
+        index.put("Easy1", "1:05");
+        store.flush().get();
+        assertEquals(length + SaveIndex.encodeRecord(SaveIndex.PUT, "Easy1", "1:05").length, file.length());
+    }
+    //endregion
+
+    //region allocateName() tests
+    @Test
+    public void test_allocateName_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        assertEquals("Easy1", index.allocateName("Easy"));
+        index.put("Easy1", "0:00");
+        index.put("Easy2", "0:00");
+        assertEquals("Easy3", index.allocateName("Easy"));
+        assertEquals("Hard1", index.allocateName("Hard"));
+        // Numbers are not handed out again after a delete
+        index.remove("Easy2");
+        assertEquals("Easy3", index.allocateName("Easy"));
+        // Survives a restart
+        assertEquals("Easy3", reopen().allocateName("Easy"));
+    }
+
+    @Test
+    public void test_allocateName_skipsTaken_pass() {
+        SaveIndex index = new SaveIndex(store, file, null);
+        index.put("My Game", "0:00");
+        index.put("Easy007", "0:00");
+        assertEquals("Easy8", index.allocateName("Easy"));
+        assertEquals("My Game1", index.allocateName("My Game"));
+    }
+    //endregion
+
+    //region Log tests
+    @Test
+    public void test_compact_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        index.put("Easy1", "0:00");
+        for (int i = 0; i < SaveIndex.MIN_COMPACT_RECORDS * 2; ++i) {
+            index.put("Easy2", "0:00");
+            index.remove("Easy2");
+        }
+        assertTrue(index.records - index.size() < SaveIndex.MIN_COMPACT_RECORDS);
+        store.flush().get();
+        assertTrue(file.length() < SaveIndex.MIN_COMPACT_RECORDS * 8);
+        assertEquals(Arrays.asList("Easy1"), reopen().getNames());
+    }
+
+    @Test
+    public void test_load_tornRecord_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, null);
+        index.put("Easy1", "1:05");
+        store.flush().get();
+        byte[] torn = SaveIndex.encodeRecord(SaveIndex.PUT, "Easy2", "0:30");
+        store.append(file, Arrays.copyOf(torn, torn.length - 2)).get();
+
+        SaveIndex reopened = reopen();
+        assertEquals(Arrays.asList("Easy1"), reopened.getNames());
+        // The torn record is gone from disk, so later records are not lost behind it
+        reopened.put("Easy2", "0:45");
+        assertEquals(Arrays.asList("Easy1", "Easy2"), reopen().getNames());
+    }
+
+    @Test
+    public void test_load_invalid_pass() throws Exception {
+        SaveIndex index = new SaveIndex(store, file, "{\"length\":0}".getBytes(FileStore.UTF_8));
+        assertEquals(0, index.size());
+        index.put("Easy1", "1:05");
+        assertEquals(Arrays.asList("Easy1"), reopen().getNames());
+    }
+    //endregion
+}